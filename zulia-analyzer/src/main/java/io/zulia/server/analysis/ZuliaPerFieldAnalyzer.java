@@ -77,7 +77,9 @@ public class ZuliaPerFieldAnalyzer extends DelegatingAnalyzerWrapper {
 				else {
 					a = new KeywordAnalyzer();
 				}
-				newFieldAnalyzers.put(FieldTypeUtil.getCharLengthIndexField(indexFieldName), new WhitespaceAnalyzer());
+				if (indexAs == null || !indexAs.getDisableCharLength()) {
+					newFieldAnalyzers.put(FieldTypeUtil.getCharLengthIndexField(indexFieldName), new WhitespaceAnalyzer());
+				}
 			}
 			else if (FieldTypeUtil.isHandledAsNumericFieldType(fieldType)) {
 				a = new WhitespaceAnalyzer();
@@ -87,7 +89,9 @@ public class ZuliaPerFieldAnalyzer extends DelegatingAnalyzerWrapper {
 			}
 
 			newFieldAnalyzers.put(indexFieldName, a);
-			newFieldAnalyzers.put(FieldTypeUtil.getListLengthIndexField(indexFieldName), new WhitespaceAnalyzer());
+			if (indexAs == null || !indexAs.getDisableListLength()) {
+				newFieldAnalyzers.put(FieldTypeUtil.getListLengthIndexField(indexFieldName), new WhitespaceAnalyzer());
+			}
 
 		}
 
@@ -66,23 +66,27 @@ public class ServerIndexConfig {
 
 			for (IndexAs indexAs : fc.getIndexAsList()) {
 				String indexFieldName = indexAs.getIndexFieldName();
-				String listLengthWrap = FieldTypeUtil.getListLengthWrap(indexFieldName);
-				String listLengthIndexField = FieldTypeUtil.getListLengthIndexField(indexFieldName);
-				String listLengthSortField = FieldTypeUtil.getListLengthSortField(indexFieldName);
-
-				indexFieldMapping.put(listLengthWrap,
-						new IndexFieldInfo(storedFieldName, listLengthIndexField, listLengthSortField, FieldType.NUMERIC_INT, indexAs));
-				sortFieldMapping.put(listLengthWrap, new SortFieldInfo(listLengthSortField, FieldType.NUMERIC_INT, null));
+				if (!indexAs.getDisableListLength()) {
+					String listLengthWrap = FieldTypeUtil.getListLengthWrap(indexFieldName);
+					String listLengthIndexField = FieldTypeUtil.getListLengthIndexField(indexFieldName);
+					String listLengthSortField = FieldTypeUtil.getListLengthSortField(indexFieldName);
+
+					indexFieldMapping.put(listLengthWrap,
+							new IndexFieldInfo(storedFieldName, listLengthIndexField, listLengthSortField, FieldType.NUMERIC_INT, indexAs));
+					sortFieldMapping.put(listLengthWrap, new SortFieldInfo(listLengthSortField, FieldType.NUMERIC_INT, null));
+				}
 
 				String internalSortFieldName = null;
 
 				if (FieldTypeUtil.isStringFieldType(fieldType)) {
-					String charLengthWrap = FieldTypeUtil.getCharLengthWrap(indexFieldName);
-					String charLengthIndexField = FieldTypeUtil.getCharLengthIndexField(indexFieldName);
-					String charLengthSortField = FieldTypeUtil.getCharLengthSortField(indexFieldName);
-					indexFieldMapping.put(charLengthWrap,
-							new IndexFieldInfo(storedFieldName, charLengthIndexField, charLengthSortField, FieldType.NUMERIC_INT, indexAs));
-					sortFieldMapping.put(charLengthWrap, new SortFieldInfo(charLengthSortField, FieldType.NUMERIC_INT, null));
+					if (!indexAs.getDisableCharLength()) {
+						String charLengthWrap = FieldTypeUtil.getCharLengthWrap(indexFieldName);
+						String charLengthIndexField = FieldTypeUtil.getCharLengthIndexField(indexFieldName);
+						String charLengthSortField = FieldTypeUtil.getCharLengthSortField(indexFieldName);
+						indexFieldMapping.put(charLengthWrap,
+								new IndexFieldInfo(storedFieldName, charLengthIndexField, charLengthSortField, FieldType.NUMERIC_INT, indexAs));
+						sortFieldMapping.put(charLengthWrap, new SortFieldInfo(charLengthSortField, FieldType.NUMERIC_INT, null));
+					}
 
 					//only optimize a keyword analyzer with a standard (no-op) string handling sort field
 					if (DefaultAnalyzers.KEYWORD.equals(indexAs.getAnalyzerName())) {
@@ -17,11 +17,25 @@ import static io.zulia.message.ZuliaServiceOuterClass.CreateIndexResponse;
 public class CreateIndex extends SimpleCommand<CreateIndexRequest, CreateIndexResult> {
 
 	private final ClientIndexConfig indexConfig;
+	private String attachPath;
 
 	public CreateIndex(ClientIndexConfig indexConfig) {
 		this.indexConfig = indexConfig;
 	}
 
+	public String getAttachPath() {
+		return attachPath;
+	}
+
+	/**
+	 * Attaches the shards built by zuliabuild for a new index.  The path must be readable by the nodes the primaries are assigned to and the index
+	 * config must be the one the shards were built with
+	 */
+	public CreateIndex setAttachPath(String attachPath) {
+		this.attachPath = attachPath;
+		return this;
+	}
+
 	@Override
 	public CreateIndexRequest getRequest() {
 		CreateIndexRequest.Builder createIndexRequestBuilder = CreateIndexRequest.newBuilder();
@@ -30,6 +44,10 @@ public class CreateIndex extends SimpleCommand<CreateIndexRequest, CreateIndexRe
 			createIndexRequestBuilder.setIndexSettings(indexConfig.getIndexSettings());
 		}
 
+		if (attachPath != null) {
+			createIndexRequestBuilder.setAttachPath(attachPath);
+		}
+
 		return createIndexRequestBuilder.build();
 	}
 
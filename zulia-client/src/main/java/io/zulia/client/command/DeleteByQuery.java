@@ -0,0 +1,66 @@
+package io.zulia.client.command;
+
+import io.zulia.client.command.base.SimpleCommand;
+import io.zulia.client.command.base.SingleIndexRoutableCommand;
+import io.zulia.client.command.builder.QueryBuilder;
+import io.zulia.client.command.factory.RangeFilter;
+import io.zulia.client.pool.ZuliaConnection;
+import io.zulia.client.result.DeleteByQueryResult;
+
+import static io.zulia.message.ZuliaServiceGrpc.ZuliaServiceBlockingStub;
+import static io.zulia.message.ZuliaServiceOuterClass.DeleteByQueryRequest;
+import static io.zulia.message.ZuliaServiceOuterClass.DeleteByQueryResponse;
+
+/**
+ * Deletes the documents of a given index matching the queries on the primary shards without sending the documents to the client.  With no queries
+ * every document is deleted
+ */
+public class DeleteByQuery extends SimpleCommand<DeleteByQueryRequest, DeleteByQueryResult> implements SingleIndexRoutableCommand {
+
+	private final DeleteByQueryRequest.Builder deleteByQueryRequest;
+
+	public DeleteByQuery(String indexName) {
+		this.deleteByQueryRequest = DeleteByQueryRequest.newBuilder().setIndexName(indexName);
+	}
+
+	@Override
+	public String getIndexName() {
+		return deleteByQueryRequest.getIndexName();
+	}
+
+	/**
+	 * @param rangeFilter - See {@link io.zulia.client.command.factory.FilterFactory}
+	 */
+	public DeleteByQuery addQuery(RangeFilter<?> rangeFilter) {
+		return addQuery(rangeFilter.toQuery());
+	}
+
+	public DeleteByQuery addQuery(QueryBuilder queryBuilder) {
+		deleteByQueryRequest.addQuery(queryBuilder.getQuery());
+		return this;
+	}
+
+	public boolean isDeleteAllAssociated() {
+		return deleteByQueryRequest.getDeleteAllAssociated();
+	}
+
+	public DeleteByQuery setDeleteAllAssociated(boolean deleteAllAssociated) {
+		deleteByQueryRequest.setDeleteAllAssociated(deleteAllAssociated);
+		return this;
+	}
+
+	@Override
+	public DeleteByQueryRequest getRequest() {
+		return deleteByQueryRequest.build();
+	}
+
+	@Override
+	public DeleteByQueryResult execute(ZuliaConnection zuliaConnection) {
+		ZuliaServiceBlockingStub service = zuliaConnection.getService();
+
+		DeleteByQueryResponse deleteByQueryResponse = service.deleteByQuery(getRequest());
+
+		return new DeleteByQueryResult(deleteByQueryResponse);
+	}
+
+}
@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import static io.zulia.message.ZuliaBase.MasterSlaveSettings;
 import static io.zulia.message.ZuliaQuery.FetchType;
 import static io.zulia.message.ZuliaServiceGrpc.ZuliaServiceBlockingStub;
 import static io.zulia.message.ZuliaServiceOuterClass.FetchRequest;
@@ -21,6 +22,7 @@ public class Fetch extends SimpleCommand<FetchRequest, FetchResult> implements S
 	private String fileName;
 	private FetchType resultFetchType;
 	private FetchType associatedFetchType;
+	private MasterSlaveSettings masterSlaveSettings;
 
 	private Set<String> documentFields = Collections.emptySet();
 	private Set<String> documentMaskedFields = Collections.emptySet();
@@ -66,6 +68,15 @@ public class Fetch extends SimpleCommand<FetchRequest, FetchResult> implements S
 		return this;
 	}
 
+	public MasterSlaveSettings getMasterSlaveSettings() {
+		return masterSlaveSettings;
+	}
+
+	public Fetch setMasterSlaveSettings(MasterSlaveSettings masterSlaveSettings) {
+		this.masterSlaveSettings = masterSlaveSettings;
+		return this;
+	}
+
 	public Set<String> getDocumentMaskedFields() {
 		return documentMaskedFields;
 	}
@@ -109,6 +120,9 @@ public class Fetch extends SimpleCommand<FetchRequest, FetchResult> implements S
 		if (associatedFetchType != null) {
 			fetchRequestBuilder.setAssociatedFetchType(associatedFetchType);
 		}
+		if (masterSlaveSettings != null) {
+			fetchRequestBuilder.setMasterSlaveSettings(masterSlaveSettings);
+		}
 
 		fetchRequestBuilder.addAllDocumentFields(documentFields);
 		fetchRequestBuilder.addAllDocumentMaskedFields(documentMaskedFields);
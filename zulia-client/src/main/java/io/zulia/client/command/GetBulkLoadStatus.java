@@ -0,0 +1,42 @@
+package io.zulia.client.command;
+
+import io.zulia.client.command.base.SimpleCommand;
+import io.zulia.client.command.base.SingleIndexRoutableCommand;
+import io.zulia.client.pool.ZuliaConnection;
+import io.zulia.client.result.GetBulkLoadStatusResult;
+
+import static io.zulia.message.ZuliaServiceGrpc.ZuliaServiceBlockingStub;
+import static io.zulia.message.ZuliaServiceOuterClass.GetBulkLoadStatusRequest;
+import static io.zulia.message.ZuliaServiceOuterClass.GetBulkLoadStatusResponse;
+
+/**
+ * Gets whether each shard of an index is bulk loading and the progress of the force merge run when bulk load was last finished
+ */
+public class GetBulkLoadStatus extends SimpleCommand<GetBulkLoadStatusRequest, GetBulkLoadStatusResult> implements SingleIndexRoutableCommand {
+
+	private String indexName;
+
+	public GetBulkLoadStatus(String indexName) {
+		this.indexName = indexName;
+	}
+
+	@Override
+	public String getIndexName() {
+		return indexName;
+	}
+
+	@Override
+	public GetBulkLoadStatusRequest getRequest() {
+		return GetBulkLoadStatusRequest.newBuilder().setIndexName(indexName).build();
+	}
+
+	@Override
+	public GetBulkLoadStatusResult execute(ZuliaConnection zuliaConnection) {
+		ZuliaServiceBlockingStub service = zuliaConnection.getService();
+
+		GetBulkLoadStatusResponse getBulkLoadStatusResponse = service.getBulkLoadStatus(getRequest());
+
+		return new GetBulkLoadStatusResult(getBulkLoadStatusResponse);
+	}
+
+}
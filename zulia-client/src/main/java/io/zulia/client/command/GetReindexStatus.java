@@ -0,0 +1,42 @@
+package io.zulia.client.command;
+
+import io.zulia.client.command.base.SimpleCommand;
+import io.zulia.client.command.base.SingleIndexRoutableCommand;
+import io.zulia.client.pool.ZuliaConnection;
+import io.zulia.client.result.GetReindexStatusResult;
+
+import static io.zulia.message.ZuliaServiceGrpc.ZuliaServiceBlockingStub;
+import static io.zulia.message.ZuliaServiceOuterClass.GetReindexStatusRequest;
+import static io.zulia.message.ZuliaServiceOuterClass.GetReindexStatusResponse;
+
+/**
+ * Gets the progress of the running or last reindex of each shard of an index
+ */
+public class GetReindexStatus extends SimpleCommand<GetReindexStatusRequest, GetReindexStatusResult> implements SingleIndexRoutableCommand {
+
+	private String indexName;
+
+	public GetReindexStatus(String indexName) {
+		this.indexName = indexName;
+	}
+
+	@Override
+	public String getIndexName() {
+		return indexName;
+	}
+
+	@Override
+	public GetReindexStatusRequest getRequest() {
+		return GetReindexStatusRequest.newBuilder().setIndexName(indexName).build();
+	}
+
+	@Override
+	public GetReindexStatusResult execute(ZuliaConnection zuliaConnection) {
+		ZuliaServiceBlockingStub service = zuliaConnection.getService();
+
+		GetReindexStatusResponse getReindexStatusResponse = service.getReindexStatus(getRequest());
+
+		return new GetReindexStatusResult(getReindexStatusResponse);
+	}
+
+}
@@ -0,0 +1,65 @@
+package io.zulia.client.command;
+
+import io.zulia.client.command.base.SimpleCommand;
+import io.zulia.client.pool.ZuliaConnection;
+import io.zulia.client.result.RebalanceResult;
+
+import static io.zulia.message.ZuliaServiceGrpc.ZuliaServiceBlockingStub;
+import static io.zulia.message.ZuliaServiceOuterClass.RebalanceRequest;
+import static io.zulia.message.ZuliaServiceOuterClass.RebalanceResponse;
+
+/**
+ * Moves shards from the most loaded nodes to the least loaded nodes of the cluster
+ */
+public class Rebalance extends SimpleCommand<RebalanceRequest, RebalanceResult> {
+
+	private Integer maxMoves;
+	private Boolean dryRun;
+
+	public Rebalance() {
+
+	}
+
+	public Integer getMaxMoves() {
+		return maxMoves;
+	}
+
+	public Rebalance setMaxMoves(Integer maxMoves) {
+		this.maxMoves = maxMoves;
+		return this;
+	}
+
+	public Boolean isDryRun() {
+		return dryRun;
+	}
+
+	/**
+	 * Only plans the moves without moving any shards
+	 */
+	public Rebalance setDryRun(Boolean dryRun) {
+		this.dryRun = dryRun;
+		return this;
+	}
+
+	@Override
+	public RebalanceRequest getRequest() {
+		RebalanceRequest.Builder builder = RebalanceRequest.newBuilder();
+		if (maxMoves != null) {
+			builder.setMaxMoves(maxMoves);
+		}
+		if (dryRun != null) {
+			builder.setDryRun(dryRun);
+		}
+		return builder.build();
+	}
+
+	@Override
+	public RebalanceResult execute(ZuliaConnection zuliaConnection) {
+		ZuliaServiceBlockingStub service = zuliaConnection.getService();
+
+		RebalanceResponse rebalanceResponse = service.rebalance(getRequest());
+
+		return new RebalanceResult(rebalanceResponse);
+	}
+
+}
@@ -17,11 +17,38 @@ import static io.zulia.message.ZuliaServiceGrpc.ZuliaServiceBlockingStub;
 public class Reindex extends SimpleCommand<ReindexRequest, ReindexResult> implements SingleIndexRoutableCommand {
 
 	private String indexName;
+	private int maxDocsPerSecond;
+	private boolean incremental;
 
 	public Reindex(String indexName) {
 		this.indexName = indexName;
 	}
 
+	public int getMaxDocsPerSecond() {
+		return maxDocsPerSecond;
+	}
+
+	/**
+	 * Limits the documents reindexed per second by each shard, 0 (default) is unlimited
+	 */
+	public Reindex setMaxDocsPerSecond(int maxDocsPerSecond) {
+		this.maxDocsPerSecond = maxDocsPerSecond;
+		return this;
+	}
+
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Only reindex the documents that store a field whose field config or analyzer changed since the index was last fully indexed.  Documents
+	 * stored before this was tracked and shards that were never fully indexed since are reindexed completely
+	 */
+	public Reindex setIncremental(boolean incremental) {
+		this.incremental = incremental;
+		return this;
+	}
+
 	@Override
 	public String getIndexName() {
 		return indexName;
@@ -29,7 +56,7 @@ public class Reindex extends SimpleCommand<ReindexRequest, ReindexResult> implem
 
 	@Override
 	public ReindexRequest getRequest() {
-		return ReindexRequest.newBuilder().setIndexName(indexName).build();
+		return ReindexRequest.newBuilder().setIndexName(indexName).setMaxDocsPerSecond(maxDocsPerSecond).setIncremental(incremental).build();
 	}
 
 	@Override
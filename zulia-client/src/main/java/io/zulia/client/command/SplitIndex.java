@@ -0,0 +1,48 @@
+package io.zulia.client.command;
+
+import io.zulia.client.command.base.SimpleCommand;
+import io.zulia.client.command.base.SingleIndexRoutableCommand;
+import io.zulia.client.pool.ZuliaConnection;
+import io.zulia.client.result.SplitIndexResult;
+
+import static io.zulia.message.ZuliaServiceGrpc.ZuliaServiceBlockingStub;
+import static io.zulia.message.ZuliaServiceOuterClass.SplitIndexRequest;
+import static io.zulia.message.ZuliaServiceOuterClass.SplitIndexResponse;
+
+/**
+ * Splits every shard of a given index into split factor shards while the index stays online
+ */
+public class SplitIndex extends SimpleCommand<SplitIndexRequest, SplitIndexResult> implements SingleIndexRoutableCommand {
+
+	private String indexName;
+	private int splitFactor;
+
+	public SplitIndex(String indexName, int splitFactor) {
+		this.indexName = indexName;
+		this.splitFactor = splitFactor;
+	}
+
+	@Override
+	public String getIndexName() {
+		return indexName;
+	}
+
+	public int getSplitFactor() {
+		return splitFactor;
+	}
+
+	@Override
+	public SplitIndexRequest getRequest() {
+		return SplitIndexRequest.newBuilder().setIndexName(indexName).setSplitFactor(splitFactor).build();
+	}
+
+	@Override
+	public SplitIndexResult execute(ZuliaConnection zuliaConnection) {
+		ZuliaServiceBlockingStub service = zuliaConnection.getService();
+
+		SplitIndexResponse splitIndexResponse = service.splitIndex(getRequest());
+
+		return new SplitIndexResult(splitIndexResponse);
+	}
+
+}
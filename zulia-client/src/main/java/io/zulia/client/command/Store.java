@@ -26,6 +26,7 @@ public class Store extends SimpleCommand<StoreRequest, StoreResult> implements S
 	private List<ZuliaBase.AssociatedDocument> associatedDocuments;
 	private List<ZuliaBase.ExternalDocument> externalDocuments;
 	private Boolean clearExistingAssociated;
+	private boolean skipUnchanged;
 
 	public Store(String uniqueId, String indexName) {
 		this.uniqueId = uniqueId;
@@ -112,6 +113,19 @@ public class Store extends SimpleCommand<StoreRequest, StoreResult> implements S
 		return this;
 	}
 
+	public boolean isSkipUnchanged() {
+		return skipUnchanged;
+	}
+
+	/**
+	 * @param skipUnchanged - do not index the document again if its document and metadata are the same as the stored ones, see
+	 *                      {@link StoreResult#isSkipped()}
+	 */
+	public Store setSkipUnchanged(boolean skipUnchanged) {
+		this.skipUnchanged = skipUnchanged;
+		return this;
+	}
+
 	@Override
 	public StoreRequest getRequest() {
 		StoreRequest.Builder storeRequestBuilder = StoreRequest.newBuilder();
@@ -128,6 +142,7 @@ public class Store extends SimpleCommand<StoreRequest, StoreResult> implements S
 		if (clearExistingAssociated != null) {
 			storeRequestBuilder.setClearExistingAssociated(clearExistingAssociated);
 		}
+		storeRequestBuilder.setSkipUnchanged(skipUnchanged);
 		return storeRequestBuilder.build();
 	}
 
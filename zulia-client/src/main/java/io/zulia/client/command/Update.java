@@ -0,0 +1,76 @@
+package io.zulia.client.command;
+
+import io.zulia.client.command.base.ShardRoutableCommand;
+import io.zulia.client.command.base.SimpleCommand;
+import io.zulia.client.pool.ZuliaConnection;
+import io.zulia.client.result.UpdateResult;
+import io.zulia.message.ZuliaServiceOuterClass.FieldOperation;
+import io.zulia.message.ZuliaServiceOuterClass.FieldOperation.OperationType;
+
+import static io.zulia.message.ZuliaServiceGrpc.ZuliaServiceBlockingStub;
+import static io.zulia.message.ZuliaServiceOuterClass.UpdateRequest;
+import static io.zulia.message.ZuliaServiceOuterClass.UpdateResponse;
+
+/**
+ * Changes fields of a stored document on its primary shard without sending the document to the client and back.  Fields are dotted paths into the
+ * stored document and operations are applied in the order they are added
+ */
+public class Update extends SimpleCommand<UpdateRequest, UpdateResult> implements ShardRoutableCommand {
+
+	private final UpdateRequest.Builder updateRequest;
+
+	public Update(String uniqueId, String indexName) {
+		this.updateRequest = UpdateRequest.newBuilder().setUniqueId(uniqueId).setIndexName(indexName);
+	}
+
+	@Override
+	public String getUniqueId() {
+		return updateRequest.getUniqueId();
+	}
+
+	@Override
+	public String getIndexName() {
+		return updateRequest.getIndexName();
+	}
+
+	public Update set(String field, Object value) {
+		updateRequest.addFieldOperation(UpdateByQuery.getFieldOperation(OperationType.SET, field, value));
+		return this;
+	}
+
+	public Update unset(String field) {
+		updateRequest.addFieldOperation(FieldOperation.newBuilder().setOperationType(OperationType.UNSET).setField(field));
+		return this;
+	}
+
+	/**
+	 * @param amount - added to the number in the field, a missing field is set to the amount
+	 */
+	public Update increment(String field, Number amount) {
+		updateRequest.addFieldOperation(UpdateByQuery.getFieldOperation(OperationType.INCREMENT, field, amount));
+		return this;
+	}
+
+	/**
+	 * @param value - added to the list in the field, all values are added if it is a list
+	 */
+	public Update append(String field, Object value) {
+		updateRequest.addFieldOperation(UpdateByQuery.getFieldOperation(OperationType.APPEND, field, value));
+		return this;
+	}
+
+	@Override
+	public UpdateRequest getRequest() {
+		return updateRequest.build();
+	}
+
+	@Override
+	public UpdateResult execute(ZuliaConnection zuliaConnection) {
+		ZuliaServiceBlockingStub service = zuliaConnection.getService();
+
+		UpdateResponse updateResponse = service.update(getRequest());
+
+		return new UpdateResult(updateResponse);
+	}
+
+}
@@ -0,0 +1,89 @@
+package io.zulia.client.command;
+
+import com.google.protobuf.ByteString;
+import io.zulia.client.command.base.SimpleCommand;
+import io.zulia.client.command.base.SingleIndexRoutableCommand;
+import io.zulia.client.command.builder.QueryBuilder;
+import io.zulia.client.command.factory.RangeFilter;
+import io.zulia.client.pool.ZuliaConnection;
+import io.zulia.client.result.UpdateByQueryResult;
+import io.zulia.message.ZuliaServiceOuterClass.FieldOperation;
+import io.zulia.message.ZuliaServiceOuterClass.FieldOperation.OperationType;
+import io.zulia.util.ZuliaUtil;
+import org.bson.Document;
+
+import static io.zulia.message.ZuliaServiceGrpc.ZuliaServiceBlockingStub;
+import static io.zulia.message.ZuliaServiceOuterClass.UpdateByQueryRequest;
+import static io.zulia.message.ZuliaServiceOuterClass.UpdateByQueryResponse;
+
+/**
+ * Changes fields of the stored documents of a given index matching the queries and indexes them again on the primary shards without sending the
+ * documents to the client.  Fields are dotted paths into the stored document.  With no queries every document is updated
+ */
+public class UpdateByQuery extends SimpleCommand<UpdateByQueryRequest, UpdateByQueryResult> implements SingleIndexRoutableCommand {
+
+	private final UpdateByQueryRequest.Builder updateByQueryRequest;
+
+	public UpdateByQuery(String indexName) {
+		this.updateByQueryRequest = UpdateByQueryRequest.newBuilder().setIndexName(indexName);
+	}
+
+	@Override
+	public String getIndexName() {
+		return updateByQueryRequest.getIndexName();
+	}
+
+	/**
+	 * @param rangeFilter - See {@link io.zulia.client.command.factory.FilterFactory}
+	 */
+	public UpdateByQuery addQuery(RangeFilter<?> rangeFilter) {
+		return addQuery(rangeFilter.toQuery());
+	}
+
+	public UpdateByQuery addQuery(QueryBuilder queryBuilder) {
+		updateByQueryRequest.addQuery(queryBuilder.getQuery());
+		return this;
+	}
+
+	public UpdateByQuery set(String field, Object value) {
+		updateByQueryRequest.addFieldOperation(getFieldOperation(OperationType.SET, field, value));
+		return this;
+	}
+
+	public UpdateByQuery unset(String field) {
+		updateByQueryRequest.addFieldOperation(FieldOperation.newBuilder().setOperationType(OperationType.UNSET).setField(field));
+		return this;
+	}
+
+	static FieldOperation getFieldOperation(OperationType operationType, String field, Object value) {
+		byte[] valueBytes = ZuliaUtil.mongoDocumentToByteArray(new Document("value", value));
+		return FieldOperation.newBuilder().setOperationType(operationType).setField(field).setValue(ByteString.copyFrom(valueBytes)).build();
+	}
+
+	public int getMaxDocsPerSecond() {
+		return updateByQueryRequest.getMaxDocsPerSecond();
+	}
+
+	/**
+	 * @param maxDocsPerSecond - documents updated per second on each shard, 0 for no limit
+	 */
+	public UpdateByQuery setMaxDocsPerSecond(int maxDocsPerSecond) {
+		updateByQueryRequest.setMaxDocsPerSecond(maxDocsPerSecond);
+		return this;
+	}
+
+	@Override
+	public UpdateByQueryRequest getRequest() {
+		return updateByQueryRequest.build();
+	}
+
+	@Override
+	public UpdateByQueryResult execute(ZuliaConnection zuliaConnection) {
+		ZuliaServiceBlockingStub service = zuliaConnection.getService();
+
+		UpdateByQueryResponse updateByQueryResponse = service.updateByQuery(getRequest());
+
+		return new UpdateByQueryResult(updateByQueryResponse);
+	}
+
+}
@@ -47,6 +47,9 @@ public class UpdateIndex extends SimpleCommand<UpdateIndexRequest, UpdateIndexRe
 	private Integer numberOfReplicas;
 
 	private Boolean disableCompression;
+	private ZuliaIndex.MergeSettings mergeSettings;
+	private ZuliaIndex.BulkLoadSettings bulkLoadSettings;
+	private Integer taxonomyCacheSize;
 
 	private final UpdateIndexSettings.Operation.Builder analyzerSettingsOperation = UpdateIndexSettings.Operation.newBuilder();
 	private List<ZuliaIndex.AnalyzerSettings> analyzerSettingsList = Collections.emptyList();
@@ -322,6 +325,57 @@ public class UpdateIndex extends SimpleCommand<UpdateIndexRequest, UpdateIndexRe
 		return this;
 	}
 
+	public ZuliaIndex.MergeSettings getMergeSettings() {
+		return mergeSettings;
+	}
+
+	/**
+	 * Replaces the merge settings, applied to the open shards without reloading them
+	 */
+	public UpdateIndex setMergeSettings(ZuliaIndex.MergeSettings mergeSettings) {
+		this.mergeSettings = mergeSettings;
+		return this;
+	}
+
+	public ZuliaIndex.BulkLoadSettings getBulkLoadSettings() {
+		return bulkLoadSettings;
+	}
+
+	/**
+	 * Enables or disables bulk load.  Disabling it commits what was loaded on each shard before returning and fails if a commit fails.  The force
+	 * merge if max segments on exit is set runs in the background, see {@link GetBulkLoadStatus}
+	 */
+	public UpdateIndex setBulkLoadSettings(ZuliaIndex.BulkLoadSettings bulkLoadSettings) {
+		this.bulkLoadSettings = bulkLoadSettings;
+		return this;
+	}
+
+	/**
+	 * Starts bulk load with the default ram buffer and max merged segment size
+	 */
+	public UpdateIndex startBulkLoad() {
+		return setBulkLoadSettings(ZuliaIndex.BulkLoadSettings.newBuilder().setEnabled(true).build());
+	}
+
+	/**
+	 * @param maxSegmentsOnExit - force merge each shard to this many segments in the background, 0 skips the force merge
+	 */
+	public UpdateIndex finishBulkLoad(int maxSegmentsOnExit) {
+		return setBulkLoadSettings(ZuliaIndex.BulkLoadSettings.newBuilder().setEnabled(false).setMaxSegmentsOnExit(maxSegmentsOnExit).build());
+	}
+
+	public Integer getTaxonomyCacheSize() {
+		return taxonomyCacheSize;
+	}
+
+	/**
+	 * @param taxonomyCacheSize - facet labels with their ordinals cached per shard for indexing, 0 for the default
+	 */
+	public UpdateIndex setTaxonomyCacheSize(Integer taxonomyCacheSize) {
+		this.taxonomyCacheSize = taxonomyCacheSize;
+		return this;
+	}
+
 	public Integer getNumberOfReplicas() {
 		return numberOfReplicas;
 	}
@@ -498,6 +552,21 @@ public class UpdateIndex extends SimpleCommand<UpdateIndexRequest, UpdateIndexRe
 			updateIndexSettings.setDisableCompression(disableCompression);
 		}
 
+		if (mergeSettings != null) {
+			updateIndexSettings.setSetMergeSettings(true);
+			updateIndexSettings.setMergeSettings(mergeSettings);
+		}
+
+		if (bulkLoadSettings != null) {
+			updateIndexSettings.setSetBulkLoadSettings(true);
+			updateIndexSettings.setBulkLoadSettings(bulkLoadSettings);
+		}
+
+		if (taxonomyCacheSize != null) {
+			updateIndexSettings.setSetTaxonomyCacheSize(true);
+			updateIndexSettings.setTaxonomyCacheSize(taxonomyCacheSize);
+		}
+
 		updateIndexSettings.setMetaUpdateOperation(metaDataOperation);
 		if (!metadata.isEmpty()) {
 			updateIndexSettings.setMetadata(ZuliaUtil.mongoDocumentToByteString(metadata));
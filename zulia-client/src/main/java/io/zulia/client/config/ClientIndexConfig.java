@@ -39,6 +39,9 @@ public class ClientIndexConfig {
 	private Integer numberOfReplicas;
 
 	private Boolean disableCompression;
+	private ZuliaIndex.MergeSettings mergeSettings;
+	private ZuliaIndex.BulkLoadSettings bulkLoadSettings;
+	private Integer taxonomyCacheSize;
 
 	private TreeMap<String, FieldConfig> fieldMap;
 	private TreeMap<String, AnalyzerSettings> analyzerSettingsMap;
@@ -127,6 +130,42 @@ public class ClientIndexConfig {
 		return this;
 	}
 
+	public ZuliaIndex.MergeSettings getMergeSettings() {
+		return mergeSettings;
+	}
+
+	/**
+	 * Tiered merge policy and merge scheduler settings of each shard, zero values use the lucene defaults
+	 */
+	public ClientIndexConfig setMergeSettings(ZuliaIndex.MergeSettings mergeSettings) {
+		this.mergeSettings = mergeSettings;
+		return this;
+	}
+
+	public ZuliaIndex.BulkLoadSettings getBulkLoadSettings() {
+		return bulkLoadSettings;
+	}
+
+	/**
+	 * Create the index in bulk load mode for the initial load, disable it with {@link io.zulia.client.command.UpdateIndex#finishBulkLoad(int)}
+	 */
+	public ClientIndexConfig setBulkLoadSettings(ZuliaIndex.BulkLoadSettings bulkLoadSettings) {
+		this.bulkLoadSettings = bulkLoadSettings;
+		return this;
+	}
+
+	public Integer getTaxonomyCacheSize() {
+		return taxonomyCacheSize;
+	}
+
+	/**
+	 * @param taxonomyCacheSize - facet labels with their ordinals cached per shard for indexing, 0 for the default
+	 */
+	public ClientIndexConfig setTaxonomyCacheSize(Integer taxonomyCacheSize) {
+		this.taxonomyCacheSize = taxonomyCacheSize;
+		return this;
+	}
+
 	public String getIndexName() {
 		return indexName;
 	}
@@ -352,6 +391,18 @@ public class ClientIndexConfig {
 			isb.setDisableCompression(disableCompression);
 		}
 
+		if (mergeSettings != null) {
+			isb.setMergeSettings(mergeSettings);
+		}
+
+		if (bulkLoadSettings != null) {
+			isb.setBulkLoadSettings(bulkLoadSettings);
+		}
+
+		if (taxonomyCacheSize != null) {
+			isb.setTaxonomyCacheSize(taxonomyCacheSize);
+		}
+
 		if (meta != null) {
 			isb.setMeta(ZuliaUtil.mongoDocumentToByteString(meta));
 		}
@@ -410,6 +461,9 @@ public class ClientIndexConfig {
 		this.indexWeight = indexSettings.getIndexWeight();
 		this.ramBufferMB = indexSettings.getRamBufferMB();
 		this.disableCompression = indexSettings.getDisableCompression();
+		this.mergeSettings = indexSettings.hasMergeSettings() ? indexSettings.getMergeSettings() : null;
+		this.bulkLoadSettings = indexSettings.hasBulkLoadSettings() ? indexSettings.getBulkLoadSettings() : null;
+		this.taxonomyCacheSize = indexSettings.getTaxonomyCacheSize();
 
 		this.meta = ZuliaUtil.byteStringToMongoDocument(indexSettings.getMeta());
 
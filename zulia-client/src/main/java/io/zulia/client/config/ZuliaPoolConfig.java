@@ -14,6 +14,8 @@ public class ZuliaPoolConfig {
 	private int maxConnections;
 	private int maxIdle;
 	private int defaultRetries;
+	private int busyRetries;
+	private int busyBackoffMs;
 	private String poolName;
 	private boolean compressedConnection;
 	private boolean routingEnabled;
@@ -23,12 +25,16 @@ public class ZuliaPoolConfig {
 	private final List<Node> nodes;
 	public final static int DEFAULT_DEFAULT_RETRIES = 0;
 	public final static int DEFAULT_MEMBER_UPDATE_INTERVAL = 10000;
+	public final static int DEFAULT_BUSY_RETRIES = 5;
+	public final static int DEFAULT_BUSY_BACKOFF_MS = 100;
 
 	public ZuliaPoolConfig() {
 		this.nodes = new ArrayList<>();
 		this.maxConnections = 32;
 		this.maxIdle = 8;
 		this.defaultRetries = DEFAULT_DEFAULT_RETRIES;
+		this.busyRetries = DEFAULT_BUSY_RETRIES;
+		this.busyBackoffMs = DEFAULT_BUSY_BACKOFF_MS;
 		this.poolName = null;
 		this.compressedConnection = false;
 		this.routingEnabled = true;
@@ -91,6 +97,30 @@ public class ZuliaPoolConfig {
 		return this;
 	}
 
+	public int getBusyRetries() {
+		return busyRetries;
+	}
+
+	/**
+	 * Number of times a request rejected by an overloaded node (RESOURCE_EXHAUSTED) is retried.  These retries are separate from the default retries.
+	 */
+	public ZuliaPoolConfig setBusyRetries(int busyRetries) {
+		this.busyRetries = busyRetries;
+		return this;
+	}
+
+	public int getBusyBackoffMs() {
+		return busyBackoffMs;
+	}
+
+	/**
+	 * Initial wait before retrying a request rejected by an overloaded node, doubled on each retry.  The retry after hint from the node is used if it is longer.
+	 */
+	public ZuliaPoolConfig setBusyBackoffMs(int busyBackoffMs) {
+		this.busyBackoffMs = busyBackoffMs;
+		return this;
+	}
+
 	public String getPoolName() {
 		return poolName;
 	}
@@ -60,7 +60,11 @@ public class ZuliaPool {
 		}
 	}
 
+	private static final long MAX_BUSY_BACKOFF_MS = 10000;
+
 	private final int retries;
+	private final int busyRetries;
+	private final int busyBackoffMs;
 	private final int maxIdle;
 	private final int maxConnections;
 	private final boolean routingEnabled;
@@ -72,11 +76,15 @@ public class ZuliaPool {
 	private final ConnectionListener connectionListener;
 	private boolean isClosed;
 	private List<Node> nodes;
+	private List<Node> coordinatorNodes;
 	private IndexRouting indexRouting;
 
 	public ZuliaPool(final ZuliaPoolConfig zuliaPoolConfig) {
 		nodes = zuliaPoolConfig.getNodes();
+		coordinatorNodes = getCoordinatorNodes(nodes);
 		retries = zuliaPoolConfig.getDefaultRetries();
+		busyRetries = zuliaPoolConfig.getBusyRetries();
+		busyBackoffMs = zuliaPoolConfig.getBusyBackoffMs();
 		maxIdle = zuliaPoolConfig.getMaxIdle();
 		maxConnections = zuliaPoolConfig.getMaxConnections();
 		routingEnabled = zuliaPoolConfig.isRoutingEnabled();
@@ -127,6 +135,11 @@ public class ZuliaPool {
 		}
 
 		this.nodes = nodes;
+		this.coordinatorNodes = getCoordinatorNodes(nodes);
+	}
+
+	private static List<Node> getCoordinatorNodes(List<Node> nodes) {
+		return nodes.stream().filter(Node::getCoordinatorOnly).toList();
 	}
 
 	private String getNodeKey(Node node) {
@@ -146,11 +159,20 @@ public class ZuliaPool {
 	public <R extends Result> R execute(BaseCommand<R> command) throws Exception {
 
 		int tries = 0;
+		int busyTries = 0;
 		while (true) {
 			ZuliaConnection zuliaConnection;
 			Node selectedNode = null;
 			try {
-				if (routingEnabled && (indexRouting != null)) {
+				if (command instanceof MultiIndexRoutableCommand) {
+					List<Node> tempCoordinatorNodes = coordinatorNodes;
+					if (!tempCoordinatorNodes.isEmpty()) {
+						//queries are merged on the coordinator only nodes so the nodes with shards only search them
+						selectedNode = tempCoordinatorNodes.get((int) (Math.random() * tempCoordinatorNodes.size()));
+					}
+				}
+
+				if (selectedNode == null && routingEnabled && (indexRouting != null)) {
 					if (command instanceof ShardRoutableCommand) {
 						ShardRoutableCommand rc = (ShardRoutableCommand) command;
 						selectedNode = indexRouting.getNode(rc.getIndexName(), rc.getUniqueId());
@@ -206,6 +228,8 @@ public class ZuliaPool {
 					});
 
 					boolean valid = true;
+					long busyWaitMs = -1;
+					StatusRuntimeException busyException = null;
 
 					zuliaConnection = nodePool.borrowObject();
 					R r;
@@ -215,23 +239,31 @@ public class ZuliaPool {
 					}
 					catch (StatusRuntimeException e) {
 
-						if (!Status.INVALID_ARGUMENT.equals(e.getStatus())) {
-							valid = false;
+						if (isBusy(e) && busyTries < busyRetries) {
+							//node is overloaded, connection is still good so wait and try again without using up the normal retries
+							busyTries++;
+							busyWaitMs = getBusyWaitMs(e.getTrailers(), busyTries);
+							busyException = e;
 						}
-
-						Metadata trailers = e.getTrailers();
-						if (trailers.containsKey(MetaKeys.ERROR_KEY)) {
-							String errorMessage = trailers.get(MetaKeys.ERROR_KEY);
+						else {
 							if (!Status.INVALID_ARGUMENT.equals(e.getStatus())) {
-								throw new Exception(grpcCommand.getClass().getSimpleName() + ": " + errorMessage);
+								valid = false;
+							}
+
+							Metadata trailers = e.getTrailers();
+							if (trailers.containsKey(MetaKeys.ERROR_KEY)) {
+								String errorMessage = trailers.get(MetaKeys.ERROR_KEY);
+								if (!Status.INVALID_ARGUMENT.equals(e.getStatus())) {
+									throw new Exception(grpcCommand.getClass().getSimpleName() + ": " + errorMessage);
+								}
+								else {
+									throw new IllegalArgumentException(grpcCommand.getClass().getSimpleName() + ": " + errorMessage);
+								}
 							}
 							else {
-								throw new IllegalArgumentException(grpcCommand.getClass().getSimpleName() + ": " + errorMessage);
+								throw e;
 							}
 						}
-						else {
-							throw e;
-						}
 					}
 					finally {
 						if (valid) {
@@ -241,6 +273,9 @@ public class ZuliaPool {
 							nodePool.invalidateObject(zuliaConnection);
 						}
 					}
+
+					connectionListener.exceptionWithRetry(selectedNode, command, busyException, busyTries);
+					Thread.sleep(busyWaitMs);
 				}
 
 			}
@@ -256,6 +291,31 @@ public class ZuliaPool {
 
 	}
 
+	/**
+	 * @return true when the node rejected the request by admission control.  Other resource exhausted errors such as a message over the max size fail
+	 * the same way on every try so they are not retried as busy
+	 */
+	private static boolean isBusy(StatusRuntimeException e) {
+		Metadata trailers = e.getTrailers();
+		return Status.Code.RESOURCE_EXHAUSTED.equals(e.getStatus().getCode()) && trailers != null && trailers.containsKey(
+				MetaKeys.RETRY_AFTER_MS_KEY);
+	}
+
+	private long getBusyWaitMs(Metadata trailers, int busyTries) {
+		long waitMs = busyBackoffMs * (1L << Math.min(busyTries - 1, 16));
+		if (trailers != null && trailers.containsKey(MetaKeys.RETRY_AFTER_MS_KEY)) {
+			try {
+				waitMs = Math.max(waitMs, Long.parseLong(trailers.get(MetaKeys.RETRY_AFTER_MS_KEY)));
+			}
+			catch (NumberFormatException ignored) {
+
+			}
+		}
+		waitMs = Math.min(waitMs, MAX_BUSY_BACKOFF_MS);
+		//jitter so clients rejected at the same time do not all come back at the same time
+		return waitMs + (long) (Math.random() * waitMs / 2);
+	}
+
 	public void close() {
 		for (GenericObjectPool<ZuliaConnection> pool : zuliaConnectionPoolMap.values()) {
 			pool.close();
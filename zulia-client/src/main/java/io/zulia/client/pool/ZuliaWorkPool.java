@@ -209,6 +209,30 @@ public class ZuliaWorkPool extends ZuliaBaseWorkPool {
 		return executeAsync(optimizeIndex);
 	}
 
+	public SplitIndexResult splitIndex(SplitIndex splitIndex) throws Exception {
+		return execute(splitIndex);
+	}
+
+	public SplitIndexResult splitIndex(String index, int splitFactor) throws Exception {
+		return splitIndex(new SplitIndex(index, splitFactor));
+	}
+
+	public ListenableFuture<SplitIndexResult> splitIndexAsync(SplitIndex splitIndex) {
+		return executeAsync(splitIndex);
+	}
+
+	public RebalanceResult rebalance(Rebalance rebalance) throws Exception {
+		return execute(rebalance);
+	}
+
+	public RebalanceResult rebalance() throws Exception {
+		return rebalance(new Rebalance());
+	}
+
+	public ListenableFuture<RebalanceResult> rebalanceAsync(Rebalance rebalance) {
+		return executeAsync(rebalance);
+	}
+
 	public SearchResult search(Search search) throws Exception {
 		return execute(search);
 	}
@@ -262,6 +286,14 @@ public class ZuliaWorkPool extends ZuliaBaseWorkPool {
 		return executeAsync(store);
 	}
 
+	public UpdateResult update(Update update) throws Exception {
+		return execute(update);
+	}
+
+	public ListenableFuture<UpdateResult> updateAsync(Update update) {
+		return executeAsync(update);
+	}
+
 	public StoreLargeAssociatedResult storeLargeAssociated(StoreLargeAssociated storeLargeAssociated) throws Exception {
 		return execute(storeLargeAssociated);
 	}
@@ -303,6 +335,54 @@ public class ZuliaWorkPool extends ZuliaBaseWorkPool {
 		return reindexAsync(new Reindex(index));
 	}
 
+	public GetReindexStatusResult getReindexStatus(String indexName) throws Exception {
+		return getReindexStatus(new GetReindexStatus(indexName));
+	}
+
+	public GetReindexStatusResult getReindexStatus(GetReindexStatus getReindexStatus) throws Exception {
+		return execute(getReindexStatus);
+	}
+
+	public ListenableFuture<GetReindexStatusResult> getReindexStatusAsync(String indexName) {
+		return executeAsync(new GetReindexStatus(indexName));
+	}
+
+	public ListenableFuture<GetReindexStatusResult> getReindexStatusAsync(GetReindexStatus getReindexStatus) {
+		return executeAsync(getReindexStatus);
+	}
+
+	public GetBulkLoadStatusResult getBulkLoadStatus(String indexName) throws Exception {
+		return getBulkLoadStatus(new GetBulkLoadStatus(indexName));
+	}
+
+	public GetBulkLoadStatusResult getBulkLoadStatus(GetBulkLoadStatus getBulkLoadStatus) throws Exception {
+		return execute(getBulkLoadStatus);
+	}
+
+	public ListenableFuture<GetBulkLoadStatusResult> getBulkLoadStatusAsync(String indexName) {
+		return executeAsync(new GetBulkLoadStatus(indexName));
+	}
+
+	public ListenableFuture<GetBulkLoadStatusResult> getBulkLoadStatusAsync(GetBulkLoadStatus getBulkLoadStatus) {
+		return executeAsync(getBulkLoadStatus);
+	}
+
+	public DeleteByQueryResult deleteByQuery(DeleteByQuery deleteByQuery) throws Exception {
+		return execute(deleteByQuery);
+	}
+
+	public ListenableFuture<DeleteByQueryResult> deleteByQueryAsync(DeleteByQuery deleteByQuery) {
+		return executeAsync(deleteByQuery);
+	}
+
+	public UpdateByQueryResult updateByQuery(UpdateByQuery updateByQuery) throws Exception {
+		return execute(updateByQuery);
+	}
+
+	public ListenableFuture<UpdateByQueryResult> updateByQueryAsync(UpdateByQuery updateByQuery) {
+		return executeAsync(updateByQuery);
+	}
+
 	public List<IndexAlias> getIndexAliases() throws Exception {
 		return getNodes().getIndexAliases();
 	}
@@ -0,0 +1,17 @@
+package io.zulia.client.result;
+
+import static io.zulia.message.ZuliaServiceOuterClass.DeleteByQueryResponse;
+
+public class DeleteByQueryResult extends Result {
+
+	private final DeleteByQueryResponse deleteByQueryResponse;
+
+	public DeleteByQueryResult(DeleteByQueryResponse deleteByQueryResponse) {
+		this.deleteByQueryResponse = deleteByQueryResponse;
+	}
+
+	public long getDeleted() {
+		return deleteByQueryResponse.getDeleted();
+	}
+
+}
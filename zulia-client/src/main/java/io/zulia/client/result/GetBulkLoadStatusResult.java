@@ -0,0 +1,41 @@
+package io.zulia.client.result;
+
+import io.zulia.message.ZuliaServiceOuterClass.GetBulkLoadStatusResponse;
+import io.zulia.message.ZuliaServiceOuterClass.ShardBulkLoadStatus;
+
+import java.util.List;
+
+public class GetBulkLoadStatusResult extends Result {
+
+	private final GetBulkLoadStatusResponse getBulkLoadStatusResponse;
+
+	public GetBulkLoadStatusResult(GetBulkLoadStatusResponse getBulkLoadStatusResponse) {
+		this.getBulkLoadStatusResponse = getBulkLoadStatusResponse;
+	}
+
+	public List<ShardBulkLoadStatus> getShardBulkLoadStatuses() {
+		return getBulkLoadStatusResponse.getShardBulkLoadStatusList();
+	}
+
+	/**
+	 * @return true if any shard is bulk loading
+	 */
+	public boolean isBulkLoad() {
+		return getShardBulkLoadStatuses().stream().anyMatch(ShardBulkLoadStatus::getBulkLoad);
+	}
+
+	/**
+	 * @return true if the force merge of the last finished bulk load is running on any shard
+	 */
+	public boolean isMerging() {
+		return getShardBulkLoadStatuses().stream().anyMatch(ShardBulkLoadStatus::getMerging);
+	}
+
+	/**
+	 * @return the errors of shards whose force merge on finishing bulk load failed
+	 */
+	public List<String> getErrors() {
+		return getShardBulkLoadStatuses().stream().map(ShardBulkLoadStatus::getError).filter(error -> !error.isEmpty()).toList();
+	}
+
+}
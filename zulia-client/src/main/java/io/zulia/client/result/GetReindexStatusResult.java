@@ -0,0 +1,42 @@
+package io.zulia.client.result;
+
+import io.zulia.message.ZuliaServiceOuterClass.GetReindexStatusResponse;
+import io.zulia.message.ZuliaServiceOuterClass.ShardReindexStatus;
+
+import java.util.List;
+
+public class GetReindexStatusResult extends Result {
+
+	private final GetReindexStatusResponse getReindexStatusResponse;
+
+	public GetReindexStatusResult(GetReindexStatusResponse getReindexStatusResponse) {
+		this.getReindexStatusResponse = getReindexStatusResponse;
+	}
+
+	public List<ShardReindexStatus> getShardReindexStatuses() {
+		return getReindexStatusResponse.getShardReindexStatusList();
+	}
+
+	/**
+	 * @return true if a reindex is running on any shard
+	 */
+	public boolean isRunning() {
+		return getShardReindexStatuses().stream().anyMatch(ShardReindexStatus::getRunning);
+	}
+
+	public long getTotal() {
+		return getShardReindexStatuses().stream().mapToLong(ShardReindexStatus::getTotal).sum();
+	}
+
+	public long getReindexed() {
+		return getShardReindexStatuses().stream().mapToLong(ShardReindexStatus::getReindexed).sum();
+	}
+
+	/**
+	 * @return the errors of shards whose last reindex failed
+	 */
+	public List<String> getErrors() {
+		return getShardReindexStatuses().stream().map(ShardReindexStatus::getError).filter(error -> !error.isEmpty()).toList();
+	}
+
+}
@@ -0,0 +1,25 @@
+package io.zulia.client.result;
+
+import java.util.List;
+
+import static io.zulia.message.ZuliaServiceOuterClass.RebalanceResponse;
+import static io.zulia.message.ZuliaServiceOuterClass.ShardMove;
+
+public class RebalanceResult extends Result {
+
+	private final RebalanceResponse rebalanceResponse;
+
+	public RebalanceResult(RebalanceResponse rebalanceResponse) {
+		this.rebalanceResponse = rebalanceResponse;
+	}
+
+	public List<ShardMove> getShardMoves() {
+		return rebalanceResponse.getShardMoveList();
+	}
+
+	@Override
+	public String toString() {
+		return rebalanceResponse.toString();
+	}
+
+}
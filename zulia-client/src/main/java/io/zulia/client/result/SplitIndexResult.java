@@ -0,0 +1,17 @@
+package io.zulia.client.result;
+
+import static io.zulia.message.ZuliaServiceOuterClass.SplitIndexResponse;
+
+public class SplitIndexResult extends Result {
+
+	private final SplitIndexResponse splitIndexResponse;
+
+	public SplitIndexResult(SplitIndexResponse splitIndexResponse) {
+		this.splitIndexResponse = splitIndexResponse;
+	}
+
+	public int getNumberOfShards() {
+		return splitIndexResponse.getNumberOfShards();
+	}
+
+}
@@ -4,11 +4,17 @@ import static io.zulia.message.ZuliaServiceOuterClass.StoreResponse;
 
 public class StoreResult extends Result {
 
-	@SuppressWarnings("unused")
 	private final StoreResponse storeResponse;
 
 	public StoreResult(StoreResponse storeResponse) {
 		this.storeResponse = storeResponse;
 	}
 
+	/**
+	 * @return true if the store skipped unchanged and the document was not indexed again
+	 */
+	public boolean isSkipped() {
+		return storeResponse.getSkipped();
+	}
+
 }
@@ -0,0 +1,31 @@
+package io.zulia.client.result;
+
+import static io.zulia.message.ZuliaServiceOuterClass.UpdateByQueryResponse;
+
+public class UpdateByQueryResult extends Result {
+
+	private final UpdateByQueryResponse updateByQueryResponse;
+
+	public UpdateByQueryResult(UpdateByQueryResponse updateByQueryResponse) {
+		this.updateByQueryResponse = updateByQueryResponse;
+	}
+
+	public long getUpdated() {
+		return updateByQueryResponse.getUpdated();
+	}
+
+	/**
+	 * @return false if the update stopped before every match was updated, the documents counted by {@link #getUpdated()} stay updated
+	 */
+	public boolean isComplete() {
+		return updateByQueryResponse.getError().isEmpty();
+	}
+
+	/**
+	 * @return why the update stopped or an empty string if it is complete
+	 */
+	public String getError() {
+		return updateByQueryResponse.getError();
+	}
+
+}
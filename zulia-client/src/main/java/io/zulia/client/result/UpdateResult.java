@@ -0,0 +1,20 @@
+package io.zulia.client.result;
+
+import static io.zulia.message.ZuliaServiceOuterClass.UpdateResponse;
+
+public class UpdateResult extends Result {
+
+	private final UpdateResponse updateResponse;
+
+	public UpdateResult(UpdateResponse updateResponse) {
+		this.updateResponse = updateResponse;
+	}
+
+	/**
+	 * @return false if there is no document with the unique id
+	 */
+	public boolean isFound() {
+		return updateResponse.getFound();
+	}
+
+}
@@ -16,6 +16,8 @@ public class FieldConfigBuilder {
 	private final List<SortAs> sortAsList;
 	private String description;
 	private String displayName;
+	private boolean disableCharLength;
+	private boolean disableListLength;
 
 	public FieldConfigBuilder(String storedFieldName, FieldConfig.FieldType fieldType) {
 		this.storedFieldName = storedFieldName;
@@ -96,6 +98,23 @@ public class FieldConfigBuilder {
 		return this;
 	}
 
+	/**
+	 * Skips the |field| char length of string values for every indexAs of the field, it can not be queried or sorted on.  Saves an indexed
+	 * and a sort field per value for fields that are never searched by length
+	 */
+	public FieldConfigBuilder disableCharLength() {
+		this.disableCharLength = true;
+		return this;
+	}
+
+	/**
+	 * Skips the |||field||| list length for every indexAs of the field, it can not be queried or sorted on
+	 */
+	public FieldConfigBuilder disableListLength() {
+		this.disableListLength = true;
+		return this;
+	}
+
 	public FieldConfigBuilder facet() {
 		FacetAs.Builder builder = FacetAs.newBuilder().setFacetName(storedFieldName).setHierarchical(false);
 		return facetAs(builder.build());
@@ -181,7 +200,19 @@ public class FieldConfigBuilder {
 		FieldConfig.Builder fcBuilder = FieldConfig.newBuilder();
 		fcBuilder.setStoredFieldName(storedFieldName);
 		fcBuilder.setFieldType(fieldType);
-		fcBuilder.addAllIndexAs(indexAsList);
+		for (IndexAs indexAs : indexAsList) {
+			if (disableCharLength || disableListLength) {
+				IndexAs.Builder indexAsBuilder = indexAs.toBuilder();
+				if (disableCharLength) {
+					indexAsBuilder.setDisableCharLength(true);
+				}
+				if (disableListLength) {
+					indexAsBuilder.setDisableListLength(true);
+				}
+				indexAs = indexAsBuilder.build();
+			}
+			fcBuilder.addIndexAs(indexAs);
+		}
 		fcBuilder.addAllFacetAs(facetAsList);
 		fcBuilder.addAllSortAs(sortAsList);
 		if (description != null) {
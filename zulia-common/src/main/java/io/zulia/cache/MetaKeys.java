@@ -10,4 +10,5 @@ import static io.grpc.Metadata.Key;
  */
 public interface MetaKeys {
 	Key<String> ERROR_KEY = Key.of("error", ASCII_STRING_MARSHALLER);
+	Key<String> RETRY_AFTER_MS_KEY = Key.of("retry-after-ms", ASCII_STRING_MARSHALLER);
 }
@@ -0,0 +1,5 @@
+package io.zulia.rest.dto;
+
+public record RequestClassStatsDTO(String requestClass, int maxConcurrent, int active, int queued, long admitted, long rejected) {
+
+}
@@ -0,0 +1,6 @@
+package io.zulia.rest.dto;
+
+public record ShardMergeStatsDTO(String indexName, int shardNumber, int runningMerges, long mergeCount, double mergedMB, long mergeTimeMs,
+		long mergeStallTimeMs) {
+
+}
@@ -0,0 +1,6 @@
+package io.zulia.rest.dto;
+
+public record ShardTaxonomyCacheStatsDTO(String indexName, int shardNumber, long estimatedSize, long hitCount, long missCount, long evictionCount,
+		double hitRate) {
+
+}
@@ -1,5 +1,7 @@
 package io.zulia.rest.dto;
 
+import java.util.List;
+
 public class StatsDTO {
 
 	private long jvmUsedMemoryMB;
@@ -10,6 +12,23 @@ public class StatsDTO {
 	private double totalDataDirSpaceGB;
 	private double usedDataDirSpaceGB;
 	private String zuliaVersion;
+	private double queryResultCacheUsedMB;
+	private double queryResultCacheMaxMB;
+	private long queryResultCacheRejectedCount;
+	private int searchThreadsMax;
+	private int searchThreadsActive;
+	private int searchTasksWaiting;
+	private int requestThreads;
+	private int requestThreadsActive;
+	private int scheduledTasks;
+	private List<RequestClassStatsDTO> requestClassStats;
+	private long queryNodeRequests;
+	private long queryHedges;
+	private long queryHedgesWon;
+	private double queryHedgeRate;
+	private double queryHedgeWinRate;
+	private List<ShardMergeStatsDTO> shardMergeStats;
+	private List<ShardTaxonomyCacheStatsDTO> shardTaxonomyCacheStats;
 
 	public StatsDTO() {
 	}
@@ -78,10 +97,154 @@ public class StatsDTO {
 		this.zuliaVersion = zuliaVersion;
 	}
 
+	public double getQueryResultCacheUsedMB() {
+		return queryResultCacheUsedMB;
+	}
+
+	public void setQueryResultCacheUsedMB(double queryResultCacheUsedMB) {
+		this.queryResultCacheUsedMB = queryResultCacheUsedMB;
+	}
+
+	public double getQueryResultCacheMaxMB() {
+		return queryResultCacheMaxMB;
+	}
+
+	public void setQueryResultCacheMaxMB(double queryResultCacheMaxMB) {
+		this.queryResultCacheMaxMB = queryResultCacheMaxMB;
+	}
+
+	public long getQueryResultCacheRejectedCount() {
+		return queryResultCacheRejectedCount;
+	}
+
+	public void setQueryResultCacheRejectedCount(long queryResultCacheRejectedCount) {
+		this.queryResultCacheRejectedCount = queryResultCacheRejectedCount;
+	}
+
+	public int getSearchThreadsMax() {
+		return searchThreadsMax;
+	}
+
+	public void setSearchThreadsMax(int searchThreadsMax) {
+		this.searchThreadsMax = searchThreadsMax;
+	}
+
+	public int getSearchThreadsActive() {
+		return searchThreadsActive;
+	}
+
+	public void setSearchThreadsActive(int searchThreadsActive) {
+		this.searchThreadsActive = searchThreadsActive;
+	}
+
+	public int getSearchTasksWaiting() {
+		return searchTasksWaiting;
+	}
+
+	public void setSearchTasksWaiting(int searchTasksWaiting) {
+		this.searchTasksWaiting = searchTasksWaiting;
+	}
+
+	public int getRequestThreads() {
+		return requestThreads;
+	}
+
+	public void setRequestThreads(int requestThreads) {
+		this.requestThreads = requestThreads;
+	}
+
+	public int getRequestThreadsActive() {
+		return requestThreadsActive;
+	}
+
+	public void setRequestThreadsActive(int requestThreadsActive) {
+		this.requestThreadsActive = requestThreadsActive;
+	}
+
+	public int getScheduledTasks() {
+		return scheduledTasks;
+	}
+
+	public void setScheduledTasks(int scheduledTasks) {
+		this.scheduledTasks = scheduledTasks;
+	}
+
+	public List<RequestClassStatsDTO> getRequestClassStats() {
+		return requestClassStats;
+	}
+
+	public void setRequestClassStats(List<RequestClassStatsDTO> requestClassStats) {
+		this.requestClassStats = requestClassStats;
+	}
+
+	public long getQueryNodeRequests() {
+		return queryNodeRequests;
+	}
+
+	public void setQueryNodeRequests(long queryNodeRequests) {
+		this.queryNodeRequests = queryNodeRequests;
+	}
+
+	public long getQueryHedges() {
+		return queryHedges;
+	}
+
+	public void setQueryHedges(long queryHedges) {
+		this.queryHedges = queryHedges;
+	}
+
+	public long getQueryHedgesWon() {
+		return queryHedgesWon;
+	}
+
+	public void setQueryHedgesWon(long queryHedgesWon) {
+		this.queryHedgesWon = queryHedgesWon;
+	}
+
+	public double getQueryHedgeRate() {
+		return queryHedgeRate;
+	}
+
+	public void setQueryHedgeRate(double queryHedgeRate) {
+		this.queryHedgeRate = queryHedgeRate;
+	}
+
+	public double getQueryHedgeWinRate() {
+		return queryHedgeWinRate;
+	}
+
+	public void setQueryHedgeWinRate(double queryHedgeWinRate) {
+		this.queryHedgeWinRate = queryHedgeWinRate;
+	}
+
+	public List<ShardMergeStatsDTO> getShardMergeStats() {
+		return shardMergeStats;
+	}
+
+	public void setShardMergeStats(List<ShardMergeStatsDTO> shardMergeStats) {
+		this.shardMergeStats = shardMergeStats;
+	}
+
+	public List<ShardTaxonomyCacheStatsDTO> getShardTaxonomyCacheStats() {
+		return shardTaxonomyCacheStats;
+	}
+
+	public void setShardTaxonomyCacheStats(List<ShardTaxonomyCacheStatsDTO> shardTaxonomyCacheStats) {
+		this.shardTaxonomyCacheStats = shardTaxonomyCacheStats;
+	}
+
 	@Override
 	public String toString() {
 		return "StatsDTO{" + "jvmUsedMemoryMB=" + jvmUsedMemoryMB + ", jvmFreeMemoryMB=" + jvmFreeMemoryMB + ", jvmTotalMemoryMB=" + jvmTotalMemoryMB
 				+ ", jvmMaxMemoryMB=" + jvmMaxMemoryMB + ", freeDataDirSpaceGB=" + freeDataDirSpaceGB + ", totalDataDirSpaceGB=" + totalDataDirSpaceGB
-				+ ", usedDataDirSpaceGB=" + usedDataDirSpaceGB + ", zuliaVersion='" + zuliaVersion + '\'' + '}';
+				+ ", usedDataDirSpaceGB=" + usedDataDirSpaceGB + ", zuliaVersion='" + zuliaVersion + '\'' + ", queryResultCacheUsedMB=" + queryResultCacheUsedMB
+				+ ", queryResultCacheMaxMB=" + queryResultCacheMaxMB + ", queryResultCacheRejectedCount=" + queryResultCacheRejectedCount
+				+ ", searchThreadsMax=" + searchThreadsMax + ", searchThreadsActive=" + searchThreadsActive
+				+ ", searchTasksWaiting=" + searchTasksWaiting + ", requestThreads=" + requestThreads
+				+ ", requestThreadsActive=" + requestThreadsActive + ", scheduledTasks=" + scheduledTasks
+				+ ", requestClassStats=" + requestClassStats + ", queryNodeRequests=" + queryNodeRequests + ", queryHedges=" + queryHedges
+				+ ", queryHedgesWon=" + queryHedgesWon + ", queryHedgeRate=" + queryHedgeRate + ", queryHedgeWinRate=" + queryHedgeWinRate
+				+ ", shardMergeStats=" + shardMergeStats
+				+ ", shardTaxonomyCacheStats=" + shardTaxonomyCacheStats + '}';
 	}
 }
@@ -39,6 +39,7 @@ tasks.withType<Test> {
 dependencies {
     implementation(project(":zulia-client")) //needed for admin tools
     implementation(project(":zulia-query-parser"))
+    implementation(project(":zulia-data")) //needed for zuliabuild
     annotationProcessor(libs.micronaut.http.validation)
     annotationProcessor(libs.micronaut.openapi)
     annotationProcessor(libs.micronaut.serde.processor)
@@ -168,6 +169,20 @@ val zuliaImportScriptTask = tasks.register<CreateStartScripts>("createZuliaImpor
     }
 }
 
+val zuliaBuildScriptTask = tasks.register<CreateStartScripts>("createZuliaBuildScript") {
+    applicationName = "zuliabuild"
+    mainClass.set("io.zulia.server.cmd.ZuliaBuild")
+    outputDir = zuliaScriptTask.outputDir
+    classpath = zuliaScriptTask.classpath
+
+    doLast {
+        val unixScriptFile = file(unixScript)
+        val text = unixScriptFile.readText(Charsets.UTF_8)
+        val newText = text.replace("APP_HOME=\"`pwd -P`\"", "export APP_HOME=\"`pwd -P`\"")
+        unixScriptFile.writeText(newText, Charsets.UTF_8)
+    }
+}
+
 tasks.register("autocompleteDir") {
     doLast {
         mkdir("${layout.buildDirectory.get()}/autocomplete")
@@ -247,6 +262,18 @@ task("picoCliZuliaExportAutoComplete", JavaExec::class) {
     )
 }
 
+task("picoCliZuliaBuildAutoComplete", JavaExec::class) {
+    dependsOn("autocompleteDir")
+    mainClass.set("picocli.AutoComplete")
+    classpath = sourceSets["main"].runtimeClasspath
+    args = listOf(
+        "--force",
+        "--completionScript",
+        "${layout.buildDirectory.get()}/autocomplete/zuliabuild.sh",
+        "io.zulia.server.cmd.ZuliaBuild"
+    )
+}
+
 tasks.withType<AbstractArchiveTask> {
     dependsOn(
         "picoCliZuliaAutoComplete",
@@ -255,7 +282,8 @@ tasks.withType<AbstractArchiveTask> {
         "picoCliZuliaDumpAutoComplete",
         "picoCliZuliaRestoreAutoComplete",
         "picoCliZuliaImportAutoComplete",
-        "picoCliZuliaExportAutoComplete"
+        "picoCliZuliaExportAutoComplete",
+        "picoCliZuliaBuildAutoComplete"
     )
 }
 
@@ -281,6 +309,9 @@ distributions {
             from(zuliaImportScriptTask) {
                 into("bin")
             }
+            from(zuliaBuildScriptTask) {
+                into("bin")
+            }
             from("${layout.buildDirectory.get()}/autocomplete/") {
                 into("bin/autocomplete")
             }
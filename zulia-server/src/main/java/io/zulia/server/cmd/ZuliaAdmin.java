@@ -7,9 +7,9 @@ import io.zulia.server.cmd.zuliaadmin.*;
 import picocli.CommandLine;
 
 @CommandLine.Command(name = "zuliaadmin", subcommands = { DisplayNodesCmd.class, DisplayIndexesCmd.class, DocCountCmd.class, ClearIndexCmd.class,
-		DeleteIndexCmd.class, OptimizeIndexCmd.class, ReindexCmd.class, CreateAliasCmd.class, DeleteAliasCmd.class, DisplayAliasesCmd.class,
-		ExportAliasesCmd.class, ImportAliasesCmd.class, StoreAssociatedFileCmd.class,
-		FetchAssociatedFileCmd.class }, mixinStandardHelpOptions = true, versionProvider = ZuliaVersionProvider.class, scope = CommandLine.ScopeType.INHERIT)
+		DeleteIndexCmd.class, OptimizeIndexCmd.class, ReindexCmd.class, ReindexStatusCmd.class, SplitIndexCmd.class, RebalanceCmd.class,
+		CreateAliasCmd.class, DeleteAliasCmd.class, DisplayAliasesCmd.class, ExportAliasesCmd.class, ImportAliasesCmd.class,
+		StoreAssociatedFileCmd.class, FetchAssociatedFileCmd.class, AttachIndexCmd.class }, mixinStandardHelpOptions = true, versionProvider = ZuliaVersionProvider.class, scope = CommandLine.ScopeType.INHERIT)
 public class ZuliaAdmin {
 
 	@CommandLine.Mixin
@@ -0,0 +1,181 @@
+package io.zulia.server.cmd;
+
+import com.google.common.base.Charsets;
+import com.google.protobuf.util.JsonFormat;
+import io.zulia.data.DataStreamMeta;
+import io.zulia.data.input.FileDataInputStream;
+import io.zulia.data.source.json.JsonDataSourceRecord;
+import io.zulia.data.source.json.JsonLineDataSource;
+import io.zulia.data.source.spreadsheet.csv.CSVDataSource;
+import io.zulia.data.source.spreadsheet.csv.CSVDataSourceConfig;
+import io.zulia.data.source.spreadsheet.csv.CSVDataSourceRecord;
+import io.zulia.message.ZuliaIndex.IndexSettings;
+import io.zulia.message.ZuliaServiceOuterClass.CreateIndexRequest;
+import io.zulia.server.cmd.common.ShowStackArgs;
+import io.zulia.server.cmd.common.ThreadedArgs;
+import io.zulia.server.cmd.common.ZuliaVersionProvider;
+import io.zulia.server.connection.server.validation.CreateIndexRequestValidator;
+import io.zulia.server.index.OfflineIndexBuilder;
+import io.zulia.util.pool.TaskExecutor;
+import io.zulia.util.pool.WorkPool;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Builds the shards of an index from json lines or csv files without a cluster.  The output directory can be attached to a new index with
+ * zuliaadmin attachIndex
+ */
+@CommandLine.Command(name = "zuliabuild", versionProvider = ZuliaVersionProvider.class, scope = CommandLine.ScopeType.INHERIT)
+public class ZuliaBuild implements Callable<Integer> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ZuliaBuild.class);
+
+	@CommandLine.Mixin
+	private ShowStackArgs showStackArgs;
+
+	@CommandLine.Mixin
+	private ThreadedArgs threadedArgs;
+
+	@CommandLine.Option(names = "--settings", description = "Full path to the index settings json as written by zuliadump", required = true)
+	private String settings;
+
+	@CommandLine.Option(names = { "-i", "--index" }, description = "Index name (default: the index name in the settings)")
+	private String index;
+
+	@CommandLine.Option(names = "--numberOfShards", description = "Number of shards (default: the number of shards in the settings)")
+	private Integer numberOfShards;
+
+	@CommandLine.Option(names = "--input", description = "Full path to a json lines (.json, .jsonl) or csv (.csv, .tsv) file with a header row, optionally gzipped.  Repeat for multiple files", required = true)
+	private List<String> inputs;
+
+	@CommandLine.Option(names = "--idField", description = "Id field name (default: ${DEFAULT-VALUE})")
+	private String idField = "id";
+
+	@CommandLine.Option(names = { "-o",
+			"--out" }, description = "Full path to the output directory, the shards are written to a directory named after the index in it (default: ${DEFAULT-VALUE})")
+	private String out = System.getProperty("user.dir");
+
+	@CommandLine.Option(names = "--maxSegments", description = "Force merge each shard to this many segments, 0 skips the force merge (default: ${DEFAULT-VALUE})")
+	private int maxSegments = 0;
+
+	@Override
+	public Integer call() throws Exception {
+
+		IndexSettings.Builder indexSettingsBuilder = IndexSettings.newBuilder();
+		JsonFormat.parser().merge(Files.readString(Paths.get(settings), Charsets.UTF_8), indexSettingsBuilder);
+		if (index != null) {
+			indexSettingsBuilder.setIndexName(index);
+		}
+		if (numberOfShards != null) {
+			indexSettingsBuilder.setNumberOfShards(numberOfShards);
+		}
+		CreateIndexRequest createIndexRequest = CreateIndexRequest.newBuilder().setIndexSettings(indexSettingsBuilder).build();
+		IndexSettings indexSettings = new CreateIndexRequestValidator().validateAndSetDefault(createIndexRequest).getIndexSettings();
+		String indexName = indexSettings.getIndexName();
+
+		Path outputPath = Paths.get(out, indexName);
+		Files.createDirectories(outputPath);
+		Files.writeString(outputPath.resolve(indexName + "_settings.json"), JsonFormat.printer().print(indexSettings), Charsets.UTF_8);
+
+		long start = System.currentTimeMillis();
+		AtomicReference<Exception> failure = new AtomicReference<>();
+		try (OfflineIndexBuilder offlineIndexBuilder = new OfflineIndexBuilder(indexSettings, outputPath)) {
+			try (TaskExecutor threadPool = WorkPool.nativePool(threadedArgs.getThreads())) {
+				for (String input : inputs) {
+					LOG.info("Reading <" + input + "> for index <" + indexName + ">");
+					readDocuments(input, document -> {
+						if (failure.get() != null) {
+							throw new IllegalStateException("Stopped building index <" + indexName + ">", failure.get());
+						}
+						threadPool.executeAsync((Callable<Void>) () -> {
+							try {
+								Object id = document.get(idField);
+								if (id == null) {
+									throw new IllegalArgumentException("No id field <" + idField + "> for record: " + document.toJson());
+								}
+								offlineIndexBuilder.store(id.toString(), document);
+
+								long count = offlineIndexBuilder.getCount();
+								if (count % 100000 == 0) {
+									LOG.info("Indexed <" + count + "> documents for index <" + indexName + ">");
+								}
+							}
+							catch (Exception e) {
+								failure.compareAndSet(null, e);
+							}
+							return null;
+						});
+					});
+				}
+			}
+
+			if (failure.get() != null) {
+				throw failure.get();
+			}
+
+			LOG.info("Committing <" + offlineIndexBuilder.getCount() + "> documents for index <" + indexName + ">");
+			try (TaskExecutor threadPool = WorkPool.nativePool(threadedArgs.getThreads())) {
+				offlineIndexBuilder.finish(threadPool, maxSegments);
+			}
+		}
+
+		LOG.info("Built index <" + indexName + "> in <" + outputPath + "> in " + (System.currentTimeMillis() - start) + "ms");
+		return CommandLine.ExitCode.OK;
+	}
+
+	private static void readDocuments(String input, Consumer<Document> documentConsumer) throws Exception {
+		String fileName = input.toLowerCase();
+		if (DataStreamMeta.isGzipExtension(fileName)) {
+			fileName = fileName.substring(0, fileName.length() - 3);
+		}
+
+		FileDataInputStream dataInputStream = FileDataInputStream.from(input);
+		if (fileName.endsWith(".csv") || fileName.endsWith(".tsv")) {
+			CSVDataSourceConfig csvDataSourceConfig = CSVDataSourceConfig.from(dataInputStream).withHeaders();
+			if (fileName.endsWith(".tsv")) {
+				csvDataSourceConfig.withDelimiter('\t');
+			}
+			try (CSVDataSource dataSource = CSVDataSource.withConfig(csvDataSourceConfig)) {
+				Collection<String> headers = dataSource.getHeaders();
+				for (CSVDataSourceRecord record : dataSource) {
+					Document document = new Document();
+					for (String header : headers) {
+						String value = record.getString(header);
+						if (value != null) {
+							document.put(header, value);
+						}
+					}
+					documentConsumer.accept(document);
+				}
+			}
+		}
+		else if (fileName.endsWith(".json") || fileName.endsWith(".jsonl")) {
+			try (JsonLineDataSource dataSource = JsonLineDataSource.withDefaults(dataInputStream)) {
+				for (JsonDataSourceRecord record : dataSource) {
+					documentConsumer.accept(record.getAsDocument());
+				}
+			}
+		}
+		else {
+			throw new IOException("Input <" + input + "> is not a json lines or csv file");
+		}
+	}
+
+	public static void main(String[] args) {
+
+		ZuliaCommonCmd.runCommandLine(new ZuliaBuild(), args);
+	}
+
+}
@@ -0,0 +1,47 @@
+package io.zulia.server.cmd.zuliaadmin;
+
+import com.google.common.base.Charsets;
+import com.google.protobuf.util.JsonFormat;
+import io.zulia.client.command.CreateIndex;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.message.ZuliaIndex;
+import io.zulia.server.cmd.ZuliaAdmin;
+import picocli.CommandLine;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Callable;
+
+@CommandLine.Command(name = "attachIndex", description = "Creates a new index from the shards built by zuliabuild")
+public class AttachIndexCmd implements Callable<Integer> {
+
+	@CommandLine.ParentCommand
+	private ZuliaAdmin zuliaAdmin;
+
+	@CommandLine.Option(names = "--dir", description = "Full path to the index directory written by zuliabuild, it must be readable by the nodes", required = true)
+	private String dir;
+
+	@Override
+	public Integer call() throws Exception {
+
+		ZuliaWorkPool zuliaWorkPool = zuliaAdmin.getConnection();
+
+		Path indexPath = Paths.get(dir).toAbsolutePath();
+		String index = indexPath.getFileName().toString();
+		Path settingsPath = indexPath.resolve(index + "_settings.json");
+		if (!Files.exists(settingsPath)) {
+			throw new IllegalArgumentException(
+					"Settings <" + settingsPath + "> do not exist, please provide the index directory written by zuliabuild");
+		}
+
+		ZuliaIndex.IndexSettings.Builder indexSettingsBuilder = ZuliaIndex.IndexSettings.newBuilder();
+		JsonFormat.parser().merge(Files.readString(settingsPath, Charsets.UTF_8), indexSettingsBuilder);
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.configure(indexSettingsBuilder.build());
+
+		zuliaWorkPool.createIndex(new CreateIndex(indexConfig).setAttachPath(indexPath.toString()));
+		return CommandLine.ExitCode.OK;
+	}
+}
@@ -28,7 +28,8 @@ public class DisplayNodesCmd implements Callable<Integer> {
 
 		GetNodesResult nodes = activeOnly ? zuliaWorkPool.getActiveNodes() : zuliaWorkPool.getNodes();
 
-		ZuliaCommonCmd.printMagenta(String.format("%25s | %15s | %15s | %25s | %30s", "Server", "Service Port", "REST Port", "Heart Beat", "Version"));
+		ZuliaCommonCmd.printMagenta(
+				String.format("%25s | %15s | %15s | %12s | %25s | %30s", "Server", "Service Port", "REST Port", "Role", "Heart Beat", "Version"));
 
 		for (ZuliaBase.Node node : nodes.getNodes()) {
 			long heartbeat = node.getHeartbeat();
@@ -38,8 +39,8 @@ public class DisplayNodesCmd implements Callable<Integer> {
 				heartbeatStr = LocalDateTime.ofInstant(Instant.ofEpochMilli(heartbeat), ZoneId.systemDefault()).toString();
 			}
 
-			System.out.printf("%25s | %15s | %15s | %25s | %30s", node.getServerAddress(), node.getServicePort(), node.getRestPort(), heartbeatStr,
-					node.getVersion());
+			System.out.printf("%25s | %15s | %15s | %12s | %25s | %30s", node.getServerAddress(), node.getServicePort(), node.getRestPort(),
+					node.getCoordinatorOnly() ? "coordinator" : "data", heartbeatStr, node.getVersion());
 			System.out.println();
 		}
 
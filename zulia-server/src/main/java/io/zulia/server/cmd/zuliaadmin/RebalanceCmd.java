@@ -0,0 +1,47 @@
+package io.zulia.server.cmd.zuliaadmin;
+
+import io.zulia.client.command.Rebalance;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.RebalanceResult;
+import io.zulia.message.ZuliaServiceOuterClass.ShardMove;
+import io.zulia.server.cmd.ZuliaAdmin;
+import io.zulia.server.cmd.ZuliaCommonCmd;
+import picocli.CommandLine;
+
+import java.util.concurrent.Callable;
+
+@CommandLine.Command(name = "rebalance", description = "Moves shards from the most loaded nodes to the least loaded nodes")
+public class RebalanceCmd implements Callable<Integer> {
+
+	@CommandLine.ParentCommand
+	private ZuliaAdmin zuliaAdmin;
+
+	@CommandLine.Option(names = "--maxMoves", description = "Maximum number of shards to move (default: ${DEFAULT-VALUE})")
+	private int maxMoves = 1;
+
+	@CommandLine.Option(names = "--dryRun", description = "Only display the moves without moving any shards")
+	private boolean dryRun;
+
+	@Override
+	public Integer call() throws Exception {
+
+		ZuliaWorkPool zuliaWorkPool = zuliaAdmin.getConnection();
+
+		RebalanceResult rebalanceResult = zuliaWorkPool.rebalance(new Rebalance().setMaxMoves(maxMoves).setDryRun(dryRun));
+
+		if (rebalanceResult.getShardMoves().isEmpty()) {
+			System.out.println("Shards are balanced");
+			return CommandLine.ExitCode.OK;
+		}
+
+		ZuliaCommonCmd.printMagenta(String.format("%25s | %10s | %10s | %25s | %25s | %10s", "Index", "Shard", "Role", "From", "To", "Load"));
+		for (ShardMove shardMove : rebalanceResult.getShardMoves()) {
+			System.out.printf("%25s | %10s | %10s | %25s | %25s | %10.3f", shardMove.getIndexName(), shardMove.getShardNumber(),
+					shardMove.getPrimary() ? "primary" : "replica", shardMove.getFromNode().getServerAddress() + ":" + shardMove.getFromNode().getServicePort(),
+					shardMove.getToNode().getServerAddress() + ":" + shardMove.getToNode().getServicePort(), shardMove.getLoad());
+			System.out.println();
+		}
+
+		return CommandLine.ExitCode.OK;
+	}
+}
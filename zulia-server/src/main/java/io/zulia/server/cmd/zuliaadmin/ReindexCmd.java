@@ -1,5 +1,6 @@
 package io.zulia.server.cmd.zuliaadmin;
 
+import io.zulia.client.command.Reindex;
 import io.zulia.client.pool.ZuliaWorkPool;
 import io.zulia.server.cmd.ZuliaAdmin;
 import io.zulia.server.cmd.common.MultipleIndexArgs;
@@ -17,6 +18,12 @@ public class ReindexCmd implements Callable<Integer> {
 	@CommandLine.Mixin
 	private MultipleIndexArgs multipleIndexArgs;
 
+	@CommandLine.Option(names = "--maxDocsPerSecond", description = "Maximum documents reindexed per second by each shard, 0 is unlimited (default: ${DEFAULT-VALUE})")
+	private int maxDocsPerSecond;
+
+	@CommandLine.Option(names = "--incremental", description = "Only reindex documents storing a field whose field config or analyzer changed")
+	private boolean incremental;
+
 	@Override
 	public Integer call() throws Exception {
 
@@ -25,7 +32,7 @@ public class ReindexCmd implements Callable<Integer> {
 		Set<String> indexes = multipleIndexArgs.resolveIndexes(zuliaWorkPool);
 
 		for (String index : indexes) {
-			zuliaWorkPool.reindex(index);
+			zuliaWorkPool.reindex(new Reindex(index).setMaxDocsPerSecond(maxDocsPerSecond).setIncremental(incremental));
 		}
 		return CommandLine.ExitCode.OK;
 	}
@@ -0,0 +1,42 @@
+package io.zulia.server.cmd.zuliaadmin;
+
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.GetReindexStatusResult;
+import io.zulia.message.ZuliaServiceOuterClass.ShardReindexStatus;
+import io.zulia.server.cmd.ZuliaAdmin;
+import io.zulia.server.cmd.ZuliaCommonCmd;
+import io.zulia.server.cmd.common.MultipleIndexArgs;
+import picocli.CommandLine;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+@CommandLine.Command(name = "reindexStatus", description = "Displays the progress of the running or last reindex of each shard of the index(es) specified by --index")
+public class ReindexStatusCmd implements Callable<Integer> {
+
+	@CommandLine.ParentCommand
+	private ZuliaAdmin zuliaAdmin;
+
+	@CommandLine.Mixin
+	private MultipleIndexArgs multipleIndexArgs;
+
+	@Override
+	public Integer call() throws Exception {
+
+		ZuliaWorkPool zuliaWorkPool = zuliaAdmin.getConnection();
+
+		Set<String> indexes = multipleIndexArgs.resolveIndexes(zuliaWorkPool);
+
+		ZuliaCommonCmd.printMagenta(String.format("%40s | %5s | %8s | %12s | %12s | %s", "Index", "Shard", "Running", "Reindexed", "Total", "Error"));
+		for (String index : indexes) {
+			GetReindexStatusResult reindexStatus = zuliaWorkPool.getReindexStatus(index);
+			for (ShardReindexStatus shardStatus : reindexStatus.getShardReindexStatuses()) {
+				System.out.printf("%40s | %5s | %8s | %12s | %12s | %s", index, shardStatus.getShardNumber(), shardStatus.getRunning(),
+						shardStatus.getReindexed(), shardStatus.getTotal(), shardStatus.getError());
+				System.out.println();
+			}
+		}
+
+		return CommandLine.ExitCode.OK;
+	}
+}
@@ -0,0 +1,33 @@
+package io.zulia.server.cmd.zuliaadmin;
+
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.SplitIndexResult;
+import io.zulia.server.cmd.ZuliaAdmin;
+import io.zulia.server.cmd.common.SingleIndexArgs;
+import picocli.CommandLine;
+
+import java.util.concurrent.Callable;
+
+@CommandLine.Command(name = "splitIndex", description = "Splits every shard of the index specified by --index into --splitFactor shards while the index stays online")
+public class SplitIndexCmd implements Callable<Integer> {
+
+	@CommandLine.ParentCommand
+	private ZuliaAdmin zuliaAdmin;
+
+	@CommandLine.Mixin
+	private SingleIndexArgs singleIndexArgs;
+
+	@CommandLine.Option(names = "--splitFactor", description = "Number of shards each shard is split into", required = true)
+	private int splitFactor;
+
+	@Override
+	public Integer call() throws Exception {
+
+		ZuliaWorkPool zuliaWorkPool = zuliaAdmin.getConnection();
+
+		SplitIndexResult splitIndexResult = zuliaWorkPool.splitIndex(singleIndexArgs.getIndex(), splitFactor);
+		System.out.println("Index <" + singleIndexArgs.getIndex() + "> now has <" + splitIndexResult.getNumberOfShards() + "> shards");
+
+		return CommandLine.ExitCode.OK;
+	}
+}
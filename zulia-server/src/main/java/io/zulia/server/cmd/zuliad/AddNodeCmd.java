@@ -4,7 +4,7 @@ import io.zulia.message.ZuliaBase;
 import io.zulia.server.cmd.ZuliaD;
 import io.zulia.server.config.NodeService;
 import io.zulia.server.config.ZuliaConfig;
-import io.zulia.util.ZuliaVersion;
+import io.zulia.server.node.ZuliaNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import picocli.CommandLine;
@@ -25,8 +25,7 @@ public class AddNodeCmd implements Callable<Integer> {
         NodeService nodeService = zuliaDConfig.getNodeService();
         ZuliaConfig zuliaConfig = zuliaDConfig.getZuliaConfig();
 
-        ZuliaBase.Node node = ZuliaBase.Node.newBuilder().setServerAddress(zuliaConfig.getServerAddress()).setServicePort(zuliaConfig.getServicePort())
-                .setRestPort(zuliaConfig.getRestPort()).setVersion(ZuliaVersion.getVersion()).build();
+        ZuliaBase.Node node = ZuliaNode.nodeFromConfig(zuliaConfig);
 
         LOG.info("Adding node: " + ZuliaDConfig.formatNode(node));
 
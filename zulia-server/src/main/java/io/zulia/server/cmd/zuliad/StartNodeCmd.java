@@ -39,6 +39,13 @@ public class StartNodeCmd implements Callable<Integer> {
 				LOG.error("No nodes added to the cluster");
 				return 3;
 			}
+
+			ZuliaBase.Node registeredNode = nodeService.getNode(zuliaConfig.getServerAddress(), zuliaConfig.getServicePort());
+			if (registeredNode != null && registeredNode.getCoordinatorOnly() != zuliaConfig.isCoordinatorOnly()) {
+				//other nodes read the role from the registered node so it has to match the config
+				LOG.info("Changing coordinator only of registered node to <" + zuliaConfig.isCoordinatorOnly() + ">");
+				nodeService.addNode(ZuliaNode.nodeFromConfig(zuliaConfig));
+			}
 		}
 		else {
 			LOG.error("Running in single node mode");
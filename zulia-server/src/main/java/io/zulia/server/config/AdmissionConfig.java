@@ -0,0 +1,123 @@
+package io.zulia.server.config;
+
+/**
+ * Limits on client requests handled by a node.  A max concurrent value of 0 disables the limit for that class.
+ * Requests over the concurrent limit wait in a bounded queue for up to queueTimeoutMs and are rejected when the queue is full or the wait times out.
+ */
+public class AdmissionConfig {
+
+	private int maxConcurrentQueries = 0;
+	private int maxQueuedQueries = 256;
+	private int maxConcurrentStores = 0;
+	private int maxQueuedStores = 1024;
+	private int maxConcurrentFetches = 0;
+	private int maxQueuedFetches = 1024;
+	private int maxConcurrentAdmin = 0;
+	private int maxQueuedAdmin = 16;
+	private int maxConcurrentPerIndex = 0;
+	private int queueTimeoutMs = 1000;
+	private int retryAfterMs = 250;
+
+	public AdmissionConfig() {
+
+	}
+
+	public int getMaxConcurrentQueries() {
+		return maxConcurrentQueries;
+	}
+
+	public void setMaxConcurrentQueries(int maxConcurrentQueries) {
+		this.maxConcurrentQueries = maxConcurrentQueries;
+	}
+
+	public int getMaxQueuedQueries() {
+		return maxQueuedQueries;
+	}
+
+	public void setMaxQueuedQueries(int maxQueuedQueries) {
+		this.maxQueuedQueries = maxQueuedQueries;
+	}
+
+	public int getMaxConcurrentStores() {
+		return maxConcurrentStores;
+	}
+
+	public void setMaxConcurrentStores(int maxConcurrentStores) {
+		this.maxConcurrentStores = maxConcurrentStores;
+	}
+
+	public int getMaxQueuedStores() {
+		return maxQueuedStores;
+	}
+
+	public void setMaxQueuedStores(int maxQueuedStores) {
+		this.maxQueuedStores = maxQueuedStores;
+	}
+
+	public int getMaxConcurrentFetches() {
+		return maxConcurrentFetches;
+	}
+
+	public void setMaxConcurrentFetches(int maxConcurrentFetches) {
+		this.maxConcurrentFetches = maxConcurrentFetches;
+	}
+
+	public int getMaxQueuedFetches() {
+		return maxQueuedFetches;
+	}
+
+	public void setMaxQueuedFetches(int maxQueuedFetches) {
+		this.maxQueuedFetches = maxQueuedFetches;
+	}
+
+	public int getMaxConcurrentAdmin() {
+		return maxConcurrentAdmin;
+	}
+
+	public void setMaxConcurrentAdmin(int maxConcurrentAdmin) {
+		this.maxConcurrentAdmin = maxConcurrentAdmin;
+	}
+
+	public int getMaxQueuedAdmin() {
+		return maxQueuedAdmin;
+	}
+
+	public void setMaxQueuedAdmin(int maxQueuedAdmin) {
+		this.maxQueuedAdmin = maxQueuedAdmin;
+	}
+
+	/**
+	 * Limit on concurrent requests of each class against one index.  Each class of each index queues up to the max queued of its class
+	 */
+	public int getMaxConcurrentPerIndex() {
+		return maxConcurrentPerIndex;
+	}
+
+	public void setMaxConcurrentPerIndex(int maxConcurrentPerIndex) {
+		this.maxConcurrentPerIndex = maxConcurrentPerIndex;
+	}
+
+	public int getQueueTimeoutMs() {
+		return queueTimeoutMs;
+	}
+
+	public void setQueueTimeoutMs(int queueTimeoutMs) {
+		this.queueTimeoutMs = queueTimeoutMs;
+	}
+
+	public int getRetryAfterMs() {
+		return retryAfterMs;
+	}
+
+	public void setRetryAfterMs(int retryAfterMs) {
+		this.retryAfterMs = retryAfterMs;
+	}
+
+	@Override
+	public String toString() {
+		return "AdmissionConfig{" + "maxConcurrentQueries=" + maxConcurrentQueries + ", maxQueuedQueries=" + maxQueuedQueries + ", maxConcurrentStores="
+				+ maxConcurrentStores + ", maxQueuedStores=" + maxQueuedStores + ", maxConcurrentFetches=" + maxConcurrentFetches + ", maxQueuedFetches="
+				+ maxQueuedFetches + ", maxConcurrentAdmin=" + maxConcurrentAdmin + ", maxQueuedAdmin=" + maxQueuedAdmin + ", maxConcurrentPerIndex="
+				+ maxConcurrentPerIndex + ", queueTimeoutMs=" + queueTimeoutMs + ", retryAfterMs=" + retryAfterMs + '}';
+	}
+}
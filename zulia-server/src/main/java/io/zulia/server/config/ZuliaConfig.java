@@ -24,11 +24,41 @@ public class ZuliaConfig {
 	private String serverAddress = null; //null means autodetect
 	private int servicePort = 32191;
 	private int restPort = 32192;
+	private boolean coordinatorOnly; //joins the cluster to coordinate queries but is never given shards
 
 	private boolean responseCompression;
 
 	private int rpcWorkers;
 
+	private int queryResultCacheMB = 256;
+
+	private int searchThreads; //0 means twice the number of processors
+
+	private int schedulerThreads = 4;
+
+	private int reindexThreads; //0 means half the number of processors
+
+	private int replicationIntervalMs = 1000; //0 disables copying commits from primaries to replicas
+	private int replicationThreads; //0 means a quarter of the number of processors, at least 2
+	private double replicationMaxMBPerSec; //0 is unlimited
+
+	private double queryHedgePercentile; //0 disables hedging, only SLAVE_ONLY queries are ever hedged
+	private int queryHedgeMinDelayMs = 10;
+	private double queryHedgeMaxRate = 0.05; //max fraction of node requests that are hedged
+
+	private int internalChannelsPerNode = 2;
+	private int internalMaxConcurrentRequestsPerNode = 1024;
+	private int internalKeepAliveSeconds = 30; //0 disables keepalive pings
+
+	private int nodeHealthProbeIntervalMs = 250; //0 disables pinging other nodes
+	private int nodeHealthProbeTimeoutMs = 500;
+	private int nodeHealthEjectAfterFailures = 3;
+
+	private int rebalanceIntervalMs; //0 only rebalances on request
+	private double rebalanceThreshold = 0.2;
+
+	private AdmissionConfig admission = new AdmissionConfig();
+
 	public ZuliaConfig() {
 	}
 
@@ -120,6 +150,14 @@ public class ZuliaConfig {
 		this.restPort = restPort;
 	}
 
+	public boolean isCoordinatorOnly() {
+		return coordinatorOnly;
+	}
+
+	public void setCoordinatorOnly(boolean coordinatorOnly) {
+		this.coordinatorOnly = coordinatorOnly;
+	}
+
 	public boolean isResponseCompression() {
 		return responseCompression;
 	}
@@ -136,11 +174,174 @@ public class ZuliaConfig {
 		this.rpcWorkers = rpcWorkers;
 	}
 
+	public int getQueryResultCacheMB() {
+		return queryResultCacheMB;
+	}
+
+	public void setQueryResultCacheMB(int queryResultCacheMB) {
+		this.queryResultCacheMB = queryResultCacheMB;
+	}
+
+	public int getSearchThreads() {
+		return searchThreads;
+	}
+
+	public void setSearchThreads(int searchThreads) {
+		this.searchThreads = searchThreads;
+	}
+
+	public int getReindexThreads() {
+		return reindexThreads;
+	}
+
+	public void setReindexThreads(int reindexThreads) {
+		this.reindexThreads = reindexThreads;
+	}
+
+	public int getReplicationThreads() {
+		return replicationThreads;
+	}
+
+	public void setReplicationThreads(int replicationThreads) {
+		this.replicationThreads = replicationThreads;
+	}
+
+	public int getSchedulerThreads() {
+		return schedulerThreads;
+	}
+
+	public void setSchedulerThreads(int schedulerThreads) {
+		this.schedulerThreads = schedulerThreads;
+	}
+
+	public AdmissionConfig getAdmission() {
+		return admission;
+	}
+
+	public void setAdmission(AdmissionConfig admission) {
+		this.admission = admission;
+	}
+
+	public int getReplicationIntervalMs() {
+		return replicationIntervalMs;
+	}
+
+	public void setReplicationIntervalMs(int replicationIntervalMs) {
+		this.replicationIntervalMs = replicationIntervalMs;
+	}
+
+	public double getQueryHedgePercentile() {
+		return queryHedgePercentile;
+	}
+
+	public void setQueryHedgePercentile(double queryHedgePercentile) {
+		this.queryHedgePercentile = queryHedgePercentile;
+	}
+
+	public int getQueryHedgeMinDelayMs() {
+		return queryHedgeMinDelayMs;
+	}
+
+	public void setQueryHedgeMinDelayMs(int queryHedgeMinDelayMs) {
+		this.queryHedgeMinDelayMs = queryHedgeMinDelayMs;
+	}
+
+	public double getQueryHedgeMaxRate() {
+		return queryHedgeMaxRate;
+	}
+
+	public void setQueryHedgeMaxRate(double queryHedgeMaxRate) {
+		this.queryHedgeMaxRate = queryHedgeMaxRate;
+	}
+
+	public int getInternalChannelsPerNode() {
+		return internalChannelsPerNode;
+	}
+
+	public void setInternalChannelsPerNode(int internalChannelsPerNode) {
+		this.internalChannelsPerNode = internalChannelsPerNode;
+	}
+
+	public int getInternalMaxConcurrentRequestsPerNode() {
+		return internalMaxConcurrentRequestsPerNode;
+	}
+
+	public void setInternalMaxConcurrentRequestsPerNode(int internalMaxConcurrentRequestsPerNode) {
+		this.internalMaxConcurrentRequestsPerNode = internalMaxConcurrentRequestsPerNode;
+	}
+
+	public int getInternalKeepAliveSeconds() {
+		return internalKeepAliveSeconds;
+	}
+
+	public void setInternalKeepAliveSeconds(int internalKeepAliveSeconds) {
+		this.internalKeepAliveSeconds = internalKeepAliveSeconds;
+	}
+
+	public int getNodeHealthProbeIntervalMs() {
+		return nodeHealthProbeIntervalMs;
+	}
+
+	public void setNodeHealthProbeIntervalMs(int nodeHealthProbeIntervalMs) {
+		this.nodeHealthProbeIntervalMs = nodeHealthProbeIntervalMs;
+	}
+
+	public int getNodeHealthProbeTimeoutMs() {
+		return nodeHealthProbeTimeoutMs;
+	}
+
+	public void setNodeHealthProbeTimeoutMs(int nodeHealthProbeTimeoutMs) {
+		this.nodeHealthProbeTimeoutMs = nodeHealthProbeTimeoutMs;
+	}
+
+	public int getNodeHealthEjectAfterFailures() {
+		return nodeHealthEjectAfterFailures;
+	}
+
+	public void setNodeHealthEjectAfterFailures(int nodeHealthEjectAfterFailures) {
+		this.nodeHealthEjectAfterFailures = nodeHealthEjectAfterFailures;
+	}
+
+	public double getReplicationMaxMBPerSec() {
+		return replicationMaxMBPerSec;
+	}
+
+	public void setReplicationMaxMBPerSec(double replicationMaxMBPerSec) {
+		this.replicationMaxMBPerSec = replicationMaxMBPerSec;
+	}
+
+	public int getRebalanceIntervalMs() {
+		return rebalanceIntervalMs;
+	}
+
+	public void setRebalanceIntervalMs(int rebalanceIntervalMs) {
+		this.rebalanceIntervalMs = rebalanceIntervalMs;
+	}
+
+	public double getRebalanceThreshold() {
+		return rebalanceThreshold;
+	}
+
+	public void setRebalanceThreshold(double rebalanceThreshold) {
+		this.rebalanceThreshold = rebalanceThreshold;
+	}
+
 	@Override
 	public String toString() {
 		return "ZuliaConfig{" + "dataPath='" + dataPath + '\'' + ", cluster=" + cluster + ", clusterName='" + clusterName + '\'' + ", clusterStorageEngine='"
 				+ clusterStorageEngine + '\'' + ", s3=" + s3 + ", mongoServers=" + mongoServers + ", mongoConnection=" + mongoConnection + ", mongoAuth="
-				+ mongoAuth + ", serverAddress='" + serverAddress + '\'' + ", servicePort=" + servicePort + ", restPort=" + restPort + ", responseCompression="
-				+ responseCompression + ", rpcWorkers=" + rpcWorkers + '}';
+				+ mongoAuth + ", serverAddress='" + serverAddress + '\'' + ", servicePort=" + servicePort + ", restPort=" + restPort + ", coordinatorOnly=" + coordinatorOnly
+				+ ", responseCompression=" + responseCompression + ", rpcWorkers=" + rpcWorkers + ", queryResultCacheMB=" + queryResultCacheMB
+				+ ", searchThreads=" + searchThreads + ", schedulerThreads=" + schedulerThreads + ", reindexThreads=" + reindexThreads
+				+ ", admission=" + admission
+				+ ", replicationIntervalMs=" + replicationIntervalMs + ", replicationThreads=" + replicationThreads + ", replicationMaxMBPerSec="
+				+ replicationMaxMBPerSec
+				+ ", queryHedgePercentile=" + queryHedgePercentile
+				+ ", queryHedgeMinDelayMs=" + queryHedgeMinDelayMs + ", queryHedgeMaxRate=" + queryHedgeMaxRate
+				+ ", internalChannelsPerNode=" + internalChannelsPerNode
+				+ ", internalMaxConcurrentRequestsPerNode=" + internalMaxConcurrentRequestsPerNode
+				+ ", internalKeepAliveSeconds=" + internalKeepAliveSeconds + ", nodeHealthProbeIntervalMs=" + nodeHealthProbeIntervalMs
+				+ ", nodeHealthProbeTimeoutMs=" + nodeHealthProbeTimeoutMs + ", nodeHealthEjectAfterFailures=" + nodeHealthEjectAfterFailures
+				+ ", rebalanceIntervalMs=" + rebalanceIntervalMs + ", rebalanceThreshold=" + rebalanceThreshold + '}';
 	}
 }
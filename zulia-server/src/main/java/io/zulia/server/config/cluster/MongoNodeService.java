@@ -25,6 +25,7 @@ public class MongoNodeService implements NodeService {
 	private static final String REST_PORT = "restPort";
 	private static final String HEARTBEAT = "heartbeat";
 	private static final String VERSION = "version";
+	private static final String COORDINATOR_ONLY = "coordinatorOnly";
 
 	private final MongoClient mongoClient;
 	private final String clusterName;
@@ -108,7 +109,7 @@ public class MongoNodeService implements NodeService {
 
 	private Document nodeToDocument(Node node) {
 		return new Document(SERVER_ADDRESS, node.getServerAddress()).append(SERVICE_PORT, node.getServicePort()).append(SERVICE_PORT, node.getServicePort())
-				.append(REST_PORT, node.getRestPort()).append(VERSION, node.getVersion());
+				.append(REST_PORT, node.getRestPort()).append(VERSION, node.getVersion()).append(COORDINATOR_ONLY, node.getCoordinatorOnly());
 	}
 
 	private Node documentToNode(Document d) {
@@ -119,7 +120,7 @@ public class MongoNodeService implements NodeService {
 			}
 			return Node.newBuilder().setServerAddress(d.getString(SERVER_ADDRESS)).setServicePort(d.getInteger(SERVICE_PORT))
 					.setRestPort(d.getInteger(REST_PORT)).setHeartbeat(d.getDate(HEARTBEAT) != null ? d.getDate(HEARTBEAT).getTime() : 0).setVersion(version)
-					.build();
+					.setCoordinatorOnly(d.getBoolean(COORDINATOR_ONLY, false)).build();
 		}
 		return null;
 	}
@@ -2,34 +2,50 @@ package io.zulia.server.connection.client;
 
 import io.zulia.message.ZuliaBase.Node;
 import io.zulia.message.ZuliaServiceOuterClass.*;
+import io.zulia.server.connection.client.handler.InternalBatchFetchHandler;
+import io.zulia.server.connection.client.handler.InternalBlockWritesHandler;
 import io.zulia.server.connection.client.handler.InternalClearHandler;
 import io.zulia.server.connection.client.handler.InternalCreateIndexAliasHandler;
 import io.zulia.server.connection.client.handler.InternalCreateOrUpdateIndexHandler;
+import io.zulia.server.connection.client.handler.InternalDeleteByQueryHandler;
 import io.zulia.server.connection.client.handler.InternalDeleteHandler;
 import io.zulia.server.connection.client.handler.InternalDeleteIndexAliasHandler;
 import io.zulia.server.connection.client.handler.InternalDeleteIndexHandler;
 import io.zulia.server.connection.client.handler.InternalFetchHandler;
+import io.zulia.server.connection.client.handler.InternalGetBulkLoadStatusHandler;
 import io.zulia.server.connection.client.handler.InternalGetFieldNamesHandler;
 import io.zulia.server.connection.client.handler.InternalGetNumberOfDocsHandler;
+import io.zulia.server.connection.client.handler.InternalGetReindexStatusHandler;
+import io.zulia.server.connection.client.handler.InternalGetShardFileChunkHandler;
+import io.zulia.server.connection.client.handler.InternalGetShardFilesHandler;
+import io.zulia.server.connection.client.handler.InternalGetShardStatsHandler;
 import io.zulia.server.connection.client.handler.InternalGetTermsHandler;
 import io.zulia.server.connection.client.handler.InternalOptimizeHandler;
 import io.zulia.server.connection.client.handler.InternalQueryHandler;
 import io.zulia.server.connection.client.handler.InternalReindexHandler;
+import io.zulia.server.connection.client.handler.InternalReleaseShardFilesHandler;
+import io.zulia.server.connection.client.handler.InternalSplitIndexHandler;
 import io.zulia.server.connection.client.handler.InternalStoreHandler;
-import org.apache.commons.pool2.impl.GenericObjectPool;
+import io.zulia.server.connection.client.handler.InternalUpdateByQueryHandler;
+import io.zulia.server.connection.client.handler.InternalUpdateHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class InternalClient {
 	private final static Logger LOG = LoggerFactory.getLogger(InternalClient.class);
-	private final ConcurrentHashMap<String, GenericObjectPool<InternalRpcConnection>> internalConnectionPoolMap;
+	private final ConcurrentHashMap<String, InternalRpcConnection> internalConnectionMap;
+	private final int channelsPerNode;
+	private final int maxConcurrentRequestsPerNode;
+	private final int keepAliveSeconds;
+	private final NodeLoadTracker nodeLoadTracker;
 	private final InternalQueryHandler internalQueryHandler;
 	private final InternalStoreHandler internalStoreHandler;
 	private final InternalDeleteHandler internalDeleteHandler;
 	private final InternalFetchHandler internalFetchHandler;
+	private final InternalBatchFetchHandler internalBatchFetchHandler;
 	private final InternalGetNumberOfDocsHandler internalGetNumberOfDocsHandler;
 	private final InternalOptimizeHandler internalOptimizeHandler;
 	private final InternalGetFieldNamesHandler internalGetFieldNamesHandler;
@@ -38,17 +54,38 @@ public class InternalClient {
 	private final InternalCreateOrUpdateIndexHandler internalCreateIndexHandler;
 	private final InternalDeleteIndexHandler internalDeleteIndexHandler;
 	private final InternalReindexHandler internalReindexHandler;
+	private final InternalGetReindexStatusHandler internalGetReindexStatusHandler;
+	private final InternalGetBulkLoadStatusHandler internalGetBulkLoadStatusHandler;
 	private final InternalCreateIndexAliasHandler internalCreateIndexAliasHandler;
 	private final InternalDeleteIndexAliasHandler internalDeleteIndexAliasHandler;
-
-	public InternalClient() {
-
-		this.internalConnectionPoolMap = new ConcurrentHashMap<>();
+	private final InternalGetShardFilesHandler internalGetShardFilesHandler;
+	private final InternalGetShardFileChunkHandler internalGetShardFileChunkHandler;
+	private final InternalReleaseShardFilesHandler internalReleaseShardFilesHandler;
+	private final InternalSplitIndexHandler internalSplitIndexHandler;
+	private final InternalGetShardStatsHandler internalGetShardStatsHandler;
+	private final InternalBlockWritesHandler internalBlockWritesHandler;
+	private final InternalDeleteByQueryHandler internalDeleteByQueryHandler;
+	private final InternalUpdateByQueryHandler internalUpdateByQueryHandler;
+	private final InternalUpdateHandler internalUpdateHandler;
+
+	/**
+	 * @param channelsPerNode              - number of channels (HTTP/2 connections) to each other node that all requests to the node share
+	 * @param maxConcurrentRequestsPerNode - requests in flight to a node beyond this wait until an earlier request to the node finishes
+	 * @param keepAliveSeconds             - interval of keepalive pings on idle channels, 0 disables them
+	 */
+	public InternalClient(int channelsPerNode, int maxConcurrentRequestsPerNode, int keepAliveSeconds) {
+
+		this.internalConnectionMap = new ConcurrentHashMap<>();
+		this.channelsPerNode = channelsPerNode;
+		this.maxConcurrentRequestsPerNode = maxConcurrentRequestsPerNode;
+		this.keepAliveSeconds = keepAliveSeconds;
+		this.nodeLoadTracker = new NodeLoadTracker();
 
 		internalQueryHandler = new InternalQueryHandler(this);
 		internalStoreHandler = new InternalStoreHandler(this);
 		internalDeleteHandler = new InternalDeleteHandler(this);
 		internalFetchHandler = new InternalFetchHandler(this);
+		internalBatchFetchHandler = new InternalBatchFetchHandler(this);
 		internalGetNumberOfDocsHandler = new InternalGetNumberOfDocsHandler(this);
 		internalOptimizeHandler = new InternalOptimizeHandler(this);
 		internalGetFieldNamesHandler = new InternalGetFieldNamesHandler(this);
@@ -57,31 +94,38 @@ public class InternalClient {
 		internalCreateIndexHandler = new InternalCreateOrUpdateIndexHandler(this);
 		internalDeleteIndexHandler = new InternalDeleteIndexHandler(this);
 		internalReindexHandler = new InternalReindexHandler(this);
+		internalGetReindexStatusHandler = new InternalGetReindexStatusHandler(this);
+		internalGetBulkLoadStatusHandler = new InternalGetBulkLoadStatusHandler(this);
 		internalCreateIndexAliasHandler = new InternalCreateIndexAliasHandler(this);
 		internalDeleteIndexAliasHandler = new InternalDeleteIndexAliasHandler(this);
+		internalGetShardFilesHandler = new InternalGetShardFilesHandler(this);
+		internalGetShardFileChunkHandler = new InternalGetShardFileChunkHandler(this);
+		internalReleaseShardFilesHandler = new InternalReleaseShardFilesHandler(this);
+		internalSplitIndexHandler = new InternalSplitIndexHandler(this);
+		internalGetShardStatsHandler = new InternalGetShardStatsHandler(this);
+		internalBlockWritesHandler = new InternalBlockWritesHandler(this);
+		internalDeleteByQueryHandler = new InternalDeleteByQueryHandler(this);
+		internalUpdateByQueryHandler = new InternalUpdateByQueryHandler(this);
+		internalUpdateHandler = new InternalUpdateHandler(this);
 	}
 
 	public void close() {
 
-		for (GenericObjectPool<InternalRpcConnection> pool : internalConnectionPoolMap.values()) {
-			pool.close();
+		for (InternalRpcConnection connection : internalConnectionMap.values()) {
+			connection.close();
 		}
 	}
 
 	public void addNode(Node node) {
 		String nodeKey = getNodeKey(node);
 
-		if (!internalConnectionPoolMap.containsKey(nodeKey)) {
-
-			LOG.info("Adding connection pool for node: " + nodeKey);
+		if (!internalConnectionMap.containsKey(nodeKey)) {
 
-			GenericObjectPool<InternalRpcConnection> pool = new GenericObjectPool<>(
-					new InternalRpcConnectionFactory(node.getServerAddress(), node.getServicePort()));
-			pool.setMinIdle(4);
-			pool.setMaxTotal(64);
-			pool.setMinEvictableIdle(Duration.ofMinutes(5));
+			LOG.info("Adding connection for node: " + nodeKey);
 
-			internalConnectionPoolMap.putIfAbsent(nodeKey, pool);
+			internalConnectionMap.computeIfAbsent(nodeKey,
+					k -> new InternalRpcConnection(node.getServerAddress(), node.getServicePort(), channelsPerNode, maxConcurrentRequestsPerNode,
+							keepAliveSeconds));
 		}
 		else {
 			LOG.info("Already loaded connection for node <" + nodeKey + ">");
@@ -91,11 +135,13 @@ public class InternalClient {
 	public void removeNode(Node node) {
 		String nodeKey = getNodeKey(node);
 
-		LOG.info("Removing connection pool for node <" + nodeKey + ">");
-		GenericObjectPool<InternalRpcConnection> connectionPool = internalConnectionPoolMap.remove(nodeKey);
+		LOG.info("Removing connection for node <" + nodeKey + ">");
+		InternalRpcConnection connection = internalConnectionMap.remove(nodeKey);
+		nodeLoadTracker.removeNode(node);
 
-		if (connectionPool != null) {
-			connectionPool.close();
+		if (connection != null) {
+			//the node is gone or not answering, requests still waiting on it should fail over instead of running into timeouts
+			connection.closeNow();
 		}
 		else {
 			LOG.info("Already closed connection for node <" + nodeKey + ">");
@@ -103,53 +149,40 @@ public class InternalClient {
 
 	}
 
+	public NodeLoadTracker getNodeLoadTracker() {
+		return nodeLoadTracker;
+	}
+
 	private String getNodeKey(Node node) {
 		return node.getServerAddress() + ":" + node.getServicePort();
 	}
 
 	public InternalRpcConnection getInternalRpcConnection(Node node) throws Exception {
 		String nodeKey = getNodeKey(node);
-		GenericObjectPool<InternalRpcConnection> connectionPool = internalConnectionPoolMap.get(nodeKey);
-		if (connectionPool != null) {
-			return connectionPool.borrowObject();
+		InternalRpcConnection connection = internalConnectionMap.get(nodeKey);
+		if (connection != null) {
+			return connection;
 		}
 		throw new Exception("Cannot get connection: Node <" + nodeKey + "> not loaded");
 
 	}
 
-	public void returnInternalBlockingConnection(Node node, InternalRpcConnection rpcConnection, boolean valid) {
-		String nodeKey = getNodeKey(node);
-		GenericObjectPool<InternalRpcConnection> connectionPool = internalConnectionPoolMap.get(nodeKey);
-		if (connectionPool != null) {
-			try {
-				if (valid) {
-					connectionPool.returnObject(rpcConnection);
-				}
-				else {
-					connectionPool.invalidateObject(rpcConnection);
-				}
-			}
-			catch (Exception e) {
-				LOG.error("Failed to return blocking connection to node <" + nodeKey + "> pool", e);
-			}
-		}
-		else {
-			LOG.error("Failed to return blocking connection to node <" + nodeKey + "> pool. Pool does not exist.");
-			LOG.error("Current pool members <" + internalConnectionPoolMap.keySet() + ">");
-			if (rpcConnection != null) {
-				rpcConnection.close();
-			}
-		}
-	}
-
 	public InternalQueryResponse executeQuery(Node node, InternalQueryRequest request) throws Exception {
 		return internalQueryHandler.handleRequest(node, request);
 	}
 
+	public CompletableFuture<InternalQueryResponse> executeQueryAsync(Node node, InternalQueryRequest request) {
+		return internalQueryHandler.handleRequestAsync(node, request);
+	}
+
 	public StoreResponse executeStore(Node node, StoreRequest request) throws Exception {
 		return internalStoreHandler.handleRequest(node, request);
 	}
 
+	public UpdateResponse executeUpdate(Node node, UpdateRequest request) throws Exception {
+		return internalUpdateHandler.handleRequest(node, request);
+	}
+
 	public DeleteResponse executeDelete(Node node, DeleteRequest request) throws Exception {
 		return internalDeleteHandler.handleRequest(node, request);
 	}
@@ -158,10 +191,18 @@ public class InternalClient {
 		return internalFetchHandler.handleRequest(node, request);
 	}
 
+	public BatchFetchResponse executeBatchFetch(Node node, BatchFetchRequest request) throws Exception {
+		return internalBatchFetchHandler.handleRequest(node, request);
+	}
+
 	public GetNumberOfDocsResponse getNumberOfDocs(Node node, InternalGetNumberOfDocsRequest request) throws Exception {
 		return internalGetNumberOfDocsHandler.handleRequest(node, request);
 	}
 
+	public CompletableFuture<GetNumberOfDocsResponse> getNumberOfDocsAsync(Node node, InternalGetNumberOfDocsRequest request) {
+		return internalGetNumberOfDocsHandler.handleRequestAsync(node, request);
+	}
+
 	public OptimizeResponse optimize(Node node, OptimizeRequest request) throws Exception {
 		return internalOptimizeHandler.handleRequest(node, request);
 	}
@@ -170,6 +211,10 @@ public class InternalClient {
 		return internalGetFieldNamesHandler.handleRequest(node, request);
 	}
 
+	public CompletableFuture<GetFieldNamesResponse> getFieldNamesAsync(Node node, InternalGetFieldNamesRequest request) {
+		return internalGetFieldNamesHandler.handleRequestAsync(node, request);
+	}
+
 	public ClearResponse clear(Node node, ClearRequest request) throws Exception {
 		return internalClearHandler.handleRequest(node, request);
 	}
@@ -178,6 +223,10 @@ public class InternalClient {
 		return internalGetTermsHandler.handleRequest(node, request);
 	}
 
+	public CompletableFuture<InternalGetTermsResponse> getTermsAsync(Node node, InternalGetTermsRequest request) {
+		return internalGetTermsHandler.handleRequestAsync(node, request);
+	}
+
 	public InternalCreateOrUpdateIndexResponse createOrUpdateIndex(Node node, InternalCreateOrUpdateIndexRequest request) throws Exception {
 		return internalCreateIndexHandler.handleRequest(node, request);
 	}
@@ -190,6 +239,14 @@ public class InternalClient {
 		return internalReindexHandler.handleRequest(node, request);
 	}
 
+	public GetReindexStatusResponse getReindexStatus(Node node, GetReindexStatusRequest request) throws Exception {
+		return internalGetReindexStatusHandler.handleRequest(node, request);
+	}
+
+	public GetBulkLoadStatusResponse getBulkLoadStatus(Node node, GetBulkLoadStatusRequest request) throws Exception {
+		return internalGetBulkLoadStatusHandler.handleRequest(node, request);
+	}
+
 	public CreateIndexAliasResponse createIndexAlias(Node node, InternalCreateIndexAliasRequest request) throws Exception {
 		return internalCreateIndexAliasHandler.handleRequest(node, request);
 	}
@@ -197,4 +254,36 @@ public class InternalClient {
 	public DeleteIndexAliasResponse deleteIndexAlias(Node node, DeleteIndexAliasRequest request) throws Exception {
 		return internalDeleteIndexAliasHandler.handleRequest(node, request);
 	}
+
+	public InternalGetShardFilesResponse getShardFiles(Node node, InternalGetShardFilesRequest request) throws Exception {
+		return internalGetShardFilesHandler.handleRequest(node, request);
+	}
+
+	public InternalGetShardFileChunkResponse getShardFileChunk(Node node, InternalGetShardFileChunkRequest request) throws Exception {
+		return internalGetShardFileChunkHandler.handleRequest(node, request);
+	}
+
+	public InternalReleaseShardFilesResponse releaseShardFiles(Node node, InternalReleaseShardFilesRequest request) throws Exception {
+		return internalReleaseShardFilesHandler.handleRequest(node, request);
+	}
+
+	public InternalSplitIndexResponse splitIndex(Node node, InternalSplitIndexRequest request) throws Exception {
+		return internalSplitIndexHandler.handleRequest(node, request);
+	}
+
+	public InternalGetShardStatsResponse getShardStats(Node node, InternalGetShardStatsRequest request) throws Exception {
+		return internalGetShardStatsHandler.handleRequest(node, request);
+	}
+
+	public InternalBlockWritesResponse blockWrites(Node node, InternalBlockWritesRequest request) throws Exception {
+		return internalBlockWritesHandler.handleRequest(node, request);
+	}
+
+	public DeleteByQueryResponse deleteByQuery(Node node, DeleteByQueryRequest request) throws Exception {
+		return internalDeleteByQueryHandler.handleRequest(node, request);
+	}
+
+	public UpdateByQueryResponse updateByQuery(Node node, UpdateByQueryRequest request) throws Exception {
+		return internalUpdateByQueryHandler.handleRequest(node, request);
+	}
 }
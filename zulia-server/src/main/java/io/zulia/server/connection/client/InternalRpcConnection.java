@@ -1,60 +1,230 @@
 package io.zulia.server.connection.client;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.StatusRuntimeException;
+import io.zulia.cache.MetaKeys;
 import io.zulia.message.ZuliaServiceGrpc;
-import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceBlockingStub;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
 
+/**
+ * Connection to another node's internal service.  A small fixed set of channels is shared by all requests to the node, gRPC multiplexes the
+ * concurrent calls over the HTTP/2 connection of each channel.  Calls are started on the channel with the fewest calls in flight and calls beyond
+ * the per node limit wait in a queue instead of a thread until an earlier call to the node finishes.
+ */
 public class InternalRpcConnection {
 
 	private final static Logger LOG = LoggerFactory.getLogger(InternalRpcConnection.class);
+
+	private static final int KEEP_ALIVE_TIMEOUT_SECONDS = 10;
+
 	private final String memberAddress;
 	private final int internalServicePort;
 
-	private ManagedChannel channel;
-	private ZuliaServiceBlockingStub blockingStub;
+	private final ManagedChannel[] channels;
+	private final ZuliaServiceFutureStub[] futureStubs;
+	private final AtomicIntegerArray channelInFlight;
+	private final Semaphore permits;
+	private final ConcurrentLinkedQueue<PendingCall<?>> waiting;
+
+	private volatile boolean closed;
+
+	private class PendingCall<S> {
+		private final Function<ZuliaServiceFutureStub, ListenableFuture<S>> call;
+		private final CompletableFuture<S> result;
 
-	public InternalRpcConnection(String memberAddress, int servicePort) {
+		private PendingCall(Function<ZuliaServiceFutureStub, ListenableFuture<S>> call) {
+			this.call = call;
+			this.result = new CompletableFuture<>();
+		}
+
+		private void start() {
+			if (result.isDone()) {
+				//canceled while waiting for a permit
+				permits.release();
+				return;
+			}
+
+			int channelIndex = getLeastBusyChannel();
+			channelInFlight.incrementAndGet(channelIndex);
+
+			ListenableFuture<S> response;
+			try {
+				response = call.apply(futureStubs[channelIndex]);
+			}
+			catch (Throwable t) {
+				finished(channelIndex);
+				result.completeExceptionally(t);
+				return;
+			}
+
+			//canceling the result (i.e. a hedged query that lost) cancels the rpc on the other node
+			result.whenComplete((s, t) -> {
+				if (result.isCancelled()) {
+					response.cancel(true);
+				}
+			});
+
+			Futures.addCallback(response, new FutureCallback<>() {
+				@Override
+				public void onSuccess(S s) {
+					finished(channelIndex);
+					result.complete(s);
+				}
+
+				@Override
+				public void onFailure(Throwable t) {
+					finished(channelIndex);
+					result.completeExceptionally(getException(t));
+				}
+			}, MoreExecutors.directExecutor());
+		}
+	}
+
+	public InternalRpcConnection(String memberAddress, int servicePort, int channelCount, int maxConcurrentRequests, int keepAliveSeconds) {
 		this.memberAddress = memberAddress;
 		this.internalServicePort = servicePort;
 
-		ManagedChannelBuilder<?> managedChannelBuilder = ManagedChannelBuilder.forAddress(memberAddress, servicePort).maxInboundMessageSize(256 * 1024 * 1024)
-				.usePlaintext();
-		channel = managedChannelBuilder.build();
+		this.channels = new ManagedChannel[channelCount];
+		this.futureStubs = new ZuliaServiceFutureStub[channelCount];
+		this.channelInFlight = new AtomicIntegerArray(channelCount);
+		this.permits = new Semaphore(maxConcurrentRequests);
+		this.waiting = new ConcurrentLinkedQueue<>();
+
+		for (int i = 0; i < channelCount; i++) {
+			ManagedChannelBuilder<?> managedChannelBuilder = ManagedChannelBuilder.forAddress(memberAddress, servicePort)
+					.maxInboundMessageSize(256 * 1024 * 1024).usePlaintext();
+			if (keepAliveSeconds > 0) {
+				//detects dead connections to a node that went away without closing them instead of waiting on the OS tcp timeout
+				managedChannelBuilder.keepAliveTime(keepAliveSeconds, TimeUnit.SECONDS).keepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+						.keepAliveWithoutCalls(true);
+			}
+			channels[i] = managedChannelBuilder.build();
+			futureStubs[i] = ZuliaServiceGrpc.newFutureStub(channels[i]);
+		}
+
+		LOG.info("Connecting to <" + memberAddress + ":" + servicePort + "> with <" + channelCount + "> channels");
+	}
+
+	/**
+	 * Starts the call when a permit for the node is available, otherwise queues it.  Never blocks the calling thread
+	 */
+	public <S> CompletableFuture<S> call(Function<ZuliaServiceFutureStub, ListenableFuture<S>> call) {
+		PendingCall<S> pendingCall = new PendingCall<>(call);
+		waiting.add(pendingCall);
+		if (closed) {
+			failWaiting();
+		}
+		else {
+			startWaiting();
+		}
+		return pendingCall.result;
+	}
 
-		blockingStub = ZuliaServiceGrpc.newBlockingStub(channel);
+	private void startWaiting() {
+		while (!closed && !waiting.isEmpty() && permits.tryAcquire()) {
+			PendingCall<?> pendingCall = waiting.poll();
+			if (pendingCall == null) {
+				//another thread started it
+				permits.release();
+				continue;
+			}
+			pendingCall.start();
+		}
+	}
 
-		LOG.info("Connecting to <" + memberAddress + ":" + servicePort + ">");
+	private void finished(int channelIndex) {
+		channelInFlight.decrementAndGet(channelIndex);
+		permits.release();
+		startWaiting();
 	}
 
-	public ZuliaServiceBlockingStub getService() {
-		return blockingStub;
+	private int getLeastBusyChannel() {
+		int best = 0;
+		int bestInFlight = Integer.MAX_VALUE;
+		for (int i = 0; i < channelInFlight.length(); i++) {
+			int inFlight = channelInFlight.get(i);
+			if (inFlight < bestInFlight) {
+				best = i;
+				bestInFlight = inFlight;
+			}
+		}
+		return best;
+	}
+
+	private static Throwable getException(Throwable t) {
+		if (t instanceof StatusRuntimeException e) {
+			Metadata trailers = e.getTrailers();
+			if (trailers != null && trailers.containsKey(MetaKeys.ERROR_KEY)) {
+				return new Exception(trailers.get(MetaKeys.ERROR_KEY));
+			}
+		}
+		return t;
 	}
 
+	/**
+	 * @return number of calls to the node currently waiting for a permit
+	 */
+	public int getWaitingCount() {
+		return waiting.size();
+	}
+
+	/**
+	 * Closes after the calls in flight finish, calls still waiting for a permit fail without being sent
+	 */
 	public void close() {
-		try {
-			if (channel != null) {
-				LOG.info("Closing connection to <" + memberAddress + ":" + internalServicePort + ">");
-				channel.shutdown();
-				try {
-					channel.awaitTermination(15, TimeUnit.SECONDS);
-				}
-				catch (InterruptedException ex) {
+		closed = true;
+		failWaiting();
+		for (ManagedChannel channel : channels) {
+			channel.shutdown();
+		}
+
+		LOG.info("Closing connection to <" + memberAddress + ":" + internalServicePort + ">");
+		for (ManagedChannel channel : channels) {
+			try {
+				if (!channel.awaitTermination(15, TimeUnit.SECONDS)) {
 					LOG.warn("connection to <" + memberAddress + ":" + internalServicePort + "> timed out on close");
+					channel.shutdownNow();
 				}
-
+			}
+			catch (InterruptedException ex) {
+				LOG.warn("connection to <" + memberAddress + ":" + internalServicePort + "> interrupted on close");
+				channel.shutdownNow();
+				Thread.currentThread().interrupt();
 			}
 		}
-		catch (Exception e) {
-			LOG.error("Close Failed", e);
-		}
+	}
 
-		channel = null;
-		blockingStub = null;
+	/**
+	 * Closes without waiting for calls in flight, they fail immediately.  Used when the node left the cluster or stopped answering
+	 */
+	public void closeNow() {
+		LOG.info("Closing connection to <" + memberAddress + ":" + internalServicePort + "> now");
+		closed = true;
+		failWaiting();
+		for (ManagedChannel channel : channels) {
+			channel.shutdownNow();
+		}
+	}
 
+	private void failWaiting() {
+		PendingCall<?> pendingCall;
+		while ((pendingCall = waiting.poll()) != null) {
+			pendingCall.result.completeExceptionally(new Exception("Connection to <" + memberAddress + ":" + internalServicePort + "> closed"));
+		}
 	}
 }
@@ -0,0 +1,130 @@
+package io.zulia.server.connection.client;
+
+import io.zulia.message.ZuliaBase.Node;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks an exponentially weighted moving average of query latency and the number of outstanding internal queries for each node
+ * so replica selection can prefer copies on nodes that are currently answering fastest.  Samples fade towards the average of all nodes as they
+ * age and a small share of selections probe a random copy, so a node that was slow once is measured again instead of being avoided forever.
+ */
+public class NodeLoadTracker {
+
+	private static final double ALPHA = 0.3;
+	private static final long HALF_LIFE_NANOS = TimeUnit.SECONDS.toNanos(30);
+	private static final double PROBE_RATE = 0.05;
+
+	private static class NodeLoad {
+		private final AtomicInteger outstanding = new AtomicInteger();
+		private volatile double ewmaLatencyMs = -1;
+		private volatile long lastSampleNanos;
+
+		private synchronized void recordLatency(double latencyMs, long now) {
+			if (ewmaLatencyMs < 0) {
+				ewmaLatencyMs = latencyMs;
+			}
+			else {
+				ewmaLatencyMs = ALPHA * latencyMs + (1 - ALPHA) * ewmaLatencyMs;
+			}
+			lastSampleNanos = now;
+		}
+	}
+
+	private final ConcurrentHashMap<String, NodeLoad> nodeLoadMap;
+	private final LongSupplier nanoClock;
+	private final DoubleSupplier random;
+
+	public NodeLoadTracker() {
+		this(System::nanoTime, () -> ThreadLocalRandom.current().nextDouble());
+	}
+
+	/**
+	 * @param nanoClock - source of the time samples are aged by
+	 * @param random    - source of uniform values in [0, 1) that decide when to probe
+	 */
+	public NodeLoadTracker(LongSupplier nanoClock, DoubleSupplier random) {
+		this.nodeLoadMap = new ConcurrentHashMap<>();
+		this.nanoClock = nanoClock;
+		this.random = random;
+	}
+
+	private NodeLoad getNodeLoad(Node node) {
+		return nodeLoadMap.computeIfAbsent(getNodeKey(node), k -> new NodeLoad());
+	}
+
+	public void requestStarted(Node node) {
+		getNodeLoad(node).outstanding.incrementAndGet();
+	}
+
+	public void requestFinished(Node node, long latencyNanos) {
+		NodeLoad nodeLoad = nodeLoadMap.get(getNodeKey(node));
+		if (nodeLoad == null) {
+			//node was removed while the request was outstanding
+			return;
+		}
+		nodeLoad.outstanding.decrementAndGet();
+		nodeLoad.recordLatency(latencyNanos / 1_000_000.0, nanoClock.getAsLong());
+	}
+
+	/**
+	 * @return relative cost of sending another request to the node, lower is better.  Nodes without latency samples yet are scored with the average
+	 * latency of the other nodes so they are neither preferred nor avoided until probing measures them
+	 */
+	public double getScore(Node node) {
+		NodeLoad nodeLoad = nodeLoadMap.get(getNodeKey(node));
+		int outstanding = nodeLoad != null ? nodeLoad.outstanding.get() : 0;
+		return getLatencyMs(nodeLoad, getAverageLatencyMs(), nanoClock.getAsLong()) * (outstanding + 1);
+	}
+
+	/**
+	 * @return true when this selection should go to a random copy to refresh the latency samples of nodes that are not currently preferred
+	 */
+	public boolean shouldProbe() {
+		return random.getAsDouble() < PROBE_RATE;
+	}
+
+	public double getEwmaLatencyMs(Node node) {
+		NodeLoad nodeLoad = nodeLoadMap.get(getNodeKey(node));
+		return nodeLoad != null ? Math.max(nodeLoad.ewmaLatencyMs, 0) : 0;
+	}
+
+	public int getOutstanding(Node node) {
+		NodeLoad nodeLoad = nodeLoadMap.get(getNodeKey(node));
+		return nodeLoad != null ? nodeLoad.outstanding.get() : 0;
+	}
+
+	public void removeNode(Node node) {
+		nodeLoadMap.remove(getNodeKey(node));
+	}
+
+	private static double getLatencyMs(NodeLoad nodeLoad, double averageLatencyMs, long now) {
+		if (nodeLoad == null || nodeLoad.ewmaLatencyMs < 0) {
+			return averageLatencyMs;
+		}
+		double decay = Math.pow(0.5, (double) (now - nodeLoad.lastSampleNanos) / HALF_LIFE_NANOS);
+		return averageLatencyMs + (nodeLoad.ewmaLatencyMs - averageLatencyMs) * decay;
+	}
+
+	private double getAverageLatencyMs() {
+		double total = 0;
+		int count = 0;
+		for (NodeLoad nodeLoad : nodeLoadMap.values()) {
+			double ewmaLatencyMs = nodeLoad.ewmaLatencyMs;
+			if (ewmaLatencyMs >= 0) {
+				total += ewmaLatencyMs;
+				count++;
+			}
+		}
+		return count != 0 ? total / count : 0;
+	}
+
+	private static String getNodeKey(Node node) {
+		return node.getServerAddress() + ":" + node.getServicePort();
+	}
+}
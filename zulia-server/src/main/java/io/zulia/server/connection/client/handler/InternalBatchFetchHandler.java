@@ -0,0 +1,18 @@
+package io.zulia.server.connection.client.handler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.BatchFetchRequest;
+import io.zulia.message.ZuliaServiceOuterClass.BatchFetchResponse;
+import io.zulia.server.connection.client.InternalClient;
+
+public class InternalBatchFetchHandler extends InternalRequestHandler<BatchFetchResponse, BatchFetchRequest> {
+	public InternalBatchFetchHandler(InternalClient internalClient) {
+		super(internalClient);
+	}
+
+	@Override
+	protected ListenableFuture<BatchFetchResponse> getResponse(BatchFetchRequest batchFetchRequest, ZuliaServiceFutureStub service) {
+		return service.internalBatchFetch(batchFetchRequest);
+	}
+}
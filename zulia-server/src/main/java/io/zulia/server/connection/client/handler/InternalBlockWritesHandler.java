@@ -0,0 +1,19 @@
+package io.zulia.server.connection.client.handler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.InternalBlockWritesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalBlockWritesResponse;
+import io.zulia.server.connection.client.InternalClient;
+
+public class InternalBlockWritesHandler extends InternalRequestHandler<InternalBlockWritesResponse, InternalBlockWritesRequest> {
+	public InternalBlockWritesHandler(InternalClient internalClient) {
+		super(internalClient);
+	}
+
+	@Override
+	protected ListenableFuture<InternalBlockWritesResponse> getResponse(InternalBlockWritesRequest request, ZuliaServiceFutureStub service) {
+		return service.internalBlockWrites(request);
+	}
+
+}
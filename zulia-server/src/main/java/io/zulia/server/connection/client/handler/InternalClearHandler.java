@@ -1,9 +1,10 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.ClearRequest;
 import io.zulia.message.ZuliaServiceOuterClass.ClearResponse;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalClearHandler extends InternalRequestHandler<ClearResponse, ClearRequest> {
 	public InternalClearHandler(InternalClient internalClient) {
@@ -11,8 +12,8 @@ public class InternalClearHandler extends InternalRequestHandler<ClearResponse,
 	}
 
 	@Override
-	protected ClearResponse getResponse(ClearRequest clearRequest, InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalClear(clearRequest);
+	protected ListenableFuture<ClearResponse> getResponse(ClearRequest clearRequest, ZuliaServiceFutureStub service) {
+		return service.internalClear(clearRequest);
 	}
 
 }
@@ -1,9 +1,10 @@
 package io.zulia.server.connection.client.handler;
 
-import io.zulia.message.ZuliaServiceOuterClass;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.CreateIndexAliasResponse;
+import io.zulia.message.ZuliaServiceOuterClass;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalCreateIndexAliasHandler extends InternalRequestHandler<CreateIndexAliasResponse, ZuliaServiceOuterClass.InternalCreateIndexAliasRequest> {
 	public InternalCreateIndexAliasHandler(InternalClient internalClient) {
@@ -11,9 +12,9 @@ public class InternalCreateIndexAliasHandler extends InternalRequestHandler<Crea
 	}
 
 	@Override
-	protected CreateIndexAliasResponse getResponse(ZuliaServiceOuterClass.InternalCreateIndexAliasRequest internalCreateIndexAliasRequest,
-			InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalCreateIndexAlias(internalCreateIndexAliasRequest);
+	protected ListenableFuture<CreateIndexAliasResponse> getResponse(ZuliaServiceOuterClass.InternalCreateIndexAliasRequest internalCreateIndexAliasRequest,
+			ZuliaServiceFutureStub service) {
+		return service.internalCreateIndexAlias(internalCreateIndexAliasRequest);
 	}
 
 }
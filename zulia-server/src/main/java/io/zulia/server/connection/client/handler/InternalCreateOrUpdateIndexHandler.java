@@ -1,9 +1,10 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.InternalCreateOrUpdateIndexRequest;
 import io.zulia.message.ZuliaServiceOuterClass.InternalCreateOrUpdateIndexResponse;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalCreateOrUpdateIndexHandler extends InternalRequestHandler<InternalCreateOrUpdateIndexResponse, InternalCreateOrUpdateIndexRequest> {
 	public InternalCreateOrUpdateIndexHandler(InternalClient internalClient) {
@@ -11,9 +12,9 @@ public class InternalCreateOrUpdateIndexHandler extends InternalRequestHandler<I
 	}
 
 	@Override
-	protected InternalCreateOrUpdateIndexResponse getResponse(InternalCreateOrUpdateIndexRequest internalCreateOrUpdateIndexRequest,
-			InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalCreateOrUpdateIndex(internalCreateOrUpdateIndexRequest);
+	protected ListenableFuture<InternalCreateOrUpdateIndexResponse> getResponse(InternalCreateOrUpdateIndexRequest internalCreateOrUpdateIndexRequest,
+			ZuliaServiceFutureStub service) {
+		return service.internalCreateOrUpdateIndex(internalCreateOrUpdateIndexRequest);
 	}
 
 }
@@ -0,0 +1,19 @@
+package io.zulia.server.connection.client.handler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.DeleteByQueryRequest;
+import io.zulia.message.ZuliaServiceOuterClass.DeleteByQueryResponse;
+import io.zulia.server.connection.client.InternalClient;
+
+public class InternalDeleteByQueryHandler extends InternalRequestHandler<DeleteByQueryResponse, DeleteByQueryRequest> {
+	public InternalDeleteByQueryHandler(InternalClient internalClient) {
+		super(internalClient);
+	}
+
+	@Override
+	protected ListenableFuture<DeleteByQueryResponse> getResponse(DeleteByQueryRequest request, ZuliaServiceFutureStub service) {
+		return service.internalDeleteByQuery(request);
+	}
+
+}
@@ -1,9 +1,10 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.DeleteRequest;
 import io.zulia.message.ZuliaServiceOuterClass.DeleteResponse;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalDeleteHandler extends InternalRequestHandler<DeleteResponse, DeleteRequest> {
 	public InternalDeleteHandler(InternalClient internalClient) {
@@ -11,8 +12,8 @@ public class InternalDeleteHandler extends InternalRequestHandler<DeleteResponse
 	}
 
 	@Override
-	protected DeleteResponse getResponse(DeleteRequest deleteRequest, InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalDelete(deleteRequest);
+	protected ListenableFuture<DeleteResponse> getResponse(DeleteRequest deleteRequest, ZuliaServiceFutureStub service) {
+		return service.internalDelete(deleteRequest);
 	}
 
 }
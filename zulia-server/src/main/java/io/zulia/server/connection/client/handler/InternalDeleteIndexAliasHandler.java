@@ -1,9 +1,10 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.DeleteIndexAliasRequest;
 import io.zulia.message.ZuliaServiceOuterClass.DeleteIndexAliasResponse;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalDeleteIndexAliasHandler extends InternalRequestHandler<DeleteIndexAliasResponse, DeleteIndexAliasRequest> {
 	public InternalDeleteIndexAliasHandler(InternalClient internalClient) {
@@ -11,8 +12,9 @@ public class InternalDeleteIndexAliasHandler extends InternalRequestHandler<Dele
 	}
 
 	@Override
-	protected DeleteIndexAliasResponse getResponse(DeleteIndexAliasRequest deleteIndexAliasRequest, InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalDeleteIndexAlias(deleteIndexAliasRequest);
+	protected ListenableFuture<DeleteIndexAliasResponse> getResponse(DeleteIndexAliasRequest deleteIndexAliasRequest,
+			ZuliaServiceFutureStub service) {
+		return service.internalDeleteIndexAlias(deleteIndexAliasRequest);
 	}
 
 }
@@ -1,9 +1,10 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.DeleteIndexRequest;
 import io.zulia.message.ZuliaServiceOuterClass.DeleteIndexResponse;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalDeleteIndexHandler extends InternalRequestHandler<DeleteIndexResponse, DeleteIndexRequest> {
 	public InternalDeleteIndexHandler(InternalClient internalClient) {
@@ -11,8 +12,8 @@ public class InternalDeleteIndexHandler extends InternalRequestHandler<DeleteInd
 	}
 
 	@Override
-	protected DeleteIndexResponse getResponse(DeleteIndexRequest deleteIndexRequest, InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalDeleteIndex(deleteIndexRequest);
+	protected ListenableFuture<DeleteIndexResponse> getResponse(DeleteIndexRequest deleteIndexRequest, ZuliaServiceFutureStub service) {
+		return service.internalDeleteIndex(deleteIndexRequest);
 	}
 
 }
@@ -1,8 +1,9 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalFetchHandler extends InternalRequestHandler<ZuliaServiceOuterClass.FetchResponse, ZuliaServiceOuterClass.FetchRequest> {
 	public InternalFetchHandler(InternalClient internalClient) {
@@ -10,7 +11,8 @@ public class InternalFetchHandler extends InternalRequestHandler<ZuliaServiceOut
 	}
 
 	@Override
-	protected ZuliaServiceOuterClass.FetchResponse getResponse(ZuliaServiceOuterClass.FetchRequest fetchRequest, InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalFetch(fetchRequest);
+	protected ListenableFuture<ZuliaServiceOuterClass.FetchResponse> getResponse(ZuliaServiceOuterClass.FetchRequest fetchRequest,
+			ZuliaServiceFutureStub service) {
+		return service.internalFetch(fetchRequest);
 	}
 }
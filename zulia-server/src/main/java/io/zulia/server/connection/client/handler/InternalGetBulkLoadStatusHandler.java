@@ -0,0 +1,20 @@
+package io.zulia.server.connection.client.handler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.GetBulkLoadStatusRequest;
+import io.zulia.message.ZuliaServiceOuterClass.GetBulkLoadStatusResponse;
+import io.zulia.server.connection.client.InternalClient;
+
+public class InternalGetBulkLoadStatusHandler extends InternalRequestHandler<GetBulkLoadStatusResponse, GetBulkLoadStatusRequest> {
+	public InternalGetBulkLoadStatusHandler(InternalClient internalClient) {
+		super(internalClient);
+	}
+
+	@Override
+	protected ListenableFuture<GetBulkLoadStatusResponse> getResponse(GetBulkLoadStatusRequest getBulkLoadStatusRequest,
+			ZuliaServiceFutureStub service) {
+		return service.internalGetBulkLoadStatus(getBulkLoadStatusRequest);
+	}
+
+}
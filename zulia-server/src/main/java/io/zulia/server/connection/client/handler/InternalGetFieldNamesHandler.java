@@ -1,9 +1,10 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.GetFieldNamesResponse;
 import io.zulia.message.ZuliaServiceOuterClass.InternalGetFieldNamesRequest;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalGetFieldNamesHandler extends InternalRequestHandler<GetFieldNamesResponse, InternalGetFieldNamesRequest> {
 	public InternalGetFieldNamesHandler(InternalClient internalClient) {
@@ -11,8 +12,8 @@ public class InternalGetFieldNamesHandler extends InternalRequestHandler<GetFiel
 	}
 
 	@Override
-	protected GetFieldNamesResponse getResponse(InternalGetFieldNamesRequest getFieldNamesRequest, InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalGetFieldNames(getFieldNamesRequest);
+	protected ListenableFuture<GetFieldNamesResponse> getResponse(InternalGetFieldNamesRequest getFieldNamesRequest, ZuliaServiceFutureStub service) {
+		return service.internalGetFieldNames(getFieldNamesRequest);
 	}
 
 }
@@ -1,8 +1,9 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.InternalGetNumberOfDocsRequest;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 import static io.zulia.message.ZuliaServiceOuterClass.GetNumberOfDocsResponse;
 
@@ -12,8 +13,9 @@ public class InternalGetNumberOfDocsHandler extends InternalRequestHandler<GetNu
 	}
 
 	@Override
-	protected GetNumberOfDocsResponse getResponse(InternalGetNumberOfDocsRequest getNumberOfDocsRequest, InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalGetNumberOfDocs(getNumberOfDocsRequest);
+	protected ListenableFuture<GetNumberOfDocsResponse> getResponse(InternalGetNumberOfDocsRequest getNumberOfDocsRequest,
+			ZuliaServiceFutureStub service) {
+		return service.internalGetNumberOfDocs(getNumberOfDocsRequest);
 	}
 
 }
@@ -0,0 +1,20 @@
+package io.zulia.server.connection.client.handler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.GetReindexStatusRequest;
+import io.zulia.message.ZuliaServiceOuterClass.GetReindexStatusResponse;
+import io.zulia.server.connection.client.InternalClient;
+
+public class InternalGetReindexStatusHandler extends InternalRequestHandler<GetReindexStatusResponse, GetReindexStatusRequest> {
+	public InternalGetReindexStatusHandler(InternalClient internalClient) {
+		super(internalClient);
+	}
+
+	@Override
+	protected ListenableFuture<GetReindexStatusResponse> getResponse(GetReindexStatusRequest getReindexStatusRequest,
+			ZuliaServiceFutureStub service) {
+		return service.internalGetReindexStatus(getReindexStatusRequest);
+	}
+
+}
@@ -0,0 +1,20 @@
+package io.zulia.server.connection.client.handler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFileChunkRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFileChunkResponse;
+import io.zulia.server.connection.client.InternalClient;
+
+public class InternalGetShardFileChunkHandler extends InternalRequestHandler<InternalGetShardFileChunkResponse, InternalGetShardFileChunkRequest> {
+	public InternalGetShardFileChunkHandler(InternalClient internalClient) {
+		super(internalClient);
+	}
+
+	@Override
+	protected ListenableFuture<InternalGetShardFileChunkResponse> getResponse(InternalGetShardFileChunkRequest request,
+			ZuliaServiceFutureStub service) {
+		return service.internalGetShardFileChunk(request);
+	}
+
+}
@@ -0,0 +1,19 @@
+package io.zulia.server.connection.client.handler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFilesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFilesResponse;
+import io.zulia.server.connection.client.InternalClient;
+
+public class InternalGetShardFilesHandler extends InternalRequestHandler<InternalGetShardFilesResponse, InternalGetShardFilesRequest> {
+	public InternalGetShardFilesHandler(InternalClient internalClient) {
+		super(internalClient);
+	}
+
+	@Override
+	protected ListenableFuture<InternalGetShardFilesResponse> getResponse(InternalGetShardFilesRequest request, ZuliaServiceFutureStub service) {
+		return service.internalGetShardFiles(request);
+	}
+
+}
@@ -0,0 +1,19 @@
+package io.zulia.server.connection.client.handler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardStatsRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardStatsResponse;
+import io.zulia.server.connection.client.InternalClient;
+
+public class InternalGetShardStatsHandler extends InternalRequestHandler<InternalGetShardStatsResponse, InternalGetShardStatsRequest> {
+	public InternalGetShardStatsHandler(InternalClient internalClient) {
+		super(internalClient);
+	}
+
+	@Override
+	protected ListenableFuture<InternalGetShardStatsResponse> getResponse(InternalGetShardStatsRequest request, ZuliaServiceFutureStub service) {
+		return service.internalGetShardStats(request);
+	}
+
+}
@@ -1,9 +1,10 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.InternalGetTermsRequest;
 import io.zulia.message.ZuliaServiceOuterClass.InternalGetTermsResponse;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalGetTermsHandler extends InternalRequestHandler<InternalGetTermsResponse, InternalGetTermsRequest> {
 	public InternalGetTermsHandler(InternalClient internalClient) {
@@ -11,8 +12,8 @@ public class InternalGetTermsHandler extends InternalRequestHandler<InternalGetT
 	}
 
 	@Override
-	protected InternalGetTermsResponse getResponse(InternalGetTermsRequest getTermsRequest, InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalGetTerms(getTermsRequest);
+	protected ListenableFuture<InternalGetTermsResponse> getResponse(InternalGetTermsRequest getTermsRequest, ZuliaServiceFutureStub service) {
+		return service.internalGetTerms(getTermsRequest);
 	}
 
 }
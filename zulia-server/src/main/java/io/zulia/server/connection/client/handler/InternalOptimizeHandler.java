@@ -1,9 +1,10 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.OptimizeRequest;
 import io.zulia.message.ZuliaServiceOuterClass.OptimizeResponse;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalOptimizeHandler extends InternalRequestHandler<OptimizeResponse, OptimizeRequest> {
 	public InternalOptimizeHandler(InternalClient internalClient) {
@@ -11,8 +12,8 @@ public class InternalOptimizeHandler extends InternalRequestHandler<OptimizeResp
 	}
 
 	@Override
-	protected OptimizeResponse getResponse(OptimizeRequest optimizeRequest, InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalOptimize(optimizeRequest);
+	protected ListenableFuture<OptimizeResponse> getResponse(OptimizeRequest optimizeRequest, ZuliaServiceFutureStub service) {
+		return service.internalOptimize(optimizeRequest);
 	}
 
 }
@@ -1,9 +1,10 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.InternalQueryRequest;
 import io.zulia.message.ZuliaServiceOuterClass.InternalQueryResponse;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalQueryHandler extends InternalRequestHandler<InternalQueryResponse, InternalQueryRequest> {
 	public InternalQueryHandler(InternalClient internalClient) {
@@ -11,7 +12,12 @@ public class InternalQueryHandler extends InternalRequestHandler<InternalQueryRe
 	}
 
 	@Override
-	protected InternalQueryResponse getResponse(InternalQueryRequest queryRequest, InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalQuery(queryRequest);
+	protected boolean isLoadSample() {
+		return true;
+	}
+
+	@Override
+	protected ListenableFuture<InternalQueryResponse> getResponse(InternalQueryRequest queryRequest, ZuliaServiceFutureStub service) {
+		return service.internalQuery(queryRequest);
 	}
 }
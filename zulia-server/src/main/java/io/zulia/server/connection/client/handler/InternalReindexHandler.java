@@ -1,9 +1,10 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.ReindexRequest;
 import io.zulia.message.ZuliaServiceOuterClass.ReindexResponse;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalReindexHandler extends InternalRequestHandler<ReindexResponse, ReindexRequest> {
 	public InternalReindexHandler(InternalClient internalClient) {
@@ -11,8 +12,8 @@ public class InternalReindexHandler extends InternalRequestHandler<ReindexRespon
 	}
 
 	@Override
-	protected ReindexResponse getResponse(ReindexRequest reindexRequest, InternalRpcConnection rpcConnection) {
-		return rpcConnection.getService().internalReindex(reindexRequest);
+	protected ListenableFuture<ReindexResponse> getResponse(ReindexRequest reindexRequest, ZuliaServiceFutureStub service) {
+		return service.internalReindex(reindexRequest);
 	}
 
 }
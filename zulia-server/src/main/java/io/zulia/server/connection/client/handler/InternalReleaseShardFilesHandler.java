@@ -0,0 +1,20 @@
+package io.zulia.server.connection.client.handler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.InternalReleaseShardFilesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalReleaseShardFilesResponse;
+import io.zulia.server.connection.client.InternalClient;
+
+public class InternalReleaseShardFilesHandler extends InternalRequestHandler<InternalReleaseShardFilesResponse, InternalReleaseShardFilesRequest> {
+	public InternalReleaseShardFilesHandler(InternalClient internalClient) {
+		super(internalClient);
+	}
+
+	@Override
+	protected ListenableFuture<InternalReleaseShardFilesResponse> getResponse(InternalReleaseShardFilesRequest request,
+			ZuliaServiceFutureStub service) {
+		return service.internalReleaseShardFiles(request);
+	}
+
+}
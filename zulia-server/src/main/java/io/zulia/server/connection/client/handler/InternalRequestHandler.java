@@ -1,11 +1,14 @@
 package io.zulia.server.connection.client.handler;
 
-import io.grpc.Metadata;
-import io.grpc.StatusRuntimeException;
-import io.zulia.cache.MetaKeys;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.server.connection.client.InternalClient;
 import io.zulia.server.connection.client.InternalRpcConnection;
+import io.zulia.server.connection.client.NodeLoadTracker;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 public abstract class InternalRequestHandler<S, Q> {
 
@@ -16,31 +19,58 @@ public abstract class InternalRequestHandler<S, Q> {
 	}
 
 	public S handleRequest(Node node, Q q) throws Exception {
-		InternalRpcConnection rpcConnection = null;
-
-		boolean valid = true;
+		CompletableFuture<S> response = handleRequestAsync(node, q);
 		try {
-			rpcConnection = internalClient.getInternalRpcConnection(node);
-			return getResponse(q, rpcConnection);
+			return response.get();
 		}
-		catch (StatusRuntimeException e) {
-			Metadata trailers = e.getTrailers();
-			if (trailers.containsKey(MetaKeys.ERROR_KEY)) {
-				throw new Exception(trailers.get(MetaKeys.ERROR_KEY));
-			}
-			else {
-				throw e;
+		catch (InterruptedException e) {
+			response.cancel(true);
+			throw e;
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
 			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Sends the request without holding a thread while the other node works on it.  Canceling the returned future cancels the rpc
+	 */
+	public CompletableFuture<S> handleRequestAsync(Node node, Q q) {
+		InternalRpcConnection rpcConnection;
+		try {
+			rpcConnection = internalClient.getInternalRpcConnection(node);
 		}
 		catch (Exception e) {
-			valid = false;
-			throw e;
+			return CompletableFuture.failedFuture(e);
 		}
-		finally {
-			internalClient.returnInternalBlockingConnection(node, rpcConnection, valid);
+
+		CompletableFuture<S> response;
+		if (isLoadSample()) {
+			NodeLoadTracker nodeLoadTracker = internalClient.getNodeLoadTracker();
+			nodeLoadTracker.requestStarted(node);
+			long start = System.nanoTime();
+
+			response = rpcConnection.call(stub -> getResponse(q, stub));
+			response.whenComplete((s, t) -> nodeLoadTracker.requestFinished(node, System.nanoTime() - start));
+		}
+		else {
+			response = rpcConnection.call(stub -> getResponse(q, stub));
 		}
+		return response;
+	}
+
+	/**
+	 * @return true when the latency of the request is a sample of how fast the node answers queries.  Replication, maintenance and admin requests
+	 * take as long as the work they do and would make a node look slow to replica selection
+	 */
+	protected boolean isLoadSample() {
+		return false;
 	}
 
-	protected abstract S getResponse(Q q, InternalRpcConnection rpcConnection);
+	protected abstract ListenableFuture<S> getResponse(Q q, ZuliaServiceFutureStub service);
 
 }
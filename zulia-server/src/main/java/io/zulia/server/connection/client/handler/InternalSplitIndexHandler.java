@@ -0,0 +1,19 @@
+package io.zulia.server.connection.client.handler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.InternalSplitIndexRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalSplitIndexResponse;
+import io.zulia.server.connection.client.InternalClient;
+
+public class InternalSplitIndexHandler extends InternalRequestHandler<InternalSplitIndexResponse, InternalSplitIndexRequest> {
+	public InternalSplitIndexHandler(InternalClient internalClient) {
+		super(internalClient);
+	}
+
+	@Override
+	protected ListenableFuture<InternalSplitIndexResponse> getResponse(InternalSplitIndexRequest internalSplitIndexRequest, ZuliaServiceFutureStub service) {
+		return service.internalSplitIndex(internalSplitIndexRequest);
+	}
+
+}
@@ -1,9 +1,10 @@
 package io.zulia.server.connection.client.handler;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
 import io.zulia.message.ZuliaServiceOuterClass.StoreRequest;
 import io.zulia.message.ZuliaServiceOuterClass.StoreResponse;
 import io.zulia.server.connection.client.InternalClient;
-import io.zulia.server.connection.client.InternalRpcConnection;
 
 public class InternalStoreHandler extends InternalRequestHandler<StoreResponse, StoreRequest> {
 	public InternalStoreHandler(InternalClient internalClient) {
@@ -11,9 +12,9 @@ public class InternalStoreHandler extends InternalRequestHandler<StoreResponse,
 	}
 
 	@Override
-	protected StoreResponse getResponse(StoreRequest storeRequest, InternalRpcConnection rpcConnection) {
+	protected ListenableFuture<StoreResponse> getResponse(StoreRequest storeRequest, ZuliaServiceFutureStub service) {
 
-		return rpcConnection.getService().internalStore(storeRequest);
+		return service.internalStore(storeRequest);
 	}
 
 }
@@ -0,0 +1,19 @@
+package io.zulia.server.connection.client.handler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.UpdateByQueryRequest;
+import io.zulia.message.ZuliaServiceOuterClass.UpdateByQueryResponse;
+import io.zulia.server.connection.client.InternalClient;
+
+public class InternalUpdateByQueryHandler extends InternalRequestHandler<UpdateByQueryResponse, UpdateByQueryRequest> {
+	public InternalUpdateByQueryHandler(InternalClient internalClient) {
+		super(internalClient);
+	}
+
+	@Override
+	protected ListenableFuture<UpdateByQueryResponse> getResponse(UpdateByQueryRequest request, ZuliaServiceFutureStub service) {
+		return service.internalUpdateByQuery(request);
+	}
+
+}
@@ -0,0 +1,19 @@
+package io.zulia.server.connection.client.handler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.UpdateRequest;
+import io.zulia.message.ZuliaServiceOuterClass.UpdateResponse;
+import io.zulia.server.connection.client.InternalClient;
+
+public class InternalUpdateHandler extends InternalRequestHandler<UpdateResponse, UpdateRequest> {
+	public InternalUpdateHandler(InternalClient internalClient) {
+		super(internalClient);
+	}
+
+	@Override
+	protected ListenableFuture<UpdateResponse> getResponse(UpdateRequest request, ZuliaServiceFutureStub service) {
+		return service.internalUpdate(request);
+	}
+
+}
@@ -0,0 +1,179 @@
+package io.zulia.server.connection.server;
+
+import io.zulia.rest.dto.RequestClassStatsDTO;
+import io.zulia.server.config.AdmissionConfig;
+import io.zulia.server.exceptions.RequestRejectedException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the client requests running on this node by request class and by index and request class together.  Internal (node to node) requests are
+ * not limited here because the node coordinating the request was already admitted and rejecting part of a federated request only wastes the work
+ * already done.
+ */
+public class AdmissionController {
+
+	public enum RequestClass {
+		QUERY,
+		STORE,
+		FETCH,
+		ADMIN
+	}
+
+	public interface Permit extends AutoCloseable {
+		@Override
+		void close();
+	}
+
+	private static class Limiter {
+		private final int maxConcurrent;
+		private final int maxQueued;
+		private final Semaphore permits;
+		private final AtomicInteger active;
+		private final AtomicInteger queued;
+		private final LongAdder admitted;
+		private final LongAdder rejected;
+
+		private Limiter(int maxConcurrent, int maxQueued) {
+			this.maxConcurrent = maxConcurrent;
+			this.maxQueued = maxQueued;
+			this.permits = maxConcurrent > 0 ? new Semaphore(maxConcurrent, true) : null;
+			this.active = new AtomicInteger();
+			this.queued = new AtomicInteger();
+			this.admitted = new LongAdder();
+			this.rejected = new LongAdder();
+		}
+
+		private boolean tryAcquire(long queueTimeoutMs) throws InterruptedException {
+			if (permits != null && !permits.tryAcquire()) {
+				if (queued.incrementAndGet() > maxQueued) {
+					queued.decrementAndGet();
+					rejected.increment();
+					return false;
+				}
+				try {
+					if (!permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS)) {
+						rejected.increment();
+						return false;
+					}
+				}
+				finally {
+					queued.decrementAndGet();
+				}
+			}
+			active.incrementAndGet();
+			admitted.increment();
+			return true;
+		}
+
+		private void release() {
+			active.decrementAndGet();
+			if (permits != null) {
+				permits.release();
+			}
+		}
+	}
+
+	private record IndexLimiterKey(String indexName, RequestClass requestClass) {
+	}
+
+	private static final Permit NO_OP_PERMIT = () -> {
+	};
+
+	private final AdmissionConfig admissionConfig;
+	private final EnumMap<RequestClass, Limiter> classLimiters;
+	private final ConcurrentHashMap<IndexLimiterKey, Limiter> indexLimiters;
+
+	public AdmissionController(AdmissionConfig admissionConfig) {
+		this.admissionConfig = admissionConfig;
+		this.classLimiters = new EnumMap<>(RequestClass.class);
+		classLimiters.put(RequestClass.QUERY, new Limiter(admissionConfig.getMaxConcurrentQueries(), admissionConfig.getMaxQueuedQueries()));
+		classLimiters.put(RequestClass.STORE, new Limiter(admissionConfig.getMaxConcurrentStores(), admissionConfig.getMaxQueuedStores()));
+		classLimiters.put(RequestClass.FETCH, new Limiter(admissionConfig.getMaxConcurrentFetches(), admissionConfig.getMaxQueuedFetches()));
+		classLimiters.put(RequestClass.ADMIN, new Limiter(admissionConfig.getMaxConcurrentAdmin(), admissionConfig.getMaxQueuedAdmin()));
+		this.indexLimiters = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Waits up to the configured queue timeout for room to run a request of the given class against the given indexes
+	 *
+	 * @param requestClass - class of the request
+	 * @param indexNames   - loaded indexes the request touches with aliases resolved, admin requests are only limited by class
+	 * @return permit that must be closed when the request completes
+	 * @throws RequestRejectedException when the class or an index is over its limit and the queue is full or the wait timed out
+	 */
+	public Permit admit(RequestClass requestClass, Collection<String> indexNames) throws RequestRejectedException, InterruptedException {
+
+		int queueTimeoutMs = admissionConfig.getQueueTimeoutMs();
+
+		Limiter classLimiter = classLimiters.get(requestClass);
+		if (!classLimiter.tryAcquire(queueTimeoutMs)) {
+			throw new RequestRejectedException("Node is over its limit for " + requestClass + " requests", admissionConfig.getRetryAfterMs());
+		}
+
+		int maxConcurrentPerIndex = admissionConfig.getMaxConcurrentPerIndex();
+		if (maxConcurrentPerIndex <= 0 || requestClass == RequestClass.ADMIN || indexNames.isEmpty()) {
+			return classLimiter::release;
+		}
+
+		List<Limiter> acquired = new ArrayList<>();
+		try {
+			//sorted so concurrent multi index requests acquire in the same order
+			for (String indexName : new TreeSet<>(indexNames)) {
+				//each class has its own limiter per index, so a burst of one class does not fill the queue of the others
+				Limiter indexLimiter = indexLimiters.computeIfAbsent(new IndexLimiterKey(indexName, requestClass),
+						k -> new Limiter(maxConcurrentPerIndex, classLimiter.maxQueued));
+				if (!indexLimiter.tryAcquire(queueTimeoutMs)) {
+					throw new RequestRejectedException("Index <" + indexName + "> is over its limit of concurrent " + requestClass + " requests",
+							admissionConfig.getRetryAfterMs());
+				}
+				acquired.add(indexLimiter);
+			}
+		}
+		catch (RequestRejectedException | InterruptedException | RuntimeException e) {
+			acquired.forEach(Limiter::release);
+			classLimiter.release();
+			throw e;
+		}
+
+		return () -> {
+			acquired.forEach(Limiter::release);
+			classLimiter.release();
+		};
+	}
+
+	public Permit noLimit() {
+		return NO_OP_PERMIT;
+	}
+
+	public void removeIndex(String indexName) {
+		indexLimiters.keySet().removeIf(key -> key.indexName().equals(indexName));
+	}
+
+	public List<RequestClassStatsDTO> getStats() {
+		List<RequestClassStatsDTO> stats = new ArrayList<>();
+		for (Map.Entry<RequestClass, Limiter> entry : classLimiters.entrySet()) {
+			stats.add(getStats(entry.getKey().name(), entry.getValue()));
+		}
+		for (Map.Entry<IndexLimiterKey, Limiter> entry : indexLimiters.entrySet()) {
+			stats.add(getStats("index:" + entry.getKey().indexName() + ":" + entry.getKey().requestClass(), entry.getValue()));
+		}
+		return stats;
+	}
+
+	private static RequestClassStatsDTO getStats(String name, Limiter limiter) {
+		return new RequestClassStatsDTO(name, limiter.maxConcurrent, limiter.active.get(), limiter.queued.get(), limiter.admitted.sum(),
+				limiter.rejected.sum());
+	}
+
+}
@@ -18,6 +18,7 @@ public class ZuliaServiceHandler extends ZuliaServiceImplBase {
 	private final FetchServerRequest fetchServerServerRequest;
 	private final InternalFetchServerRequest internalFetchServerServerRequest;
 	private final BatchFetchServerRequest batchFetchServerRequest;
+	private final InternalBatchFetchServerRequest internalBatchFetchServerRequest;
 	private final CreateIndexServerRequest createIndexServerRequest;
 
 	private final UpdateIndexServerRequest updateIndexServerRequest;
@@ -39,10 +40,29 @@ public class ZuliaServiceHandler extends ZuliaServiceImplBase {
 	private final GetIndexSettingsServerRequest getIndexSettingsServerRequest;
 	private final ReindexServerRequest reindexServerRequest;
 	private final InternalReindexServerRequest internalReindexRequest;
+	private final GetReindexStatusServerRequest getReindexStatusServerRequest;
+	private final InternalGetReindexStatusServerRequest internalGetReindexStatusServerRequest;
+	private final GetBulkLoadStatusServerRequest getBulkLoadStatusServerRequest;
+	private final InternalGetBulkLoadStatusServerRequest internalGetBulkLoadStatusServerRequest;
 	private final DeleteIndexAliasServerRequest deleteIndexAliasServerRequest;
 	private final CreateIndexAliasServerRequest createIndexAliasServerRequest;
 	private final InternalCreateIndexAliasServerRequest internalCreateIndexAliasServerRequest;
 	private final InternalDeleteIndexAliasServerRequest internalDeleteIndexAliasServerRequest;
+	private final InternalGetShardFilesServerRequest internalGetShardFilesServerRequest;
+	private final InternalGetShardFileChunkServerRequest internalGetShardFileChunkServerRequest;
+	private final InternalReleaseShardFilesServerRequest internalReleaseShardFilesServerRequest;
+	private final InternalPingServerRequest internalPingServerRequest;
+	private final SplitIndexServerRequest splitIndexServerRequest;
+	private final InternalSplitIndexServerRequest internalSplitIndexServerRequest;
+	private final RebalanceServerRequest rebalanceServerRequest;
+	private final InternalGetShardStatsServerRequest internalGetShardStatsServerRequest;
+	private final InternalBlockWritesServerRequest internalBlockWritesServerRequest;
+	private final DeleteByQueryServerRequest deleteByQueryServerRequest;
+	private final InternalDeleteByQueryServerRequest internalDeleteByQueryServerRequest;
+	private final UpdateByQueryServerRequest updateByQueryServerRequest;
+	private final InternalUpdateByQueryServerRequest internalUpdateByQueryServerRequest;
+	private final UpdateServerRequest updateServerRequest;
+	private final InternalUpdateServerRequest internalUpdateServerRequest;
 
 	public ZuliaServiceHandler(ZuliaIndexManager indexManager) {
 		internalQueryServerRequest = new InternalQueryServerRequest(indexManager);
@@ -55,6 +75,7 @@ public class ZuliaServiceHandler extends ZuliaServiceImplBase {
 		fetchServerServerRequest = new FetchServerRequest(indexManager);
 		internalFetchServerServerRequest = new InternalFetchServerRequest(indexManager);
 		batchFetchServerRequest = new BatchFetchServerRequest(indexManager);
+		internalBatchFetchServerRequest = new InternalBatchFetchServerRequest(indexManager);
 		createIndexServerRequest = new CreateIndexServerRequest(indexManager);
 		updateIndexServerRequest = new UpdateIndexServerRequest(indexManager);
 		internalCreateIndexServerRequest = new InternalCreateIndexServerRequest(indexManager);
@@ -75,10 +96,29 @@ public class ZuliaServiceHandler extends ZuliaServiceImplBase {
 		getIndexSettingsServerRequest = new GetIndexSettingsServerRequest(indexManager);
 		reindexServerRequest = new ReindexServerRequest(indexManager);
 		internalReindexRequest = new InternalReindexServerRequest(indexManager);
+		getReindexStatusServerRequest = new GetReindexStatusServerRequest(indexManager);
+		internalGetReindexStatusServerRequest = new InternalGetReindexStatusServerRequest(indexManager);
+		getBulkLoadStatusServerRequest = new GetBulkLoadStatusServerRequest(indexManager);
+		internalGetBulkLoadStatusServerRequest = new InternalGetBulkLoadStatusServerRequest(indexManager);
 		deleteIndexAliasServerRequest = new DeleteIndexAliasServerRequest(indexManager);
 		createIndexAliasServerRequest = new CreateIndexAliasServerRequest(indexManager);
 		internalCreateIndexAliasServerRequest = new InternalCreateIndexAliasServerRequest(indexManager);
 		internalDeleteIndexAliasServerRequest = new InternalDeleteIndexAliasServerRequest(indexManager);
+		internalGetShardFilesServerRequest = new InternalGetShardFilesServerRequest(indexManager);
+		internalGetShardFileChunkServerRequest = new InternalGetShardFileChunkServerRequest(indexManager);
+		internalReleaseShardFilesServerRequest = new InternalReleaseShardFilesServerRequest(indexManager);
+		internalPingServerRequest = new InternalPingServerRequest(indexManager);
+		splitIndexServerRequest = new SplitIndexServerRequest(indexManager);
+		internalSplitIndexServerRequest = new InternalSplitIndexServerRequest(indexManager);
+		rebalanceServerRequest = new RebalanceServerRequest(indexManager);
+		internalGetShardStatsServerRequest = new InternalGetShardStatsServerRequest(indexManager);
+		internalBlockWritesServerRequest = new InternalBlockWritesServerRequest(indexManager);
+		deleteByQueryServerRequest = new DeleteByQueryServerRequest(indexManager);
+		internalDeleteByQueryServerRequest = new InternalDeleteByQueryServerRequest(indexManager);
+		updateByQueryServerRequest = new UpdateByQueryServerRequest(indexManager);
+		internalUpdateByQueryServerRequest = new InternalUpdateByQueryServerRequest(indexManager);
+		updateServerRequest = new UpdateServerRequest(indexManager);
+		internalUpdateServerRequest = new InternalUpdateServerRequest(indexManager);
 	}
 
 	@Override
@@ -131,6 +171,11 @@ public class ZuliaServiceHandler extends ZuliaServiceImplBase {
 		batchFetchServerRequest.handleRequest(request, responseObserver);
 	}
 
+	@Override
+	public void internalBatchFetch(BatchFetchRequest request, StreamObserver<BatchFetchResponse> responseObserver) {
+		internalBatchFetchServerRequest.handleRequest(request, responseObserver);
+	}
+
 	@Override
 	public void createIndex(CreateIndexRequest request, StreamObserver<CreateIndexResponse> responseObserver) {
 		createIndexServerRequest.handleRequest(request, responseObserver);
@@ -231,6 +276,26 @@ public class ZuliaServiceHandler extends ZuliaServiceImplBase {
 		reindexServerRequest.handleRequest(request, responseObserver);
 	}
 
+	@Override
+	public void getReindexStatus(GetReindexStatusRequest request, StreamObserver<GetReindexStatusResponse> responseObserver) {
+		getReindexStatusServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void internalGetReindexStatus(GetReindexStatusRequest request, StreamObserver<GetReindexStatusResponse> responseObserver) {
+		internalGetReindexStatusServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void getBulkLoadStatus(GetBulkLoadStatusRequest request, StreamObserver<GetBulkLoadStatusResponse> responseObserver) {
+		getBulkLoadStatusServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void internalGetBulkLoadStatus(GetBulkLoadStatusRequest request, StreamObserver<GetBulkLoadStatusResponse> responseObserver) {
+		internalGetBulkLoadStatusServerRequest.handleRequest(request, responseObserver);
+	}
+
 	@Override
 	public void createIndexAlias(CreateIndexAliasRequest request, StreamObserver<CreateIndexAliasResponse> responseObserver) {
 		createIndexAliasServerRequest.handleRequest(request, responseObserver);
@@ -250,4 +315,79 @@ public class ZuliaServiceHandler extends ZuliaServiceImplBase {
 	public void internalDeleteIndexAlias(DeleteIndexAliasRequest request, StreamObserver<DeleteIndexAliasResponse> responseObserver) {
 		internalDeleteIndexAliasServerRequest.handleRequest(request, responseObserver);
 	}
+
+	@Override
+	public void internalGetShardFiles(InternalGetShardFilesRequest request, StreamObserver<InternalGetShardFilesResponse> responseObserver) {
+		internalGetShardFilesServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void internalGetShardFileChunk(InternalGetShardFileChunkRequest request, StreamObserver<InternalGetShardFileChunkResponse> responseObserver) {
+		internalGetShardFileChunkServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void internalReleaseShardFiles(InternalReleaseShardFilesRequest request, StreamObserver<InternalReleaseShardFilesResponse> responseObserver) {
+		internalReleaseShardFilesServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void internalPing(InternalPingRequest request, StreamObserver<InternalPingResponse> responseObserver) {
+		internalPingServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void splitIndex(SplitIndexRequest request, StreamObserver<SplitIndexResponse> responseObserver) {
+		splitIndexServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void internalSplitIndex(InternalSplitIndexRequest request, StreamObserver<InternalSplitIndexResponse> responseObserver) {
+		internalSplitIndexServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void rebalance(RebalanceRequest request, StreamObserver<RebalanceResponse> responseObserver) {
+		rebalanceServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void internalGetShardStats(InternalGetShardStatsRequest request, StreamObserver<InternalGetShardStatsResponse> responseObserver) {
+		internalGetShardStatsServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void internalBlockWrites(InternalBlockWritesRequest request, StreamObserver<InternalBlockWritesResponse> responseObserver) {
+		internalBlockWritesServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void deleteByQuery(DeleteByQueryRequest request, StreamObserver<DeleteByQueryResponse> responseObserver) {
+		deleteByQueryServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void internalDeleteByQuery(DeleteByQueryRequest request, StreamObserver<DeleteByQueryResponse> responseObserver) {
+		internalDeleteByQueryServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void updateByQuery(UpdateByQueryRequest request, StreamObserver<UpdateByQueryResponse> responseObserver) {
+		updateByQueryServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void internalUpdateByQuery(UpdateByQueryRequest request, StreamObserver<UpdateByQueryResponse> responseObserver) {
+		internalUpdateByQueryServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void update(UpdateRequest request, StreamObserver<UpdateResponse> responseObserver) {
+		updateServerRequest.handleRequest(request, responseObserver);
+	}
+
+	@Override
+	public void internalUpdate(UpdateRequest request, StreamObserver<UpdateResponse> responseObserver) {
+		internalUpdateServerRequest.handleRequest(request, responseObserver);
+	}
 }
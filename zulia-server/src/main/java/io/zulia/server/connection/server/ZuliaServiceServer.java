@@ -49,6 +49,12 @@ public class ZuliaServiceServer {
 		NettyServerBuilder nettyServerBuilder = NettyServerBuilder.forPort(externalServicePort).addService(zuliaServiceHandler)
 				.maxInboundMessageSize(128 * 1024 * 1024);
 
+		if (zuliaConfig.getInternalKeepAliveSeconds() > 0) {
+			//the default only permits a ping every 5 minutes and closes the connections of other nodes pinging more often
+			nettyServerBuilder = nettyServerBuilder.permitKeepAliveTime(Math.min(zuliaConfig.getInternalKeepAliveSeconds(), 10), TimeUnit.SECONDS)
+					.permitKeepAliveWithoutCalls(true);
+		}
+
 		if (zuliaConfig.isResponseCompression()) {
 			nettyServerBuilder = nettyServerBuilder.intercept(new ResponseCompressionIntercept());
 		}
@@ -4,10 +4,16 @@ import io.grpc.stub.StreamObserver;
 import io.zulia.message.ZuliaServiceOuterClass.BatchDeleteRequest;
 import io.zulia.message.ZuliaServiceOuterClass.DeleteRequest;
 import io.zulia.message.ZuliaServiceOuterClass.DeleteResponse;
+import io.zulia.server.connection.server.AdmissionController;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
+import io.zulia.server.exceptions.RequestRejectedException;
 import io.zulia.server.index.ZuliaIndexManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 public class BatchDeleteServerRequest {
 
 	private final static Logger LOG = LoggerFactory.getLogger(BatchDeleteServerRequest.class);
@@ -18,7 +24,8 @@ public class BatchDeleteServerRequest {
 	}
 
 	public void handleRequest(BatchDeleteRequest request, StreamObserver<DeleteResponse> responseObserver) {
-		try {
+		Set<String> indexNames = request.getRequestList().stream().map(DeleteRequest::getIndexName).collect(Collectors.toSet());
+		try (AdmissionController.Permit ignored = ServerRequestHandler.admit(indexManager, RequestClass.STORE, indexNames)) {
 			for (DeleteRequest deleteRequest : request.getRequestList()) {
 				DeleteResponse deleteResponse = indexManager.delete(deleteRequest);
 				responseObserver.onNext(deleteResponse);
@@ -27,8 +34,10 @@ public class BatchDeleteServerRequest {
 			responseObserver.onCompleted();
 		}
 		catch (Exception e) {
-			responseObserver.onError(e);
-			onError(e);
+			responseObserver.onError(ServerRequestHandler.getStatusException(e));
+			if (!(e instanceof RequestRejectedException)) {
+				onError(e);
+			}
 		}
 	}
 
@@ -4,10 +4,16 @@ import io.grpc.stub.StreamObserver;
 import io.zulia.message.ZuliaServiceOuterClass.BatchFetchRequest;
 import io.zulia.message.ZuliaServiceOuterClass.FetchRequest;
 import io.zulia.message.ZuliaServiceOuterClass.FetchResponse;
+import io.zulia.server.connection.server.AdmissionController;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
+import io.zulia.server.exceptions.RequestRejectedException;
 import io.zulia.server.index.ZuliaIndexManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 public class BatchFetchServerRequest {
 
 	private final static Logger LOG = LoggerFactory.getLogger(BatchFetchServerRequest.class);
@@ -18,17 +24,16 @@ public class BatchFetchServerRequest {
 	}
 
 	public void handleRequest(BatchFetchRequest request, StreamObserver<FetchResponse> responseObserver) {
-		try {
-			for (FetchRequest fetchRequest : request.getFetchRequestList()) {
-				FetchResponse fetchResponse = indexManager.fetch(fetchRequest);
-				responseObserver.onNext(fetchResponse);
-			}
-
+		Set<String> indexNames = request.getFetchRequestList().stream().map(FetchRequest::getIndexName).collect(Collectors.toSet());
+		try (AdmissionController.Permit ignored = ServerRequestHandler.admit(indexManager, RequestClass.FETCH, indexNames)) {
+			indexManager.batchFetch(request, responseObserver::onNext);
 			responseObserver.onCompleted();
 		}
 		catch (Exception e) {
-			responseObserver.onError(e);
-			onError(e);
+			responseObserver.onError(ServerRequestHandler.getStatusException(e));
+			if (!(e instanceof RequestRejectedException)) {
+				onError(e);
+			}
 		}
 	}
 
@@ -2,6 +2,7 @@ package io.zulia.server.connection.server.handler;
 
 import io.zulia.message.ZuliaServiceOuterClass.ClearRequest;
 import io.zulia.message.ZuliaServiceOuterClass.ClearResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
 import io.zulia.server.index.ZuliaIndexManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +20,11 @@ public class ClearServerRequest extends ServerRequestHandler<ClearResponse, Clea
 		return indexManager.clear(request);
 	}
 
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.ADMIN;
+	}
+
 	@Override
 	protected void onError(Throwable e) {
 		LOG.error("Failed to handle clear", e);
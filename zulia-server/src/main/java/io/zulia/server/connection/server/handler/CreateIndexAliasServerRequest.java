@@ -2,6 +2,7 @@ package io.zulia.server.connection.server.handler;
 
 import io.zulia.message.ZuliaServiceOuterClass.CreateIndexAliasRequest;
 import io.zulia.message.ZuliaServiceOuterClass.CreateIndexAliasResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
 import io.zulia.server.index.ZuliaIndexManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +20,11 @@ public class CreateIndexAliasServerRequest extends ServerRequestHandler<CreateIn
 		return indexManager.createIndexAlias(request);
 	}
 
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.ADMIN;
+	}
+
 	@Override
 	protected void onError(Throwable e) {
 		LOG.error("Failed to handle create or update index alias", e);
@@ -0,0 +1,40 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.DeleteByQueryRequest;
+import io.zulia.message.ZuliaServiceOuterClass.DeleteByQueryResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+
+public class DeleteByQueryServerRequest extends ServerRequestHandler<DeleteByQueryResponse, DeleteByQueryRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(DeleteByQueryServerRequest.class);
+
+	public DeleteByQueryServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected DeleteByQueryResponse handleCall(ZuliaIndexManager indexManager, DeleteByQueryRequest request) throws Exception {
+		return indexManager.deleteByQuery(request);
+	}
+
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.ADMIN;
+	}
+
+	@Override
+	protected Collection<String> getIndexNames(DeleteByQueryRequest request) {
+		return List.of(request.getIndexName());
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle delete by query", e);
+	}
+}
@@ -2,6 +2,7 @@ package io.zulia.server.connection.server.handler;
 
 import io.zulia.message.ZuliaServiceOuterClass.DeleteIndexAliasRequest;
 import io.zulia.message.ZuliaServiceOuterClass.DeleteIndexAliasResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
 import io.zulia.server.index.ZuliaIndexManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +20,11 @@ public class DeleteIndexAliasServerRequest extends ServerRequestHandler<DeleteIn
 		return indexManager.deleteIndexAlias(request);
 	}
 
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.ADMIN;
+	}
+
 	@Override
 	protected void onError(Throwable e) {
 		LOG.error("Failed to handle delete index alias", e);
@@ -2,10 +2,14 @@ package io.zulia.server.connection.server.handler;
 
 import io.zulia.message.ZuliaServiceOuterClass.DeleteRequest;
 import io.zulia.message.ZuliaServiceOuterClass.DeleteResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
 import io.zulia.server.index.ZuliaIndexManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.List;
+
 public class DeleteServerRequest extends ServerRequestHandler<DeleteResponse, DeleteRequest> {
 
 	private final static Logger LOG = LoggerFactory.getLogger(DeleteServerRequest.class);
@@ -19,6 +23,16 @@ public class DeleteServerRequest extends ServerRequestHandler<DeleteResponse, De
 		return indexManager.delete(request);
 	}
 
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.STORE;
+	}
+
+	@Override
+	protected Collection<String> getIndexNames(DeleteRequest request) {
+		return List.of(request.getIndexName());
+	}
+
 	@Override
 	protected void onError(Throwable e) {
 		LOG.error("Failed to handle internal delete", e);
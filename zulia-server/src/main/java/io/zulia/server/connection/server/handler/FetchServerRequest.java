@@ -2,10 +2,14 @@ package io.zulia.server.connection.server.handler;
 
 import io.zulia.message.ZuliaServiceOuterClass.FetchRequest;
 import io.zulia.message.ZuliaServiceOuterClass.FetchResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
 import io.zulia.server.index.ZuliaIndexManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.List;
+
 public class FetchServerRequest extends ServerRequestHandler<FetchResponse, FetchRequest> {
 
 	private final static Logger LOG = LoggerFactory.getLogger(FetchServerRequest.class);
@@ -19,6 +23,16 @@ public class FetchServerRequest extends ServerRequestHandler<FetchResponse, Fetc
 		return indexManager.fetch(request);
 	}
 
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.FETCH;
+	}
+
+	@Override
+	protected Collection<String> getIndexNames(FetchRequest request) {
+		return List.of(request.getIndexName());
+	}
+
 	@Override
 	protected void onError(Throwable e) {
 		LOG.error("Failed to handle fetch", e);
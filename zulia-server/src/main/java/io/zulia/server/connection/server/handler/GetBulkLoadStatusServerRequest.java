@@ -0,0 +1,26 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.GetBulkLoadStatusRequest;
+import io.zulia.message.ZuliaServiceOuterClass.GetBulkLoadStatusResponse;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class GetBulkLoadStatusServerRequest extends ServerRequestHandler<GetBulkLoadStatusResponse, GetBulkLoadStatusRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(GetBulkLoadStatusServerRequest.class);
+
+	public GetBulkLoadStatusServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected GetBulkLoadStatusResponse handleCall(ZuliaIndexManager indexManager, GetBulkLoadStatusRequest request) throws Exception {
+		return indexManager.getBulkLoadStatus(request);
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle get bulk load status", e);
+	}
+}
@@ -0,0 +1,26 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.GetReindexStatusRequest;
+import io.zulia.message.ZuliaServiceOuterClass.GetReindexStatusResponse;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class GetReindexStatusServerRequest extends ServerRequestHandler<GetReindexStatusResponse, GetReindexStatusRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(GetReindexStatusServerRequest.class);
+
+	public GetReindexStatusServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected GetReindexStatusResponse handleCall(ZuliaIndexManager indexManager, GetReindexStatusRequest request) throws Exception {
+		return indexManager.getReindexStatus(request);
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle get reindex status", e);
+	}
+}
@@ -2,10 +2,14 @@ package io.zulia.server.connection.server.handler;
 
 import io.zulia.message.ZuliaServiceOuterClass.GetTermsRequest;
 import io.zulia.message.ZuliaServiceOuterClass.GetTermsResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
 import io.zulia.server.index.ZuliaIndexManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.List;
+
 public class GetTermsServerRequest extends ServerRequestHandler<GetTermsResponse, GetTermsRequest> {
 
 	private final static Logger LOG = LoggerFactory.getLogger(GetTermsServerRequest.class);
@@ -19,6 +23,16 @@ public class GetTermsServerRequest extends ServerRequestHandler<GetTermsResponse
 		return indexManager.getTerms(request);
 	}
 
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.QUERY;
+	}
+
+	@Override
+	protected Collection<String> getIndexNames(GetTermsRequest request) {
+		return List.of(request.getIndexName());
+	}
+
 	@Override
 	protected void onError(Throwable e) {
 		LOG.error("Failed to handle get terms request", e);
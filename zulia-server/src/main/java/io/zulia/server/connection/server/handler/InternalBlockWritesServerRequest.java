@@ -0,0 +1,26 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.InternalBlockWritesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalBlockWritesResponse;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InternalBlockWritesServerRequest extends ServerRequestHandler<InternalBlockWritesResponse, InternalBlockWritesRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(InternalBlockWritesServerRequest.class);
+
+	public InternalBlockWritesServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected InternalBlockWritesResponse handleCall(ZuliaIndexManager indexManager, InternalBlockWritesRequest request) throws Exception {
+		return indexManager.internalBlockWrites(request);
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle internal block writes", e);
+	}
+}
@@ -16,7 +16,7 @@ public class InternalCreateIndexServerRequest extends ServerRequestHandler<Inter
 
 	@Override
 	protected InternalCreateOrUpdateIndexResponse handleCall(ZuliaIndexManager indexManager, InternalCreateOrUpdateIndexRequest request) throws Exception {
-		return indexManager.internalCreateOrUpdateIndex(request.getIndexName());
+		return indexManager.internalCreateOrUpdateIndex(request.getIndexName(), request.getAttachPath());
 	}
 
 	@Override
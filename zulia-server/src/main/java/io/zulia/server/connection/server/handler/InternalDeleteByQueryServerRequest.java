@@ -0,0 +1,26 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.DeleteByQueryRequest;
+import io.zulia.message.ZuliaServiceOuterClass.DeleteByQueryResponse;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InternalDeleteByQueryServerRequest extends ServerRequestHandler<DeleteByQueryResponse, DeleteByQueryRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(InternalDeleteByQueryServerRequest.class);
+
+	public InternalDeleteByQueryServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected DeleteByQueryResponse handleCall(ZuliaIndexManager indexManager, DeleteByQueryRequest request) throws Exception {
+		return indexManager.internalDeleteByQuery(request);
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle internal delete by query", e);
+	}
+}
@@ -0,0 +1,26 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFileChunkRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFileChunkResponse;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InternalGetShardFileChunkServerRequest extends ServerRequestHandler<InternalGetShardFileChunkResponse, InternalGetShardFileChunkRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(InternalGetShardFileChunkServerRequest.class);
+
+	public InternalGetShardFileChunkServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected InternalGetShardFileChunkResponse handleCall(ZuliaIndexManager indexManager, InternalGetShardFileChunkRequest request) throws Exception {
+		return indexManager.internalGetShardFileChunk(request);
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle internal get shard file chunk", e);
+	}
+}
@@ -0,0 +1,26 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFilesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFilesResponse;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InternalGetShardFilesServerRequest extends ServerRequestHandler<InternalGetShardFilesResponse, InternalGetShardFilesRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(InternalGetShardFilesServerRequest.class);
+
+	public InternalGetShardFilesServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected InternalGetShardFilesResponse handleCall(ZuliaIndexManager indexManager, InternalGetShardFilesRequest request) throws Exception {
+		return indexManager.internalGetShardFiles(request);
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle internal get shard files", e);
+	}
+}
@@ -0,0 +1,26 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardStatsRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardStatsResponse;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InternalGetShardStatsServerRequest extends ServerRequestHandler<InternalGetShardStatsResponse, InternalGetShardStatsRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(InternalGetShardStatsServerRequest.class);
+
+	public InternalGetShardStatsServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected InternalGetShardStatsResponse handleCall(ZuliaIndexManager indexManager, InternalGetShardStatsRequest request) throws Exception {
+		return indexManager.internalGetShardStats(request);
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle internal get shard stats", e);
+	}
+}
@@ -0,0 +1,26 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.InternalPingRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalPingResponse;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InternalPingServerRequest extends ServerRequestHandler<InternalPingResponse, InternalPingRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(InternalPingServerRequest.class);
+
+	public InternalPingServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected InternalPingResponse handleCall(ZuliaIndexManager indexManager, InternalPingRequest request) {
+		return indexManager.internalPing(request);
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle internal ping", e);
+	}
+}
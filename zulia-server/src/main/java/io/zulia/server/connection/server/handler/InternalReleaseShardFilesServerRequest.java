@@ -0,0 +1,26 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.InternalReleaseShardFilesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalReleaseShardFilesResponse;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InternalReleaseShardFilesServerRequest extends ServerRequestHandler<InternalReleaseShardFilesResponse, InternalReleaseShardFilesRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(InternalReleaseShardFilesServerRequest.class);
+
+	public InternalReleaseShardFilesServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected InternalReleaseShardFilesResponse handleCall(ZuliaIndexManager indexManager, InternalReleaseShardFilesRequest request) throws Exception {
+		return indexManager.internalReleaseShardFiles(request);
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle internal release shard files", e);
+	}
+}
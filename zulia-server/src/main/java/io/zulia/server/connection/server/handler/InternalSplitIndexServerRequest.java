@@ -0,0 +1,26 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.InternalSplitIndexRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalSplitIndexResponse;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InternalSplitIndexServerRequest extends ServerRequestHandler<InternalSplitIndexResponse, InternalSplitIndexRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(InternalSplitIndexServerRequest.class);
+
+	public InternalSplitIndexServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected InternalSplitIndexResponse handleCall(ZuliaIndexManager indexManager, InternalSplitIndexRequest request) throws Exception {
+		return indexManager.internalSplitIndex(request);
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle internal split index", e);
+	}
+}
@@ -0,0 +1,26 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.UpdateByQueryRequest;
+import io.zulia.message.ZuliaServiceOuterClass.UpdateByQueryResponse;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InternalUpdateByQueryServerRequest extends ServerRequestHandler<UpdateByQueryResponse, UpdateByQueryRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(InternalUpdateByQueryServerRequest.class);
+
+	public InternalUpdateByQueryServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected UpdateByQueryResponse handleCall(ZuliaIndexManager indexManager, UpdateByQueryRequest request) throws Exception {
+		return indexManager.internalUpdateByQuery(request);
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle internal update by query", e);
+	}
+}
@@ -0,0 +1,26 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.UpdateRequest;
+import io.zulia.message.ZuliaServiceOuterClass.UpdateResponse;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InternalUpdateServerRequest extends ServerRequestHandler<UpdateResponse, UpdateRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(InternalUpdateServerRequest.class);
+
+	public InternalUpdateServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected UpdateResponse handleCall(ZuliaIndexManager indexManager, UpdateRequest request) throws Exception {
+		return indexManager.internalUpdate(request);
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle internal update", e);
+	}
+}
@@ -2,11 +2,14 @@ package io.zulia.server.connection.server.handler;
 
 import io.zulia.message.ZuliaServiceOuterClass.QueryRequest;
 import io.zulia.message.ZuliaServiceOuterClass.QueryResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
 import io.zulia.server.exceptions.IndexDoesNotExistException;
 import io.zulia.server.index.ZuliaIndexManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+
 public class QueryServerRequest extends ServerRequestHandler<QueryResponse, QueryRequest> {
 
 	private final static Logger LOG = LoggerFactory.getLogger(QueryServerRequest.class);
@@ -20,6 +23,16 @@ public class QueryServerRequest extends ServerRequestHandler<QueryResponse, Quer
 		return indexManager.query(request);
 	}
 
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.QUERY;
+	}
+
+	@Override
+	protected Collection<String> getIndexNames(QueryRequest request) {
+		return request.getIndexList();
+	}
+
 	@Override
 	protected void onError(Throwable e) {
 		if (e instanceof IndexDoesNotExistException) {
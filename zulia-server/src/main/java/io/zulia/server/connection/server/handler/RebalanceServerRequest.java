@@ -0,0 +1,32 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.RebalanceRequest;
+import io.zulia.message.ZuliaServiceOuterClass.RebalanceResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class RebalanceServerRequest extends ServerRequestHandler<RebalanceResponse, RebalanceRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(RebalanceServerRequest.class);
+
+	public RebalanceServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected RebalanceResponse handleCall(ZuliaIndexManager indexManager, RebalanceRequest request) throws Exception {
+		return indexManager.rebalance(request);
+	}
+
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.ADMIN;
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle rebalance", e);
+	}
+}
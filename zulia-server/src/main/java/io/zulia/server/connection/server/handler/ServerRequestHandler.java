@@ -5,9 +5,15 @@ import io.grpc.Status;
 import io.grpc.StatusException;
 import io.grpc.stub.StreamObserver;
 import io.zulia.cache.MetaKeys;
+import io.zulia.server.connection.server.AdmissionController;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
+import io.zulia.server.exceptions.RequestRejectedException;
 import io.zulia.server.exceptions.ShardOfflineException;
 import io.zulia.server.index.ZuliaIndexManager;
 
+import java.util.Collection;
+import java.util.Collections;
+
 public abstract class ServerRequestHandler<S, Q> {
 
 	private final ZuliaIndexManager indexManager;
@@ -17,30 +23,63 @@ public abstract class ServerRequestHandler<S, Q> {
 	}
 
 	public void handleRequest(Q request, StreamObserver<S> responseObserver) {
-		try {
+		try (AdmissionController.Permit ignored = admit(indexManager, getRequestClass(), getIndexNames(request))) {
 			S s = handleCall(indexManager, request);
 			responseObserver.onNext(s);
 			responseObserver.onCompleted();
 		}
 		catch (Throwable e) {
-			Metadata metadata = new Metadata();
-			if (e.getMessage() != null) {
-				metadata.put(MetaKeys.ERROR_KEY, e.getMessage());
-			}
-			else {
-				metadata.put(MetaKeys.ERROR_KEY, e.getClass().getSimpleName());
-			}
-			Status status = Status.UNKNOWN;
-			if (e instanceof IllegalArgumentException) {
-				status = Status.INVALID_ARGUMENT;
-			}
-			if (e instanceof ShardOfflineException) {
-				status = Status.UNAVAILABLE;
+			responseObserver.onError(getStatusException(e));
+			if (!(e instanceof RequestRejectedException)) {
+				onError(e);
 			}
+		}
+	}
+
+	static AdmissionController.Permit admit(ZuliaIndexManager indexManager, RequestClass requestClass, Collection<String> indexNames)
+			throws RequestRejectedException, InterruptedException {
+		AdmissionController admissionController = indexManager.getAdmissionController();
+		if (requestClass == null) {
+			return admissionController.noLimit();
+		}
+		//limit by the index behind an alias and only for loaded indexes so the limiters cannot grow with whatever names clients send
+		return admissionController.admit(requestClass, indexManager.getLoadedIndexNames(indexNames));
+	}
 
-			responseObserver.onError(new StatusException(status, metadata));
-			onError(e);
+	public static StatusException getStatusException(Throwable e) {
+		Metadata metadata = new Metadata();
+		if (e.getMessage() != null) {
+			metadata.put(MetaKeys.ERROR_KEY, e.getMessage());
 		}
+		else {
+			metadata.put(MetaKeys.ERROR_KEY, e.getClass().getSimpleName());
+		}
+		Status status = Status.UNKNOWN;
+		if (e instanceof IllegalArgumentException) {
+			status = Status.INVALID_ARGUMENT;
+		}
+		if (e instanceof ShardOfflineException) {
+			status = Status.UNAVAILABLE;
+		}
+		if (e instanceof RequestRejectedException rejectedException) {
+			status = Status.RESOURCE_EXHAUSTED;
+			metadata.put(MetaKeys.RETRY_AFTER_MS_KEY, String.valueOf(rejectedException.getRetryAfterMs()));
+		}
+		return new StatusException(status, metadata);
+	}
+
+	/**
+	 * @return class used to limit concurrent requests of this type, null for requests that are not limited (internal and lightweight requests)
+	 */
+	protected RequestClass getRequestClass() {
+		return null;
+	}
+
+	/**
+	 * @return indexes the request runs against, used for per index limits
+	 */
+	protected Collection<String> getIndexNames(Q request) {
+		return Collections.emptyList();
 	}
 
 	protected abstract S handleCall(ZuliaIndexManager indexManager, Q request) throws Exception;
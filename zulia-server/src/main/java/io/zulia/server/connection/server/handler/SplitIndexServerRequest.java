@@ -0,0 +1,32 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.SplitIndexRequest;
+import io.zulia.message.ZuliaServiceOuterClass.SplitIndexResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SplitIndexServerRequest extends ServerRequestHandler<SplitIndexResponse, SplitIndexRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(SplitIndexServerRequest.class);
+
+	public SplitIndexServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected SplitIndexResponse handleCall(ZuliaIndexManager indexManager, SplitIndexRequest request) throws Exception {
+		return indexManager.splitIndex(request);
+	}
+
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.ADMIN;
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle split index", e);
+	}
+}
@@ -2,10 +2,14 @@ package io.zulia.server.connection.server.handler;
 
 import io.zulia.message.ZuliaServiceOuterClass.StoreRequest;
 import io.zulia.message.ZuliaServiceOuterClass.StoreResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
 import io.zulia.server.index.ZuliaIndexManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.List;
+
 public class StoreServerRequest extends ServerRequestHandler<StoreResponse, StoreRequest> {
 
 	private final static Logger LOG = LoggerFactory.getLogger(StoreServerRequest.class);
@@ -19,6 +23,16 @@ public class StoreServerRequest extends ServerRequestHandler<StoreResponse, Stor
 		return indexManager.store(request);
 	}
 
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.STORE;
+	}
+
+	@Override
+	protected Collection<String> getIndexNames(StoreRequest request) {
+		return List.of(request.getIndexName());
+	}
+
 	@Override
 	protected void onError(Throwable e) {
 		LOG.error("Failed to handle store", e);
@@ -0,0 +1,40 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.UpdateByQueryRequest;
+import io.zulia.message.ZuliaServiceOuterClass.UpdateByQueryResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+
+public class UpdateByQueryServerRequest extends ServerRequestHandler<UpdateByQueryResponse, UpdateByQueryRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(UpdateByQueryServerRequest.class);
+
+	public UpdateByQueryServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected UpdateByQueryResponse handleCall(ZuliaIndexManager indexManager, UpdateByQueryRequest request) throws Exception {
+		return indexManager.updateByQuery(request);
+	}
+
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.ADMIN;
+	}
+
+	@Override
+	protected Collection<String> getIndexNames(UpdateByQueryRequest request) {
+		return List.of(request.getIndexName());
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle update by query", e);
+	}
+}
@@ -0,0 +1,40 @@
+package io.zulia.server.connection.server.handler;
+
+import io.zulia.message.ZuliaServiceOuterClass.UpdateRequest;
+import io.zulia.message.ZuliaServiceOuterClass.UpdateResponse;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
+import io.zulia.server.index.ZuliaIndexManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+
+public class UpdateServerRequest extends ServerRequestHandler<UpdateResponse, UpdateRequest> {
+
+	private final static Logger LOG = LoggerFactory.getLogger(UpdateServerRequest.class);
+
+	public UpdateServerRequest(ZuliaIndexManager indexManager) {
+		super(indexManager);
+	}
+
+	@Override
+	protected UpdateResponse handleCall(ZuliaIndexManager indexManager, UpdateRequest request) throws Exception {
+		return indexManager.update(request);
+	}
+
+	@Override
+	protected RequestClass getRequestClass() {
+		return RequestClass.STORE;
+	}
+
+	@Override
+	protected Collection<String> getIndexNames(UpdateRequest request) {
+		return List.of(request.getIndexName());
+	}
+
+	@Override
+	protected void onError(Throwable e) {
+		LOG.error("Failed to handle update", e);
+	}
+}
@@ -102,6 +102,8 @@ public class CreateIndexRequestValidator implements DefaultValidator<CreateIndex
 			indexSettings.setCommitToWarmTime(1);
 		}
 
+		validateMergeSettings(indexSettings.getMergeSettings());
+
 		HashSet<String> storedFields = new HashSet<>();
 
 		Set<String> analyzerNames = new HashSet<>(indexSettings.getAnalyzerSettingsList().stream().map(ZuliaIndex.AnalyzerSettings::getName).toList());
@@ -170,4 +172,27 @@ public class CreateIndexRequestValidator implements DefaultValidator<CreateIndex
 		indexSettings.clearWarmingSearches();
 		indexSettings.addAllWarmingSearches(warmingSearchesList);
 	}
+
+	private static void validateMergeSettings(ZuliaIndex.MergeSettings mergeSettings) {
+		if (mergeSettings.getSegmentsPerTier() == 1) {
+			throw new IllegalArgumentException("Segments per tier must be at least 2 or zero to use the default");
+		}
+		if (mergeSettings.getMaxMergedSegmentMB() < 0) {
+			throw new IllegalArgumentException("Max merged segment MB must be positive or zero to use the default");
+		}
+		if (mergeSettings.getDeletesPctAllowed() != 0 && (mergeSettings.getDeletesPctAllowed() < 5 || mergeSettings.getDeletesPctAllowed() > 50)) {
+			throw new IllegalArgumentException("Deletes percent allowed must be between 5 and 50 or zero to use the default");
+		}
+		if (mergeSettings.getFloorSegmentMB() < 0) {
+			throw new IllegalArgumentException("Floor segment MB must be positive or zero to use the default");
+		}
+		if (mergeSettings.getMaxMergeCount() != 0) {
+			if (mergeSettings.getMaxMergeThreads() == 0) {
+				throw new IllegalArgumentException("Max merge count requires max merge threads");
+			}
+			if (mergeSettings.getMaxMergeCount() < mergeSettings.getMaxMergeThreads()) {
+				throw new IllegalArgumentException("Max merge count must be at least max merge threads");
+			}
+		}
+	}
 }
@@ -0,0 +1,16 @@
+package io.zulia.server.exceptions;
+
+public class IndexReshardedException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+	private final String indexName;
+
+	public IndexReshardedException(String indexName) {
+		super("Shards of index <" + indexName + "> were split or moved while the request was waiting");
+		this.indexName = indexName;
+	}
+
+	public String getIndexName() {
+		return indexName;
+	}
+}
@@ -0,0 +1,16 @@
+package io.zulia.server.exceptions;
+
+public class RequestRejectedException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+	private final int retryAfterMs;
+
+	public RequestRejectedException(String message, int retryAfterMs) {
+		super(message);
+		this.retryAfterMs = retryAfterMs;
+	}
+
+	public int getRetryAfterMs() {
+		return retryAfterMs;
+	}
+}
@@ -29,6 +29,8 @@ public class DefaultNodeWeightComputation implements NodeWeightComputation {
 		Set<Node> activeNodes = new HashSet<>();
 		activeNodes.add(thisNode);
 		activeNodes.addAll(currentOtherNodesActive);
+		//coordinator only nodes are never given shards
+		activeNodes.removeIf(Node::getCoordinatorOnly);
 
 		HashMap<String, Integer> weightMap = new HashMap<>();
 
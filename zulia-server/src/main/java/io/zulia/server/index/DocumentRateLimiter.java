@@ -0,0 +1,53 @@
+package io.zulia.server.index;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the documents processed per second across all threads sharing it.  Each document is scheduled one interval after the one before and a
+ * caller that gets ahead of its document's time sleeps until then.  Short stalls are made up by running faster afterward, but at most one second of
+ * documents, so a long pause is not followed by a burst of everything the pause would have allowed.
+ */
+public class DocumentRateLimiter {
+
+	private static final long MAX_CREDIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final int maxDocsPerSecond;
+	private final long intervalNanos;
+	private final AtomicLong scheduledNanos;
+	private final AtomicLong count;
+
+	/**
+	 * @param maxDocsPerSecond - 0 is unlimited
+	 */
+	public DocumentRateLimiter(int maxDocsPerSecond) {
+		this.maxDocsPerSecond = maxDocsPerSecond;
+		this.intervalNanos = maxDocsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxDocsPerSecond : 0;
+		this.scheduledNanos = new AtomicLong(System.nanoTime());
+		this.count = new AtomicLong();
+	}
+
+	/**
+	 * Counts a document, sleeping first if the documents counted so far are ahead of the rate
+	 *
+	 * @return the number of documents counted including this one
+	 */
+	public long acquire() throws InterruptedException {
+		long docs = count.incrementAndGet();
+		if (maxDocsPerSecond > 0) {
+			long now = System.nanoTime();
+			//time unused since the last document only counts up to the max credit
+			long scheduled = scheduledNanos.accumulateAndGet(now, (last, n) -> Math.max(last, n - MAX_CREDIT_NANOS) + intervalNanos);
+			long ahead = scheduled - now;
+			if (ahead > 0) {
+				TimeUnit.NANOSECONDS.sleep(ahead);
+			}
+		}
+		return docs;
+	}
+
+	public long getCount() {
+		return count.get();
+	}
+
+}
@@ -0,0 +1,119 @@
+package io.zulia.server.index;
+
+import io.zulia.message.ZuliaServiceOuterClass.FieldOperation;
+import io.zulia.util.ZuliaUtil;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Applies field operations to a stored document.  Fields are dotted paths into nested documents, every operation but unset creates the documents
+ * missing on the way.  Increment adds to a number and keeps integers integral while both values are.  Append adds a value or all values of a
+ * list to a list and turns a single value into a list
+ */
+public class DocumentUpdater {
+
+	public static final String VALUE_KEY = "value";
+
+	private final List<FieldOperation> fieldOperations;
+
+	public DocumentUpdater(List<FieldOperation> fieldOperations) {
+		this.fieldOperations = fieldOperations;
+	}
+
+	public void update(Document document) {
+		for (FieldOperation fieldOperation : fieldOperations) {
+			if (fieldOperation.getField().isEmpty()) {
+				throw new IllegalArgumentException("Field is required for field operation <" + fieldOperation.getOperationType() + ">");
+			}
+			String[] path = fieldOperation.getField().split("\\.");
+
+			boolean create = !FieldOperation.OperationType.UNSET.equals(fieldOperation.getOperationType());
+			Document parent = getParent(document, path, create, fieldOperation.getField());
+			if (parent == null) {
+				continue;
+			}
+
+			String key = path[path.length - 1];
+			switch (fieldOperation.getOperationType()) {
+				case SET -> parent.put(key, getValue(fieldOperation));
+				case UNSET -> parent.remove(key);
+				case INCREMENT -> parent.put(key, increment(parent.get(key), getValue(fieldOperation), fieldOperation.getField()));
+				case APPEND -> parent.put(key, append(parent.get(key), getValue(fieldOperation)));
+				default -> throw new IllegalArgumentException("Unknown field operation <" + fieldOperation.getOperationType() + ">");
+			}
+		}
+	}
+
+	private static Document getParent(Document document, String[] path, boolean create, String field) {
+		Document parent = document;
+		for (int i = 0; i < path.length - 1; i++) {
+			Object child = parent.get(path[i]);
+			if (child == null) {
+				if (!create) {
+					return null;
+				}
+				child = new Document();
+				parent.put(path[i], child);
+			}
+			if (!(child instanceof Document)) {
+				throw new IllegalArgumentException("Cannot update field <" + field + ">: <" + path[i] + "> is not a document");
+			}
+			parent = (Document) child;
+		}
+		return parent;
+	}
+
+	private static Number increment(Object current, Object value, String field) {
+		if (!(value instanceof Number increment)) {
+			throw new IllegalArgumentException("Cannot increment field <" + field + "> by non numeric value <" + value + ">");
+		}
+		if (current == null) {
+			return increment;
+		}
+		if (!(current instanceof Number number)) {
+			throw new IllegalArgumentException("Cannot increment field <" + field + "> with non numeric value <" + current + ">");
+		}
+
+		if (isIntegral(number) && isIntegral(increment)) {
+			long sum = Math.addExact(number.longValue(), increment.longValue());
+			if (number instanceof Integer && increment instanceof Integer && sum == (int) sum) {
+				return (int) sum;
+			}
+			return sum;
+		}
+		return number.doubleValue() + increment.doubleValue();
+	}
+
+	private static boolean isIntegral(Number number) {
+		return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+	}
+
+	private static List<Object> append(Object current, Object value) {
+		List<Object> values = new ArrayList<>();
+		if (current instanceof Collection<?> collection) {
+			values.addAll(collection);
+		}
+		else if (current != null) {
+			values.add(current);
+		}
+
+		if (value instanceof Collection<?> collection) {
+			values.addAll(collection);
+		}
+		else {
+			values.add(value);
+		}
+		return values;
+	}
+
+	private static Object getValue(FieldOperation fieldOperation) {
+		if (fieldOperation.getValue().isEmpty()) {
+			return null;
+		}
+		return ZuliaUtil.byteArrayToMongoDocument(fieldOperation.getValue().toByteArray()).get(VALUE_KEY);
+	}
+
+}
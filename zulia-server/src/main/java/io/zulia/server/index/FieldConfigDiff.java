@@ -0,0 +1,76 @@
+package io.zulia.server.index;
+
+import io.zulia.message.ZuliaIndex.AnalyzerSettings;
+import io.zulia.message.ZuliaIndex.FieldConfig;
+import io.zulia.message.ZuliaIndex.IndexAs;
+import io.zulia.message.ZuliaIndex.IndexSettings;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Finds the stored fields whose indexing changed between the settings documents were indexed with and the current settings.  A field changed
+ * if its field config was added, removed or changed, or if it is indexed with an analyzer that was added, removed or changed.
+ */
+public class FieldConfigDiff {
+
+	/**
+	 * @param indexedSettings - settings the documents were indexed with, null if unknown
+	 * @return stored field names to rebuild or null if every document has to be rebuilt
+	 */
+	public static Set<String> getChangedStoredFields(IndexSettings indexedSettings, IndexSettings currentSettings) {
+		if (indexedSettings == null) {
+			return null;
+		}
+
+		Map<String, FieldConfig> indexedFieldConfigs = toMap(indexedSettings.getFieldConfigList(), FieldConfig::getStoredFieldName);
+		Map<String, FieldConfig> currentFieldConfigs = toMap(currentSettings.getFieldConfigList(), FieldConfig::getStoredFieldName);
+
+		Set<String> changedAnalyzers = getChanged(toMap(indexedSettings.getAnalyzerSettingsList(), AnalyzerSettings::getName),
+				toMap(currentSettings.getAnalyzerSettingsList(), AnalyzerSettings::getName));
+
+		Set<String> changedStoredFields = getChanged(indexedFieldConfigs, currentFieldConfigs);
+		if (!changedAnalyzers.isEmpty()) {
+			addAnalyzedFields(indexedFieldConfigs, changedAnalyzers, changedStoredFields);
+			addAnalyzedFields(currentFieldConfigs, changedAnalyzers, changedStoredFields);
+		}
+		return changedStoredFields;
+	}
+
+	private static <T> Map<String, T> toMap(List<T> values, Function<T, String> keyFunction) {
+		Map<String, T> map = new HashMap<>();
+		for (T value : values) {
+			map.put(keyFunction.apply(value), value);
+		}
+		return map;
+	}
+
+	private static <T> Set<String> getChanged(Map<String, T> indexed, Map<String, T> current) {
+		Set<String> keys = new HashSet<>(indexed.keySet());
+		keys.addAll(current.keySet());
+
+		Set<String> changed = new HashSet<>();
+		for (String key : keys) {
+			if (!Objects.equals(indexed.get(key), current.get(key))) {
+				changed.add(key);
+			}
+		}
+		return changed;
+	}
+
+	private static void addAnalyzedFields(Map<String, FieldConfig> fieldConfigs, Set<String> changedAnalyzers, Set<String> changedStoredFields) {
+		for (FieldConfig fieldConfig : fieldConfigs.values()) {
+			for (IndexAs indexAs : fieldConfig.getIndexAsList()) {
+				if (changedAnalyzers.contains(indexAs.getAnalyzerName())) {
+					changedStoredFields.add(fieldConfig.getStoredFieldName());
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,169 @@
+package io.zulia.server.index;
+
+import io.zulia.message.ZuliaIndex.FieldConfig;
+import io.zulia.message.ZuliaIndex.IndexAs;
+import io.zulia.message.ZuliaIndex.IndexSettings;
+import io.zulia.message.ZuliaIndex.SortAs;
+import io.zulia.server.field.FieldTypeUtil;
+import io.zulia.server.index.field.BooleanFieldIndexer;
+import io.zulia.server.index.field.DateFieldIndexer;
+import io.zulia.server.index.field.DoubleFieldIndexer;
+import io.zulia.server.index.field.FieldIndexer;
+import io.zulia.server.index.field.FloatFieldIndexer;
+import io.zulia.server.index.field.IntFieldIndexer;
+import io.zulia.server.index.field.LongFieldIndexer;
+import io.zulia.server.index.field.StringFieldIndexer;
+import io.zulia.util.document.DocumentHelper;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Field configs of an index compiled for indexing.  The stored field names are merged into a trie of their dotted paths so the values of all fields
+ * are read in one walk of the document with shared prefixes resolved once, and the indexer and sort field names of each field are bound up front
+ * instead of dispatched on the field type for every document.  A plan is immutable and built for one version of the index settings.
+ */
+public class FieldExtractionPlan {
+
+	public static class CompiledField {
+		private final FieldConfig fieldConfig;
+		private final FieldIndexer[] fieldIndexers;
+		private final String[] sortFieldNames;
+
+		private CompiledField(FieldConfig fieldConfig) {
+			this.fieldConfig = fieldConfig;
+			this.fieldIndexers = new FieldIndexer[fieldConfig.getIndexAsCount()];
+			for (int i = 0; i < fieldIndexers.length; i++) {
+				fieldIndexers[i] = getFieldIndexer(fieldConfig.getFieldType(), fieldConfig.getIndexAs(i));
+			}
+			this.sortFieldNames = new String[fieldConfig.getSortAsCount()];
+			for (int i = 0; i < sortFieldNames.length; i++) {
+				sortFieldNames[i] = FieldTypeUtil.getSortField(fieldConfig.getSortAs(i).getSortFieldName(), fieldConfig.getFieldType());
+			}
+		}
+
+		public FieldConfig getFieldConfig() {
+			return fieldConfig;
+		}
+
+		/**
+		 * @return indexer for the field type and options of the index as with the same position or null for vectors, which are indexed directly, and
+		 * unsupported types
+		 */
+		public FieldIndexer getFieldIndexer(int indexAsIndex) {
+			return fieldIndexers[indexAsIndex];
+		}
+
+		public IndexAs getIndexAs(int indexAsIndex) {
+			return fieldConfig.getIndexAs(indexAsIndex);
+		}
+
+		public int getIndexAsCount() {
+			return fieldIndexers.length;
+		}
+
+		/**
+		 * @return lucene sort field name of the sort as with the same position
+		 */
+		public String getSortFieldName(int sortAsIndex) {
+			return sortFieldNames[sortAsIndex];
+		}
+
+		public SortAs getSortAs(int sortAsIndex) {
+			return fieldConfig.getSortAs(sortAsIndex);
+		}
+
+		public int getSortAsCount() {
+			return sortFieldNames.length;
+		}
+	}
+
+	private static class PathNode {
+		private final Map<String, PathNode> children = new HashMap<>();
+		private final List<Integer> fieldPositions = new ArrayList<>(1);
+	}
+
+	private final IndexSettings indexSettings;
+	private final CompiledField[] compiledFields;
+	private final PathNode root;
+
+	public FieldExtractionPlan(IndexSettings indexSettings) {
+		this.indexSettings = indexSettings;
+		this.compiledFields = new CompiledField[indexSettings.getFieldConfigCount()];
+		this.root = new PathNode();
+
+		for (int i = 0; i < compiledFields.length; i++) {
+			FieldConfig fieldConfig = indexSettings.getFieldConfig(i);
+			compiledFields[i] = new CompiledField(fieldConfig);
+
+			PathNode node = root;
+			//split the same as DocumentHelper.getValueFromMongoDocument, keeping empty path elements
+			for (String field : fieldConfig.getStoredFieldName().split("\\.", -1)) {
+				node = node.children.computeIfAbsent(field, k -> new PathNode());
+			}
+			node.fieldPositions.add(i);
+		}
+	}
+
+	/**
+	 * @return settings the plan was compiled from, a plan is reused while they are the current settings of the index
+	 */
+	public IndexSettings getIndexSettings() {
+		return indexSettings;
+	}
+
+	public CompiledField getCompiledField(int position) {
+		return compiledFields[position];
+	}
+
+	/**
+	 * @return the value of each field in the order of the field configs, null where the document does not have the field
+	 */
+	public Object[] extractValues(Document mongoDocument) {
+		Object[] values = new Object[compiledFields.length];
+		for (Map.Entry<String, PathNode> child : root.children.entrySet()) {
+			extractValues(mongoDocument.get(child.getKey()), child.getValue(), values);
+		}
+		return values;
+	}
+
+	private static void extractValues(Object value, PathNode node, Object[] values) {
+		if (value == null) {
+			return;
+		}
+		for (int fieldPosition : node.fieldPositions) {
+			values[fieldPosition] = value;
+		}
+		for (Map.Entry<String, PathNode> child : node.children.entrySet()) {
+			extractValues(DocumentHelper.getChild(value, child.getKey()), child.getValue(), values);
+		}
+	}
+
+	private static FieldIndexer getFieldIndexer(FieldConfig.FieldType fieldType, IndexAs indexAs) {
+		if (FieldTypeUtil.isNumericIntFieldType(fieldType)) {
+			return IntFieldIndexer.INSTANCE;
+		}
+		else if (FieldTypeUtil.isNumericLongFieldType(fieldType)) {
+			return LongFieldIndexer.INSTANCE;
+		}
+		else if (FieldTypeUtil.isNumericFloatFieldType(fieldType)) {
+			return FloatFieldIndexer.INSTANCE;
+		}
+		else if (FieldTypeUtil.isNumericDoubleFieldType(fieldType)) {
+			return DoubleFieldIndexer.INSTANCE;
+		}
+		else if (FieldTypeUtil.isDateFieldType(fieldType)) {
+			return DateFieldIndexer.INSTANCE;
+		}
+		else if (FieldTypeUtil.isBooleanFieldType(fieldType)) {
+			return BooleanFieldIndexer.INSTANCE;
+		}
+		else if (FieldTypeUtil.isStringFieldType(fieldType)) {
+			return indexAs.getDisableCharLength() ? StringFieldIndexer.WITHOUT_CHAR_LENGTH : StringFieldIndexer.INSTANCE;
+		}
+		return null;
+	}
+}
@@ -5,19 +5,24 @@ import io.zulia.message.ZuliaBase.Node;
 import io.zulia.message.ZuliaIndex.IndexShardMapping;
 import io.zulia.message.ZuliaIndex.ShardMapping;
 import io.zulia.message.ZuliaServiceOuterClass.IndexRouting;
+import io.zulia.server.connection.client.NodeLoadTracker;
 import io.zulia.server.exceptions.ShardDoesNotExistException;
 import io.zulia.server.exceptions.ShardOfflineException;
 import io.zulia.server.node.ZuliaNode;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class MasterSlaveSelector {
 
 	private final MasterSlaveSettings masterSlaveSettings;
 	private final List<Node> nodes;
 	private final IndexShardMapping indexShardMapping;
+	private final Node localNode;
+	private final NodeLoadTracker nodeLoadTracker;
 
 	/**
 	 * @param masterSlaveSettings - the master slave preference
@@ -25,9 +30,23 @@ public class MasterSlaveSelector {
 	 * @param indexShardMapping   -
 	 */
 	public MasterSlaveSelector(MasterSlaveSettings masterSlaveSettings, List<Node> nodes, IndexShardMapping indexShardMapping) {
+		this(masterSlaveSettings, nodes, indexShardMapping, null, null);
+	}
+
+	/**
+	 * @param masterSlaveSettings - the master slave preference
+	 * @param nodes               - list of nodes to select from
+	 * @param indexShardMapping   -
+	 * @param localNode           - when selecting a secondary a copy on this node is always preferred, can be null
+	 * @param nodeLoadTracker     - when selecting a secondary that is not local the node with the lowest latency and load is preferred, null to use list order
+	 */
+	public MasterSlaveSelector(MasterSlaveSettings masterSlaveSettings, List<Node> nodes, IndexShardMapping indexShardMapping, Node localNode,
+			NodeLoadTracker nodeLoadTracker) {
 		this.masterSlaveSettings = masterSlaveSettings;
 		this.nodes = nodes;
 		this.indexShardMapping = indexShardMapping;
+		this.localNode = localNode;
+		this.nodeLoadTracker = nodeLoadTracker;
 	}
 
 	public Node getNodeForUniqueId(String uniqueId) throws ShardDoesNotExistException, ShardOfflineException {
@@ -98,15 +117,75 @@ public class MasterSlaveSelector {
 	}
 
 	protected Node getSelectSlaveNode(ShardMapping shardMapping) {
+		return selectClosestOnlineNode(shardMapping.getReplicaNodeList());
+	}
 
-		for (Node secondaryNode : shardMapping.getReplicaNodeList()) {
-			for (Node onlineNode : nodes) {
-				if (ZuliaNode.isEqual(onlineNode, secondaryNode)) {
-					return onlineNode;
-				}
+	/**
+	 * @return another online replica of the shard that is not on the excluded node, null if there is none or the master slave settings ask for the
+	 * primary.  A replica can be up to a replication interval behind its primary, so only SLAVE_ONLY requests, which already accept any replica,
+	 * are given one
+	 */
+	public Node getAlternateNode(int shardNumber, Node excludedNode) throws ShardDoesNotExistException {
+		if (!MasterSlaveSettings.SLAVE_ONLY.equals(masterSlaveSettings)) {
+			return null;
+		}
+
+		for (ShardMapping shardMapping : indexShardMapping.getShardMappingList()) {
+			if (shardMapping.getShardNumber() == shardNumber) {
+				List<Node> copies = new ArrayList<>(shardMapping.getReplicaNodeList());
+				copies.removeIf(node -> ZuliaNode.isEqual(node, excludedNode));
+				return selectClosestOnlineNode(copies);
 			}
 		}
 
+		throw new ShardDoesNotExistException(indexShardMapping.getIndexName(), shardNumber);
+	}
+
+	private Node selectClosestOnlineNode(List<Node> copies) {
+
+		List<Node> onlineCopies = new ArrayList<>(copies.size());
+		for (Node copyNode : copies) {
+			Node onlineNode = getOnlineNode(copyNode);
+			if (onlineNode == null) {
+				continue;
+			}
+
+			if (localNode != null && ZuliaNode.isEqual(onlineNode, localNode)) {
+				//no network hop beats any remote copy
+				return onlineNode;
+			}
+			onlineCopies.add(onlineNode);
+		}
+
+		if (onlineCopies.isEmpty()) {
+			return null;
+		}
+		if (nodeLoadTracker == null) {
+			return onlineCopies.get(0);
+		}
+		if (onlineCopies.size() > 1 && nodeLoadTracker.shouldProbe()) {
+			return onlineCopies.get(ThreadLocalRandom.current().nextInt(onlineCopies.size()));
+		}
+
+		Node selectedNode = null;
+		double selectedScore = Double.MAX_VALUE;
+		for (Node onlineNode : onlineCopies) {
+			//strictly less keeps the replica list order on ties
+			double score = nodeLoadTracker.getScore(onlineNode);
+			if (score < selectedScore) {
+				selectedScore = score;
+				selectedNode = onlineNode;
+			}
+		}
+		return selectedNode;
+	}
+
+	private Node getOnlineNode(Node node) {
+		for (Node onlineNode : nodes) {
+			if (ZuliaNode.isEqual(onlineNode, node)) {
+				return onlineNode;
+			}
+		}
 		return null;
 	}
 
@@ -0,0 +1,104 @@
+package io.zulia.server.index;
+
+import io.zulia.server.config.ZuliaConfig;
+import io.zulia.util.ZuliaThreadFactory;
+import io.zulia.util.pool.SemaphoreLimitedVirtualPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executors shared by every index on the node
+ * <ul>
+ *     <li>scheduler - periodic maintenance (idle commits, search warming) for all indexes</li>
+ *     <li>search pool - shard level work (queries, counts, terms, ...) limited to a fixed number of concurrent tasks</li>
+ *     <li>reindex pool - document ranges of shards being reindexed, kept apart from the search pool so a reindex does not starve queries</li>
+ *     <li>replication pool - replica shards copying new commits from their primaries, kept off the scheduler so a large copy does not delay
+ *     idle commits and warming</li>
+ *     <li>request pool - node level federation of requests.  Federated tasks block on other nodes and on the search pool so it is not bounded</li>
+ * </ul>
+ */
+public class NodeExecutors implements AutoCloseable {
+
+	private final static Logger LOG = LoggerFactory.getLogger(NodeExecutors.class);
+
+	private final ScheduledThreadPoolExecutor scheduler;
+	private final SemaphoreLimitedVirtualPool searchPool;
+	private final SemaphoreLimitedVirtualPool reindexPool;
+	private final ThreadPoolExecutor replicationPool;
+	private final ThreadPoolExecutor requestPool;
+
+	public NodeExecutors(ZuliaConfig zuliaConfig) {
+		int searchThreads = zuliaConfig.getSearchThreads();
+		if (searchThreads <= 0) {
+			searchThreads = Runtime.getRuntime().availableProcessors() * 2;
+		}
+		int reindexThreads = zuliaConfig.getReindexThreads();
+		if (reindexThreads <= 0) {
+			reindexThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		}
+
+		int replicationThreads = zuliaConfig.getReplicationThreads();
+		if (replicationThreads <= 0) {
+			replicationThreads = Math.max(2, Runtime.getRuntime().availableProcessors() / 4);
+		}
+
+		this.scheduler = new ScheduledThreadPoolExecutor(Math.max(1, zuliaConfig.getSchedulerThreads()), new ZuliaThreadFactory("scheduler"));
+		this.scheduler.setRemoveOnCancelPolicy(true);
+		this.searchPool = new SemaphoreLimitedVirtualPool(searchThreads);
+		this.reindexPool = new SemaphoreLimitedVirtualPool(reindexThreads);
+		this.replicationPool = (ThreadPoolExecutor) Executors.newFixedThreadPool(replicationThreads, new ZuliaThreadFactory("replication"));
+		this.requestPool = (ThreadPoolExecutor) Executors.newCachedThreadPool(new ZuliaThreadFactory("manager"));
+	}
+
+	/**
+	 * Runs the task every periodMs after an initial delay of periodMs.  Exceptions are logged so one failure does not cancel future runs.
+	 */
+	public ScheduledFuture<?> scheduleWithFixedDelay(String taskName, Runnable task, long periodMs) {
+		return scheduler.scheduleWithFixedDelay(() -> {
+			try {
+				task.run();
+			}
+			catch (Throwable t) {
+				LOG.error("Scheduled task <" + taskName + "> failed", t);
+			}
+		}, periodMs, periodMs, TimeUnit.MILLISECONDS);
+	}
+
+	public SemaphoreLimitedVirtualPool getSearchPool() {
+		return searchPool;
+	}
+
+	public SemaphoreLimitedVirtualPool getReindexPool() {
+		return reindexPool;
+	}
+
+	/**
+	 * Queues without blocking the caller so the scheduler can hand off every replica shard on each tick
+	 */
+	public ThreadPoolExecutor getReplicationPool() {
+		return replicationPool;
+	}
+
+	public ThreadPoolExecutor getRequestPool() {
+		return requestPool;
+	}
+
+	public int getScheduledTaskCount() {
+		return scheduler.getQueue().size();
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+		requestPool.shutdownNow();
+		replicationPool.shutdownNow();
+		searchPool.close();
+		reindexPool.close();
+	}
+}
@@ -0,0 +1,121 @@
+package io.zulia.server.index;
+
+import io.zulia.message.ZuliaIndex.BulkLoadSettings;
+import io.zulia.message.ZuliaIndex.IndexSettings;
+import io.zulia.server.analysis.ZuliaPerFieldAnalyzer;
+import io.zulia.server.config.ServerIndexConfig;
+import io.zulia.util.ZuliaUtil;
+import io.zulia.util.pool.TaskExecutor;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Builds the shard directories of an index outside the cluster.  Documents are routed to shards with
+ * {@link MasterSlaveSelector#getShardForUniqueId(String, int)} and indexed by the same shard writers a primary uses, so the directories can be
+ * attached to a new index with the same settings instead of storing every document through the cluster.
+ */
+public class OfflineIndexBuilder implements AutoCloseable {
+
+	private final static Logger LOG = LoggerFactory.getLogger(OfflineIndexBuilder.class);
+
+	private final String indexName;
+	private final int numberOfShards;
+	private final List<ShardWriteManager> shardWriteManagers;
+	private final LongAdder count;
+
+	/**
+	 * @param indexSettings - validated settings of the index the shards are attached to
+	 * @param outputPath    - directory the shard directories are written to, must not contain shards of an earlier build
+	 */
+	public OfflineIndexBuilder(IndexSettings indexSettings, Path outputPath) throws IOException {
+		this.indexName = indexSettings.getIndexName();
+		this.numberOfShards = indexSettings.getNumberOfShards();
+		this.shardWriteManagers = new ArrayList<>();
+		this.count = new LongAdder();
+
+		//nothing reads the shards while building so the writers can buffer and merge as in bulk load
+		indexSettings = indexSettings.toBuilder().setBulkLoadSettings(BulkLoadSettings.newBuilder().setEnabled(true)).build();
+		ServerIndexConfig indexConfig = new ServerIndexConfig(indexSettings);
+		ZuliaPerFieldAnalyzer zuliaPerFieldAnalyzer = new ZuliaPerFieldAnalyzer(indexConfig);
+		QueryResultCacheBudget queryResultCacheBudget = new QueryResultCacheBudget(0);
+
+		try {
+			for (int shardNumber = 0; shardNumber < numberOfShards; shardNumber++) {
+				Path indexPath = getPathForIndex(outputPath, indexName, shardNumber);
+				Path taxoPath = getPathForFacetsIndex(outputPath, indexName, shardNumber);
+				if (Files.exists(indexPath)) {
+					throw new IllegalStateException("Shard <" + shardNumber + "> of index <" + indexName + "> already exists in <" + outputPath
+							+ ">, remove it or use another output directory");
+				}
+				shardWriteManagers.add(
+						new ShardWriteManager(shardNumber, indexPath, taxoPath, indexConfig, zuliaPerFieldAnalyzer, queryResultCacheBudget, true));
+			}
+		}
+		catch (Exception e) {
+			close();
+			throw e;
+		}
+	}
+
+	public static Path getPathForIndex(Path path, String indexName, int shardNumber) {
+		return path.resolve(indexName + "_" + shardNumber + "_idx");
+	}
+
+	public static Path getPathForFacetsIndex(Path path, String indexName, int shardNumber) {
+		return path.resolve(indexName + "_" + shardNumber + "_facets");
+	}
+
+	/**
+	 * Indexes the document into the shard its id routes to.  Safe to call from multiple threads
+	 */
+	public void store(String uniqueId, Document document) throws Exception {
+		int shardNumber = MasterSlaveSelector.getShardForUniqueId(uniqueId, numberOfShards);
+		DocumentContainer mongoDocument = new DocumentContainer(ZuliaUtil.mongoDocumentToByteArray(document));
+		shardWriteManagers.get(shardNumber).indexDocument(uniqueId, System.currentTimeMillis(), mongoDocument, new DocumentContainer((byte[]) null));
+		count.increment();
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Commits the shards in parallel
+	 *
+	 * @param maxSegments - force merge each shard to this many segments before committing, 0 skips the force merge
+	 */
+	public void finish(TaskExecutor pool, int maxSegments) throws Exception {
+		List<Future<Void>> futures = new ArrayList<>();
+		for (ShardWriteManager shardWriteManager : shardWriteManagers) {
+			futures.add(pool.executeAsync(() -> {
+				long start = System.currentTimeMillis();
+				if (maxSegments > 0) {
+					shardWriteManager.forceMerge(maxSegments);
+				}
+				shardWriteManager.commit();
+				LOG.info("Finished shard <" + shardWriteManager.getShardNumber() + "> of index <" + indexName + "> in "
+						+ (System.currentTimeMillis() - start) + "ms");
+				return null;
+			}));
+		}
+		for (Future<Void> future : futures) {
+			future.get();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		for (ShardWriteManager shardWriteManager : shardWriteManagers) {
+			shardWriteManager.close();
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package io.zulia.server.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks recent internal query latency per index and decides when a node that has not answered yet should be hedged by sending its shards to
+ * another copy.  The hedge delay is the configured percentile of the recent latencies of the indexes in the query (the slowest index wins) but never
+ * less than the configured minimum.  Hedging starts once an index has enough samples.  Each node request earns a fraction of a hedge up to a small
+ * burst so hedges never exceed the configured share of node requests, even when a whole cluster slows down and every node passes the delay.
+ */
+public class QueryHedger {
+
+	private static final int LATENCY_WINDOW_SIZE = 1024;
+	private static final int MIN_SAMPLES = 100;
+	private static final int RECOMPUTE_EVERY = 64;
+	private static final double MAX_HEDGE_BURST = 10;
+
+	private static class LatencyWindow {
+		private final AtomicLongArray samples;
+		private final AtomicLong count;
+		private volatile long percentileNanos;
+		private volatile long computedAtCount;
+
+		private LatencyWindow() {
+			this.samples = new AtomicLongArray(LATENCY_WINDOW_SIZE);
+			this.count = new AtomicLong();
+			this.percentileNanos = -1;
+			this.computedAtCount = 0;
+		}
+
+		private void record(long latencyNanos) {
+			long c = count.getAndIncrement();
+			samples.set((int) (c % LATENCY_WINDOW_SIZE), latencyNanos);
+		}
+
+		private long getPercentileNanos(double percentile) {
+			long c = count.get();
+			if (c < MIN_SAMPLES) {
+				return -1;
+			}
+
+			//sorting the window on every query is wasteful, the percentile only moves as samples are added
+			if (percentileNanos < 0 || c - computedAtCount >= RECOMPUTE_EVERY) {
+				int size = (int) Math.min(c, LATENCY_WINDOW_SIZE);
+				long[] sorted = new long[size];
+				for (int i = 0; i < size; i++) {
+					sorted[i] = samples.get(i);
+				}
+				Arrays.sort(sorted);
+				int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+				percentileNanos = sorted[Math.max(0, Math.min(size - 1, index))];
+				computedAtCount = c;
+			}
+			return percentileNanos;
+		}
+	}
+
+	private final double hedgePercentile;
+	private final int minHedgeDelayMs;
+	private final double maxHedgeRate;
+	private double hedgeBudget;
+	private final ConcurrentHashMap<String, LatencyWindow> indexLatency;
+	private final LongAdder nodeRequests;
+	private final LongAdder hedgesSent;
+	private final LongAdder hedgesWon;
+
+	/**
+	 * @param hedgePercentile - percentile (0-100) of recent latency after which a node request is hedged, 0 disables hedging
+	 * @param minHedgeDelayMs - lower bound on the hedge delay so very fast indexes are not hedged on every request
+	 * @param maxHedgeRate    - max fraction of node requests that are hedged
+	 */
+	public QueryHedger(double hedgePercentile, int minHedgeDelayMs, double maxHedgeRate) {
+		this.hedgePercentile = hedgePercentile;
+		this.minHedgeDelayMs = minHedgeDelayMs;
+		this.maxHedgeRate = maxHedgeRate;
+		this.indexLatency = new ConcurrentHashMap<>();
+		this.nodeRequests = new LongAdder();
+		this.hedgesSent = new LongAdder();
+		this.hedgesWon = new LongAdder();
+	}
+
+	public boolean isEnabled() {
+		return hedgePercentile > 0;
+	}
+
+	/**
+	 * @return the time in ms to wait for a node before hedging or -1 if hedging is disabled or an index does not have enough samples yet
+	 */
+	public long getHedgeDelayMs(Collection<String> indexNames) {
+		if (!isEnabled()) {
+			return -1;
+		}
+
+		long delayNanos = -1;
+		for (String indexName : indexNames) {
+			LatencyWindow latencyWindow = indexLatency.get(indexName);
+			if (latencyWindow == null) {
+				return -1;
+			}
+			long percentileNanos = latencyWindow.getPercentileNanos(hedgePercentile);
+			if (percentileNanos < 0) {
+				return -1;
+			}
+			delayNanos = Math.max(delayNanos, percentileNanos);
+		}
+
+		return Math.max(delayNanos / 1_000_000, minHedgeDelayMs);
+	}
+
+	/**
+	 * @param latencyNanos - time until the node answered or, for a node that lost to its hedge, the time it had not answered for when the hedge won
+	 */
+	public void recordLatency(Collection<String> indexNames, long latencyNanos) {
+		for (String indexName : indexNames) {
+			indexLatency.computeIfAbsent(indexName, k -> new LatencyWindow()).record(latencyNanos);
+		}
+	}
+
+	public void nodeRequestSent() {
+		nodeRequests.increment();
+		synchronized (this) {
+			hedgeBudget = Math.min(MAX_HEDGE_BURST, hedgeBudget + maxHedgeRate);
+		}
+	}
+
+	/**
+	 * @return true if the hedge fits in the max hedge rate and is counted as sent, false if it should not be sent
+	 */
+	public boolean tryHedge() {
+		synchronized (this) {
+			if (hedgeBudget < 1) {
+				return false;
+			}
+			hedgeBudget -= 1;
+		}
+		hedgesSent.increment();
+		return true;
+	}
+
+	public void hedgeWon() {
+		hedgesWon.increment();
+	}
+
+	public void removeIndex(String indexName) {
+		indexLatency.remove(indexName);
+	}
+
+	public long getNodeRequests() {
+		return nodeRequests.sum();
+	}
+
+	public long getHedgesSent() {
+		return hedgesSent.sum();
+	}
+
+	public long getHedgesWon() {
+		return hedgesWon.sum();
+	}
+
+	/**
+	 * @return fraction of node requests that were hedged
+	 */
+	public double getHedgeRate() {
+		long requests = nodeRequests.sum();
+		return requests > 0 ? hedgesSent.sum() / (double) requests : 0;
+	}
+
+	/**
+	 * @return fraction of hedges that answered before the node they were hedging
+	 */
+	public double getHedgeWinRate() {
+		long hedges = hedgesSent.sum();
+		return hedges > 0 ? hedgesWon.sum() / (double) hedges : 0;
+	}
+}
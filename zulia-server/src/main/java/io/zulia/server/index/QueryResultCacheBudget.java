@@ -0,0 +1,59 @@
+package io.zulia.server.index;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Node wide memory budget shared by the query result caches of every shard reader on the node.
+ * Entries are only admitted into a shard cache when the serialized response fits in the remaining budget
+ * and release their bytes when removed (evicted, replaced or when the reader generation is closed)
+ */
+public class QueryResultCacheBudget {
+
+	private final long maxBytes;
+	private final AtomicLong usedBytes;
+	private final LongAdder rejectedCount;
+	private final LongAdder rejectedBytes;
+
+	public QueryResultCacheBudget(long maxBytes) {
+		this.maxBytes = maxBytes;
+		this.usedBytes = new AtomicLong();
+		this.rejectedCount = new LongAdder();
+		this.rejectedBytes = new LongAdder();
+	}
+
+	public boolean tryReserve(long bytes) {
+		while (true) {
+			long current = usedBytes.get();
+			long updated = current + bytes;
+			if (updated > maxBytes) {
+				rejectedCount.increment();
+				rejectedBytes.add(bytes);
+				return false;
+			}
+			if (usedBytes.compareAndSet(current, updated)) {
+				return true;
+			}
+		}
+	}
+
+	public void release(long bytes) {
+		usedBytes.addAndGet(-bytes);
+	}
+
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	public long getUsedBytes() {
+		return usedBytes.get();
+	}
+
+	public long getRejectedCount() {
+		return rejectedCount.sum();
+	}
+
+	public long getRejectedBytes() {
+		return rejectedBytes.sum();
+	}
+}
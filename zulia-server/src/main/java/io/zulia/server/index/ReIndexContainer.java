@@ -1,6 +1,31 @@
 package io.zulia.server.index;
 
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.zulia.message.ZuliaBase;
+import io.zulia.server.util.BytesRefUtil;
 import org.apache.lucene.util.BytesRef;
+import org.xerial.snappy.Snappy;
+
+import java.io.IOException;
 
 public record ReIndexContainer(BytesRef idInfo, BytesRef meta, BytesRef fullDoc) {
+
+	public ZuliaBase.IdInfo getIdInfo() throws InvalidProtocolBufferException {
+		return ZuliaBase.IdInfo.parseFrom(BytesRefUtil.getByteArray(idInfo));
+	}
+
+	public DocumentContainer getMetadata(boolean compressed) throws IOException {
+		return getDocumentContainer(meta, compressed);
+	}
+
+	public DocumentContainer getDocument(boolean compressed) throws IOException {
+		return getDocumentContainer(fullDoc, compressed);
+	}
+
+	private static DocumentContainer getDocumentContainer(BytesRef bytesRef, boolean compressed) throws IOException {
+		if (compressed) {
+			return new DocumentContainer(bytesRef != null ? Snappy.uncompress(BytesRefUtil.getByteArray(bytesRef)) : null);
+		}
+		return new DocumentContainer(bytesRef);
+	}
 }
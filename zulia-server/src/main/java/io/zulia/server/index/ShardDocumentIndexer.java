@@ -1,7 +1,11 @@
 package io.zulia.server.index;
 
 import com.google.common.base.Splitter;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.common.primitives.Floats;
+import com.google.protobuf.ByteString;
 import com.koloboke.collect.map.IntObjMap;
 import com.koloboke.collect.map.hash.HashIntObjMaps;
 import com.koloboke.collect.set.IntSet;
@@ -13,17 +17,10 @@ import io.zulia.message.ZuliaIndex;
 import io.zulia.message.ZuliaIndex.FieldConfig;
 import io.zulia.server.config.ServerIndexConfig;
 import io.zulia.server.field.FieldTypeUtil;
-import io.zulia.server.index.field.BooleanFieldIndexer;
-import io.zulia.server.index.field.DateFieldIndexer;
-import io.zulia.server.index.field.DoubleFieldIndexer;
-import io.zulia.server.index.field.FloatFieldIndexer;
-import io.zulia.server.index.field.IntFieldIndexer;
-import io.zulia.server.index.field.LongFieldIndexer;
-import io.zulia.server.index.field.StringFieldIndexer;
+import io.zulia.server.index.field.FieldIndexer;
 import io.zulia.util.BooleanUtil;
 import io.zulia.util.ZuliaUtil;
 import io.zulia.util.ZuliaVersion;
-import io.zulia.util.document.DocumentHelper;
 import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
 import org.apache.lucene.document.BinaryDocValuesField;
 import org.apache.lucene.document.Document;
@@ -35,8 +32,14 @@ import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.facet.FacetsConfig;
 import org.apache.lucene.facet.taxonomy.FacetLabel;
-import org.apache.lucene.facet.taxonomy.directory.DirectoryTaxonomyWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TermRangeQuery;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
 import org.xerial.snappy.Snappy;
@@ -49,6 +52,7 @@ import java.time.ZoneId;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -58,6 +62,8 @@ import java.util.function.IntConsumer;
 
 public class ShardDocumentIndexer {
 
+	private final static HashFunction CONTENT_HASH = Hashing.murmur3_128();
+
 	private final static Splitter facetPathSplitter = Splitter.on(ZuliaFieldConstants.FACET_PATH_DELIMITER).omitEmptyStrings();
 
 	private final Map<String, Integer> dimToOrdinal = new ConcurrentHashMap<>();
@@ -66,6 +72,7 @@ public class ShardDocumentIndexer {
 	private final int majorVersion;
 	private final int minorVersion;
 	private final String idSortField;
+	private volatile FieldExtractionPlan fieldExtractionPlan;
 
 	public ShardDocumentIndexer(ServerIndexConfig indexConfig) {
 		this.indexConfig = indexConfig;
@@ -74,8 +81,27 @@ public class ShardDocumentIndexer {
 		this.idSortField = FieldTypeUtil.getSortField(ZuliaFieldConstants.ID_SORT_FIELD, FieldConfig.FieldType.STRING);
 	}
 
+	/**
+	 * @return hash of the uncompressed bytes of the document and metadata, stored in the id info to find stores that change nothing
+	 */
+	public static ByteString getContentHash(DocumentContainer mongoDocument, DocumentContainer metadata) {
+		Hasher hasher = CONTENT_HASH.newHasher();
+		putBytes(hasher, mongoDocument.getByteArray());
+		putBytes(hasher, metadata.getByteArray());
+		return ByteString.copyFrom(hasher.hash().asBytes());
+	}
+
+	private static void putBytes(Hasher hasher, byte[] bytes) {
+		if (bytes == null) {
+			hasher.putInt(-1);
+		}
+		else {
+			hasher.putInt(bytes.length).putBytes(bytes);
+		}
+	}
+
 	public Document getIndexDocument(String uniqueId, long timestamp, DocumentContainer mongoDocument, DocumentContainer metadata,
-			DirectoryTaxonomyWriter taxoWriter) throws Exception {
+			TaxonomyOrdinalCache taxonomyOrdinalCache) throws Exception {
 		Document luceneDocument = new Document();
 		luceneDocument.add(new StringField(ZuliaFieldConstants.ID_FIELD, uniqueId, Field.Store.NO));
 		luceneDocument.add(new SortedSetDocValuesField(idSortField, new BytesRef(uniqueId)));
@@ -83,7 +109,8 @@ public class ShardDocumentIndexer {
 
 		boolean compressionEnabled = indexConfig.isCompressionEnabled();
 		ZuliaBase.IdInfo idInfo = ZuliaBase.IdInfo.newBuilder().setId(uniqueId).setTimestamp(timestamp).setMajorVersion(majorVersion)
-				.setMinorVersion(minorVersion).setCompressedDoc(compressionEnabled).build();
+				.setMinorVersion(minorVersion).setCompressedDoc(compressionEnabled).setContentHash(getContentHash(mongoDocument, metadata))
+				.build();
 
 		byte[] idInfoBytes = idInfo.toByteArray();
 
@@ -96,34 +123,83 @@ public class ShardDocumentIndexer {
 		if (mongoDocument.hasDocument()) {
 			byte[] bytes = compressionEnabled ? Snappy.compress(mongoDocument.getByteArray()) : mongoDocument.getByteArray();
 			luceneDocument.add(new BinaryDocValuesField(ZuliaFieldConstants.STORED_DOC_FIELD, new BytesRef(bytes)));
-			addUserFields(mongoDocument.getDocument(), luceneDocument, taxoWriter);
+			addUserFields(mongoDocument.getDocument(), luceneDocument, taxonomyOrdinalCache);
+			addStoredFieldPaths(mongoDocument.getDocument(), luceneDocument);
 		}
 
 		return luceneDocument;
 
 	}
 
-	private void addUserFields(org.bson.Document mongoDocument, Document luceneDocument, DirectoryTaxonomyWriter taxoWriter) throws Exception {
+	/**
+	 * Indexes the dotted path of every field stored in the document, so a reindex after a field config change only has to rebuild the documents
+	 * that contain the changed fields
+	 */
+	private static void addStoredFieldPaths(org.bson.Document mongoDocument, Document luceneDocument) {
+		Set<String> storedFieldPaths = new HashSet<>();
+		collectStoredFieldPaths(mongoDocument, null, storedFieldPaths);
+		for (String storedFieldPath : storedFieldPaths) {
+			luceneDocument.add(new StringField(ZuliaFieldConstants.STORED_FIELDS_LIST_FIELD, storedFieldPath, Field.Store.NO));
+		}
+	}
 
-		Map<String, Set<FacetLabel>> facetFieldToFacetLabels = new HashMap<>();
-		for (FieldConfig fc : indexConfig.getIndexSettings().getFieldConfigList()) {
-			String storedFieldName = fc.getStoredFieldName();
-			FieldConfig.FieldType fieldType = fc.getFieldType();
+	private static void collectStoredFieldPaths(Object value, String path, Set<String> storedFieldPaths) {
+		if (value instanceof org.bson.Document document) {
+			for (Map.Entry<String, Object> entry : document.entrySet()) {
+				String childPath = path != null ? path + "." + entry.getKey() : entry.getKey();
+				storedFieldPaths.add(childPath);
+				collectStoredFieldPaths(entry.getValue(), childPath, storedFieldPaths);
+			}
+		}
+		else if (value instanceof Collection<?> collection) {
+			//fields of documents in a list are addressed without an index the same as DocumentHelper reads them
+			for (Object item : collection) {
+				collectStoredFieldPaths(item, path, storedFieldPaths);
+			}
+		}
+	}
 
-			Object o = DocumentHelper.getValueFromMongoDocument(mongoDocument, storedFieldName);
+	/**
+	 * @return query for the documents that store any of the fields and for documents indexed before stored fields were indexed
+	 */
+	public static Query getStoredFieldsQuery(Collection<String> storedFieldNames) {
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+		for (String storedFieldName : storedFieldNames) {
+			builder.add(new TermQuery(new Term(ZuliaFieldConstants.STORED_FIELDS_LIST_FIELD, storedFieldName)), BooleanClause.Occur.SHOULD);
+		}
+
+		BooleanQuery.Builder untracked = new BooleanQuery.Builder();
+		untracked.add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER);
+		Query anyStoredField = TermRangeQuery.newStringRange(ZuliaFieldConstants.STORED_FIELDS_LIST_FIELD, null, null, true, true);
+		untracked.add(anyStoredField, BooleanClause.Occur.MUST_NOT);
+		builder.add(untracked.build(), BooleanClause.Occur.SHOULD);
+
+		return builder.build();
+	}
+
+	private void addUserFields(org.bson.Document mongoDocument, Document luceneDocument, TaxonomyOrdinalCache taxonomyOrdinalCache) throws Exception {
+
+		FieldExtractionPlan plan = getFieldExtractionPlan();
+		Object[] values = plan.extractValues(mongoDocument);
+
+		Map<String, Set<FacetLabel>> facetFieldToFacetLabels = new HashMap<>();
+		for (int i = 0; i < values.length; i++) {
+			Object o = values[i];
 			if (o != null) {
+				FieldExtractionPlan.CompiledField compiledField = plan.getCompiledField(i);
+				FieldConfig fc = compiledField.getFieldConfig();
 				generateFacetLabels(fc, o, facetFieldToFacetLabels);
-				addSortForStoredField(luceneDocument, storedFieldName, fc, o);
-				addIndexingForStoredField(luceneDocument, storedFieldName, fc, fieldType, o);
+				addSortForStoredField(luceneDocument, compiledField, o);
+				addIndexingForStoredField(luceneDocument, compiledField, o);
 			}
 
 		}
 
 		//important that every document has facets (even if empty stored) for intersecting the iterators and doing simultaneous processing of stats and facets stats
-		addFacets(luceneDocument, taxoWriter, facetFieldToFacetLabels);
+		addFacets(luceneDocument, taxonomyOrdinalCache, facetFieldToFacetLabels);
 	}
 
-	private void addFacets(Document luceneDocument, DirectoryTaxonomyWriter taxoWriter, Map<String, Set<FacetLabel>> facetFieldToFacetLabels)
+	private void addFacets(Document luceneDocument, TaxonomyOrdinalCache taxonomyOrdinalCache, Map<String, Set<FacetLabel>> facetFieldToFacetLabels)
 			throws IOException {
 
 		IntObjMap<IntSet> facetDimToOrdinal = HashIntObjMaps.newMutableMap();
@@ -135,7 +211,7 @@ public class ShardDocumentIndexer {
 
 			int dimOridinal = dimToOrdinal.computeIfAbsent(facetField, s -> {
 				try {
-					return taxoWriter.addCategory(new FacetLabel(facetField));
+					return taxonomyOrdinalCache.getOrdinals(new FacetLabel(facetField))[0];
 				}
 				catch (IOException e) {
 					throw new RuntimeException(e);
@@ -152,13 +228,9 @@ public class ShardDocumentIndexer {
 							new StringField(ZuliaFieldConstants.FACET_DRILL_DOWN_FIELD, FacetsConfig.pathToString(facetLabel.components, i), Field.Store.NO));
 				}
 
-				int ordinal = taxoWriter.addCategory(facetLabel);
-				fieldOrdinals.add(ordinal);
-
-				int parent = taxoWriter.getParent(ordinal);
-				while (parent != dimOridinal && parent > 0) {
-					fieldOrdinals.add(parent);
-					parent = taxoWriter.getParent(parent);
+				//the label and its ancestors below the dimension
+				for (int ordinal : taxonomyOrdinalCache.getOrdinals(facetLabel)) {
+					fieldOrdinals.add(ordinal);
 				}
 
 			}
@@ -181,33 +253,32 @@ public class ShardDocumentIndexer {
 		luceneDocument.add(new BinaryDocValuesField(ZuliaFieldConstants.FACET_STORAGE, new BytesRef(byteBuffer.array())));
 	}
 
-	private void addIndexingForStoredField(Document luceneDocument, String storedFieldName, FieldConfig fc, FieldConfig.FieldType fieldType, Object o)
-			throws Exception {
-		for (ZuliaIndex.IndexAs indexAs : fc.getIndexAsList()) {
+	/**
+	 * @return plan compiled from the current index settings, compiled again after the settings change
+	 */
+	private FieldExtractionPlan getFieldExtractionPlan() {
+		ZuliaIndex.IndexSettings indexSettings = indexConfig.getIndexSettings();
+		FieldExtractionPlan plan = fieldExtractionPlan;
+		if (plan == null || plan.getIndexSettings() != indexSettings) {
+			plan = new FieldExtractionPlan(indexSettings);
+			fieldExtractionPlan = plan;
+		}
+		return plan;
+	}
+
+	private void addIndexingForStoredField(Document luceneDocument, FieldExtractionPlan.CompiledField compiledField, Object o) throws Exception {
+		FieldConfig fc = compiledField.getFieldConfig();
+		String storedFieldName = fc.getStoredFieldName();
+		FieldConfig.FieldType fieldType = fc.getFieldType();
+		for (int indexAsIndex = 0; indexAsIndex < compiledField.getIndexAsCount(); indexAsIndex++) {
+			ZuliaIndex.IndexAs indexAs = compiledField.getIndexAs(indexAsIndex);
+			FieldIndexer fieldIndexer = compiledField.getFieldIndexer(indexAsIndex);
 
 			String indexedFieldName = indexAs.getIndexFieldName();
 			luceneDocument.add(new StringField(ZuliaFieldConstants.FIELDS_LIST_FIELD, indexedFieldName, Field.Store.NO));
 
-			if (FieldTypeUtil.isNumericIntFieldType(fieldType)) {
-				IntFieldIndexer.INSTANCE.index(luceneDocument, storedFieldName, o, indexedFieldName);
-			}
-			else if (FieldTypeUtil.isNumericLongFieldType(fieldType)) {
-				LongFieldIndexer.INSTANCE.index(luceneDocument, storedFieldName, o, indexedFieldName);
-			}
-			else if (FieldTypeUtil.isNumericFloatFieldType(fieldType)) {
-				FloatFieldIndexer.INSTANCE.index(luceneDocument, storedFieldName, o, indexedFieldName);
-			}
-			else if (FieldTypeUtil.isNumericDoubleFieldType(fieldType)) {
-				DoubleFieldIndexer.INSTANCE.index(luceneDocument, storedFieldName, o, indexedFieldName);
-			}
-			else if (FieldTypeUtil.isDateFieldType(fieldType)) {
-				DateFieldIndexer.INSTANCE.index(luceneDocument, storedFieldName, o, indexedFieldName);
-			}
-			else if (FieldTypeUtil.isBooleanFieldType(fieldType)) {
-				BooleanFieldIndexer.INSTANCE.index(luceneDocument, storedFieldName, o, indexedFieldName);
-			}
-			else if (FieldTypeUtil.isStringFieldType(fieldType)) {
-				StringFieldIndexer.INSTANCE.index(luceneDocument, storedFieldName, o, indexedFieldName);
+			if (fieldIndexer != null) {
+				fieldIndexer.index(luceneDocument, storedFieldName, o, indexedFieldName, !indexAs.getDisableListLength());
 			}
 			else if (FieldTypeUtil.isVectorFieldType(fieldType)) {
 				if (o instanceof Collection collection) {
@@ -221,12 +292,14 @@ public class ShardDocumentIndexer {
 		}
 	}
 
-	private void addSortForStoredField(Document d, String storedFieldName, FieldConfig fc, Object o) {
+	private void addSortForStoredField(Document d, FieldExtractionPlan.CompiledField compiledField, Object o) {
 
+		FieldConfig fc = compiledField.getFieldConfig();
+		String storedFieldName = fc.getStoredFieldName();
 		FieldConfig.FieldType fieldType = fc.getFieldType();
-		for (ZuliaIndex.SortAs sortAs : fc.getSortAsList()) {
-
-			String sortFieldName = FieldTypeUtil.getSortField(sortAs.getSortFieldName(), fieldType);
+		for (int sortAsIndex = 0; sortAsIndex < compiledField.getSortAsCount(); sortAsIndex++) {
+			ZuliaIndex.SortAs sortAs = compiledField.getSortAs(sortAsIndex);
+			String sortFieldName = compiledField.getSortFieldName(sortAsIndex);
 
 			if (FieldTypeUtil.isStringFieldType(fieldType)) {
 				ZuliaUtil.handleListsUniqueValues(o, obj -> {
@@ -0,0 +1,114 @@
+package io.zulia.server.index;
+
+import io.zulia.message.ZuliaIndex.MergeSettings;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.TieredMergePolicy;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent merge scheduler of a shard that counts merges and the time indexing threads are stalled because merges fall behind.  Merge settings
+ * can be changed while the writer is open, zero values use the lucene defaults.
+ */
+public class ShardMergeScheduler extends ConcurrentMergeScheduler {
+
+	//never changed, only read for the lucene defaults
+	private static final TieredMergePolicy LUCENE_DEFAULTS = new TieredMergePolicy();
+
+	private final AtomicInteger runningMerges;
+	private final LongAdder mergeCount;
+	private final LongAdder mergedBytes;
+	private final LongAdder mergeTimeNanos;
+	private final LongAdder stallTimeNanos;
+
+	public ShardMergeScheduler() {
+		this.runningMerges = new AtomicInteger();
+		this.mergeCount = new LongAdder();
+		this.mergedBytes = new LongAdder();
+		this.mergeTimeNanos = new LongAdder();
+		this.stallTimeNanos = new LongAdder();
+	}
+
+	@Override
+	protected void doMerge(MergeSource mergeSource, MergePolicy.OneMerge merge) throws IOException {
+		runningMerges.incrementAndGet();
+		long start = System.nanoTime();
+		try {
+			super.doMerge(mergeSource, merge);
+			mergeCount.increment();
+			mergedBytes.add(merge.totalBytesSize());
+		}
+		finally {
+			mergeTimeNanos.add(System.nanoTime() - start);
+			runningMerges.decrementAndGet();
+		}
+	}
+
+	@Override
+	protected synchronized void doStall() {
+		long start = System.nanoTime();
+		try {
+			super.doStall();
+		}
+		finally {
+			stallTimeNanos.add(System.nanoTime() - start);
+		}
+	}
+
+	public void applySettings(MergeSettings mergeSettings) {
+		int maxMergeThreads = mergeSettings.getMaxMergeThreads();
+		if (maxMergeThreads > 0) {
+			int maxMergeCount = mergeSettings.getMaxMergeCount() > 0 ? mergeSettings.getMaxMergeCount() : maxMergeThreads + 5;
+			setMaxMergesAndThreads(maxMergeCount, maxMergeThreads);
+		}
+		else {
+			setMaxMergesAndThreads(AUTO_DETECT_MERGES_AND_THREADS, AUTO_DETECT_MERGES_AND_THREADS);
+		}
+
+		if (mergeSettings.getDisableIOThrottle()) {
+			disableAutoIOThrottle();
+		}
+		else {
+			enableAutoIOThrottle();
+		}
+	}
+
+	/**
+	 * Applies the merge settings to a merge policy that may have been tuned before, a zero setting goes back to the value of a fresh lucene policy
+	 */
+	public static void applySettings(TieredMergePolicy mergePolicy, MergeSettings mergeSettings) {
+		mergePolicy.setSegmentsPerTier(
+				mergeSettings.getSegmentsPerTier() > 0 ? mergeSettings.getSegmentsPerTier() : LUCENE_DEFAULTS.getSegmentsPerTier());
+		mergePolicy.setMaxMergedSegmentMB(
+				mergeSettings.getMaxMergedSegmentMB() > 0 ? mergeSettings.getMaxMergedSegmentMB() : LUCENE_DEFAULTS.getMaxMergedSegmentMB());
+		mergePolicy.setDeletesPctAllowed(
+				mergeSettings.getDeletesPctAllowed() > 0 ? mergeSettings.getDeletesPctAllowed() : LUCENE_DEFAULTS.getDeletesPctAllowed());
+		mergePolicy.setFloorSegmentMB(
+				mergeSettings.getFloorSegmentMB() > 0 ? mergeSettings.getFloorSegmentMB() : LUCENE_DEFAULTS.getFloorSegmentMB());
+	}
+
+	public int getRunningMerges() {
+		return runningMerges.get();
+	}
+
+	public long getMergeCount() {
+		return mergeCount.sum();
+	}
+
+	public long getMergedBytes() {
+		return mergedBytes.sum();
+	}
+
+	public long getMergeTimeMs() {
+		return TimeUnit.NANOSECONDS.toMillis(mergeTimeNanos.sum());
+	}
+
+	public long getStallTimeMs() {
+		return TimeUnit.NANOSECONDS.toMillis(stallTimeNanos.sum());
+	}
+
+}
@@ -2,7 +2,9 @@ package io.zulia.server.index;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.protobuf.ByteString;
 import io.zulia.ZuliaFieldConstants;
 import io.zulia.message.ZuliaBase;
 import io.zulia.message.ZuliaIndex;
@@ -32,7 +34,10 @@ import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.FieldInfos;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.*;
 import org.apache.lucene.search.highlight.Fragmenter;
 import org.apache.lucene.search.highlight.QueryScorer;
@@ -48,9 +53,13 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 public class ShardReader implements AutoCloseable {
@@ -62,27 +71,79 @@ public class ShardReader implements AutoCloseable {
 	private final String indexName;
 	private final int shardNumber;
 	private final ZuliaPerFieldAnalyzer zuliaPerFieldAnalyzer;
-	private final Cache<QueryCacheKey, ZuliaQuery.ShardQueryResponse.Builder> queryResultCache;
-	private final Cache<QueryCacheKey, ZuliaQuery.ShardQueryResponse.Builder> pinnedQueryResultCache;
+	private final QueryResultCacheBudget queryResultCacheBudget;
+	private final LongAdder queryResultEvictedBytes;
+	private final LongAdder pinnedQueryResultEvictedBytes;
+	private final Cache<QueryCacheKey, CachedShardQueryResponse> queryResultCache;
+	private final Cache<QueryCacheKey, CachedShardQueryResponse> pinnedQueryResultCache;
+
+	/**
+	 * Documents fromDoc (inclusive) to toDoc (exclusive) of a segment
+	 */
+	public record DocRange(int leafOrd, int fromDoc, int toDoc) {
+
+	}
+
+	/**
+	 * Fetch requests with the same settings share the doc values of a segment
+	 */
+	private record FetchSettings(ZuliaQuery.FetchType resultFetchType, List<String> fieldsToReturn, List<String> fieldsToMask) {
+
+	}
+
+	/**
+	 * Cached responses are kept serialized so they are immutable, can be shared across requests and have an exact byte size to charge against the node budget
+	 */
+	private record CachedShardQueryResponse(ByteString serializedResponse, boolean admitted) {
+
+		public ZuliaQuery.ShardQueryResponse.Builder toBuilder() throws IOException {
+			return ZuliaQuery.ShardQueryResponse.parseFrom(serializedResponse).toBuilder();
+		}
+	}
 
 	public ShardReader(int shardNumber, DirectoryReader indexReader, DirectoryTaxonomyReader taxoReader, ServerIndexConfig indexConfig,
-			ZuliaPerFieldAnalyzer zuliaPerFieldAnalyzer) {
+			ZuliaPerFieldAnalyzer zuliaPerFieldAnalyzer, QueryResultCacheBudget queryResultCacheBudget) {
 		this.shardNumber = shardNumber;
 		this.indexReader = indexReader;
 		this.taxoReader = taxoReader;
 		this.indexConfig = indexConfig;
 		this.indexName = indexConfig.getIndexName();
 		this.zuliaPerFieldAnalyzer = zuliaPerFieldAnalyzer;
-		this.queryResultCache = Caffeine.newBuilder().maximumSize(indexConfig.getIndexSettings().getShardQueryCacheSize()).recordStats().build();
-		this.pinnedQueryResultCache = Caffeine.newBuilder().recordStats().build();
+		this.queryResultCacheBudget = queryResultCacheBudget;
+		this.queryResultEvictedBytes = new LongAdder();
+		this.pinnedQueryResultEvictedBytes = new LongAdder();
+		this.queryResultCache = Caffeine.newBuilder().maximumSize(indexConfig.getIndexSettings().getShardQueryCacheSize())
+				.removalListener(getBudgetReleasingListener(queryResultEvictedBytes)).recordStats().build();
+		this.pinnedQueryResultCache = Caffeine.newBuilder().removalListener(getBudgetReleasingListener(pinnedQueryResultEvictedBytes)).recordStats().build();
+	}
+
+	private RemovalListener<QueryCacheKey, CachedShardQueryResponse> getBudgetReleasingListener(LongAdder evictedBytes) {
+		return (key, value, cause) -> {
+			if (value != null && value.admitted()) {
+				int size = value.serializedResponse().size();
+				queryResultCacheBudget.release(size);
+				if (cause.wasEvicted()) {
+					evictedBytes.add(size);
+				}
+			}
+		};
 	}
 
 	@Override
 	public void close() throws Exception {
+		invalidateCaches();
 		indexReader.close();
 		taxoReader.close();
 	}
 
+	/**
+	 * Drops the cached query results, used when the settings change since results are cached by the request and not by the parsed query
+	 */
+	public void invalidateCaches() {
+		queryResultCache.invalidateAll();
+		pinnedQueryResultCache.invalidateAll();
+	}
+
 	public int getTotalFacets() {
 		return taxoReader.getSize();
 	}
@@ -137,12 +198,12 @@ public class ShardReader implements AutoCloseable {
 
 		QueryCacheKey queryCacheKey = shardQuery.getQueryCacheKey(); //null when don't cache is set
 		if (queryCacheKey != null) {
-			ZuliaQuery.ShardQueryResponse.Builder pinnedCacheHit;
+			CachedShardQueryResponse pinnedCacheHit;
 
 			// Check if the search is existing in the pinned cache, so we can indicate it is cached. Otherwise, compute it in the cache so multiple identical requests are deduplicated
 			pinnedCacheHit = pinnedQueryResultCache.getIfPresent(queryCacheKey);
 			if (pinnedCacheHit != null) {
-				return pinnedCacheHit.setCached(true).setPinned(true).build();
+				return pinnedCacheHit.toBuilder().setCached(true).setPinned(true).build();
 			}
 
 			if (queryCacheKey.isPinned()) {
@@ -154,9 +215,9 @@ public class ShardReader implements AutoCloseable {
 			if (useCache) {
 
 				// Check if the search is existing, so we can indicate it is cached. Otherwise, compute it in the cache so multiple identical requests are deduplicated
-				ZuliaQuery.ShardQueryResponse.Builder cachedResult = queryResultCache.getIfPresent(queryCacheKey);
+				CachedShardQueryResponse cachedResult = queryResultCache.getIfPresent(queryCacheKey);
 				if (cachedResult != null) {
-					return cachedResult.setCached(true).build();
+					return cachedResult.toBuilder().setCached(true).build();
 				}
 
 				return getShardQueryResponseAndCache(queryCacheKey, shardQuery, queryResultCache);
@@ -168,20 +229,35 @@ public class ShardReader implements AutoCloseable {
 	}
 
 	private ZuliaQuery.ShardQueryResponse getShardQueryResponseAndCache(QueryCacheKey queryCacheKey, ShardQuery shardQuery,
-			Cache<QueryCacheKey, ZuliaQuery.ShardQueryResponse.Builder> queryResultCache) throws Exception {
+			Cache<QueryCacheKey, CachedShardQueryResponse> queryResultCache) throws Exception {
+		ZuliaQuery.ShardQueryResponse[] computed = new ZuliaQuery.ShardQueryResponse[1];
+		CachedShardQueryResponse cachedShardQueryResponse;
 		try {
-			return queryResultCache.get(queryCacheKey, key -> {
+			cachedShardQueryResponse = queryResultCache.get(queryCacheKey, key -> {
 				try {
-					return getShardQueryResponseAndCache(shardQuery);
+					ZuliaQuery.ShardQueryResponse shardQueryResponse = getShardQueryResponseAndCache(shardQuery).build();
+					computed[0] = shardQueryResponse;
+					ByteString serializedResponse = shardQueryResponse.toByteString();
+					return new CachedShardQueryResponse(serializedResponse, queryResultCacheBudget.tryReserve(serializedResponse.size()));
 				}
 				catch (Exception e) {
 					throw new WrappedCheckedException(e);
 				}
-			}).build();
+			});
 		}
 		catch (WrappedCheckedException e) {
 			throw e.getCause();
 		}
+
+		if (!cachedShardQueryResponse.admitted()) {
+			// node wide budget is exhausted, the result is still shared with concurrent identical requests but is not kept
+			queryResultCache.invalidate(queryCacheKey);
+		}
+
+		if (computed[0] != null) {
+			return computed[0];
+		}
+		return cachedShardQueryResponse.toBuilder().build();
 	}
 
 	private ZuliaQuery.ShardQueryResponse.Builder getShardQueryResponseAndCache(ShardQuery shardQuery) throws Exception {
@@ -554,23 +630,96 @@ public class ShardReader implements AutoCloseable {
 
 	public ZuliaBase.ResultDocument getSourceDocument(String uniqueId, ZuliaQuery.FetchType resultFetchType, List<String> fieldsToReturn,
 			List<String> fieldsToMask) throws Exception {
+		ZuliaServiceOuterClass.FetchRequest fetchRequest = ZuliaServiceOuterClass.FetchRequest.newBuilder().setUniqueId(uniqueId)
+				.setResultFetchType(resultFetchType).addAllDocumentFields(fieldsToReturn).addAllDocumentMaskedFields(fieldsToMask).build();
+		return getSourceDocuments(List.of(fetchRequest))[0];
+	}
+
+	/**
+	 * Seeks the ids in each segment instead of running a query so fetches need no searcher or collector and are never put in the query result cache.
+	 * The ids are seeked in sorted order so the terms enum only moves forward and the documents of a segment are read in doc id order
+	 *
+	 * @return the source document for each fetch request in the order of the requests
+	 */
+	public ZuliaBase.ResultDocument[] getSourceDocuments(List<ZuliaServiceOuterClass.FetchRequest> fetchRequests) throws Exception {
+		int count = fetchRequests.size();
+		BytesRef[] ids = new BytesRef[count];
+		Integer[] idOrder = new Integer[count];
+		for (int i = 0; i < count; i++) {
+			ids[i] = new BytesRef(fetchRequests.get(i).getUniqueId());
+			idOrder[i] = i;
+		}
+		Arrays.sort(idOrder, Comparator.comparing(i -> ids[i]));
+
+		ZuliaBase.ResultDocument[] resultDocuments = new ZuliaBase.ResultDocument[count];
+		boolean[] found = new boolean[count];
 
-		ShardQuery shardQuery = ShardQuery.queryById(uniqueId, resultFetchType, fieldsToReturn, fieldsToMask);
+		for (LeafReaderContext leaf : indexReader.leaves()) {
+			LeafReader leafReader = leaf.reader();
+			Terms terms = leafReader.terms(ZuliaFieldConstants.ID_FIELD);
+			if (terms == null) {
+				continue;
+			}
 
-		ZuliaQuery.ShardQueryResponse segmentResponse = this.queryShard(shardQuery);
+			TermsEnum termsEnum = terms.iterator();
+			Bits liveDocs = leafReader.getLiveDocs();
+			PostingsEnum postingsEnum = null;
 
-		List<ZuliaQuery.ScoredResult> scoredResultList = segmentResponse.getScoredResultList();
-		if (!scoredResultList.isEmpty()) {
-			ZuliaQuery.ScoredResult scoredResult = scoredResultList.iterator().next();
-			if (scoredResult.hasResultDocument()) {
-				return scoredResult.getResultDocument();
+			//local doc id and request index of the ids found in this segment
+			List<int[]> leafDocs = new ArrayList<>();
+			for (int requestIndex : idOrder) {
+				if (found[requestIndex] || !termsEnum.seekExact(ids[requestIndex])) {
+					continue;
+				}
+
+				postingsEnum = termsEnum.postings(postingsEnum, PostingsEnum.NONE);
+				int localDocId;
+				while ((localDocId = postingsEnum.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+					if (liveDocs == null || liveDocs.get(localDocId)) {
+						leafDocs.add(new int[] { localDocId, requestIndex });
+						found[requestIndex] = true;
+						break;
+					}
+				}
+			}
+
+			if (leafDocs.isEmpty()) {
+				continue;
+			}
+
+			leafDocs.sort(Comparator.comparingInt(leafDoc -> leafDoc[0]));
+			Map<FetchSettings, DocumentScoredDocLeafHandler> documentHandlers = new HashMap<>();
+			for (int[] leafDoc : leafDocs) {
+				ZuliaServiceOuterClass.FetchRequest fetchRequest = fetchRequests.get(leafDoc[1]);
+				FetchSettings fetchSettings = new FetchSettings(fetchRequest.getResultFetchType(), fetchRequest.getDocumentFieldsList(),
+						fetchRequest.getDocumentMaskedFieldsList());
+
+				DocumentScoredDocLeafHandler documentHandler = documentHandlers.get(fetchSettings);
+				if (documentHandler == null) {
+					documentHandler = new DocumentScoredDocLeafHandler(indexName, shardNumber, fetchSettings.resultFetchType(),
+							fetchSettings.fieldsToReturn(), fetchSettings.fieldsToMask(), Collections.emptyList(), Collections.emptyList(),
+							Collections.emptyList());
+					documentHandler.handleNewLeaf(leaf);
+					documentHandlers.put(fetchSettings, documentHandler);
+				}
+
+				int docId = leaf.docBase + leafDoc[0];
+				ZuliaQuery.ScoredResult scoredResult = documentHandler.handleDocument(leaf, docId, leaf.docBase, new ScoreDoc(docId, 1.0f));
+				if (scoredResult.hasResultDocument()) {
+					resultDocuments[leafDoc[1]] = scoredResult.getResultDocument();
+				}
 			}
 		}
 
-		ZuliaBase.ResultDocument.Builder rdBuilder = ZuliaBase.ResultDocument.newBuilder();
-		rdBuilder.setUniqueId(uniqueId);
-		rdBuilder.setIndexName(indexName);
-		return rdBuilder.build();
+		for (int i = 0; i < count; i++) {
+			if (resultDocuments[i] == null) {
+				ZuliaBase.ResultDocument.Builder rdBuilder = ZuliaBase.ResultDocument.newBuilder();
+				rdBuilder.setUniqueId(fetchRequests.get(i).getUniqueId());
+				rdBuilder.setIndexName(indexName);
+				resultDocuments[i] = rdBuilder.build();
+			}
+		}
+		return resultDocuments;
 
 	}
 
@@ -601,6 +750,10 @@ public class ShardReader implements AutoCloseable {
 	public void decRef() throws IOException {
 		indexReader.decRef();
 		taxoReader.decRef();
+		if (indexReader.getRefCount() == 0) {
+			// this reader generation is gone so its cached results can never be served again, give the bytes back to the node budget
+			invalidateCaches();
+		}
 	}
 
 	public ShardReader refreshIfNeeded() throws IOException {
@@ -616,60 +769,183 @@ public class ShardReader implements AutoCloseable {
 				tr = taxoReader;
 			}
 
-			return new ShardReader(shardNumber, r, tr, indexConfig, zuliaPerFieldAnalyzer);
+			return new ShardReader(shardNumber, r, tr, indexConfig, zuliaPerFieldAnalyzer, queryResultCacheBudget);
 		}
 
 	}
 
-	public void streamAllDocs(Consumer<ReIndexContainer> documentConsumer) throws IOException {
+	/**
+	 * @return a copy of the stored id info, metadata and document of the live document with the unique id or null if there is none
+	 */
+	public ReIndexContainer getStoredDocument(String uniqueId) throws IOException {
+		return getStoredDocument(uniqueId, true);
+	}
 
+	/**
+	 * @return the stored id info of the live document with the unique id or null if there is none
+	 */
+	public ZuliaBase.IdInfo getStoredIdInfo(String uniqueId) throws IOException {
+		ReIndexContainer storedDocument = getStoredDocument(uniqueId, false);
+		return storedDocument != null ? storedDocument.getIdInfo() : null;
+	}
+
+	private ReIndexContainer getStoredDocument(String uniqueId, boolean withDocument) throws IOException {
+		BytesRef id = new BytesRef(uniqueId);
 		for (LeafReaderContext leaf : indexReader.leaves()) {
 			LeafReader leafReader = leaf.reader();
+			Terms terms = leafReader.terms(ZuliaFieldConstants.ID_FIELD);
+			if (terms == null) {
+				continue;
+			}
 
-			BinaryDocValues idDocValues = leafReader.getBinaryDocValues(ZuliaFieldConstants.STORED_ID_FIELD);
-			BinaryDocValues metaDocValues = leafReader.getBinaryDocValues(ZuliaFieldConstants.STORED_META_FIELD);
-			BinaryDocValues fullDocValues = leafReader.getBinaryDocValues(ZuliaFieldConstants.STORED_DOC_FIELD);
-
-			Bits leafLiveDocs = leafReader.getLiveDocs();
-			DocIdSetIterator allDocs = DocIdSetIterator.range(leaf.docBase, leaf.docBase + leafReader.maxDoc());
+			TermsEnum termsEnum = terms.iterator();
+			if (!termsEnum.seekExact(id)) {
+				continue;
+			}
 
-			if (leafLiveDocs != null) {
-				allDocs = new FilteredDocIdSetIterator(allDocs) {
-					@Override
-					protected boolean match(int doc) {
-						return leafLiveDocs.get(doc - leaf.docBase);
+			Bits liveDocs = leafReader.getLiveDocs();
+			PostingsEnum postingsEnum = termsEnum.postings(null, PostingsEnum.NONE);
+			int docId;
+			while ((docId = postingsEnum.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+				if (liveDocs == null || liveDocs.get(docId)) {
+					BytesRef idInfo = getBinaryValue(leafReader, ZuliaFieldConstants.STORED_ID_FIELD, docId);
+					if (!withDocument) {
+						return new ReIndexContainer(idInfo, null, null);
 					}
-				};
+					BytesRef meta = getBinaryValue(leafReader, ZuliaFieldConstants.STORED_META_FIELD, docId);
+					BytesRef fullDoc = getBinaryValue(leafReader, ZuliaFieldConstants.STORED_DOC_FIELD, docId);
+					return new ReIndexContainer(idInfo, meta, fullDoc);
+				}
 			}
-			int docId;
+		}
+		return null;
+	}
 
-			while ((docId = allDocs.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
-				docId = docId - leaf.docBase;
-				idDocValues.advanceExact(docId);
-				if (metaDocValues != null) {
-					metaDocValues.advanceExact(docId);
-				}
-				if (fullDocValues != null) {
-					fullDocValues.advanceExact(docId);
+	private static BytesRef getBinaryValue(LeafReader leafReader, String field, int docId) throws IOException {
+		BinaryDocValues docValues = leafReader.getBinaryDocValues(field);
+		if (docValues != null && docValues.advanceExact(docId)) {
+			return BytesRef.deepCopyOf(docValues.binaryValue());
+		}
+		return null;
+	}
+
+	public void streamAllDocs(Consumer<ReIndexContainer> documentConsumer) throws IOException {
+		streamDocs(null, documentConsumer);
+	}
+
+	/**
+	 * Streams the stored id info, metadata and document of the live documents matching the query or of all live documents if the query is null
+	 */
+	public void streamDocs(Query query, Consumer<ReIndexContainer> documentConsumer) throws IOException {
+
+		Weight weight = createWeight(query);
+
+		for (LeafReaderContext leaf : indexReader.leaves()) {
+			LeafReader leafReader = leaf.reader();
+
+			DocIdSetIterator docs;
+			if (weight != null) {
+				Scorer scorer = weight.scorer(leaf);
+				if (scorer == null) {
+					continue;
 				}
-				BytesRef meta = metaDocValues != null ? metaDocValues.binaryValue() : null;
-				BytesRef fullDoc = fullDocValues != null ? fullDocValues.binaryValue() : null;
-				documentConsumer.accept(new ReIndexContainer(idDocValues.binaryValue(), meta, fullDoc));
+				docs = scorer.iterator();
+			}
+			else {
+				docs = DocIdSetIterator.all(leafReader.maxDoc());
 			}
 
+			streamLeafDocs(leafReader, docs, documentConsumer);
 		}
 	}
 
+	/**
+	 * @return weight of the query that can be shared by threads streaming ranges of documents or null if the query is null
+	 */
+	public Weight createWeight(Query query) throws IOException {
+		if (query == null) {
+			return null;
+		}
+		IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+		return indexSearcher.createWeight(indexSearcher.rewrite(query), ScoreMode.COMPLETE_NO_SCORES, 1);
+	}
+
+	/**
+	 * Splits the documents into ranges of at most rangeSize documents of a single segment that can be streamed in parallel
+	 */
+	public List<DocRange> getDocRanges(int rangeSize) {
+		List<DocRange> docRanges = new ArrayList<>();
+		for (LeafReaderContext leaf : indexReader.leaves()) {
+			int maxDoc = leaf.reader().maxDoc();
+			for (int fromDoc = 0; fromDoc < maxDoc; fromDoc += rangeSize) {
+				docRanges.add(new DocRange(leaf.ord, fromDoc, Math.min(maxDoc, fromDoc + rangeSize)));
+			}
+		}
+		return docRanges;
+	}
+
+	/**
+	 * Streams the live documents of the range matching the weight or all live documents of the range if the weight is null
+	 */
+	public void streamDocs(DocRange docRange, Weight weight, Consumer<ReIndexContainer> documentConsumer) throws IOException {
+		LeafReaderContext leaf = indexReader.leaves().get(docRange.leafOrd());
+
+		DocIdSetIterator docs = DocIdSetIterator.range(docRange.fromDoc(), docRange.toDoc());
+		if (weight != null) {
+			Scorer scorer = weight.scorer(leaf);
+			if (scorer == null) {
+				return;
+			}
+			docs = ConjunctionUtils.intersectIterators(List.of(docs, scorer.iterator()));
+		}
+
+		streamLeafDocs(leaf.reader(), docs, documentConsumer);
+	}
+
+	private static void streamLeafDocs(LeafReader leafReader, DocIdSetIterator docs, Consumer<ReIndexContainer> documentConsumer) throws IOException {
+		BinaryDocValues idDocValues = leafReader.getBinaryDocValues(ZuliaFieldConstants.STORED_ID_FIELD);
+		BinaryDocValues metaDocValues = leafReader.getBinaryDocValues(ZuliaFieldConstants.STORED_META_FIELD);
+		BinaryDocValues fullDocValues = leafReader.getBinaryDocValues(ZuliaFieldConstants.STORED_DOC_FIELD);
+
+		Bits leafLiveDocs = leafReader.getLiveDocs();
+		if (leafLiveDocs != null) {
+			docs = new FilteredDocIdSetIterator(docs) {
+				@Override
+				protected boolean match(int doc) {
+					return leafLiveDocs.get(doc);
+				}
+			};
+		}
+		int docId;
+
+		while ((docId = docs.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+			idDocValues.advanceExact(docId);
+			if (metaDocValues != null) {
+				metaDocValues.advanceExact(docId);
+			}
+			if (fullDocValues != null) {
+				fullDocValues.advanceExact(docId);
+			}
+			BytesRef meta = metaDocValues != null ? metaDocValues.binaryValue() : null;
+			BytesRef fullDoc = fullDocValues != null ? fullDocValues.binaryValue() : null;
+			documentConsumer.accept(new ReIndexContainer(idDocValues.binaryValue(), meta, fullDoc));
+		}
+	}
+
+	public int countDocs(Query query) throws IOException {
+		return new IndexSearcher(indexReader).count(query);
+	}
+
 	public ZuliaBase.ShardCacheStats getShardCacheStats() {
-		return ZuliaBase.ShardCacheStats.newBuilder().setGeneralCache(getCacheStats(queryResultCache)).setPinnedCache(getCacheStats(pinnedQueryResultCache))
-				.build();
+		return ZuliaBase.ShardCacheStats.newBuilder().setGeneralCache(getCacheStats(queryResultCache, queryResultEvictedBytes))
+				.setPinnedCache(getCacheStats(pinnedQueryResultCache, pinnedQueryResultEvictedBytes)).build();
 	}
 
-	private static ZuliaBase.CacheStats getCacheStats(Cache<QueryCacheKey, ZuliaQuery.ShardQueryResponse.Builder> cache) {
+	private static ZuliaBase.CacheStats getCacheStats(Cache<QueryCacheKey, CachedShardQueryResponse> cache, LongAdder evictedBytes) {
 		CacheStats stats = cache.stats();
 
 		return ZuliaBase.CacheStats.newBuilder().setEstimatedSize(cache.estimatedSize()).setHitCount(stats.hitCount()).setMissCount(stats.missCount())
 				.setLoadSuccessCount(stats.loadSuccessCount()).setLoadFailureCount(stats.loadFailureCount()).setTotalLoadTime(stats.totalLoadTime())
-				.setEvictionCount(stats.evictionCount()).build();
+				.setEvictionCount(stats.evictionCount()).setEvictionWeight(evictedBytes.sum()).build();
 	}
 }
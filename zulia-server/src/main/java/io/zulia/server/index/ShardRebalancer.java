@@ -0,0 +1,234 @@
+package io.zulia.server.index;
+
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardStatsResponse;
+import io.zulia.message.ZuliaServiceOuterClass.ShardMove;
+import io.zulia.message.ZuliaServiceOuterClass.ShardStats;
+import io.zulia.server.node.ZuliaNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Plans moves of shard copies from the most loaded node to the least loaded node.  The load of a copy is the sum of its share of the cluster's
+ * on-disk size, document count, query rate and, for primaries, write rate, so every measure counts the same no matter its unit.  Rates are computed
+ * from the cumulative counters of two consecutive samples, so the first plan after a start only balances size and documents.  A copy is only
+ * moved if that lowers the difference between the two nodes, and never to a node that already has a copy of the shard.
+ */
+public class ShardRebalancer {
+
+	//replicas of a shard on different nodes have their own counters
+	private record CopyKey(String serverAddress, int servicePort, String indexName, int shardNumber, boolean primary) {
+
+	}
+
+	private record CounterSample(long queryCount, long writeCount, long timestamp, double queryRate, double writeRate) {
+
+	}
+
+	private static class ShardCopy {
+		private final ShardStats shardStats;
+		private final double queryRate;
+		private final double writeRate;
+		private double load;
+
+		private ShardCopy(ShardStats shardStats, double queryRate, double writeRate) {
+			this.shardStats = shardStats;
+			this.queryRate = queryRate;
+			this.writeRate = writeRate;
+		}
+	}
+
+	private final double threshold;
+	private final ConcurrentHashMap<CopyKey, CounterSample> previousSamples;
+
+	/**
+	 * @param threshold - nodes are balanced when the difference between the most and least loaded node is at most this fraction of the average load
+	 */
+	public ShardRebalancer(double threshold) {
+		this.threshold = threshold;
+		this.previousSamples = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * @param nodeStats   - shard stats of every active node
+	 * @param activeNodes - every active node that can be given shards including nodes without shards
+	 * @param maxMoves    - moves are planned one after another against the placement left by the previous move
+	 */
+	public List<ShardMove> planMoves(List<InternalGetShardStatsResponse> nodeStats, Collection<Node> activeNodes, int maxMoves) {
+		long now = System.currentTimeMillis();
+
+		List<Node> nodes = new ArrayList<>(activeNodes);
+		Map<Node, List<ShardCopy>> nodeCopies = new HashMap<>();
+		for (Node node : nodes) {
+			nodeCopies.put(node, new ArrayList<>());
+		}
+
+		List<ShardCopy> allCopies = new ArrayList<>();
+		for (InternalGetShardStatsResponse response : nodeStats) {
+			Node node = findNode(nodes, response.getNode());
+			if (node == null) {
+				continue;
+			}
+			for (ShardStats shardStats : response.getShardStatsList()) {
+				ShardCopy shardCopy = sample(node, shardStats, now);
+				nodeCopies.get(node).add(shardCopy);
+				allCopies.add(shardCopy);
+			}
+		}
+
+		computeLoads(allCopies);
+
+		List<ShardMove> moves = new ArrayList<>();
+		while (moves.size() < maxMoves) {
+			ShardMove move = planMove(nodes, nodeCopies);
+			if (move == null) {
+				break;
+			}
+			moves.add(move);
+		}
+		return moves;
+	}
+
+	private ShardCopy sample(Node node, ShardStats shardStats, long now) {
+		CopyKey copyKey = new CopyKey(node.getServerAddress(), node.getServicePort(), shardStats.getIndexName(), shardStats.getShardNumber(),
+				shardStats.getPrimary());
+		CounterSample previous = previousSamples.get(copyKey);
+
+		double queryRate = 0;
+		double writeRate = 0;
+		if (previous != null) {
+			long elapsed = now - previous.timestamp();
+			if (shardStats.getQueryCount() < previous.queryCount() || shardStats.getWriteCount() < previous.writeCount() || elapsed <= 0) {
+				//the copy was reloaded or moved and its counters started over, keep the last known rates
+				queryRate = previous.queryRate();
+				writeRate = previous.writeRate();
+			}
+			else {
+				queryRate = (shardStats.getQueryCount() - previous.queryCount()) * 1000.0 / elapsed;
+				writeRate = (shardStats.getWriteCount() - previous.writeCount()) * 1000.0 / elapsed;
+			}
+		}
+
+		previousSamples.put(copyKey, new CounterSample(shardStats.getQueryCount(), shardStats.getWriteCount(), now, queryRate, writeRate));
+		return new ShardCopy(shardStats, queryRate, writeRate);
+	}
+
+	private static void computeLoads(List<ShardCopy> allCopies) {
+		double totalSize = 0;
+		double totalDocs = 0;
+		double totalQueryRate = 0;
+		double totalWriteRate = 0;
+		for (ShardCopy shardCopy : allCopies) {
+			totalSize += shardCopy.shardStats.getSizeBytes();
+			totalDocs += shardCopy.shardStats.getNumberOfDocs();
+			totalQueryRate += shardCopy.queryRate;
+			if (shardCopy.shardStats.getPrimary()) {
+				totalWriteRate += shardCopy.writeRate;
+			}
+		}
+
+		for (ShardCopy shardCopy : allCopies) {
+			double load = 0;
+			load += share(shardCopy.shardStats.getSizeBytes(), totalSize);
+			load += share(shardCopy.shardStats.getNumberOfDocs(), totalDocs);
+			load += share(shardCopy.queryRate, totalQueryRate);
+			if (shardCopy.shardStats.getPrimary()) {
+				//replicas copy segments instead of indexing documents
+				load += share(shardCopy.writeRate, totalWriteRate);
+			}
+			shardCopy.load = load;
+		}
+	}
+
+	private static double share(double value, double total) {
+		return total > 0 ? value / total : 0;
+	}
+
+	private ShardMove planMove(List<Node> nodes, Map<Node, List<ShardCopy>> nodeCopies) {
+		if (nodes.size() < 2) {
+			return null;
+		}
+
+		Node hottest = null;
+		Node coldest = null;
+		double hottestLoad = -1;
+		double coldestLoad = Double.MAX_VALUE;
+		double totalLoad = 0;
+		for (Node node : nodes) {
+			double load = getLoad(nodeCopies.get(node));
+			totalLoad += load;
+			if (load > hottestLoad) {
+				hottest = node;
+				hottestLoad = load;
+			}
+			if (load < coldestLoad) {
+				coldest = node;
+				coldestLoad = load;
+			}
+		}
+
+		double averageLoad = totalLoad / nodes.size();
+		double difference = hottestLoad - coldestLoad;
+		if (averageLoad <= 0 || difference <= threshold * averageLoad) {
+			return null;
+		}
+
+		List<ShardCopy> coldestCopies = nodeCopies.get(coldest);
+		ShardCopy best = null;
+		for (ShardCopy shardCopy : nodeCopies.get(hottest)) {
+			//moving more than the difference would leave the pair further apart
+			if (shardCopy.load <= 0 || shardCopy.load >= difference || hasShard(coldestCopies, shardCopy.shardStats)) {
+				continue;
+			}
+			if (best == null || Math.abs(shardCopy.load - difference / 2) < Math.abs(best.load - difference / 2)) {
+				best = shardCopy;
+			}
+		}
+
+		if (best == null) {
+			return null;
+		}
+
+		nodeCopies.get(hottest).remove(best);
+		coldestCopies.add(best);
+
+		return ShardMove.newBuilder().setIndexName(best.shardStats.getIndexName()).setShardNumber(best.shardStats.getShardNumber())
+				.setPrimary(best.shardStats.getPrimary()).setFromNode(hottest).setToNode(coldest).setLoad(best.load).build();
+	}
+
+	private static double getLoad(List<ShardCopy> shardCopies) {
+		double load = 0;
+		for (ShardCopy shardCopy : shardCopies) {
+			load += shardCopy.load;
+		}
+		return load;
+	}
+
+	private static boolean hasShard(List<ShardCopy> shardCopies, ShardStats shardStats) {
+		for (ShardCopy shardCopy : shardCopies) {
+			if (shardCopy.shardStats.getIndexName().equals(shardStats.getIndexName()) && shardCopy.shardStats.getShardNumber() == shardStats.getShardNumber()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Node findNode(List<Node> nodes, Node node) {
+		for (Node n : nodes) {
+			if (ZuliaNode.isEqual(n, node)) {
+				return n;
+			}
+		}
+		return null;
+	}
+
+	public void removeIndex(String indexName) {
+		previousSamples.keySet().removeIf(copyKey -> copyKey.indexName().equals(indexName));
+	}
+
+}
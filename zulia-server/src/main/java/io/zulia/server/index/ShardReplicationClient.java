@@ -0,0 +1,21 @@
+package io.zulia.server.index;
+
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFileChunkRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFileChunkResponse;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFilesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFilesResponse;
+import io.zulia.message.ZuliaServiceOuterClass.InternalReleaseShardFilesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalReleaseShardFilesResponse;
+
+/**
+ * Connection from a replica shard to the node holding its primary
+ */
+public interface ShardReplicationClient {
+
+	InternalGetShardFilesResponse getShardFiles(InternalGetShardFilesRequest request) throws Exception;
+
+	InternalGetShardFileChunkResponse getShardFileChunk(InternalGetShardFileChunkRequest request) throws Exception;
+
+	InternalReleaseShardFilesResponse releaseShardFiles(InternalReleaseShardFilesRequest request) throws Exception;
+
+}
@@ -0,0 +1,156 @@
+package io.zulia.server.index;
+
+import com.google.protobuf.UnsafeByteOperations;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFileChunkRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFileChunkResponse;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFilesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFilesResponse;
+import io.zulia.message.ZuliaServiceOuterClass.InternalReleaseShardFilesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalReleaseShardFilesResponse;
+import io.zulia.message.ZuliaServiceOuterClass.ShardFile;
+import io.zulia.server.index.ShardWriteManager.CommitSnapshot;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves the files of a primary shard's latest commit to its replicas.  Listing the files snapshots the commit so the files stay on disk
+ * while the replica copies them, until the replica releases the session or the session is idle for longer than the timeout
+ */
+public class ShardReplicationSource {
+
+	private final static Logger LOG = LoggerFactory.getLogger(ShardReplicationSource.class);
+
+	private static final long SESSION_TIMEOUT_MS = 5 * 60 * 1000;
+	private static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
+
+	private static class Session {
+		private final CommitSnapshot commitSnapshot;
+		private volatile long lastAccess;
+
+		private Session(CommitSnapshot commitSnapshot) {
+			this.commitSnapshot = commitSnapshot;
+			this.lastAccess = System.currentTimeMillis();
+		}
+	}
+
+	private final ShardWriteManager shardWriteManager;
+	private final ConcurrentHashMap<String, Session> sessions;
+
+	public ShardReplicationSource(ShardWriteManager shardWriteManager) {
+		this.shardWriteManager = shardWriteManager;
+		this.sessions = new ConcurrentHashMap<>();
+	}
+
+	public InternalGetShardFilesResponse getShardFiles(InternalGetShardFilesRequest request) throws IOException {
+		expireSessions();
+
+		CommitSnapshot commitSnapshot = shardWriteManager.snapshotCommit();
+		if (commitSnapshot == null) {
+			return InternalGetShardFilesResponse.newBuilder().setChanged(false).build();
+		}
+
+		long indexGeneration = commitSnapshot.indexCommit().getGeneration();
+		long taxonomyGeneration = commitSnapshot.taxonomyCommit().getGeneration();
+		if (indexGeneration == request.getIndexGeneration() && taxonomyGeneration == request.getTaxonomyGeneration()) {
+			shardWriteManager.releaseCommit(commitSnapshot);
+			return InternalGetShardFilesResponse.newBuilder().setChanged(false).build();
+		}
+
+		InternalGetShardFilesResponse.Builder response = InternalGetShardFilesResponse.newBuilder().setChanged(true);
+		response.setIndexGeneration(indexGeneration).setTaxonomyGeneration(taxonomyGeneration);
+		try {
+			response.addAllIndexFile(getShardFiles(shardWriteManager.getIndexDirectory(), commitSnapshot.indexCommit()));
+			response.addAllTaxonomyFile(getShardFiles(shardWriteManager.getTaxoDirectory(), commitSnapshot.taxonomyCommit()));
+		}
+		catch (IOException | RuntimeException e) {
+			shardWriteManager.releaseCommit(commitSnapshot);
+			throw e;
+		}
+
+		String sessionId = UUID.randomUUID().toString();
+		sessions.put(sessionId, new Session(commitSnapshot));
+		return response.setSessionId(sessionId).build();
+	}
+
+	private static List<ShardFile> getShardFiles(Directory directory, IndexCommit indexCommit) throws IOException {
+		List<ShardFile> shardFiles = new ArrayList<>();
+		for (String fileName : indexCommit.getFileNames()) {
+			try (IndexInput input = directory.openInput(fileName, IOContext.READONCE)) {
+				long checksum = CodecUtil.retrieveChecksum(input);
+				shardFiles.add(ShardFile.newBuilder().setFileName(fileName).setLength(input.length()).setChecksum(checksum).build());
+			}
+		}
+		return shardFiles;
+	}
+
+	public InternalGetShardFileChunkResponse getShardFileChunk(InternalGetShardFileChunkRequest request) throws IOException {
+		Session session = sessions.get(request.getSessionId());
+		if (session == null) {
+			throw new IllegalStateException("Replication session <" + request.getSessionId() + "> does not exist or expired");
+		}
+		session.lastAccess = System.currentTimeMillis();
+
+		String fileName = request.getFileName();
+		IndexCommit indexCommit = request.getTaxonomy() ? session.commitSnapshot.taxonomyCommit() : session.commitSnapshot.indexCommit();
+		if (!indexCommit.getFileNames().contains(fileName)) {
+			throw new IllegalArgumentException("File <" + fileName + "> is not part of replication session <" + request.getSessionId() + ">");
+		}
+
+		Directory directory = request.getTaxonomy() ? shardWriteManager.getTaxoDirectory() : shardWriteManager.getIndexDirectory();
+		try (IndexInput input = directory.openInput(fileName, IOContext.READONCE)) {
+			long offset = request.getOffset();
+			if (offset < 0 || offset > input.length() || request.getLength() < 0) {
+				throw new IllegalArgumentException(
+						"Invalid chunk offset <" + offset + "> length <" + request.getLength() + "> for file <" + fileName + "> of length <" + input.length()
+								+ ">");
+			}
+
+			int length = (int) Math.min(Math.min(request.getLength(), MAX_CHUNK_SIZE), input.length() - offset);
+			byte[] data = new byte[length];
+			input.seek(offset);
+			input.readBytes(data, 0, length);
+			return InternalGetShardFileChunkResponse.newBuilder().setData(UnsafeByteOperations.unsafeWrap(data)).build();
+		}
+	}
+
+	public InternalReleaseShardFilesResponse releaseShardFiles(InternalReleaseShardFilesRequest request) throws IOException {
+		Session session = sessions.remove(request.getSessionId());
+		if (session != null) {
+			shardWriteManager.releaseCommit(session.commitSnapshot);
+		}
+		return InternalReleaseShardFilesResponse.newBuilder().build();
+	}
+
+	public void expireSessions() {
+		long now = System.currentTimeMillis();
+		for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+			if (now - entry.getValue().lastAccess > SESSION_TIMEOUT_MS && sessions.remove(entry.getKey(), entry.getValue())) {
+				LOG.warn("Replication session <" + entry.getKey() + "> expired for shard <" + shardWriteManager.getShardNumber() + "> of index <"
+						+ shardWriteManager.getIndexConfig().getIndexName() + ">");
+				try {
+					shardWriteManager.releaseCommit(entry.getValue().commitSnapshot);
+				}
+				catch (IOException e) {
+					LOG.error("Failed to release expired replication session <" + entry.getKey() + ">", e);
+				}
+			}
+		}
+	}
+
+	public void close() {
+		sessions.clear();
+	}
+
+}
@@ -0,0 +1,227 @@
+package io.zulia.server.index;
+
+import com.google.protobuf.ByteString;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFileChunkRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFilesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFilesResponse;
+import io.zulia.message.ZuliaServiceOuterClass.InternalReleaseShardFilesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.ShardFile;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Copies the files of the primary's latest commit into the directories of a replica shard.  Files the replica already has with the same length
+ * and checksum are skipped so after the first copy only segments written since the previous commit are transferred.  Each file is copied in chunks
+ * to a temporary name, verified against the checksum in its lucene footer and renamed into place.  The taxonomy is installed before the index
+ * and the segments_N files of each last, so the latest commit in the directories is always complete and its taxonomy covers every ordinal it uses.
+ */
+public class ShardReplicationTarget {
+
+	private final static Logger LOG = LoggerFactory.getLogger(ShardReplicationTarget.class);
+
+	private static final int CHUNK_SIZE = 1024 * 1024;
+	private static final String TEMP_SUFFIX = ".replicating";
+
+	private final ShardWriteManager shardWriteManager;
+	private final String indexName;
+	private final int shardNumber;
+
+	private long indexGeneration;
+	private long taxonomyGeneration;
+	private Set<String> indexFileNames;
+	private Set<String> taxonomyFileNames;
+
+	public ShardReplicationTarget(ShardWriteManager shardWriteManager) {
+		this.shardWriteManager = shardWriteManager;
+		this.indexName = shardWriteManager.getIndexConfig().getIndexName();
+		this.shardNumber = shardWriteManager.getShardNumber();
+		//always compare against the primary after a restart, unchanged files are skipped so this is cheap
+		this.indexGeneration = -1;
+		this.taxonomyGeneration = -1;
+	}
+
+	/**
+	 * @return true if a new commit was installed and the readers need to be refreshed
+	 */
+	public synchronized boolean replicate(ShardReplicationClient shardReplicationClient) throws Exception {
+
+		InternalGetShardFilesRequest request = InternalGetShardFilesRequest.newBuilder().setIndexName(indexName).setShardNumber(shardNumber)
+				.setIndexGeneration(indexGeneration).setTaxonomyGeneration(taxonomyGeneration).build();
+		InternalGetShardFilesResponse response = shardReplicationClient.getShardFiles(request);
+		if (!response.getChanged()) {
+			return false;
+		}
+
+		long start = System.currentTimeMillis();
+		String sessionId = response.getSessionId();
+		CopyStats copyStats = new CopyStats();
+		try {
+			copyFiles(shardReplicationClient, sessionId, true, shardWriteManager.getTaxoDirectory(), response.getTaxonomyFileList(), copyStats);
+			copyFiles(shardReplicationClient, sessionId, false, shardWriteManager.getIndexDirectory(), response.getIndexFileList(), copyStats);
+		}
+		finally {
+			try {
+				shardReplicationClient.releaseShardFiles(
+						InternalReleaseShardFilesRequest.newBuilder().setIndexName(indexName).setShardNumber(shardNumber).setSessionId(sessionId).build());
+			}
+			catch (Exception e) {
+				//the session expires on the primary
+				LOG.warn("Failed to release replication session <" + sessionId + "> for shard <" + shardNumber + "> of index <" + indexName + ">: "
+						+ e.getMessage());
+			}
+		}
+
+		indexGeneration = response.getIndexGeneration();
+		taxonomyGeneration = response.getTaxonomyGeneration();
+		indexFileNames = getFileNames(response.getIndexFileList());
+		taxonomyFileNames = getFileNames(response.getTaxonomyFileList());
+
+		LOG.info("Replicated commit <" + indexGeneration + "> of shard <" + shardNumber + "> for index <" + indexName + ">: copied <" + copyStats.files
+				+ "> files (" + copyStats.bytes + " bytes), skipped <" + copyStats.skipped + "> files in " + (System.currentTimeMillis() - start) + "ms");
+		return true;
+	}
+
+	/**
+	 * Deletes files that are not part of the last replicated commit.  Open readers keep their files readable on filesystems that allow deleting open
+	 * files, otherwise the delete fails and is retried after the next replicated commit
+	 */
+	public synchronized void deleteUnreferencedFiles() {
+		if (indexFileNames == null) {
+			return;
+		}
+		deleteUnreferencedFiles(shardWriteManager.getTaxoDirectory(), taxonomyFileNames);
+		deleteUnreferencedFiles(shardWriteManager.getIndexDirectory(), indexFileNames);
+	}
+
+	private void deleteUnreferencedFiles(Directory directory, Set<String> referencedFileNames) {
+		try {
+			for (String fileName : directory.listAll()) {
+				if (!referencedFileNames.contains(fileName) && !IndexWriter.WRITE_LOCK_NAME.equals(fileName)) {
+					try {
+						directory.deleteFile(fileName);
+					}
+					catch (IOException e) {
+						LOG.debug("Failed to delete unreferenced file <" + fileName + "> of shard <" + shardNumber + "> for index <" + indexName + ">: "
+								+ e.getMessage());
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			LOG.warn("Failed to list files of shard <" + shardNumber + "> for index <" + indexName + ">: " + e.getMessage());
+		}
+	}
+
+	private static class CopyStats {
+		private int files;
+		private int skipped;
+		private long bytes;
+	}
+
+	private void copyFiles(ShardReplicationClient shardReplicationClient, String sessionId, boolean taxonomy, Directory directory, List<ShardFile> shardFiles,
+			CopyStats copyStats) throws Exception {
+
+		List<ShardFile> segmentsFiles = new ArrayList<>();
+		for (ShardFile shardFile : shardFiles) {
+			if (shardFile.getFileName().startsWith(IndexFileNames.SEGMENTS)) {
+				segmentsFiles.add(shardFile);
+			}
+			else {
+				copyFileIfNeeded(shardReplicationClient, sessionId, taxonomy, directory, shardFile, copyStats);
+			}
+		}
+
+		for (ShardFile shardFile : segmentsFiles) {
+			copyFileIfNeeded(shardReplicationClient, sessionId, taxonomy, directory, shardFile, copyStats);
+		}
+
+		directory.syncMetaData();
+	}
+
+	private void copyFileIfNeeded(ShardReplicationClient shardReplicationClient, String sessionId, boolean taxonomy, Directory directory,
+			ShardFile shardFile, CopyStats copyStats) throws Exception {
+
+		if (hasFile(directory, shardFile)) {
+			copyStats.skipped++;
+			return;
+		}
+
+		String fileName = shardFile.getFileName();
+		String tempFileName = fileName + TEMP_SUFFIX;
+
+		//left behind if a previous copy failed
+		IOUtils.deleteFilesIgnoringExceptions(directory, tempFileName);
+
+		try {
+			try (IndexOutput output = directory.createOutput(tempFileName, IOContext.DEFAULT)) {
+				long offset = 0;
+				while (offset < shardFile.getLength()) {
+					int length = (int) Math.min(CHUNK_SIZE, shardFile.getLength() - offset);
+					InternalGetShardFileChunkRequest chunkRequest = InternalGetShardFileChunkRequest.newBuilder().setIndexName(indexName)
+							.setShardNumber(shardNumber).setSessionId(sessionId).setTaxonomy(taxonomy).setFileName(fileName).setOffset(offset).setLength(length)
+							.build();
+					ByteString data = shardReplicationClient.getShardFileChunk(chunkRequest).getData();
+					if (data.isEmpty()) {
+						throw new IOException("Primary returned no data for file <" + fileName + "> at offset <" + offset + ">");
+					}
+					byte[] bytes = data.toByteArray();
+					output.writeBytes(bytes, bytes.length);
+					offset += bytes.length;
+				}
+			}
+
+			try (IndexInput input = directory.openInput(tempFileName, IOContext.READONCE)) {
+				long checksum = CodecUtil.checksumEntireFile(input);
+				if (input.length() != shardFile.getLength() || checksum != shardFile.getChecksum()) {
+					throw new IOException(
+							"Copied file <" + fileName + "> does not match the primary: length <" + input.length() + "> expected <" + shardFile.getLength()
+									+ ">, checksum <" + checksum + "> expected <" + shardFile.getChecksum() + ">");
+				}
+			}
+
+			directory.sync(Collections.singletonList(tempFileName));
+			directory.rename(tempFileName, fileName);
+		}
+		catch (Exception e) {
+			IOUtils.deleteFilesIgnoringExceptions(directory, tempFileName);
+			throw e;
+		}
+
+		copyStats.files++;
+		copyStats.bytes += shardFile.getLength();
+	}
+
+	private static boolean hasFile(Directory directory, ShardFile shardFile) {
+		try (IndexInput input = directory.openInput(shardFile.getFileName(), IOContext.READONCE)) {
+			return input.length() == shardFile.getLength() && CodecUtil.retrieveChecksum(input) == shardFile.getChecksum();
+		}
+		catch (IOException e) {
+			//missing or truncated
+			return false;
+		}
+	}
+
+	private static Set<String> getFileNames(List<ShardFile> shardFiles) {
+		Set<String> fileNames = new HashSet<>();
+		for (ShardFile shardFile : shardFiles) {
+			fileNames.add(shardFile.getFileName());
+		}
+		return fileNames;
+	}
+
+}
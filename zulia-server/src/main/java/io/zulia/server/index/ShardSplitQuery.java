@@ -0,0 +1,92 @@
+package io.zulia.server.index;
+
+import io.zulia.ZuliaFieldConstants;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
+
+import java.io.IOException;
+
+/**
+ * Matches the documents whose unique id does not route to the given shard for the given number of shards.  Deleting the matches from a copy of a
+ * parent shard leaves exactly the documents of one child shard.  Walks the id terms once per segment instead of running a query per document.
+ */
+public class ShardSplitQuery extends Query {
+
+	private final int numberOfShards;
+	private final int shardNumber;
+
+	public ShardSplitQuery(int numberOfShards, int shardNumber) {
+		this.numberOfShards = numberOfShards;
+		this.shardNumber = shardNumber;
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+		return new ConstantScoreWeight(this, boost) {
+			@Override
+			public Scorer scorer(LeafReaderContext context) throws IOException {
+				LeafReader reader = context.reader();
+				Terms terms = reader.terms(ZuliaFieldConstants.ID_FIELD);
+				if (terms == null) {
+					return null;
+				}
+
+				FixedBitSet otherShardDocs = new FixedBitSet(reader.maxDoc());
+				TermsEnum termsEnum = terms.iterator();
+				PostingsEnum postingsEnum = null;
+				BytesRef term;
+				while ((term = termsEnum.next()) != null) {
+					if (MasterSlaveSelector.getShardForUniqueId(term.utf8ToString(), numberOfShards) != shardNumber) {
+						postingsEnum = termsEnum.postings(postingsEnum, PostingsEnum.NONE);
+						int doc;
+						while ((doc = postingsEnum.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+							otherShardDocs.set(doc);
+						}
+					}
+				}
+
+				return new ConstantScoreScorer(this, score(), scoreMode, new BitSetIterator(otherShardDocs, otherShardDocs.cardinality()));
+			}
+
+			@Override
+			public boolean isCacheable(LeafReaderContext ctx) {
+				return false;
+			}
+		};
+	}
+
+	@Override
+	public void visit(QueryVisitor visitor) {
+		visitor.visitLeaf(this);
+	}
+
+	@Override
+	public String toString(String field) {
+		return "ShardSplitQuery(shard=" + shardNumber + " of " + numberOfShards + ")";
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return sameClassAs(other) && numberOfShards == ((ShardSplitQuery) other).numberOfShards && shardNumber == ((ShardSplitQuery) other).shardNumber;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * classHash() + numberOfShards) + shardNumber;
+	}
+}
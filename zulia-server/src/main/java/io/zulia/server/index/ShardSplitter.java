@@ -0,0 +1,116 @@
+package io.zulia.server.index;
+
+import io.zulia.server.util.DeletingFileVisitor;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Builds the child shards of a shard for a number of shards that is a multiple of the current one.  Shard s of n becomes shards s, s + n, s + 2n ...
+ * which is where {@link MasterSlaveSelector#getShardForUniqueId(String, int)} routes its documents.  Each child starts as a hard link copy of the
+ * files of the parent's commit (a plain copy where links are not supported) and the documents that route to the other children are deleted from it.
+ * The taxonomy is linked unchanged since ordinals of documents that moved are never looked up.
+ */
+public class ShardSplitter {
+
+	private final static Logger LOG = LoggerFactory.getLogger(ShardSplitter.class);
+
+	public record ChildShard(int shardNumber, Path indexPath, Path taxoPath) {
+
+	}
+
+	private final String indexName;
+	private final int shardNumber;
+	private final int newNumberOfShards;
+
+	public ShardSplitter(String indexName, int shardNumber, int newNumberOfShards) {
+		this.indexName = indexName;
+		this.shardNumber = shardNumber;
+		this.newNumberOfShards = newNumberOfShards;
+	}
+
+	/**
+	 * Splits the primary's snapshot commit into the children.  Nothing may be written to the parent while this runs, otherwise the children miss those
+	 * writes
+	 */
+	public void splitPrimary(ShardWriteManager shardWriteManager, Path parentIndexPath, Path parentTaxoPath, List<ChildShard> childShards)
+			throws IOException {
+		ShardWriteManager.CommitSnapshot commitSnapshot = shardWriteManager.snapshotCommit();
+		if (commitSnapshot == null) {
+			throw new IllegalStateException("Shard <" + shardNumber + "> of index <" + indexName + "> has no commit to split");
+		}
+
+		try {
+			split(parentIndexPath, commitSnapshot.indexCommit().getFileNames(), parentTaxoPath, commitSnapshot.taxonomyCommit().getFileNames(), childShards);
+		}
+		finally {
+			shardWriteManager.releaseCommit(commitSnapshot);
+		}
+	}
+
+	/**
+	 * Splits the latest commit installed on the replica so it can serve the children before they are first replicated.  Files that match the children
+	 * on the primary are skipped by the next replication
+	 */
+	public void splitReplica(ShardWriteManager shardWriteManager, Path parentIndexPath, Path parentTaxoPath, List<ChildShard> childShards)
+			throws IOException {
+		Collection<String> indexFileNames = SegmentInfos.readLatestCommit(shardWriteManager.getIndexDirectory()).files(true);
+		Collection<String> taxoFileNames = SegmentInfos.readLatestCommit(shardWriteManager.getTaxoDirectory()).files(true);
+		split(parentIndexPath, indexFileNames, parentTaxoPath, taxoFileNames, childShards);
+	}
+
+	private void split(Path parentIndexPath, Collection<String> indexFileNames, Path parentTaxoPath, Collection<String> taxoFileNames,
+			List<ChildShard> childShards) throws IOException {
+		for (ChildShard childShard : childShards) {
+			long start = System.currentTimeMillis();
+
+			deleteDirectory(childShard.indexPath());
+			deleteDirectory(childShard.taxoPath());
+
+			linkFiles(parentTaxoPath, childShard.taxoPath(), taxoFileNames);
+			linkFiles(parentIndexPath, childShard.indexPath(), indexFileNames);
+
+			int remaining;
+			try (Directory directory = MMapDirectory.open(childShard.indexPath());
+					IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setOpenMode(IndexWriterConfig.OpenMode.APPEND))) {
+				indexWriter.deleteDocuments(new ShardSplitQuery(newNumberOfShards, childShard.shardNumber()));
+				indexWriter.commit();
+				remaining = indexWriter.getDocStats().numDocs;
+			}
+
+			LOG.info("Split shard <" + shardNumber + "> of index <" + indexName + "> into shard <" + childShard.shardNumber() + "> of <" + newNumberOfShards
+					+ "> with <" + remaining + "> documents in " + (System.currentTimeMillis() - start) + "ms");
+		}
+	}
+
+	static void linkFiles(Path from, Path to, Collection<String> fileNames) throws IOException {
+		Files.createDirectories(to);
+		for (String fileName : fileNames) {
+			Path source = from.resolve(fileName);
+			Path target = to.resolve(fileName);
+			try {
+				//commit files are never modified so the child can share them with the parent
+				Files.createLink(target, source);
+			}
+			catch (UnsupportedOperationException | IOException e) {
+				Files.copy(source, target);
+			}
+		}
+	}
+
+	public static void deleteDirectory(Path path) throws IOException {
+		if (Files.exists(path)) {
+			Files.walkFileTree(path, new DeletingFileVisitor());
+		}
+	}
+}
@@ -1,6 +1,9 @@
 package io.zulia.server.index;
 
 import io.zulia.ZuliaFieldConstants;
+import io.zulia.message.ZuliaIndex.BulkLoadSettings;
+import io.zulia.message.ZuliaIndex.IndexSettings;
+import io.zulia.message.ZuliaIndex.MergeSettings;
 import io.zulia.server.analysis.ZuliaPerFieldAnalyzer;
 import io.zulia.server.config.ServerIndexConfig;
 import org.apache.lucene.document.Document;
@@ -8,41 +11,116 @@ import org.apache.lucene.facet.taxonomy.directory.DirectoryTaxonomyReader;
 import org.apache.lucene.facet.taxonomy.directory.DirectoryTaxonomyWriter;
 import org.apache.lucene.facet.taxonomy.writercache.LruTaxonomyWriterCache;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.KeepOnlyLastCommitDeletionPolicy;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.index.TieredMergePolicy;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.NRTCachingDirectory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Manages the lucene index and taxonomy of a shard.  A primary shard owns the writers.  A replica shard only opens the directories read only
+ * and receives new commits by copying the files of the primary's commits into them (see {@link ShardReplicationTarget})
+ */
 public class ShardWriteManager {
 
+	/**
+	 * Taxonomy writer whose commits can be snapshotted so the files stay on disk while replicas copy them
+	 */
+	private static class SnapshotDirectoryTaxonomyWriter extends DirectoryTaxonomyWriter {
+
+		//assigned from the super constructor through createIndexWriterConfig and openIndexWriter so they can not be final or have an initializer
+		private SnapshotDeletionPolicy snapshotDeletionPolicy;
+		private IndexWriter taxoIndexWriter;
+
+		public SnapshotDirectoryTaxonomyWriter(Directory directory) throws IOException {
+			super(directory, IndexWriterConfig.OpenMode.CREATE_OR_APPEND, new LruTaxonomyWriterCache(32 * 1024 * 1024));
+		}
+
+		@Override
+		protected IndexWriterConfig createIndexWriterConfig(IndexWriterConfig.OpenMode openMode) {
+			IndexWriterConfig config = super.createIndexWriterConfig(openMode);
+			snapshotDeletionPolicy = new SnapshotDeletionPolicy(config.getIndexDeletionPolicy());
+			config.setIndexDeletionPolicy(snapshotDeletionPolicy);
+			return config;
+		}
+
+		@Override
+		protected IndexWriter openIndexWriter(Directory directory, IndexWriterConfig config) throws IOException {
+			taxoIndexWriter = super.openIndexWriter(directory, config);
+			return taxoIndexWriter;
+		}
+
+		public SnapshotDeletionPolicy getSnapshotDeletionPolicy() {
+			return snapshotDeletionPolicy;
+		}
+
+		/**
+		 * Deletes the files of taxonomy commits that are no longer snapshotted instead of waiting for the next taxonomy commit
+		 */
+		public void deleteUnusedFiles() throws IOException {
+			taxoIndexWriter.deleteUnusedFiles();
+		}
+	}
+
+	/**
+	 * Index and taxonomy commits held by a replication session.  The taxonomy commit is taken with the index commit under the commit lock
+	 * so it always contains every ordinal the index commit references
+	 */
+	public record CommitSnapshot(IndexCommit indexCommit, IndexCommit taxonomyCommit) {
+
+	}
+
 	private final static Logger LOG = LoggerFactory.getLogger(ShardWriteManager.class);
+
+	//commit user data key of the field configs and analyzers every document of the shard is indexed with
+	private static final String INDEXED_SETTINGS_KEY = "zuliaIndexedSettings";
+
 	private final ZuliaPerFieldAnalyzer zuliaPerFieldAnalyzer;
 	private final ShardDocumentIndexer shardDocumentIndexer;
 	private final ServerIndexConfig indexConfig;
+	private final QueryResultCacheBudget queryResultCacheBudget;
 	private final int shardNumber;
 	private final String indexName;
+	private final boolean primary;
 	private final AtomicLong counter;
 	private Long lastCommit;
 	private Long lastChange;
 	private Long lastWarm;
 	private IndexWriter indexWriter;
-	private DirectoryTaxonomyWriter taxoWriter;
+	private TieredMergePolicy mergePolicy;
+	private ShardMergeScheduler mergeScheduler;
+	private volatile boolean bulkLoad;
+	private SnapshotDeletionPolicy snapshotDeletionPolicy;
+	private SnapshotDirectoryTaxonomyWriter taxoWriter;
+	private TaxonomyOrdinalCache taxonomyOrdinalCache;
+	private Directory indexDirectory;
+	private Directory taxoDirectory;
 
 	public ShardWriteManager(int shardNumber, Path pathToIndex, Path pathToTaxoIndex, ServerIndexConfig indexConfig,
-			ZuliaPerFieldAnalyzer zuliaPerFieldAnalyzer) throws IOException {
+			ZuliaPerFieldAnalyzer zuliaPerFieldAnalyzer, QueryResultCacheBudget queryResultCacheBudget, boolean primary) throws IOException {
 
 		this.shardNumber = shardNumber;
+		this.primary = primary;
 		this.zuliaPerFieldAnalyzer = zuliaPerFieldAnalyzer;
 		this.indexConfig = indexConfig;
+		this.queryResultCacheBudget = queryResultCacheBudget;
 		this.indexName = indexConfig.getIndexName();
 
 		this.shardDocumentIndexer = new ShardDocumentIndexer(indexConfig);
@@ -52,8 +130,13 @@ public class ShardWriteManager {
 		this.lastChange = null;
 		this.lastWarm = null;
 
-		openIndexWriter(pathToIndex);
-		openTaxoWriter(pathToTaxoIndex);
+		if (primary) {
+			openIndexWriter(pathToIndex);
+			openTaxoWriter(pathToTaxoIndex);
+		}
+		else {
+			openReplicaDirectories(pathToIndex, pathToTaxoIndex);
+		}
 
 		updateIndexSettings();
 
@@ -67,31 +150,131 @@ public class ShardWriteManager {
 		return indexConfig;
 	}
 
+	public boolean isPrimary() {
+		return primary;
+	}
+
+	public Directory getIndexDirectory() {
+		return primary ? indexWriter.getDirectory() : indexDirectory;
+	}
+
+	public Directory getTaxoDirectory() {
+		return primary ? taxoWriter.getDirectory() : taxoDirectory;
+	}
+
+	/**
+	 * @return bytes used by the files of the index and taxonomy, including files of older commits that are not deleted yet
+	 */
+	public long getSizeBytes() throws IOException {
+		return getSizeBytes(getIndexDirectory()) + getSizeBytes(getTaxoDirectory());
+	}
+
+	private static long getSizeBytes(Directory directory) throws IOException {
+		long sizeBytes = 0;
+		for (String fileName : directory.listAll()) {
+			try {
+				sizeBytes += directory.fileLength(fileName);
+			}
+			catch (NoSuchFileException | FileNotFoundException e) {
+				//deleted after listing
+			}
+		}
+		return sizeBytes;
+	}
+
+	/**
+	 * @return generation of the latest commit in the index directory, a replica has caught up with its primary when they are equal
+	 */
+	public long getCommitGeneration() throws IOException {
+		return SegmentInfos.getLastCommitGeneration(getIndexDirectory());
+	}
+
 	private void openIndexWriter(Path pathToIndex) throws IOException {
 
 		Directory d = MMapDirectory.open(pathToIndex);
 
 		IndexWriterConfig config = new IndexWriterConfig(zuliaPerFieldAnalyzer);
-		config.setIndexDeletionPolicy(new KeepOnlyLastCommitDeletionPolicy());
+		this.snapshotDeletionPolicy = new SnapshotDeletionPolicy(new KeepOnlyLastCommitDeletionPolicy());
+		config.setIndexDeletionPolicy(snapshotDeletionPolicy);
 		config.setMaxBufferedDocs(Integer.MAX_VALUE);
 		config.setRAMBufferSizeMB(128); // should be overwritten by ZuliaShard.updateIndexSettings()
 		config.setUseCompoundFile(false);
+		//tuned by updateIndexSettings() from the merge settings of the index
+		this.mergePolicy = new TieredMergePolicy();
+		this.mergeScheduler = new ShardMergeScheduler();
+		config.setMergePolicy(mergePolicy);
+		config.setMergeScheduler(mergeScheduler);
 
 		NRTCachingDirectory nrtCachingDirectory = new NRTCachingDirectory(d, 50, 150);
 
 		this.indexWriter = new IndexWriter(nrtCachingDirectory, config);
 
+		if (getIndexedSettings() == null && indexWriter.getDocStats().maxDoc == 0) {
+			setIndexedSettings(indexConfig.getIndexSettings());
+		}
+
+	}
+
+	/**
+	 * @return field configs and analyzers every document of the shard is indexed with, null if unknown because the shard has documents indexed
+	 * before they were recorded
+	 */
+	public IndexSettings getIndexedSettings() throws IOException {
+		Iterable<Map.Entry<String, String>> commitData = indexWriter.getLiveCommitData();
+		if (commitData != null) {
+			for (Map.Entry<String, String> entry : commitData) {
+				if (INDEXED_SETTINGS_KEY.equals(entry.getKey())) {
+					return IndexSettings.parseFrom(Base64.getDecoder().decode(entry.getValue()));
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Records the field configs and analyzers of the settings as the ones every document of the shard is indexed with.  Written with the next commit
+	 */
+	public void setIndexedSettings(IndexSettings indexSettings) {
+		IndexSettings indexedSettings = IndexSettings.newBuilder().addAllFieldConfig(indexSettings.getFieldConfigList())
+				.addAllAnalyzerSettings(indexSettings.getAnalyzerSettingsList()).build();
+
+		Map<String, String> commitData = new HashMap<>();
+		Iterable<Map.Entry<String, String>> liveCommitData = indexWriter.getLiveCommitData();
+		if (liveCommitData != null) {
+			for (Map.Entry<String, String> entry : liveCommitData) {
+				commitData.put(entry.getKey(), entry.getValue());
+			}
+		}
+		commitData.put(INDEXED_SETTINGS_KEY, Base64.getEncoder().encodeToString(indexedSettings.toByteArray()));
+		indexWriter.setLiveCommitData(commitData.entrySet());
 	}
 
 	private void openTaxoWriter(Path pathToTaxo) throws IOException {
 		Directory d = MMapDirectory.open(pathToTaxo);
 		NRTCachingDirectory nrtCachingDirectory = new NRTCachingDirectory(d, 5, 15);
-		this.taxoWriter = new DirectoryTaxonomyWriter(nrtCachingDirectory, IndexWriterConfig.OpenMode.CREATE_OR_APPEND,
-				new LruTaxonomyWriterCache(32 * 1024 * 1024));
+		this.taxoWriter = new SnapshotDirectoryTaxonomyWriter(nrtCachingDirectory);
+		this.taxonomyOrdinalCache = new TaxonomyOrdinalCache(taxoWriter, getTaxonomyCacheSize());
 
 	}
 
-	public void close() throws IOException {
+	private void openReplicaDirectories(Path pathToIndex, Path pathToTaxo) throws IOException {
+		this.indexDirectory = MMapDirectory.open(pathToIndex);
+		this.taxoDirectory = MMapDirectory.open(pathToTaxo);
+
+		//readers can not be opened on an empty directory so a replica that has not copied anything from the primary yet starts with an empty commit
+		if (!DirectoryReader.indexExists(indexDirectory)) {
+			try (IndexWriter emptyWriter = new IndexWriter(indexDirectory, new IndexWriterConfig(zuliaPerFieldAnalyzer))) {
+				emptyWriter.commit();
+			}
+		}
+		if (!DirectoryReader.indexExists(taxoDirectory)) {
+			try (DirectoryTaxonomyWriter emptyTaxoWriter = new DirectoryTaxonomyWriter(taxoDirectory)) {
+				emptyTaxoWriter.commit();
+			}
+		}
+	}
+
+	public synchronized void close() throws IOException {
 		if (indexWriter != null) {
 			Directory directory = indexWriter.getDirectory();
 
@@ -110,16 +293,33 @@ public class ShardWriteManager {
 			directory.close();
 
 		}
+		if (indexDirectory != null) {
+			indexDirectory.close();
+			indexDirectory = null;
+		}
+		if (taxoDirectory != null) {
+			taxoDirectory.close();
+			taxoDirectory = null;
+		}
 	}
 
 	public ShardReader createShardReader() throws IOException {
-		DirectoryReader indexReader = DirectoryReader.open(indexWriter);
-		DirectoryTaxonomyReader taxoReader = new DirectoryTaxonomyReader(taxoWriter);
+		DirectoryReader indexReader;
+		DirectoryTaxonomyReader taxoReader;
+		if (primary) {
+			indexReader = DirectoryReader.open(indexWriter);
+			taxoReader = new DirectoryTaxonomyReader(taxoWriter);
+		}
+		else {
+			//reopened from the latest commit in the directories after the replica installs a new commit from the primary
+			indexReader = DirectoryReader.open(indexDirectory);
+			taxoReader = new DirectoryTaxonomyReader(taxoDirectory);
+		}
 		taxoReader.setCacheSize(128000);
-		return new ShardReader(shardNumber, indexReader, taxoReader, indexConfig, zuliaPerFieldAnalyzer);
+		return new ShardReader(shardNumber, indexReader, taxoReader, indexConfig, zuliaPerFieldAnalyzer, queryResultCacheBudget);
 	}
 
-	public void commit() throws IOException {
+	public synchronized void commit() throws IOException {
 		LOG.info("Committing shard <" + shardNumber + "> for index <" + indexName + ">");
 
 		long currentTime = System.currentTimeMillis();
@@ -129,7 +329,59 @@ public class ShardWriteManager {
 		lastCommit = currentTime;
 	}
 
+	/**
+	 * Holds the latest index and taxonomy commits so their files are not deleted until {@link #releaseCommit(CommitSnapshot)} is called
+	 *
+	 * @return the snapshot or null if the shard has not been committed yet
+	 */
+	public synchronized CommitSnapshot snapshotCommit() throws IOException {
+		if (!primary) {
+			throw new IllegalStateException("Cannot snapshot replica:  index <" + indexName + "> shard <" + shardNumber + ">");
+		}
+
+		IndexCommit indexCommit;
+		try {
+			indexCommit = snapshotDeletionPolicy.snapshot();
+		}
+		catch (IllegalStateException e) {
+			//no commit yet
+			return null;
+		}
+
+		try {
+			IndexCommit taxonomyCommit = taxoWriter.getSnapshotDeletionPolicy().snapshot();
+			return new CommitSnapshot(indexCommit, taxonomyCommit);
+		}
+		catch (IllegalStateException e) {
+			//only possible if the node stopped between the first index commit and the first taxonomy commit
+			snapshotDeletionPolicy.release(indexCommit);
+			return null;
+		}
+	}
+
+	public synchronized void releaseCommit(CommitSnapshot commitSnapshot) throws IOException {
+		if (indexWriter == null) {
+			//shard was closed, the files of the snapshot are cleaned up on the next open
+			return;
+		}
+		snapshotDeletionPolicy.release(commitSnapshot.indexCommit());
+		taxoWriter.getSnapshotDeletionPolicy().release(commitSnapshot.taxonomyCommit());
+		indexWriter.deleteUnusedFiles();
+		taxoWriter.deleteUnusedFiles();
+	}
+
+	/**
+	 * Called on a replica after a new commit from the primary is installed so the warming searches are run against it
+	 */
+	public void replicaUpdated() {
+		lastWarm = null;
+	}
+
 	public boolean needsIdleCommit() {
+		if (bulkLoad) {
+			return false;
+		}
+
 		long currentTime = System.currentTimeMillis();
 
 		long msIdleWithoutCommit = indexConfig.getIndexSettings().getIdleTimeWithoutCommit() * 1000L;
@@ -149,6 +401,10 @@ public class ShardWriteManager {
 	}
 
 	public boolean needsSearchWarming() {
+		if (bulkLoad) {
+			return false;
+		}
+
 		long currentTime = System.currentTimeMillis();
 
 		long msAfterCommitToWarm = indexConfig.getIndexSettings().getIdleTimeWithoutCommit() * 1000L;
@@ -183,16 +439,61 @@ public class ShardWriteManager {
 		lastChange = System.currentTimeMillis();
 
 		long count = counter.incrementAndGet();
-		return (count % indexConfig.getIndexSettings().getShardCommitInterval()) == 0;
+		return !bulkLoad && (count % indexConfig.getIndexSettings().getShardCommitInterval()) == 0;
 
 	}
 
 	public void updateIndexSettings() {
-		int ramBufferMB = indexConfig.getRAMBufferMB() != 0 ? indexConfig.getRAMBufferMB() : 128;
-		indexWriter.getConfig().setRAMBufferSizeMB(ramBufferMB);
+		BulkLoadSettings bulkLoadSettings = indexConfig.getIndexSettings().getBulkLoadSettings();
+		bulkLoad = indexWriter != null && bulkLoadSettings.getEnabled();
+
+		if (indexWriter != null) {
+			int ramBufferMB = indexConfig.getRAMBufferMB() != 0 ? indexConfig.getRAMBufferMB() : 128;
+			if (bulkLoad) {
+				ramBufferMB = bulkLoadSettings.getRamBufferMB() != 0 ? bulkLoadSettings.getRamBufferMB() : 1024;
+			}
+			indexWriter.getConfig().setRAMBufferSizeMB(ramBufferMB);
+
+			MergeSettings mergeSettings = indexConfig.getIndexSettings().getMergeSettings();
+			ShardMergeScheduler.applySettings(mergePolicy, mergeSettings);
+			if (bulkLoad) {
+				double maxMergedSegmentMB = bulkLoadSettings.getMaxMergedSegmentMB() > 0 ? bulkLoadSettings.getMaxMergedSegmentMB() : 20 * 1024;
+				mergePolicy.setMaxMergedSegmentMB(maxMergedSegmentMB);
+			}
+			mergeScheduler.applySettings(mergeSettings);
+
+			taxonomyOrdinalCache.setMaxSize(getTaxonomyCacheSize());
+		}
 		lastWarm = null;
 	}
 
+	private int getTaxonomyCacheSize() {
+		int taxonomyCacheSize = indexConfig.getIndexSettings().getTaxonomyCacheSize();
+		return taxonomyCacheSize != 0 ? taxonomyCacheSize : TaxonomyOrdinalCache.DEFAULT_SIZE;
+	}
+
+	/**
+	 * @return facet label ordinal cache of the primary's taxonomy writer or null for a replica
+	 */
+	public TaxonomyOrdinalCache getTaxonomyOrdinalCache() {
+		return taxonomyOrdinalCache;
+	}
+
+	/**
+	 * @return true if the primary is bulk loading.  Commits, refreshes for searches and warming wait until bulk load is disabled, a large ram
+	 * buffer flushes segments that are too large for the near real time cache directly to disk
+	 */
+	public boolean isBulkLoad() {
+		return bulkLoad;
+	}
+
+	/**
+	 * @return merge scheduler of the primary's writer or null for a replica
+	 */
+	public ShardMergeScheduler getMergeScheduler() {
+		return mergeScheduler;
+	}
+
 	public void deleteDocuments(String uniqueId) throws IOException {
 		Term term = new Term(ZuliaFieldConstants.ID_FIELD, uniqueId);
 		indexWriter.deleteDocuments(term);
@@ -205,10 +506,11 @@ public class ShardWriteManager {
 
 	public void deleteAll() throws IOException {
 		indexWriter.deleteAll();
+		setIndexedSettings(indexConfig.getIndexSettings());
 	}
 
 	public void indexDocument(String uniqueId, long timestamp, DocumentContainer mongoDocument, DocumentContainer metadata) throws Exception {
-		Document luceneDocument = shardDocumentIndexer.getIndexDocument(uniqueId, timestamp, mongoDocument, metadata, taxoWriter);
+		Document luceneDocument = shardDocumentIndexer.getIndexDocument(uniqueId, timestamp, mongoDocument, metadata, taxonomyOrdinalCache);
 		Term updateQuery = new Term(ZuliaFieldConstants.ID_FIELD, uniqueId);
 		indexWriter.updateDocument(updateQuery, luceneDocument);
 
@@ -0,0 +1,54 @@
+package io.zulia.server.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.zulia.message.ZuliaBase;
+import org.apache.lucene.facet.taxonomy.FacetLabel;
+import org.apache.lucene.facet.taxonomy.directory.DirectoryTaxonomyWriter;
+
+import java.io.IOException;
+
+/**
+ * Read through cache of the ordinals of facet labels in front of the taxonomy writer of a shard.  A hit does not lock, only a miss adds the category
+ * through the writer, which serializes on its lock.  Ordinals never change once assigned, so entries are never stale.
+ */
+public class TaxonomyOrdinalCache {
+
+	public static final int DEFAULT_SIZE = 100000;
+
+	private final DirectoryTaxonomyWriter taxoWriter;
+	private final Cache<FacetLabel, int[]> cache;
+
+	public TaxonomyOrdinalCache(DirectoryTaxonomyWriter taxoWriter, int maxSize) {
+		this.taxoWriter = taxoWriter;
+		this.cache = Caffeine.newBuilder().maximumSize(maxSize).recordStats().build();
+	}
+
+	/**
+	 * @return ordinal of the label followed by the ordinals of its ancestors below the dimension
+	 */
+	public int[] getOrdinals(FacetLabel facetLabel) throws IOException {
+		int[] ordinals = cache.getIfPresent(facetLabel);
+		if (ordinals == null) {
+			//two threads can miss on the same label, adding a category that exists returns its ordinal
+			ordinals = new int[Math.max(facetLabel.length - 1, 1)];
+			ordinals[0] = taxoWriter.addCategory(facetLabel);
+			for (int i = 1; i < ordinals.length; i++) {
+				ordinals[i] = taxoWriter.getParent(ordinals[i - 1]);
+			}
+			cache.put(facetLabel, ordinals);
+		}
+		return ordinals;
+	}
+
+	public void setMaxSize(int maxSize) {
+		cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maxSize));
+	}
+
+	public ZuliaBase.CacheStats getCacheStats() {
+		CacheStats stats = cache.stats();
+		return ZuliaBase.CacheStats.newBuilder().setEstimatedSize(cache.estimatedSize()).setHitCount(stats.hitCount()).setMissCount(stats.missCount())
+				.setEvictionCount(stats.evictionCount()).build();
+	}
+}
@@ -1,5 +1,7 @@
 package io.zulia.server.index;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.protobuf.ProtocolStringList;
 import io.zulia.ZuliaFieldConstants;
 import io.zulia.message.ZuliaBase;
@@ -32,7 +34,9 @@ import io.zulia.server.config.ServerIndexConfig;
 import io.zulia.server.config.SortFieldInfo;
 import io.zulia.server.config.ZuliaConfig;
 import io.zulia.server.exceptions.IndexDoesNotExistException;
+import io.zulia.server.exceptions.IndexReshardedException;
 import io.zulia.server.exceptions.ShardDoesNotExistException;
+import io.zulia.server.exceptions.WrappedCheckedException;
 import io.zulia.server.field.FieldTypeUtil;
 import io.zulia.server.filestorage.DocumentStorage;
 import io.zulia.server.search.QueryCacheKey;
@@ -40,7 +44,7 @@ import io.zulia.server.search.ShardQuery;
 import io.zulia.server.search.queryparser.SetQueryHelper;
 import io.zulia.server.search.queryparser.ZuliaFlexibleQueryParser;
 import io.zulia.server.util.DeletingFileVisitor;
-import io.zulia.util.ZuliaThreadFactory;
+import io.zulia.util.pool.TaskExecutor;
 import org.apache.commons.pool2.BasePooledObjectFactory;
 import org.apache.commons.pool2.PooledObject;
 import org.apache.commons.pool2.impl.DefaultPooledObject;
@@ -50,6 +54,7 @@ import org.apache.lucene.expressions.SimpleBindings;
 import org.apache.lucene.expressions.js.JavascriptCompiler;
 import org.apache.lucene.facet.FacetsConfig;
 import org.apache.lucene.facet.taxonomy.FacetLabel;
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.queries.function.FunctionScoreQuery;
 import org.apache.lucene.queryparser.classic.ParseException;
@@ -70,9 +75,11 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -80,40 +87,71 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 public class ZuliaIndex {
 
 	private final static Logger LOG = LoggerFactory.getLogger(ZuliaIndex.class);
+
+	private static final int SCORE_FUNCTION_CACHE_SIZE = 1024;
+	private static final int PARSED_QUERY_CACHE_SIZE = 10000;
+	private static final int BLOCKED_WRITE_WAIT_MINUTES = 10;
+	private static final int UPDATE_PROGRESS_INTERVAL_MS = 10000;
+	private static final int DELETE_BATCH_SIZE = 10000;
+
+	/**
+	 * Key for parsed user queries.  The config version is included so a parse that races a settings reload is never served afterward
+	 */
+	private record ParsedQueryKey(String queryText, List<String> defaultFields, ZuliaQuery.Query.Operator defaultOperator, int minimumShouldMatch,
+			long configVersion) {
+
+	}
+
+	private record SplitState(int numberOfShards, Set<Integer> shardNumbers) {
+
+	}
+
 	private final ServerIndexConfig indexConfig;
 	private final GenericObjectPool<ZuliaFlexibleQueryParser> parsers;
 	private final ConcurrentHashMap<Integer, ZuliaShard> primaryShardMap;
 	private final ConcurrentHashMap<Integer, ZuliaShard> replicaShardMap;
-	private final ExecutorService shardPool;
+	private final TaskExecutor searchPool;
+	private final TaskExecutor reindexPool;
 	private final int numberOfShards;
 	private final String indexName;
 	private final DocumentStorage documentStorage;
 	private final ZuliaConfig zuliaConfig;
-	private final Timer commitTimer;
-	private final TimerTask commitTask;
-	private final Timer warmTimer;
-	private final TimerTask warmTask;
+	private final ScheduledFuture<?> commitTask;
+	private final ScheduledFuture<?> warmTask;
 	private final ZuliaPerFieldAnalyzer zuliaPerFieldAnalyzer;
 	private final IndexService indexService;
-	private final IndexShardMapping indexShardMapping;
+	private volatile IndexShardMapping indexShardMapping;
+	private final QueryResultCacheBudget queryResultCacheBudget;
+	private final AtomicLong configVersion;
+	private final Cache<String, DoubleValuesSource> scoreFunctionCache;
+	private final Cache<ParsedQueryKey, Query> parsedQueryCache;
+	private final ReentrantReadWriteLock writeBlockLock;
+	//completes with true when blocked writes have to be routed again because shards were split or moved and false when they can go ahead
+	private volatile CompletableFuture<Boolean> writeBlock;
+	private volatile SplitState splitState;
 
 	public ZuliaIndex(ZuliaConfig zuliaConfig, ServerIndexConfig indexConfig, DocumentStorage documentStorage, IndexService indexService,
-			IndexShardMapping indexShardMapping) {
+			IndexShardMapping indexShardMapping, QueryResultCacheBudget queryResultCacheBudget, NodeExecutors nodeExecutors) {
 
 		this.zuliaConfig = zuliaConfig;
+		this.queryResultCacheBudget = queryResultCacheBudget;
 		this.indexConfig = indexConfig;
 		this.indexName = indexConfig.getIndexName();
 		this.numberOfShards = indexConfig.getNumberOfShards();
@@ -122,7 +160,8 @@ public class ZuliaIndex {
 
 		this.documentStorage = documentStorage;
 
-		this.shardPool = Executors.newCachedThreadPool(new ZuliaThreadFactory(indexName + "-shards"));
+		this.searchPool = nodeExecutors.getSearchPool();
+		this.reindexPool = nodeExecutors.getReindexPool();
 
 		this.zuliaPerFieldAnalyzer = new ZuliaPerFieldAnalyzer(indexConfig);
 
@@ -140,42 +179,31 @@ public class ZuliaIndex {
 
 		});
 
+		this.configVersion = new AtomicLong();
+		this.scoreFunctionCache = Caffeine.newBuilder().maximumSize(SCORE_FUNCTION_CACHE_SIZE).build();
+		this.parsedQueryCache = Caffeine.newBuilder().maximumSize(PARSED_QUERY_CACHE_SIZE).build();
+
 		this.primaryShardMap = new ConcurrentHashMap<>();
 		this.replicaShardMap = new ConcurrentHashMap<>();
+		this.writeBlockLock = new ReentrantReadWriteLock();
 
-		commitTimer = new Timer(indexName + "-CommitTimer", true);
-
-		commitTask = new TimerTask() {
-
-			@Override
-			public void run() {
-				if (ZuliaIndex.this.indexConfig.getIndexSettings().getIdleTimeWithoutCommit() != 0) {
-					doCommit(false);
-				}
-
+		commitTask = nodeExecutors.scheduleWithFixedDelay(indexName + "-commit", () -> {
+			if (ZuliaIndex.this.indexConfig.getIndexSettings().getIdleTimeWithoutCommit() != 0) {
+				doCommit(false);
 			}
-
-		};
-
-		commitTimer.scheduleAtFixedRate(commitTask, 1000, 1000);
-
-		warmTimer = new Timer(indexName + "-WarmTimer", true);
-
-		warmTask = new TimerTask() {
-
-			@Override
-			public void run() {
-				for (ZuliaShard shard : primaryShardMap.values()) {
-					shard.tryWarmSearches(ZuliaIndex.this, true);
-				}
-				for (ZuliaShard shard : replicaShardMap.values()) {
-					shard.tryWarmSearches(ZuliaIndex.this, false);
-				}
+			for (ZuliaShard shard : primaryShardMap.values()) {
+				shard.expireReplicationSessions();
 			}
+		}, 1000);
 
-		};
-
-		warmTimer.scheduleAtFixedRate(warmTask, 1000, 1000);
+		warmTask = nodeExecutors.scheduleWithFixedDelay(indexName + "-warm", () -> {
+			for (ZuliaShard shard : primaryShardMap.values()) {
+				shard.tryWarmSearches(ZuliaIndex.this, true);
+			}
+			for (ZuliaShard shard : replicaShardMap.values()) {
+				shard.tryWarmSearches(ZuliaIndex.this, false);
+			}
+		}, 1000);
 
 	}
 
@@ -204,21 +232,15 @@ public class ZuliaIndex {
 
 	public void unload(boolean terminate) throws IOException {
 
-		LOG.info("Canceling timers for <" + indexName + ">");
-		commitTask.cancel();
-		commitTimer.cancel();
-
-		warmTask.cancel();
-		warmTimer.cancel();
+		LOG.info("Canceling scheduled tasks for <" + indexName + ">");
+		commitTask.cancel(false);
+		warmTask.cancel(false);
 
 		if (!terminate) {
 			LOG.info("Committing <" + indexName + ">");
 			doCommit(true);
 		}
 
-		LOG.info("Shutting down shard pool for <" + indexName + ">");
-		shardPool.shutdownNow();
-
 		for (Integer shardNumber : primaryShardMap.keySet()) {
 			LOG.info("Unloading primary shard <" + shardNumber + "> for <" + indexName + ">");
 			unloadShard(shardNumber);
@@ -243,14 +265,14 @@ public class ZuliaIndex {
 				LOG.info("Deleted replica shard <" + shardNumber + "> for <" + indexName + ">");
 			}
 		}
-		LOG.info("Shut down shard pool for <" + indexName + ">");
+		LOG.info("Unloaded shards for <" + indexName + ">");
 
 	}
 
 	private void loadShard(int shardNumber, boolean primary) throws Exception {
 
 		ShardWriteManager shardWriteManager = new ShardWriteManager(shardNumber, getPathForIndex(shardNumber), getPathForFacetsIndex(shardNumber), indexConfig,
-				zuliaPerFieldAnalyzer);
+				zuliaPerFieldAnalyzer, queryResultCacheBudget, primary);
 
 		ZuliaShard s = new ZuliaShard(shardWriteManager, primary);
 
@@ -309,18 +331,29 @@ public class ZuliaIndex {
 	}
 
 	public StoreResponse internalStore(StoreRequest storeRequest) throws Exception {
+		lockForWrite();
+		try {
+			return doStore(storeRequest);
+		}
+		finally {
+			writeBlockLock.readLock().unlock();
+		}
+	}
+
+	private StoreResponse doStore(StoreRequest storeRequest) throws Exception {
 
 		long timestamp = System.currentTimeMillis();
 
 		String uniqueId = storeRequest.getUniqueId();
 
+		boolean skipped = false;
 		if (storeRequest.hasResultDocument()) {
 			ResultDocument resultDocument = storeRequest.getResultDocument();
 			DocumentContainer document = new DocumentContainer(resultDocument.getDocument());
 			DocumentContainer metadata = new DocumentContainer(resultDocument.getMetadata());
 
 			ZuliaShard s = findShardFromUniqueId(uniqueId);
-			s.index(uniqueId, timestamp, document, metadata);
+			skipped = !s.index(uniqueId, timestamp, document, metadata, storeRequest.getSkipUnchanged());
 
 		}
 
@@ -338,10 +371,25 @@ public class ZuliaIndex {
 			documentStorage.registerExternalDocument(ed);
 		}
 
-		return StoreResponse.newBuilder().build();
+		return StoreResponse.newBuilder().setSkipped(skipped).build();
 
 	}
 
+	/**
+	 * Fetches are routed to a primary or replica by the master slave settings of the request so either copy on this node can answer
+	 */
+	private ZuliaShard findShardForFetch(String uniqueId) throws ShardDoesNotExistException {
+		int shardNumber = MasterSlaveSelector.getShardForUniqueId(uniqueId, numberOfShards);
+		ZuliaShard zuliaShard = primaryShardMap.get(shardNumber);
+		if (zuliaShard == null) {
+			zuliaShard = replicaShardMap.get(shardNumber);
+		}
+		if (zuliaShard == null) {
+			throw new ShardDoesNotExistException(indexName, shardNumber);
+		}
+		return zuliaShard;
+	}
+
 	private ZuliaShard findShardFromUniqueId(String uniqueId) throws ShardDoesNotExistException {
 		int shardNumber = MasterSlaveSelector.getShardForUniqueId(uniqueId, numberOfShards);
 		ZuliaShard zuliaShard = primaryShardMap.get(shardNumber);
@@ -351,7 +399,29 @@ public class ZuliaIndex {
 		return zuliaShard;
 	}
 
+	public UpdateResponse internalUpdate(UpdateRequest updateRequest) throws Exception {
+		lockForWrite();
+		try {
+			ZuliaShard s = findShardFromUniqueId(updateRequest.getUniqueId());
+			boolean found = s.update(updateRequest.getUniqueId(), new DocumentUpdater(updateRequest.getFieldOperationList()));
+			return UpdateResponse.newBuilder().setFound(found).build();
+		}
+		finally {
+			writeBlockLock.readLock().unlock();
+		}
+	}
+
 	public DeleteResponse deleteDocument(DeleteRequest deleteRequest) throws Exception {
+		lockForWrite();
+		try {
+			return doDelete(deleteRequest);
+		}
+		finally {
+			writeBlockLock.readLock().unlock();
+		}
+	}
+
+	private DeleteResponse doDelete(DeleteRequest deleteRequest) throws Exception {
 
 		String uniqueId = deleteRequest.getUniqueId();
 
@@ -372,6 +442,216 @@ public class ZuliaIndex {
 
 	}
 
+	/**
+	 * Takes the read side of the write block lock.  While writes are blocked they wait, so nothing is written to a shard while it is split or its
+	 * primary moves.  A blocked write that has to be routed again fails with {@link IndexReshardedException}
+	 */
+	private void lockForWrite() throws Exception {
+		while (true) {
+			writeBlockLock.readLock().lock();
+			CompletableFuture<Boolean> block = writeBlock;
+			if (block == null) {
+				return;
+			}
+			writeBlockLock.readLock().unlock();
+
+			if (block.get(BLOCKED_WRITE_WAIT_MINUTES, TimeUnit.MINUTES)) {
+				throw new IndexReshardedException(indexName);
+			}
+		}
+	}
+
+	/**
+	 * Blocks writes to the index after the writes in progress finish and commits the primaries
+	 */
+	public void blockWrites() throws IOException {
+		writeBlockLock.writeLock().lock();
+		try {
+			if (writeBlock == null) {
+				writeBlock = new CompletableFuture<>();
+			}
+		}
+		finally {
+			writeBlockLock.writeLock().unlock();
+		}
+
+		for (ZuliaShard shard : primaryShardMap.values()) {
+			shard.forceCommit();
+		}
+	}
+
+	/**
+	 * @param reroute - fail the blocked writes so they are routed again with the current shard mapping instead of going ahead on this index
+	 */
+	public void releaseWrites(boolean reroute) {
+		CompletableFuture<Boolean> block;
+		writeBlockLock.writeLock().lock();
+		try {
+			block = writeBlock;
+			writeBlock = null;
+		}
+		finally {
+			writeBlockLock.writeLock().unlock();
+		}
+
+		if (block != null) {
+			block.complete(reroute);
+		}
+	}
+
+	/**
+	 * Blocks writes and builds the child shards of every shard on this node for the new number of shards.  Writes stay blocked until
+	 * {@link #finishSplit()} or {@link #abortSplit()} is called
+	 */
+	public synchronized void prepareSplit(int newNumberOfShards) throws Exception {
+		if (newNumberOfShards <= numberOfShards || newNumberOfShards % numberOfShards != 0) {
+			throw new IllegalArgumentException(
+					"Index <" + indexName + "> with <" + numberOfShards + "> shards can only be split into a multiple of its shards, not <" + newNumberOfShards
+							+ ">");
+		}
+
+		if (splitState != null) {
+			LOG.warn("Aborting unfinished split of index <" + indexName + "> into <" + splitState.numberOfShards() + "> shards");
+			abortSplit();
+		}
+
+		Set<Integer> shardNumbers = new HashSet<>(primaryShardMap.keySet());
+		shardNumbers.addAll(replicaShardMap.keySet());
+		splitState = new SplitState(newNumberOfShards, shardNumbers);
+
+		LOG.info("Splitting <" + shardNumbers.size() + "> shards of index <" + indexName + "> into <" + newNumberOfShards + "> shards");
+		try {
+			blockWrites();
+			splitShards(primaryShardMap.values(), newNumberOfShards);
+			splitShards(replicaShardMap.values(), newNumberOfShards);
+		}
+		catch (Exception e) {
+			LOG.error("Failed to split index <" + indexName + ">", e);
+			abortSplit();
+			throw e;
+		}
+	}
+
+	private void splitShards(Collection<ZuliaShard> shards, int newNumberOfShards) throws IOException {
+		for (ZuliaShard shard : shards) {
+			int shardNumber = shard.getShardNumber();
+			ShardSplitter shardSplitter = new ShardSplitter(indexName, shardNumber, newNumberOfShards);
+			shard.split(shardSplitter, getPathForIndex(shardNumber), getPathForFacetsIndex(shardNumber), getChildShards(shardNumber, newNumberOfShards));
+		}
+	}
+
+	private List<ShardSplitter.ChildShard> getChildShards(int shardNumber, int newNumberOfShards) {
+		List<ShardSplitter.ChildShard> childShards = new ArrayList<>();
+		//the first child keeps the number of the parent so it is built next to the parent and moved into place after the parent is closed
+		childShards.add(new ShardSplitter.ChildShard(shardNumber, getSplitPath(getPathForIndex(shardNumber), newNumberOfShards),
+				getSplitPath(getPathForFacetsIndex(shardNumber), newNumberOfShards)));
+		for (int childShardNumber = shardNumber + numberOfShards; childShardNumber < newNumberOfShards; childShardNumber += numberOfShards) {
+			childShards.add(new ShardSplitter.ChildShard(childShardNumber, getPathForIndex(childShardNumber), getPathForFacetsIndex(childShardNumber)));
+		}
+		return childShards;
+	}
+
+	/**
+	 * @return directory of the first child of the shard, named for the number of shards of the split so a node that loads the index knows whether
+	 * the split was published
+	 */
+	private static Path getSplitPath(Path path, int newNumberOfShards) {
+		return path.resolveSibling(path.getFileName() + "_split_" + newNumberOfShards);
+	}
+
+	private static Path getReplacedPath(Path path) {
+		return path.resolveSibling(path.getFileName() + "_replaced");
+	}
+
+	/**
+	 * Replaces the parent shards with their first child.  Must be called after {@link #unload(boolean)} and before the split index is loaded
+	 */
+	public synchronized void swapSplitShards() throws IOException {
+		SplitState state = splitState;
+		if (state == null) {
+			throw new IllegalStateException("Index <" + indexName + "> is not being split");
+		}
+
+		for (int shardNumber : state.shardNumbers()) {
+			swapSplitPath(getPathForIndex(shardNumber), state.numberOfShards());
+			swapSplitPath(getPathForFacetsIndex(shardNumber), state.numberOfShards());
+		}
+	}
+
+	/**
+	 * Moves the parent aside, moves the child into its place and only then deletes the parent, so a node that stops part way still has the child
+	 * and {@link #recoverSplit(Path)} finishes the swap when the index is loaded again
+	 */
+	private static void swapSplitPath(Path path, int newNumberOfShards) throws IOException {
+		Path replacedPath = getReplacedPath(path);
+		if (Files.exists(path)) {
+			ShardSplitter.deleteDirectory(replacedPath);
+			Files.move(path, replacedPath, StandardCopyOption.ATOMIC_MOVE);
+		}
+		Files.move(getSplitPath(path, newNumberOfShards), path, StandardCopyOption.ATOMIC_MOVE);
+		ShardSplitter.deleteDirectory(replacedPath);
+	}
+
+	/**
+	 * Finishes a split of the shard that was published but not swapped on this node and deletes the children of splits that were never published.
+	 * The shard mapping is stored before any node swaps, so a child built for the number of shards of the mapping replaces its parent
+	 */
+	private void recoverSplit(Path path) throws IOException {
+		if (!Files.isDirectory(path.getParent())) {
+			return;
+		}
+
+		Path splitPath = getSplitPath(path, indexShardMapping.getNumberOfShards());
+		Path replacedPath = getReplacedPath(path);
+		if (Files.exists(splitPath)) {
+			LOG.warn("Finishing split of index <" + indexName + "> into <" + indexShardMapping.getNumberOfShards() + "> shards for <" + path + ">");
+			swapSplitPath(path, indexShardMapping.getNumberOfShards());
+		}
+		else if (!Files.exists(path) && Files.exists(replacedPath)) {
+			Files.move(replacedPath, path, StandardCopyOption.ATOMIC_MOVE);
+		}
+		ShardSplitter.deleteDirectory(replacedPath);
+
+		try (DirectoryStream<Path> unpublishedSplitPaths = Files.newDirectoryStream(path.getParent(), path.getFileName() + "_split_*")) {
+			for (Path unpublishedSplitPath : unpublishedSplitPaths) {
+				LOG.warn("Deleting child <" + unpublishedSplitPath + "> of a split of index <" + indexName + "> that was not published");
+				ShardSplitter.deleteDirectory(unpublishedSplitPath);
+			}
+		}
+	}
+
+	/**
+	 * Releases the writes that waited for the split, they are redone on the split index
+	 */
+	public void finishSplit() {
+		releaseWrites(true);
+	}
+
+	/**
+	 * Deletes the child shards built by {@link #prepareSplit(int)} and releases the writes that waited for the split
+	 */
+	public synchronized void abortSplit() {
+		SplitState state = splitState;
+		splitState = null;
+		if (state == null) {
+			return;
+		}
+
+		LOG.info("Aborting split of index <" + indexName + "> into <" + state.numberOfShards() + "> shards");
+		for (int shardNumber : state.shardNumbers()) {
+			for (ShardSplitter.ChildShard childShard : getChildShards(shardNumber, state.numberOfShards())) {
+				try {
+					ShardSplitter.deleteDirectory(childShard.indexPath());
+					ShardSplitter.deleteDirectory(childShard.taxoPath());
+				}
+				catch (IOException e) {
+					LOG.warn("Failed to delete child shard <" + childShard.shardNumber() + "> of index <" + indexName + ">: " + e.getMessage());
+				}
+			}
+		}
+		releaseWrites(false);
+	}
+
 	public Query handleTermQuery(ZuliaQuery.Query query) {
 
 		if (query.getQfList().isEmpty()) {
@@ -602,6 +882,23 @@ public class ZuliaIndex {
 	}
 
 	private FunctionScoreQuery handleScoreFunction(String scoreFunction, Query query) throws java.text.ParseException {
+		try {
+			DoubleValuesSource scoreSource = scoreFunctionCache.get(scoreFunction, key -> {
+				try {
+					return compileScoreFunction(key);
+				}
+				catch (java.text.ParseException e) {
+					throw new WrappedCheckedException(e);
+				}
+			});
+			return new FunctionScoreQuery(query, scoreSource);
+		}
+		catch (WrappedCheckedException e) {
+			throw (java.text.ParseException) e.getCause();
+		}
+	}
+
+	private DoubleValuesSource compileScoreFunction(String scoreFunction) throws java.text.ParseException {
 
 		SimpleBindings bindings = new SimpleBindings();
 
@@ -634,7 +931,7 @@ public class ZuliaIndex {
 			//
 		}
 
-		return new FunctionScoreQuery(query, expr.getDoubleValuesSource(bindings));
+		return expr.getDoubleValuesSource(bindings);
 
 	}
 
@@ -681,6 +978,25 @@ public class ZuliaIndex {
 
 	private Query parseWithQueryParser(String queryText, int minimumShouldMatchNumber, ZuliaQuery.Query.Operator defaultOperator,
 			Collection<String> defaultSearchFieldList) throws Exception {
+		ParsedQueryKey parsedQueryKey = new ParsedQueryKey(queryText, List.copyOf(defaultSearchFieldList), defaultOperator, minimumShouldMatchNumber,
+				configVersion.get());
+		try {
+			return parsedQueryCache.get(parsedQueryKey, key -> {
+				try {
+					return parseWithPooledQueryParser(queryText, minimumShouldMatchNumber, defaultOperator, defaultSearchFieldList);
+				}
+				catch (Exception e) {
+					throw new WrappedCheckedException(e);
+				}
+			});
+		}
+		catch (WrappedCheckedException e) {
+			throw e.getCause();
+		}
+	}
+
+	private Query parseWithPooledQueryParser(String queryText, int minimumShouldMatchNumber, ZuliaQuery.Query.Operator defaultOperator,
+			Collection<String> defaultSearchFieldList) throws Exception {
 		Query query;
 		ZuliaFlexibleQueryParser qp = null;
 		try {
@@ -715,7 +1031,7 @@ public class ZuliaIndex {
 		List<Future<ShardQueryResponse>> responses = new ArrayList<>();
 
 		for (final ZuliaShard shard : shardsForQuery) {
-			Future<ShardQueryResponse> response = shardPool.submit(() -> shard.queryShard(shardQuery));
+			Future<ShardQueryResponse> response = searchPool.executeAsync(() -> shard.queryShard(shardQuery));
 			responses.add(response);
 		}
 
@@ -854,22 +1170,37 @@ public class ZuliaIndex {
 		indexConfig.configure(indexSettings);
 		zuliaPerFieldAnalyzer.refresh();
 
+		configVersion.incrementAndGet();
+		scoreFunctionCache.invalidateAll();
+		parsedQueryCache.invalidateAll();
+
+		//every primary is updated before a failure, like the commit when finishing bulk load, is thrown to the settings update
+		Exception failure = null;
 		for (ZuliaShard s : primaryShardMap.values()) {
 			try {
-				s.updateIndexSettings();
+				s.updateIndexSettings(reindexPool);
 			}
-			catch (Exception ignored) {
+			catch (Exception e) {
+				LOG.error("Failed to update settings of shard <" + s.getShardNumber() + "> for index <" + indexName + ">", e);
+				if (failure == null) {
+					failure = new Exception("Failed to update settings of shard <" + s.getShardNumber() + "> for index <" + indexName + ">: "
+							+ e.getMessage(), e);
+				}
 			}
 		}
 
 		for (ZuliaShard s : replicaShardMap.values()) {
 			try {
-				s.updateIndexSettings();
+				s.updateIndexSettings(reindexPool);
 			}
 			catch (Exception ignored) {
 			}
 		}
 
+		if (failure != null) {
+			throw failure;
+		}
+
 	}
 
 	public OptimizeResponse optimize(OptimizeRequest request) throws Exception {
@@ -886,13 +1217,156 @@ public class ZuliaIndex {
 		return OptimizeResponse.newBuilder().build();
 	}
 
-	public ReindexResponse reindex(@SuppressWarnings("unused") ReindexRequest request) throws IOException {
+	public ReindexResponse reindex(ReindexRequest request) throws Exception {
 		for (final ZuliaShard shard : primaryShardMap.values()) {
-			shard.reindex();
+			shard.reindex(reindexPool, request.getMaxDocsPerSecond(), request.getIncremental());
 		}
 		return ReindexResponse.newBuilder().build();
 	}
 
+	public GetBulkLoadStatusResponse getBulkLoadStatus() {
+		GetBulkLoadStatusResponse.Builder response = GetBulkLoadStatusResponse.newBuilder();
+		for (ZuliaShard shard : primaryShardMap.values()) {
+			response.addShardBulkLoadStatus(shard.getBulkLoadStatus());
+		}
+		return response.build();
+	}
+
+	public GetReindexStatusResponse getReindexStatus() {
+		GetReindexStatusResponse.Builder response = GetReindexStatusResponse.newBuilder();
+		for (ZuliaShard shard : primaryShardMap.values()) {
+			response.addShardReindexStatus(shard.getReindexStatus());
+		}
+		return response.build();
+	}
+
+	/**
+	 * Deletes the matches of each shard in batches of at most DELETE_BATCH_SIZE, so the ids held do not grow with the number of matches.  Each batch
+	 * is committed before the associated documents of its ids are deleted, a failed delete leaves the documents with their associated documents
+	 */
+	public DeleteByQueryResponse deleteByQuery(DeleteByQueryRequest request) throws Exception {
+		Query query = getQuery(QueryRequest.newBuilder().addAllQuery(request.getQueryList()).build());
+
+		AtomicLong deleted = new AtomicLong();
+		lockForWrite();
+		try {
+			for (ZuliaShard shard : primaryShardMap.values()) {
+				List<String> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+				try {
+					shard.streamDocs(query, d -> {
+						try {
+							batch.add(d.getIdInfo().getId());
+							if (batch.size() == DELETE_BATCH_SIZE) {
+								deleteBatch(shard, batch, request.getDeleteAllAssociated(), deleted);
+							}
+						}
+						catch (Exception e) {
+							throw new RuntimeException(e);
+						}
+					});
+				}
+				catch (RuntimeException e) {
+					//unwrap the checked exceptions the document consumer had to wrap
+					if (e.getClass() == RuntimeException.class && e.getCause() instanceof Exception cause) {
+						throw cause;
+					}
+					throw e;
+				}
+				deleteBatch(shard, batch, request.getDeleteAllAssociated(), deleted);
+			}
+		}
+		finally {
+			writeBlockLock.readLock().unlock();
+		}
+
+		LOG.info("Deleted <" + deleted.get() + "> documents by query from index <" + indexName + ">");
+		return DeleteByQueryResponse.newBuilder().setDeleted(deleted.get()).build();
+	}
+
+	private void deleteBatch(ZuliaShard shard, List<String> batch, boolean deleteAllAssociated, AtomicLong deleted) throws Exception {
+		if (batch.isEmpty()) {
+			return;
+		}
+		shard.deleteDocuments(batch);
+		if (deleteAllAssociated) {
+			for (String uniqueId : batch) {
+				documentStorage.deleteAssociatedDocuments(uniqueId);
+			}
+		}
+		deleted.addAndGet(batch.size());
+		batch.clear();
+	}
+
+	/**
+	 * Applies the field operations to the current stored document of every match and indexes it again on the primary.  The matches are only used
+	 * for their ids, each document is read again under its document lock, so a concurrent store or update is not overwritten and a document deleted
+	 * since is not brought back.  Writes are locked per document, so a long update does not hold off a split or primary move that blocks writes.
+	 * An update that stops part way, for example because a split or primary move rerouted the writes, returns the number of documents it updated
+	 * with the error instead of failing, those updates are not undone
+	 */
+	public UpdateByQueryResponse updateByQuery(UpdateByQueryRequest request) throws Exception {
+		Query query = getQuery(QueryRequest.newBuilder().addAllQuery(request.getQueryList()).build());
+		DocumentUpdater documentUpdater = new DocumentUpdater(request.getFieldOperationList());
+
+		AtomicLong updated = new AtomicLong();
+		for (ZuliaShard shard : primaryShardMap.values()) {
+			try {
+				updateByQuery(shard, query, documentUpdater, request.getMaxDocsPerSecond(), updated);
+			}
+			catch (Exception e) {
+				Throwable cause = e instanceof RuntimeException && e.getCause() != null ? e.getCause() : e;
+				String error = "Update by query of index <" + indexName + "> stopped at shard <" + shard.getShardNumber() + "> after updating <"
+						+ updated.get() + "> documents: " + (cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+				LOG.error(error);
+				return UpdateByQueryResponse.newBuilder().setUpdated(updated.get()).setError(error).build();
+			}
+		}
+		return UpdateByQueryResponse.newBuilder().setUpdated(updated.get()).build();
+	}
+
+	private void updateByQuery(ZuliaShard shard, Query query, DocumentUpdater documentUpdater, int maxDocsPerSecond, AtomicLong updated)
+			throws Exception {
+		int matches = shard.countDocs(query);
+		long start = System.currentTimeMillis();
+		DocumentRateLimiter rateLimiter = new DocumentRateLimiter(maxDocsPerSecond);
+		AtomicLong lastProgress = new AtomicLong(start);
+		AtomicLong shardUpdated = new AtomicLong();
+
+		shard.streamDocs(query, d -> {
+			try {
+				String uniqueId = d.getIdInfo().getId();
+
+				long count = rateLimiter.acquire();
+				boolean exists;
+				lockForWrite();
+				try {
+					exists = shard.update(uniqueId, documentUpdater);
+				}
+				finally {
+					writeBlockLock.readLock().unlock();
+				}
+				if (exists) {
+					updated.incrementAndGet();
+					shardUpdated.incrementAndGet();
+				}
+
+				long now = System.currentTimeMillis();
+				if (now - lastProgress.get() >= UPDATE_PROGRESS_INTERVAL_MS) {
+					lastProgress.set(now);
+					LOG.info("Updated <" + count + "> of <" + matches + "> documents by query for shard <" + shard.getShardNumber() + "> of index <"
+							+ indexName + ">");
+				}
+			}
+			catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		});
+
+		shard.forceCommit();
+		LOG.info("Updated <" + shardUpdated.get() + "> documents by query for shard <" + shard.getShardNumber() + "> of index <" + indexName
+				+ "> in " + (System.currentTimeMillis() - start) + "ms");
+	}
+
 	public GetNumberOfDocsResponse getNumberOfDocs(InternalGetNumberOfDocsRequest request) throws Exception {
 
 		List<Future<ShardCountResponse>> responses = new ArrayList<>();
@@ -902,7 +1376,7 @@ public class ZuliaIndex {
 		List<ZuliaShard> shardsForCommand = getShardsFromRouting(request.getIndexRouting(), getNumberOfDocsRequest.getMasterSlaveSettings());
 
 		for (ZuliaShard shard : shardsForCommand) {
-			Future<ShardCountResponse> response = shardPool.submit(shard::getNumberOfDocs);
+			Future<ShardCountResponse> response = searchPool.executeAsync(shard::getNumberOfDocs);
 			responses.add(response);
 		}
 
@@ -971,7 +1445,7 @@ public class ZuliaIndex {
 
 		for (final ZuliaShard shard : shardsForCommand) {
 
-			Future<GetFieldNamesResponse> response = shardPool.submit(shard::getFieldNames);
+			Future<GetFieldNamesResponse> response = searchPool.executeAsync(shard::getFieldNames);
 
 			responses.add(response);
 
@@ -1002,6 +1476,7 @@ public class ZuliaIndex {
 		fields.remove(ZuliaFieldConstants.STORED_META_FIELD);
 		fields.remove(ZuliaFieldConstants.ID_FIELD);
 		fields.remove(ZuliaFieldConstants.FIELDS_LIST_FIELD);
+		fields.remove(ZuliaFieldConstants.STORED_FIELDS_LIST_FIELD);
 
 		List<String> toRemove = new ArrayList<>();
 		for (String field : fields) {
@@ -1030,32 +1505,9 @@ public class ZuliaIndex {
 
 	public ClearResponse clear(@SuppressWarnings("unused") ZuliaServiceOuterClass.ClearRequest request) throws Exception {
 
-		List<Future<Void>> responses = new ArrayList<>();
-
-		for (final ZuliaShard shard : primaryShardMap.values()) {
-
-			Future<Void> response = shardPool.submit(() -> {
-				shard.clear();
-				return null;
-			});
-
-			responses.add(response);
-
-		}
-
-		for (Future<Void> response : responses) {
-			try {
-				response.get();
-			}
-			catch (ExecutionException e) {
-				Throwable cause = e.getCause();
-				if (cause instanceof Exception) {
-					throw e;
-				}
-				else {
-					throw new Exception(cause);
-				}
-			}
+		//inline instead of on the search pool, clearing a shard refreshes it which acquires the search pool again and can deadlock a saturated pool
+		for (ZuliaShard shard : primaryShardMap.values()) {
+			shard.clear();
 		}
 
 		documentStorage.deleteAllDocuments();
@@ -1073,7 +1525,7 @@ public class ZuliaIndex {
 
 		for (final ZuliaShard shard : shardsForCommand) {
 
-			Future<GetTermsResponse> response = shardPool.submit(() -> shard.getTerms(getTermsRequest));
+			Future<GetTermsResponse> response = searchPool.executeAsync(() -> shard.getTerms(getTermsRequest));
 
 			responses.add(response);
 
@@ -1121,7 +1573,7 @@ public class ZuliaIndex {
 	private ResultDocument getSourceDocument(String uniqueId, FetchType resultFetchType, List<String> fieldsToReturn, List<String> fieldsToMask)
 			throws Exception {
 
-		ZuliaShard s = findShardFromUniqueId(uniqueId);
+		ZuliaShard s = findShardForFetch(uniqueId);
 		return s.getSourceDocument(uniqueId, resultFetchType, fieldsToReturn, fieldsToMask);
 
 	}
@@ -1138,6 +1590,70 @@ public class ZuliaIndex {
 
 	}
 
+	public InternalGetShardFilesResponse getShardFiles(InternalGetShardFilesRequest request) throws Exception {
+		return getPrimaryShard(request.getShardNumber()).getShardFiles(request);
+	}
+
+	public InternalGetShardFileChunkResponse getShardFileChunk(InternalGetShardFileChunkRequest request) throws Exception {
+		return getPrimaryShard(request.getShardNumber()).getShardFileChunk(request);
+	}
+
+	public InternalReleaseShardFilesResponse releaseShardFiles(InternalReleaseShardFilesRequest request) throws Exception {
+		return getPrimaryShard(request.getShardNumber()).releaseShardFiles(request);
+	}
+
+	private ZuliaShard getPrimaryShard(int shardNumber) throws ShardDoesNotExistException {
+		ZuliaShard zuliaShard = primaryShardMap.get(shardNumber);
+		if (zuliaShard == null) {
+			throw new ShardDoesNotExistException(indexName, shardNumber);
+		}
+		return zuliaShard;
+	}
+
+	/**
+	 * Copies new commits from the primaries of the replica shards loaded on this node.  A replica that is still queued or copying from a previous
+	 * call is skipped
+	 *
+	 * @param replicationClientForNode - returns a client for the node holding the primary or null if the node is not active
+	 * @param executor                 - runs the copy of each replica
+	 */
+	public void replicateShards(Function<Node, ShardReplicationClient> replicationClientForNode, Executor executor) {
+		for (ShardMapping shardMapping : indexShardMapping.getShardMappingList()) {
+			ZuliaShard replicaShard = replicaShardMap.get(shardMapping.getShardNumber());
+			if (replicaShard == null) {
+				continue;
+			}
+
+			ShardReplicationClient shardReplicationClient = replicationClientForNode.apply(shardMapping.getPrimaryNode());
+			if (shardReplicationClient == null) {
+				LOG.debug("Primary of shard <" + shardMapping.getShardNumber() + "> for index <" + indexName + "> is not active");
+				continue;
+			}
+
+			if (!replicaShard.queueReplication()) {
+				continue;
+			}
+
+			try {
+				executor.execute(() -> {
+					try {
+						replicaShard.replicate(shardReplicationClient);
+					}
+					catch (Exception e) {
+						LOG.error("Failed to replicate shard <" + shardMapping.getShardNumber() + "> for index <" + indexName + ">: "
+								+ e.getMessage());
+					}
+					finally {
+						replicaShard.replicationFinished();
+					}
+				});
+			}
+			catch (RejectedExecutionException e) {
+				replicaShard.replicationFinished();
+			}
+		}
+	}
+
 	public IndexShardMapping getIndexShardMapping() {
 		return indexShardMapping;
 	}
@@ -1146,39 +1662,174 @@ public class ZuliaIndex {
 		return indexName;
 	}
 
+	/**
+	 * Links or copies the shards built by {@link OfflineIndexBuilder} into the data directory for the primaries on this node before they are loaded.
+	 * The replicas copy them from their primaries
+	 */
+	public void attachShards(Path attachPath, Predicate<Node> thisNodeTest) throws IOException {
+		for (Map.Entry<Integer, Boolean> localShard : getLocalShards(indexShardMapping, thisNodeTest).entrySet()) {
+			if (localShard.getValue()) {
+				int shardNumber = localShard.getKey();
+				attachDirectory(OfflineIndexBuilder.getPathForIndex(attachPath, indexName, shardNumber), getPathForIndex(shardNumber));
+				attachDirectory(OfflineIndexBuilder.getPathForFacetsIndex(attachPath, indexName, shardNumber), getPathForFacetsIndex(shardNumber));
+				LOG.info("Attached shard <" + shardNumber + "> for index <" + indexName + "> from <" + attachPath + ">");
+			}
+		}
+	}
+
+	private static void attachDirectory(Path from, Path to) throws IOException {
+		if (!Files.isDirectory(from)) {
+			throw new IllegalArgumentException("Built shard directory <" + from + "> does not exist");
+		}
+
+		List<String> fileNames;
+		try (Stream<Path> files = Files.list(from)) {
+			fileNames = files.map(file -> file.getFileName().toString()).filter(fileName -> !IndexWriter.WRITE_LOCK_NAME.equals(fileName)).toList();
+		}
+		ShardSplitter.deleteDirectory(to);
+		ShardSplitter.linkFiles(from, to, fileNames);
+	}
+
 	public void loadShards(Predicate<Node> thisNodeTest) throws Exception {
-		List<ShardMapping> shardMappingList = indexShardMapping.getShardMappingList();
-		for (ShardMapping shardMapping : shardMappingList) {
+		for (Map.Entry<Integer, Boolean> localShard : getLocalShards(indexShardMapping, thisNodeTest).entrySet()) {
+			recoverSplit(getPathForIndex(localShard.getKey()));
+			recoverSplit(getPathForFacetsIndex(localShard.getKey()));
+			loadShard(localShard.getKey(), localShard.getValue());
+		}
+	}
+
+	/**
+	 * @return whether each shard of the mapping on this node is a primary by shard number
+	 */
+	private static Map<Integer, Boolean> getLocalShards(IndexShardMapping indexShardMapping, Predicate<Node> thisNodeTest) {
+		Map<Integer, Boolean> localShards = new HashMap<>();
+		for (ShardMapping shardMapping : indexShardMapping.getShardMappingList()) {
 			if (thisNodeTest.test(shardMapping.getPrimaryNode())) {
-				loadShard(shardMapping.getShardNumber(), true);
+				localShards.put(shardMapping.getShardNumber(), true);
 			}
 			else {
-				for (Node node : shardMapping.getReplicaNodeList()) {
+				//a recovering replica is loaded and replicated like any replica, it is only left out of query routing
+				List<Node> replicaNodes = new ArrayList<>(shardMapping.getReplicaNodeList());
+				replicaNodes.addAll(shardMapping.getRecoveringReplicaNodeList());
+				for (Node node : replicaNodes) {
 					if (thisNodeTest.test(node)) {
-						loadShard(shardMapping.getShardNumber(), false);
+						localShards.put(shardMapping.getShardNumber(), false);
 						break;
 					}
 				}
 
 			}
 		}
+		return localShards;
 	}
 
-	public ZuliaServiceOuterClass.FetchResponse fetch(ZuliaServiceOuterClass.FetchRequest fetchRequest) throws Exception {
-		ZuliaServiceOuterClass.FetchResponse.Builder frBuilder = ZuliaServiceOuterClass.FetchResponse.newBuilder();
+	/**
+	 * Applies a new placement of the shards.  Shards the mapping moved off this node are unloaded and deleted, shards whose role on this node changed
+	 * are reopened in their new role and shards the mapping added to this node are loaded.  A new replica starts empty and is filled by replication
+	 */
+	public synchronized void updateShardMapping(IndexShardMapping newIndexShardMapping, Predicate<Node> thisNodeTest) throws Exception {
+		if (newIndexShardMapping.getNumberOfShards() != numberOfShards) {
+			throw new IllegalStateException(
+					"Shard mapping of index <" + indexName + "> has <" + newIndexShardMapping.getNumberOfShards() + "> shards, the index has <" + numberOfShards
+							+ ">");
+		}
 
-		String uniqueId = fetchRequest.getUniqueId();
+		Map<Integer, Boolean> localShards = getLocalShards(newIndexShardMapping, thisNodeTest);
+
+		for (Integer shardNumber : new ArrayList<>(primaryShardMap.keySet())) {
+			if (!Boolean.TRUE.equals(localShards.get(shardNumber))) {
+				removeShard(shardNumber, localShards.containsKey(shardNumber));
+			}
+		}
+		for (Integer shardNumber : new ArrayList<>(replicaShardMap.keySet())) {
+			if (!Boolean.FALSE.equals(localShards.get(shardNumber))) {
+				removeShard(shardNumber, localShards.containsKey(shardNumber));
+			}
+		}
+
+		//replication of new replicas finds the primary in the mapping
+		indexShardMapping = newIndexShardMapping;
+
+		for (Map.Entry<Integer, Boolean> localShard : localShards.entrySet()) {
+			Map<Integer, ZuliaShard> shardMap = localShard.getValue() ? primaryShardMap : replicaShardMap;
+			if (!shardMap.containsKey(localShard.getKey())) {
+				loadShard(localShard.getKey(), localShard.getValue());
+			}
+		}
+	}
+
+	private void removeShard(int shardNumber, boolean keepFiles) throws IOException {
+		unloadShard(shardNumber);
+		if (!keepFiles) {
+			LOG.info("Deleting shard <" + shardNumber + "> for <" + indexName + "> that moved to another node");
+			Files.walkFileTree(getPathForIndex(shardNumber), new DeletingFileVisitor());
+			Files.walkFileTree(getPathForFacetsIndex(shardNumber), new DeletingFileVisitor());
+		}
+	}
+
+	public List<ShardStats> getShardStats() throws IOException {
+		List<ShardStats> shardStats = new ArrayList<>();
+		for (ZuliaShard shard : primaryShardMap.values()) {
+			shardStats.add(shard.getShardStats());
+		}
+		for (ZuliaShard shard : replicaShardMap.values()) {
+			shardStats.add(shard.getShardStats());
+		}
+		return shardStats;
+	}
+
+	public ZuliaServiceOuterClass.FetchResponse fetch(ZuliaServiceOuterClass.FetchRequest fetchRequest) throws Exception {
+		ZuliaBase.ResultDocument resultDoc = null;
 
 		FetchType resultFetchType = fetchRequest.getResultFetchType();
 		if (!FetchType.NONE.equals(resultFetchType)) {
-
-			ZuliaBase.ResultDocument resultDoc = getSourceDocument(uniqueId, resultFetchType, fetchRequest.getDocumentFieldsList(),
+			resultDoc = getSourceDocument(fetchRequest.getUniqueId(), resultFetchType, fetchRequest.getDocumentFieldsList(),
 					fetchRequest.getDocumentMaskedFieldsList());
-			if (null != resultDoc) {
-				frBuilder.setResultDocument(resultDoc);
+		}
+
+		return getFetchResponse(fetchRequest, resultDoc);
+	}
+
+	/**
+	 * Fetches many documents of this index with one lookup per shard instead of one per document
+	 *
+	 * @return the response for each fetch request in the order of the requests
+	 */
+	public List<ZuliaServiceOuterClass.FetchResponse> fetch(List<ZuliaServiceOuterClass.FetchRequest> fetchRequests) throws Exception {
+		Map<ZuliaShard, List<Integer>> shardToRequests = new HashMap<>();
+		for (int i = 0; i < fetchRequests.size(); i++) {
+			ZuliaServiceOuterClass.FetchRequest fetchRequest = fetchRequests.get(i);
+			if (!FetchType.NONE.equals(fetchRequest.getResultFetchType())) {
+				shardToRequests.computeIfAbsent(findShardForFetch(fetchRequest.getUniqueId()), k -> new ArrayList<>()).add(i);
 			}
 		}
 
+		ZuliaBase.ResultDocument[] resultDocs = new ZuliaBase.ResultDocument[fetchRequests.size()];
+		for (Map.Entry<ZuliaShard, List<Integer>> entry : shardToRequests.entrySet()) {
+			List<Integer> requestIndexes = entry.getValue();
+			ZuliaBase.ResultDocument[] shardResultDocs = entry.getKey().getSourceDocuments(requestIndexes.stream().map(fetchRequests::get).toList());
+			for (int i = 0; i < requestIndexes.size(); i++) {
+				resultDocs[requestIndexes.get(i)] = shardResultDocs[i];
+			}
+		}
+
+		List<ZuliaServiceOuterClass.FetchResponse> fetchResponses = new ArrayList<>(fetchRequests.size());
+		for (int i = 0; i < fetchRequests.size(); i++) {
+			fetchResponses.add(getFetchResponse(fetchRequests.get(i), resultDocs[i]));
+		}
+		return fetchResponses;
+	}
+
+	private ZuliaServiceOuterClass.FetchResponse getFetchResponse(ZuliaServiceOuterClass.FetchRequest fetchRequest, ZuliaBase.ResultDocument resultDoc)
+			throws Exception {
+		ZuliaServiceOuterClass.FetchResponse.Builder frBuilder = ZuliaServiceOuterClass.FetchResponse.newBuilder();
+
+		String uniqueId = fetchRequest.getUniqueId();
+
+		if (null != resultDoc) {
+			frBuilder.setResultDocument(resultDoc);
+		}
+
 		FetchType associatedFetchType = fetchRequest.getAssociatedFetchType();
 		if (!FetchType.NONE.equals(associatedFetchType)) {
 			if (!fetchRequest.getFilename().isEmpty()) {
@@ -1,5 +1,6 @@
 package io.zulia.server.index;
 
+import com.google.common.collect.Lists;
 import com.google.protobuf.ByteString;
 import io.zulia.message.ZuliaBase;
 import io.zulia.message.ZuliaBase.MasterSlaveSettings;
@@ -17,6 +18,8 @@ import io.zulia.message.ZuliaIndex.UpdateIndexSettings.Operation.OperationType;
 import io.zulia.message.ZuliaQuery;
 import io.zulia.message.ZuliaServiceOuterClass.*;
 import io.zulia.rest.dto.AssociatedMetadataDTO;
+import io.zulia.rest.dto.ShardMergeStatsDTO;
+import io.zulia.rest.dto.ShardTaxonomyCacheStatsDTO;
 import io.zulia.server.config.IndexService;
 import io.zulia.server.config.NodeService;
 import io.zulia.server.config.ServerIndexConfig;
@@ -24,9 +27,12 @@ import io.zulia.server.config.ZuliaConfig;
 import io.zulia.server.config.cluster.MongoIndexService;
 import io.zulia.server.config.single.FSIndexService;
 import io.zulia.server.connection.client.InternalClient;
+import io.zulia.server.connection.server.AdmissionController;
 import io.zulia.server.connection.server.validation.CreateIndexRequestValidator;
 import io.zulia.server.connection.server.validation.QueryRequestValidator;
 import io.zulia.server.exceptions.IndexDoesNotExistException;
+import io.zulia.server.exceptions.IndexReshardedException;
+import io.zulia.server.exceptions.ShardDoesNotExistException;
 import io.zulia.server.filestorage.DocumentStorage;
 import io.zulia.server.filestorage.FileDocumentStorage;
 import io.zulia.server.filestorage.MongoDocumentStorage;
@@ -34,22 +40,29 @@ import io.zulia.server.filestorage.S3DocumentStorage;
 import io.zulia.server.index.federator.ClearRequestFederator;
 import io.zulia.server.index.federator.CreateIndexAliasRequestFederator;
 import io.zulia.server.index.federator.CreateOrUpdateIndexRequestFederator;
+import io.zulia.server.index.federator.DeleteByQueryRequestFederator;
 import io.zulia.server.index.federator.DeleteIndexAliasRequestFederator;
 import io.zulia.server.index.federator.DeleteIndexRequestFederator;
 import io.zulia.server.index.federator.GetFieldNamesRequestFederator;
 import io.zulia.server.index.federator.GetNumberOfDocsRequestFederator;
+import io.zulia.server.index.federator.GetBulkLoadStatusRequestFederator;
+import io.zulia.server.index.federator.GetReindexStatusRequestFederator;
+import io.zulia.server.index.federator.GetShardStatsRequestFederator;
 import io.zulia.server.index.federator.GetTermsRequestFederator;
 import io.zulia.server.index.federator.OptimizeRequestFederator;
 import io.zulia.server.index.federator.QueryRequestFederator;
 import io.zulia.server.index.federator.ReindexRequestFederator;
+import io.zulia.server.index.federator.SplitIndexRequestFederator;
+import io.zulia.server.index.federator.UpdateByQueryRequestFederator;
 import io.zulia.server.index.router.DeleteRequestRouter;
 import io.zulia.server.index.router.FetchRequestRouter;
 import io.zulia.server.index.router.StoreRequestRouter;
+import io.zulia.server.index.router.UpdateRequestRouter;
 import io.zulia.server.node.ZuliaNode;
 import io.zulia.server.util.MongoProvider;
-import io.zulia.util.ZuliaThreadFactory;
 import io.zulia.util.ZuliaUtil;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.store.RateLimiter;
 import org.bson.Document;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -58,7 +71,9 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -67,12 +82,21 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -80,16 +104,33 @@ import java.util.stream.Stream;
 public class ZuliaIndexManager {
 
 	private final static Logger LOG = LoggerFactory.getLogger(ZuliaIndexManager.class);
+	private static final int MOVE_POLL_INTERVAL_MS = 1000;
+	private static final int MOVE_STALL_TIMEOUT_MINUTES = 10;
+	private static final int BATCH_FETCH_CHUNK_SIZE = 1000;
+	private static final int INDEX_SWITCH_WAIT_SECONDS = 60;
+	private static final int RESHARDED_WRITE_RETRIES = 3;
 	private final IndexService indexService;
 	private final InternalClient internalClient;
 	private final ExecutorService pool;
 	private final ConcurrentHashMap<String, ZuliaIndex> indexMap;
+	//requests for an index that is being reloaded with a new shard layout wait for it instead of finding its shards closed
+	private final ConcurrentHashMap<String, CompletableFuture<Void>> indexSwitchMap;
 	private final ZuliaConfig zuliaConfig;
 	private final NodeService nodeService;
 	private final Node thisNode;
 	private Collection<Node> currentOtherNodesActive = Collections.emptyList();
 	private ConcurrentHashMap<String, Lock> indexUpdateMap = new ConcurrentHashMap<>();
 	private final ConcurrentHashMap<String, String> indexAliasMap;
+	private final QueryResultCacheBudget queryResultCacheBudget;
+	private final NodeExecutors nodeExecutors;
+	private final AdmissionController admissionController;
+	private final ScheduledFuture<?> replicationTask;
+	private final QueryHedger queryHedger;
+	private final RateLimiter replicationRateLimiter;
+	private final ShardRebalancer shardRebalancer;
+	private final Lock rebalanceLock;
+	private final AtomicBoolean rebalanceQueued;
+	private final ScheduledFuture<?> rebalanceTask;
 
 	public ZuliaIndexManager(ZuliaConfig zuliaConfig, NodeService nodeService) throws Exception {
 
@@ -105,17 +146,91 @@ public class ZuliaIndexManager {
 			indexService = new FSIndexService(zuliaConfig);
 		}
 
-		this.internalClient = new InternalClient();
+		this.internalClient = new InternalClient(zuliaConfig.getInternalChannelsPerNode(), zuliaConfig.getInternalMaxConcurrentRequestsPerNode(),
+				zuliaConfig.getInternalKeepAliveSeconds());
 
 		this.indexMap = new ConcurrentHashMap<>();
+		this.indexSwitchMap = new ConcurrentHashMap<>();
 		this.indexAliasMap = new ConcurrentHashMap<>();
+		this.queryResultCacheBudget = new QueryResultCacheBudget(zuliaConfig.getQueryResultCacheMB() * 1024L * 1024L);
 
 		for (IndexAlias indexAlias : indexService.getIndexAliases()) {
 			indexAliasMap.put(indexAlias.getAliasName(), indexAlias.getIndexName());
 		}
 
-		this.pool = Executors.newCachedThreadPool(new ZuliaThreadFactory("manager"));
+		this.nodeExecutors = new NodeExecutors(zuliaConfig);
+		this.pool = nodeExecutors.getRequestPool();
+		this.admissionController = new AdmissionController(zuliaConfig.getAdmission());
+		this.queryHedger = new QueryHedger(zuliaConfig.getQueryHedgePercentile(), zuliaConfig.getQueryHedgeMinDelayMs(),
+				zuliaConfig.getQueryHedgeMaxRate());
 
+		if (zuliaConfig.getReplicationMaxMBPerSec() > 0) {
+			//shared by all replicas on the node so moving a shard here cannot saturate the disk or network serving queries
+			this.replicationRateLimiter = new RateLimiter.SimpleRateLimiter(zuliaConfig.getReplicationMaxMBPerSec());
+		}
+		else {
+			this.replicationRateLimiter = null;
+		}
+
+		if (zuliaConfig.getReplicationIntervalMs() > 0) {
+			this.replicationTask = nodeExecutors.scheduleWithFixedDelay("replication", this::replicateShards, zuliaConfig.getReplicationIntervalMs());
+		}
+		else {
+			this.replicationTask = null;
+		}
+
+		this.shardRebalancer = new ShardRebalancer(zuliaConfig.getRebalanceThreshold());
+		this.rebalanceLock = new ReentrantLock();
+		this.rebalanceQueued = new AtomicBoolean();
+		if (zuliaConfig.getRebalanceIntervalMs() > 0) {
+			this.rebalanceTask = nodeExecutors.scheduleWithFixedDelay("rebalance", this::rebalanceShards, zuliaConfig.getRebalanceIntervalMs());
+		}
+		else {
+			this.rebalanceTask = null;
+		}
+
+	}
+
+	private void replicateShards() {
+		for (ZuliaIndex zuliaIndex : indexMap.values()) {
+			zuliaIndex.replicateShards(this::getShardReplicationClient, nodeExecutors.getReplicationPool());
+		}
+	}
+
+	private ShardReplicationClient getShardReplicationClient(Node primaryNode) {
+		Node activeNode = null;
+		for (Node node : currentOtherNodesActive) {
+			if (ZuliaNode.isEqual(node, primaryNode)) {
+				activeNode = node;
+				break;
+			}
+		}
+
+		if (activeNode == null) {
+			return null;
+		}
+
+		Node node = activeNode;
+		return new ShardReplicationClient() {
+			@Override
+			public InternalGetShardFilesResponse getShardFiles(InternalGetShardFilesRequest request) throws Exception {
+				return internalClient.getShardFiles(node, request);
+			}
+
+			@Override
+			public InternalGetShardFileChunkResponse getShardFileChunk(InternalGetShardFileChunkRequest request) throws Exception {
+				InternalGetShardFileChunkResponse response = internalClient.getShardFileChunk(node, request);
+				if (replicationRateLimiter != null) {
+					replicationRateLimiter.pause(response.getData().size());
+				}
+				return response;
+			}
+
+			@Override
+			public InternalReleaseShardFilesResponse releaseShardFiles(InternalReleaseShardFilesRequest request) throws Exception {
+				return internalClient.releaseShardFiles(node, request);
+			}
+		};
 	}
 
 	public void handleNodeAdded(Collection<Node> currentOtherNodesActive, Node nodeAdded) {
@@ -132,12 +247,21 @@ public class ZuliaIndexManager {
 	public void handleNodeRemoved(Collection<Node> currentOtherNodesActive, Node nodeRemoved) {
 		LOG.info(zuliaConfig.getServerAddress() + ":" + zuliaConfig.getServicePort() + " removed node " + nodeRemoved.getServerAddress() + ":"
 				+ nodeRemoved.getServicePort());
-		internalClient.removeNode(nodeRemoved);
+		//stop routing to the node before closing its connection
 		this.currentOtherNodesActive = currentOtherNodesActive;
+		internalClient.removeNode(nodeRemoved);
 	}
 
 	public void shutdown() {
 
+		if (replicationTask != null) {
+			replicationTask.cancel(false);
+		}
+
+		if (rebalanceTask != null) {
+			rebalanceTask.cancel(false);
+		}
+
 		internalClient.close();
 
 		pool.shutdownNow();
@@ -151,6 +275,8 @@ public class ZuliaIndexManager {
 			}
 		});
 
+		nodeExecutors.close();
+
 	}
 
 	public void init() throws Exception {
@@ -170,6 +296,13 @@ public class ZuliaIndexManager {
 	}
 
 	private void loadIndex(String indexName) throws Exception {
+		loadIndex(indexName, "");
+	}
+
+	/**
+	 * @param attachPath - directory of shards built by {@link OfflineIndexBuilder} to attach to the primaries on this node, empty for none
+	 */
+	private void loadIndex(String indexName, String attachPath) throws Exception {
 
 		IndexSettings indexSettings = indexService.getIndex(indexName);
 
@@ -177,19 +310,36 @@ public class ZuliaIndexManager {
 			throw new IndexDoesNotExistException(indexName);
 		}
 
-		loadIndex(indexSettings);
+		loadIndex(indexSettings, attachPath);
 	}
 
 	private void loadIndex(IndexSettings indexSettings) throws Exception {
+		loadIndex(indexSettings, "");
+	}
+
+	private void loadIndex(IndexSettings indexSettings, String attachPath) throws Exception {
 		LOG.info(zuliaConfig.getServerAddress() + ":" + zuliaConfig.getServicePort() + " loading index <" + indexSettings.getIndexName() + ">");
 
 		IndexShardMapping indexShardMapping = indexService.getIndexShardMapping(indexSettings.getIndexName());
 
+		if (indexShardMapping.getNumberOfShards() != indexSettings.getNumberOfShards()) {
+			//a split stores the shard mapping first, the node that coordinated it stopped before it stored the settings
+			LOG.warn(getLogPrefix() + "Index <" + indexSettings.getIndexName() + "> has <" + indexSettings.getNumberOfShards()
+					+ "> shards in its settings and <" + indexShardMapping.getNumberOfShards() + "> in its shard mapping, finishing the split");
+			indexSettings = indexSettings.toBuilder().setNumberOfShards(indexShardMapping.getNumberOfShards()).build();
+			indexService.storeIndex(indexSettings);
+		}
+
 		ServerIndexConfig serverIndexConfig = new ServerIndexConfig(indexSettings);
 
 		DocumentStorage documentStorage = getDocumentStorage(serverIndexConfig);
 
-		ZuliaIndex zuliaIndex = new ZuliaIndex(zuliaConfig, serverIndexConfig, documentStorage, indexService, indexShardMapping);
+		ZuliaIndex zuliaIndex = new ZuliaIndex(zuliaConfig, serverIndexConfig, documentStorage, indexService, indexShardMapping, queryResultCacheBudget,
+				nodeExecutors);
+
+		if (!attachPath.isEmpty()) {
+			zuliaIndex.attachShards(Paths.get(attachPath), (node) -> ZuliaNode.isEqual(thisNode, node));
+		}
 
 		indexMap.put(indexSettings.getIndexName(), zuliaIndex);
 
@@ -235,6 +385,111 @@ public class ZuliaIndexManager {
 		return FetchRequestRouter.internalFetch(i, request);
 	}
 
+	/**
+	 * Groups the fetches by the node selected for their shard and sends each node its fetches in chunks of at most
+	 * {@link #BATCH_FETCH_CHUNK_SIZE} in parallel.  Responses are passed to the consumer in the order of the requests, each as soon as it and every
+	 * response before it are back
+	 */
+	public void batchFetch(BatchFetchRequest request, Consumer<FetchResponse> responseConsumer) throws Exception {
+		List<FetchRequest> fetchRequests = request.getFetchRequestList();
+
+		List<Node> nodeList = new ArrayList<>();
+		nodeList.add(thisNode);
+		nodeList.addAll(currentOtherNodesActive);
+
+		Map<String, MasterSlaveSelector> selectors = new HashMap<>();
+		Map<String, Node> nodes = new HashMap<>();
+		Map<String, List<Integer>> nodeToRequests = new LinkedHashMap<>();
+		for (int i = 0; i < fetchRequests.size(); i++) {
+			FetchRequest fetchRequest = fetchRequests.get(i);
+			ZuliaIndex index = getIndexFromName(fetchRequest.getIndexName());
+			MasterSlaveSelector selector = selectors.computeIfAbsent(index.getIndexName() + ":" + fetchRequest.getMasterSlaveSettings(),
+					k -> new MasterSlaveSelector(fetchRequest.getMasterSlaveSettings(), nodeList, index.getIndexShardMapping(), thisNode,
+							internalClient.getNodeLoadTracker()));
+			Node node = selector.getNodeForUniqueId(fetchRequest.getUniqueId());
+			String nodeKey = node.getServerAddress() + ":" + node.getServicePort();
+			nodes.putIfAbsent(nodeKey, node);
+			nodeToRequests.computeIfAbsent(nodeKey, k -> new ArrayList<>()).add(i);
+		}
+
+		List<List<Integer>> chunks = new ArrayList<>();
+		List<Future<BatchFetchResponse>> futures = new ArrayList<>();
+		int[] requestChunk = new int[fetchRequests.size()];
+		for (Map.Entry<String, List<Integer>> entry : nodeToRequests.entrySet()) {
+			Node node = nodes.get(entry.getKey());
+			for (List<Integer> chunk : Lists.partition(entry.getValue(), BATCH_FETCH_CHUNK_SIZE)) {
+				BatchFetchRequest.Builder chunkRequest = BatchFetchRequest.newBuilder();
+				for (Integer requestIndex : chunk) {
+					chunkRequest.addFetchRequest(fetchRequests.get(requestIndex));
+					requestChunk[requestIndex] = chunks.size();
+				}
+				BatchFetchRequest nodeRequest = chunkRequest.build();
+				chunks.add(chunk);
+				futures.add(pool.submit(() -> {
+					if (ZuliaNode.isEqual(thisNode, node)) {
+						return internalBatchFetch(nodeRequest);
+					}
+					return internalClient.executeBatchFetch(node, nodeRequest);
+				}));
+			}
+		}
+
+		try {
+			FetchResponse[] responses = new FetchResponse[fetchRequests.size()];
+			boolean[] chunkDone = new boolean[chunks.size()];
+			for (int i = 0; i < responses.length; i++) {
+				int chunkNumber = requestChunk[i];
+				if (!chunkDone[chunkNumber]) {
+					List<Integer> chunk = chunks.get(chunkNumber);
+					List<FetchResponse> chunkResponses = futures.get(chunkNumber).get().getFetchResponseList();
+					for (int j = 0; j < chunk.size(); j++) {
+						responses[chunk.get(j)] = chunkResponses.get(j);
+					}
+					chunkDone[chunkNumber] = true;
+				}
+				responseConsumer.accept(responses[i]);
+				responses[i] = null;
+			}
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			throw e;
+		}
+		finally {
+			for (Future<BatchFetchResponse> future : futures) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * Fetches the documents of this node's shards grouped by index so each shard reads its documents in one pass.  Responses are in the order of the
+	 * requests
+	 */
+	public BatchFetchResponse internalBatchFetch(BatchFetchRequest request) throws Exception {
+		List<FetchRequest> fetchRequests = request.getFetchRequestList();
+
+		Map<String, List<Integer>> indexToRequests = new LinkedHashMap<>();
+		for (int i = 0; i < fetchRequests.size(); i++) {
+			indexToRequests.computeIfAbsent(fetchRequests.get(i).getIndexName(), k -> new ArrayList<>()).add(i);
+		}
+
+		FetchResponse[] responses = new FetchResponse[fetchRequests.size()];
+		for (Map.Entry<String, List<Integer>> entry : indexToRequests.entrySet()) {
+			ZuliaIndex index = getIndexFromName(entry.getKey());
+			List<Integer> requestIndexes = entry.getValue();
+			List<FetchResponse> indexResponses = index.fetch(requestIndexes.stream().map(fetchRequests::get).toList());
+			for (int j = 0; j < requestIndexes.size(); j++) {
+				responses[requestIndexes.get(j)] = indexResponses.get(j);
+			}
+		}
+
+		return BatchFetchResponse.newBuilder().addAllFetchResponse(Arrays.asList(responses)).build();
+	}
+
 	public ZuliaBase.AssociatedDocument getAssociatedDocument(String indexName, String uniqueId, String fileName) throws Exception {
 		ZuliaIndex i = getIndexFromName(indexName);
 		return i.getAssociatedDocument(uniqueId, fileName, ZuliaQuery.FetchType.FULL);
@@ -305,7 +560,7 @@ public class ZuliaIndexManager {
 		populateIndexesAndIndexMap(request, queryMap, indexes);
 
 		QueryRequestFederator federator = new QueryRequestFederator(thisNode, currentOtherNodesActive, request.getMasterSlaveSettings(), indexes, pool,
-				internalClient, queryMap);
+				internalClient, queryMap, queryHedger);
 
 		return federator.getResponse(request);
 	}
@@ -322,26 +577,78 @@ public class ZuliaIndexManager {
 		}
 	}
 
+	/**
+	 * Runs a write and routes it again with the new shard mapping when it waited for a split or a primary move of the index.  After
+	 * {@link #RESHARDED_WRITE_RETRIES} retries the index is changing faster than the write can follow and the failure is returned to the client
+	 */
+	private static <T> T routeWrite(Callable<T> write) throws Exception {
+		int retries = 0;
+		while (true) {
+			try {
+				return write.call();
+			}
+			catch (IndexReshardedException e) {
+				if (retries++ >= RESHARDED_WRITE_RETRIES) {
+					throw e;
+				}
+				LOG.info("Routing write for index <" + e.getIndexName() + "> again after its shards changed, retry <" + retries + ">");
+			}
+		}
+	}
+
 	public StoreResponse store(StoreRequest request) throws Exception {
-		ZuliaIndex i = getIndexFromName(request.getIndexName());
-		StoreRequestRouter router = new StoreRequestRouter(thisNode, currentOtherNodesActive, i, request.getUniqueId(), internalClient);
-		return router.send(request);
+		return routeWrite(() -> {
+			ZuliaIndex i = getIndexFromName(request.getIndexName());
+			StoreRequestRouter router = new StoreRequestRouter(thisNode, currentOtherNodesActive, i, request.getUniqueId(), internalClient);
+			return router.send(request);
+		});
 	}
 
 	public StoreResponse internalStore(StoreRequest request) throws Exception {
 		ZuliaIndex i = getIndexFromName(request.getIndexName());
-		return StoreRequestRouter.internalStore(i, request);
+		try {
+			return StoreRequestRouter.internalStore(i, request);
+		}
+		catch (IndexReshardedException e) {
+			//the store waited for a split or a primary move of the index, it is routed again with the new shard mapping
+			return store(request);
+		}
 	}
 
-	public DeleteResponse delete(DeleteRequest request) throws Exception {
+	public UpdateResponse update(UpdateRequest request) throws Exception {
+		return routeWrite(() -> {
+			ZuliaIndex i = getIndexFromName(request.getIndexName());
+			UpdateRequestRouter router = new UpdateRequestRouter(thisNode, currentOtherNodesActive, i, request.getUniqueId(), internalClient);
+			return router.send(request);
+		});
+	}
+
+	public UpdateResponse internalUpdate(UpdateRequest request) throws Exception {
 		ZuliaIndex i = getIndexFromName(request.getIndexName());
-		DeleteRequestRouter router = new DeleteRequestRouter(thisNode, currentOtherNodesActive, i, request.getUniqueId(), internalClient);
-		return router.send(request);
+		try {
+			return UpdateRequestRouter.internalUpdate(i, request);
+		}
+		catch (IndexReshardedException e) {
+			return update(request);
+		}
+	}
+
+	public DeleteResponse delete(DeleteRequest request) throws Exception {
+		return routeWrite(() -> {
+			ZuliaIndex i = getIndexFromName(request.getIndexName());
+			DeleteRequestRouter router = new DeleteRequestRouter(thisNode, currentOtherNodesActive, i, request.getUniqueId(), internalClient);
+			return router.send(request);
+		});
 	}
 
 	public DeleteResponse internalDelete(DeleteRequest request) throws Exception {
 		ZuliaIndex i = getIndexFromName(request.getIndexName());
-		return DeleteRequestRouter.internalDelete(i, request);
+		try {
+			return DeleteRequestRouter.internalDelete(i, request);
+		}
+		catch (IndexReshardedException e) {
+			return delete(request);
+		}
 	}
 
 	public CreateIndexResponse createIndex(CreateIndexRequest request) throws Exception {
@@ -363,6 +670,10 @@ public class ZuliaIndexManager {
 		String indexName = indexSettings.getIndexName();
 		IndexSettings existingIndex = indexService.getIndex(indexName);
 
+		if (!request.getAttachPath().isEmpty() && existingIndex != null) {
+			throw new IllegalArgumentException("Built shards can only be attached to a new index, index <" + indexName + "> already exists");
+		}
+
 		long currentTimeMillis = System.currentTimeMillis();
 		if (existingIndex == null) {
 
@@ -375,6 +686,9 @@ public class ZuliaIndexManager {
 			for (int i = 0; i < indexSettings.getNumberOfShards(); i++) {
 
 				List<Node> nodes = nodeWeightComputation.getNodesSortedByWeight();
+				if (nodes.isEmpty()) {
+					throw new IllegalStateException("Cannot create index <" + indexName + ">, there are no active nodes that are not coordinator only");
+				}
 
 				ShardMapping.Builder shardMapping = ShardMapping.newBuilder();
 
@@ -424,7 +738,7 @@ public class ZuliaIndexManager {
 
 		try {
 			@SuppressWarnings("unused") List<InternalCreateOrUpdateIndexResponse> send = createOrUpdateIndexRequestFederator.send(
-					InternalCreateOrUpdateIndexRequest.newBuilder().setIndexName(indexName).build());
+					InternalCreateOrUpdateIndexRequest.newBuilder().setIndexName(indexName).setAttachPath(request.getAttachPath()).build());
 		}
 		catch (Exception e) {
 			if (existingIndex != null) {
@@ -571,6 +885,18 @@ public class ZuliaIndexManager {
 				existingSettings.setDisableCompression(updateIndexSettings.getDisableCompression());
 			}
 
+			if (updateIndexSettings.getSetMergeSettings()) {
+				existingSettings.setMergeSettings(updateIndexSettings.getMergeSettings());
+			}
+
+			if (updateIndexSettings.getSetBulkLoadSettings()) {
+				existingSettings.setBulkLoadSettings(updateIndexSettings.getBulkLoadSettings());
+			}
+
+			if (updateIndexSettings.getSetTaxonomyCacheSize()) {
+				existingSettings.setTaxonomyCacheSize(updateIndexSettings.getTaxonomyCacheSize());
+			}
+
 			Operation metaUpdateOperation = updateIndexSettings.getMetaUpdateOperation();
 			if (metaUpdateOperation.getEnable()) {
 				Document existingMeta = ZuliaUtil.byteStringToMongoDocument(existingSettings.getMeta());
@@ -660,13 +986,21 @@ public class ZuliaIndexManager {
 	}
 
 	public InternalCreateOrUpdateIndexResponse internalCreateOrUpdateIndex(String indexName) throws Exception {
+		return internalCreateOrUpdateIndex(indexName, "");
+	}
+
+	/**
+	 * @param attachPath - directory of shards built by {@link OfflineIndexBuilder} to attach if the index is new on this node, empty for none
+	 */
+	public InternalCreateOrUpdateIndexResponse internalCreateOrUpdateIndex(String indexName, String attachPath) throws Exception {
 
 		ZuliaIndex zuliaIndex = indexMap.get(indexName);
 		if (zuliaIndex == null) {
-			loadIndex(indexName);
+			loadIndex(indexName, attachPath);
 		}
 		else {
 			zuliaIndex.reloadIndexSettings();
+			zuliaIndex.updateShardMapping(indexService.getIndexShardMapping(indexName), node -> ZuliaNode.isEqual(thisNode, node));
 		}
 
 		return InternalCreateOrUpdateIndexResponse.newBuilder().setLoaded(zuliaIndex == null).build();
@@ -697,6 +1031,9 @@ public class ZuliaIndexManager {
 			//zuliaIndex.unload(true);
 			zuliaIndex.deleteIndex(request.getDeleteAssociated());
 			indexMap.remove(indexName);
+			admissionController.removeIndex(indexName);
+			queryHedger.removeIndex(indexName);
+			shardRebalancer.removeIndex(indexName);
 			LOG.info(getLogPrefix() + "Deleted index <" + request.getIndexName() + ">");
 		}
 		else {
@@ -705,6 +1042,417 @@ public class ZuliaIndexManager {
 		return DeleteIndexResponse.newBuilder().build();
 	}
 
+	/**
+	 * Splits every shard of the index into split factor shards without taking it offline.  Every node builds the child shards of its shards while
+	 * writes to the index wait, then the new shard mapping is stored and every node switches to it.  Shard s of n becomes shards s, s + n, s + 2n ...
+	 * on the nodes of shard s.
+	 */
+	public SplitIndexResponse splitIndex(SplitIndexRequest request) throws Exception {
+		String indexName = handleAlias(request.getIndexName());
+		int splitFactor = request.getSplitFactor();
+		if (splitFactor < 2) {
+			throw new IllegalArgumentException("Split factor must be at least 2");
+		}
+
+		Lock lock = indexUpdateMap.computeIfAbsent(indexName, s -> new ReentrantLock());
+		try {
+			lock.lock();
+
+			IndexSettings indexSettings = indexService.getIndex(indexName);
+			if (indexSettings == null) {
+				throw new IndexDoesNotExistException(indexName);
+			}
+			IndexShardMapping indexShardMapping = indexService.getIndexShardMapping(indexName);
+
+			//a node that is down would keep its parent shards and load empty children when it comes back
+			Collection<Node> otherNodesActive = currentOtherNodesActive;
+			for (ShardMapping shardMapping : indexShardMapping.getShardMappingList()) {
+				List<Node> shardNodes = new ArrayList<>(shardMapping.getReplicaNodeList());
+				shardNodes.add(shardMapping.getPrimaryNode());
+				for (Node node : shardNodes) {
+					if (!ZuliaNode.isEqual(thisNode, node) && otherNodesActive.stream().noneMatch(n -> ZuliaNode.isEqual(n, node))) {
+						throw new Exception(
+								"Cannot split index <" + indexName + ">, node <" + node.getServerAddress() + ":" + node.getServicePort() + "> of shard <"
+										+ shardMapping.getShardNumber() + "> is not active");
+					}
+				}
+			}
+
+			int numberOfShards = indexSettings.getNumberOfShards();
+			int newNumberOfShards = numberOfShards * splitFactor;
+			LOG.info(getLogPrefix() + "Splitting index <" + indexName + "> from <" + numberOfShards + "> to <" + newNumberOfShards + "> shards");
+
+			SplitIndexRequestFederator federator = new SplitIndexRequestFederator(thisNode, otherNodesActive, pool, internalClient, this);
+			InternalSplitIndexRequest.Builder internalRequest = InternalSplitIndexRequest.newBuilder().setIndexName(indexName)
+					.setNumberOfShards(newNumberOfShards);
+
+			try {
+				federator.send(internalRequest.setPhase(InternalSplitIndexRequest.Phase.PREPARE).build());
+			}
+			catch (Exception e) {
+				try {
+					federator.send(internalRequest.setPhase(InternalSplitIndexRequest.Phase.ABORT).build());
+				}
+				catch (Exception abortException) {
+					LOG.error("Failed to abort split of index <" + indexName + ">", abortException);
+				}
+				throw new Exception("Failed to split index <" + indexName + ">: " + e.getMessage());
+			}
+
+			//children keep the nodes of their parent
+			IndexShardMapping.Builder newIndexShardMapping = indexShardMapping.toBuilder().clearShardMapping().setNumberOfShards(newNumberOfShards);
+			for (int child = 0; child < splitFactor; child++) {
+				for (ShardMapping shardMapping : indexShardMapping.getShardMappingList()) {
+					newIndexShardMapping.addShardMapping(shardMapping.toBuilder().setShardNumber(shardMapping.getShardNumber() + child * numberOfShards));
+				}
+			}
+
+			//nodes only read the mapping and settings when they switch below.  Storing the mapping publishes the split, a node that stops before it
+			//switched finishes the swap of its children when it loads the index again and the settings are repaired from the mapping if needed
+			indexService.storeIndexShardMapping(newIndexShardMapping.build());
+			indexService.storeIndex(indexSettings.toBuilder().setNumberOfShards(newNumberOfShards).setUpdateTime(System.currentTimeMillis()).build());
+
+			try {
+				federator.send(internalRequest.setPhase(InternalSplitIndexRequest.Phase.COMMIT).build());
+			}
+			catch (Exception e) {
+				throw new Exception(
+						"Failed to switch index <" + indexName + "> to <" + newNumberOfShards + "> shards, restart the failed nodes: " + e.getMessage());
+			}
+
+			LOG.info(getLogPrefix() + "Split index <" + indexName + "> into <" + newNumberOfShards + "> shards");
+			return SplitIndexResponse.newBuilder().setNumberOfShards(newNumberOfShards).build();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public InternalSplitIndexResponse internalSplitIndex(InternalSplitIndexRequest request) throws Exception {
+		String indexName = request.getIndexName();
+		ZuliaIndex zuliaIndex = getIndexFromName(indexName);
+
+		switch (request.getPhase()) {
+			case PREPARE -> zuliaIndex.prepareSplit(request.getNumberOfShards());
+			case ABORT -> zuliaIndex.abortSplit();
+			case COMMIT -> {
+				LOG.info(getLogPrefix() + "Switching index <" + indexName + "> to <" + request.getNumberOfShards() + "> shards");
+				CompletableFuture<Void> indexSwitch = new CompletableFuture<>();
+				indexSwitchMap.put(indexName, indexSwitch);
+				try {
+					zuliaIndex.unload(false);
+					zuliaIndex.swapSplitShards();
+					loadIndex(indexName);
+				}
+				finally {
+					indexSwitchMap.remove(indexName, indexSwitch);
+					indexSwitch.complete(null);
+					zuliaIndex.finishSplit();
+				}
+			}
+			default -> throw new IllegalArgumentException("Unknown split phase <" + request.getPhase() + ">");
+		}
+
+		return InternalSplitIndexResponse.newBuilder().build();
+	}
+
+	private void rebalanceShards() {
+		//every node runs the task but only the node with the lowest address plans and moves so moves never race each other
+		for (Node node : currentOtherNodesActive) {
+			int compare = node.getServerAddress().compareTo(thisNode.getServerAddress());
+			if (compare < 0 || (compare == 0 && node.getServicePort() < thisNode.getServicePort())) {
+				return;
+			}
+		}
+
+		//a move waits minutes for the target to catch up, it runs on the request pool so the scheduler keeps committing and warming
+		if (!rebalanceQueued.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			pool.execute(() -> {
+				try {
+					rebalance(RebalanceRequest.newBuilder().setMaxMoves(1).build());
+				}
+				catch (Exception e) {
+					LOG.error(getLogPrefix() + "Failed to rebalance shards: " + e.getMessage());
+				}
+				finally {
+					rebalanceQueued.set(false);
+				}
+			});
+		}
+		catch (RejectedExecutionException e) {
+			rebalanceQueued.set(false);
+		}
+	}
+
+	/**
+	 * Moves shard copies from the most loaded node to the least loaded node until the nodes are balanced or max moves is reached.  A copy is moved
+	 * by adding the target node as a recovering replica that is not queried, waiting for replication to catch it up and then replacing the copy on
+	 * the source node with it.  A primary is
+	 * switched to the target while writes to the index wait on the source node for the last commit to be replicated.
+	 */
+	public RebalanceResponse rebalance(RebalanceRequest request) throws Exception {
+		if (zuliaConfig.getReplicationIntervalMs() <= 0) {
+			throw new IllegalStateException("Shards are moved by replication which is disabled on this node");
+		}
+
+		if (!rebalanceLock.tryLock()) {
+			throw new IllegalStateException("Shards are already being rebalanced");
+		}
+		try {
+			int maxMoves = request.getMaxMoves() > 0 ? request.getMaxMoves() : 1;
+
+			Collection<Node> otherNodesActive = currentOtherNodesActive;
+			GetShardStatsRequestFederator federator = new GetShardStatsRequestFederator(thisNode, otherNodesActive, pool, internalClient, this);
+			List<InternalGetShardStatsResponse> nodeStats = federator.send(InternalGetShardStatsRequest.newBuilder().build());
+
+			List<Node> activeNodes = new ArrayList<>(otherNodesActive);
+			activeNodes.add(thisNode);
+			activeNodes.removeIf(Node::getCoordinatorOnly);
+			List<ShardMove> shardMoves = shardRebalancer.planMoves(nodeStats, activeNodes, maxMoves);
+
+			RebalanceResponse.Builder response = RebalanceResponse.newBuilder();
+			for (ShardMove shardMove : shardMoves) {
+				if (!request.getDryRun()) {
+					moveShard(shardMove);
+				}
+				response.addShardMove(shardMove);
+			}
+			return response.build();
+		}
+		finally {
+			rebalanceLock.unlock();
+		}
+	}
+
+	private void moveShard(ShardMove shardMove) throws Exception {
+		String indexName = shardMove.getIndexName();
+		int shardNumber = shardMove.getShardNumber();
+		Node fromNode = shardMove.getFromNode();
+		Node toNode = shardMove.getToNode();
+		String shardDescription = (shardMove.getPrimary() ? "primary" : "replica") + " of shard <" + shardNumber + "> of index <" + indexName + "> from <"
+				+ fromNode.getServerAddress() + ":" + fromNode.getServicePort() + "> to <" + toNode.getServerAddress() + ":" + toNode.getServicePort() + ">";
+
+		Lock lock = indexUpdateMap.computeIfAbsent(indexName, s -> new ReentrantLock());
+		try {
+			lock.lock();
+
+			IndexShardMapping indexShardMapping = indexService.getIndexShardMapping(indexName);
+			if (indexShardMapping == null) {
+				throw new IndexDoesNotExistException(indexName);
+			}
+			ShardMapping shardMapping = getShardMapping(indexShardMapping, shardNumber);
+
+			boolean fromPrimary = ZuliaNode.isEqual(shardMapping.getPrimaryNode(), fromNode);
+			boolean fromReplica = shardMapping.getReplicaNodeList().stream().anyMatch(node -> ZuliaNode.isEqual(node, fromNode));
+			boolean toHasCopy = ZuliaNode.isEqual(shardMapping.getPrimaryNode(), toNode) || Stream.concat(shardMapping.getReplicaNodeList().stream(),
+					shardMapping.getRecoveringReplicaNodeList().stream()).anyMatch(node -> ZuliaNode.isEqual(node, toNode));
+			if ((shardMove.getPrimary() ? !fromPrimary : !fromReplica) || toHasCopy) {
+				throw new IllegalStateException("Cannot move " + shardDescription + ", the shard mapping changed since the move was planned");
+			}
+
+			LOG.info(getLogPrefix() + "Moving " + shardDescription);
+			long start = System.currentTimeMillis();
+
+			//the target is filled as a recovering replica, queries keep going to the existing copies until it has caught up
+			Node primaryNode = shardMapping.getPrimaryNode();
+			applyShardMapping(replaceShardMapping(indexShardMapping, shardMapping.toBuilder().addRecoveringReplicaNode(toNode).build()), toNode);
+
+			boolean switched = false;
+			try {
+				waitForCatchUp(indexName, shardNumber, primaryNode, toNode);
+
+				if (shardMove.getPrimary()) {
+					InternalBlockWritesRequest.Builder blockWritesRequest = InternalBlockWritesRequest.newBuilder().setIndexName(indexName);
+					blockWrites(fromNode, blockWritesRequest.setBlock(true).build());
+					try {
+						//nothing is written to the primary now so once its last commit is replicated the target has every write
+						waitForCatchUp(indexName, shardNumber, primaryNode, toNode);
+						applyShardMapping(replaceShardMapping(indexShardMapping, shardMapping.toBuilder().setPrimaryNode(toNode).build()), toNode);
+						switched = true;
+					}
+					finally {
+						blockWrites(fromNode, blockWritesRequest.setBlock(false).setRerouteBlocked(switched).build());
+					}
+				}
+				else {
+					ShardMapping.Builder movedShardMapping = shardMapping.toBuilder().clearReplicaNode();
+					for (Node node : shardMapping.getReplicaNodeList()) {
+						movedShardMapping.addReplicaNode(ZuliaNode.isEqual(node, fromNode) ? toNode : node);
+					}
+					applyShardMapping(replaceShardMapping(indexShardMapping, movedShardMapping.build()), toNode);
+					switched = true;
+				}
+			}
+			finally {
+				if (!switched) {
+					try {
+						applyShardMapping(indexShardMapping, null);
+					}
+					catch (Exception e) {
+						LOG.error(getLogPrefix() + "Failed to restore shard mapping of index <" + indexName + "> after failed move", e);
+					}
+				}
+			}
+
+			LOG.info(getLogPrefix() + "Moved " + shardDescription + " in " + (System.currentTimeMillis() - start) + "ms");
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private static ShardMapping getShardMapping(IndexShardMapping indexShardMapping, int shardNumber) throws Exception {
+		for (ShardMapping shardMapping : indexShardMapping.getShardMappingList()) {
+			if (shardMapping.getShardNumber() == shardNumber) {
+				return shardMapping;
+			}
+		}
+		throw new ShardDoesNotExistException(indexShardMapping.getIndexName(), shardNumber);
+	}
+
+	private static IndexShardMapping replaceShardMapping(IndexShardMapping indexShardMapping, ShardMapping newShardMapping) {
+		IndexShardMapping.Builder builder = indexShardMapping.toBuilder().clearShardMapping();
+		for (ShardMapping shardMapping : indexShardMapping.getShardMappingList()) {
+			builder.addShardMapping(shardMapping.getShardNumber() == newShardMapping.getShardNumber() ? newShardMapping : shardMapping);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Stores the shard mapping and has every node apply it.  The first node applies it before the others so it is ready before they route to it
+	 */
+	private void applyShardMapping(IndexShardMapping indexShardMapping, Node firstNode) throws Exception {
+		indexService.storeIndexShardMapping(indexShardMapping);
+
+		InternalCreateOrUpdateIndexRequest request = InternalCreateOrUpdateIndexRequest.newBuilder().setIndexName(indexShardMapping.getIndexName()).build();
+		if (firstNode != null) {
+			if (ZuliaNode.isEqual(thisNode, firstNode)) {
+				internalCreateOrUpdateIndex(request.getIndexName());
+			}
+			else {
+				internalClient.createOrUpdateIndex(firstNode, request);
+			}
+		}
+
+		CreateOrUpdateIndexRequestFederator federator = new CreateOrUpdateIndexRequestFederator(thisNode, currentOtherNodesActive, pool, internalClient,
+				this);
+		federator.send(request);
+	}
+
+	/**
+	 * Waits until the copy of the shard on the target node has the commit the primary had when the wait started.  Fails when the copy stops making
+	 * progress instead of after a fixed time since large shards take long to copy
+	 */
+	private void waitForCatchUp(String indexName, int shardNumber, Node primaryNode, Node targetNode) throws Exception {
+		ShardStats primaryStats = getShardStats(primaryNode, indexName, shardNumber, true);
+		if (primaryStats == null) {
+			throw new IllegalStateException("Primary of shard <" + shardNumber + "> of index <" + indexName + "> is not loaded");
+		}
+
+		long lastProgress = System.currentTimeMillis();
+		ShardStats lastStats = null;
+		while (true) {
+			ShardStats targetStats = getShardStats(targetNode, indexName, shardNumber, false);
+			if (targetStats != null && isCaughtUp(primaryStats, targetStats)) {
+				return;
+			}
+
+			if (targetStats != null && (lastStats == null || targetStats.getSizeBytes() != lastStats.getSizeBytes()
+					|| targetStats.getCommitGeneration() != lastStats.getCommitGeneration())) {
+				lastProgress = System.currentTimeMillis();
+				lastStats = targetStats;
+			}
+			else if (System.currentTimeMillis() - lastProgress > TimeUnit.MINUTES.toMillis(MOVE_STALL_TIMEOUT_MINUTES)) {
+				throw new Exception("Replica of shard <" + shardNumber + "> of index <" + indexName + "> made no progress for <" + MOVE_STALL_TIMEOUT_MINUTES
+						+ "> minutes");
+			}
+
+			Thread.sleep(MOVE_POLL_INTERVAL_MS);
+		}
+	}
+
+	private static boolean isCaughtUp(ShardStats primaryStats, ShardStats targetStats) {
+		if (targetStats.getCommitGeneration() != primaryStats.getCommitGeneration()) {
+			return targetStats.getCommitGeneration() > primaryStats.getCommitGeneration();
+		}
+		//a new replica starts with an empty first commit which has the same generation as the first commit of the primary
+		return targetStats.getNumberOfDocs() > 0 || primaryStats.getNumberOfDocs() == 0;
+	}
+
+	private ShardStats getShardStats(Node node, String indexName, int shardNumber, boolean primary) throws Exception {
+		InternalGetShardStatsRequest request = InternalGetShardStatsRequest.newBuilder().build();
+		InternalGetShardStatsResponse response =
+				ZuliaNode.isEqual(thisNode, node) ? internalGetShardStats(request) : internalClient.getShardStats(node, request);
+		for (ShardStats shardStats : response.getShardStatsList()) {
+			if (shardStats.getIndexName().equals(indexName) && shardStats.getShardNumber() == shardNumber && shardStats.getPrimary() == primary) {
+				return shardStats;
+			}
+		}
+		return null;
+	}
+
+	private void blockWrites(Node node, InternalBlockWritesRequest request) throws Exception {
+		if (ZuliaNode.isEqual(thisNode, node)) {
+			internalBlockWrites(request);
+		}
+		else {
+			internalClient.blockWrites(node, request);
+		}
+	}
+
+	public List<ShardMergeStatsDTO> getShardMergeStats() throws IOException {
+		List<ShardMergeStatsDTO> shardMergeStats = new ArrayList<>();
+		for (ZuliaIndex zuliaIndex : indexMap.values()) {
+			for (ShardStats shardStats : zuliaIndex.getShardStats()) {
+				if (shardStats.getPrimary()) {
+					shardMergeStats.add(new ShardMergeStatsDTO(shardStats.getIndexName(), shardStats.getShardNumber(), shardStats.getRunningMerges(),
+							shardStats.getMergeCount(), shardStats.getMergedBytes() / (1024.0 * 1024.0), shardStats.getMergeTimeMs(),
+							shardStats.getMergeStallTimeMs()));
+				}
+			}
+		}
+		return shardMergeStats;
+	}
+
+	public List<ShardTaxonomyCacheStatsDTO> getShardTaxonomyCacheStats() throws IOException {
+		List<ShardTaxonomyCacheStatsDTO> shardTaxonomyCacheStats = new ArrayList<>();
+		for (ZuliaIndex zuliaIndex : indexMap.values()) {
+			for (ShardStats shardStats : zuliaIndex.getShardStats()) {
+				if (shardStats.getPrimary()) {
+					ZuliaBase.CacheStats cacheStats = shardStats.getTaxonomyCache();
+					long requests = cacheStats.getHitCount() + cacheStats.getMissCount();
+					double hitRate = requests == 0 ? 1.0 : (double) cacheStats.getHitCount() / requests;
+					shardTaxonomyCacheStats.add(
+							new ShardTaxonomyCacheStatsDTO(shardStats.getIndexName(), shardStats.getShardNumber(), cacheStats.getEstimatedSize(),
+									cacheStats.getHitCount(), cacheStats.getMissCount(), cacheStats.getEvictionCount(), hitRate));
+				}
+			}
+		}
+		return shardTaxonomyCacheStats;
+	}
+
+	public InternalGetShardStatsResponse internalGetShardStats(@SuppressWarnings("unused") InternalGetShardStatsRequest request) throws Exception {
+		InternalGetShardStatsResponse.Builder response = InternalGetShardStatsResponse.newBuilder().setNode(thisNode);
+		for (ZuliaIndex zuliaIndex : indexMap.values()) {
+			response.addAllShardStats(zuliaIndex.getShardStats());
+		}
+		return response.build();
+	}
+
+	public InternalBlockWritesResponse internalBlockWrites(InternalBlockWritesRequest request) throws Exception {
+		ZuliaIndex zuliaIndex = getIndexFromName(request.getIndexName());
+		if (request.getBlock()) {
+			zuliaIndex.blockWrites();
+		}
+		else {
+			zuliaIndex.releaseWrites(request.getRerouteBlocked());
+		}
+		return InternalBlockWritesResponse.newBuilder().build();
+	}
+
 	public GetNumberOfDocsResponse getNumberOfDocs(GetNumberOfDocsRequest request) throws Exception {
 		ZuliaIndex i = getIndexFromName(request.getIndexName());
 		GetNumberOfDocsRequestFederator federator = new GetNumberOfDocsRequestFederator(thisNode, currentOtherNodesActive, MasterSlaveSettings.MASTER_ONLY, i,
@@ -755,6 +1503,73 @@ public class ZuliaIndexManager {
 		return ReindexRequestFederator.internalReindex(i, request);
 	}
 
+	public GetReindexStatusResponse getReindexStatus(GetReindexStatusRequest request) throws Exception {
+		ZuliaIndex i = getIndexFromName(request.getIndexName());
+		GetReindexStatusRequestFederator federator = new GetReindexStatusRequestFederator(thisNode, currentOtherNodesActive,
+				MasterSlaveSettings.MASTER_ONLY, i, pool, internalClient);
+		return federator.getResponse(request);
+	}
+
+	public GetReindexStatusResponse internalGetReindexStatus(GetReindexStatusRequest request) throws Exception {
+		ZuliaIndex i = getIndexFromName(request.getIndexName());
+		return GetReindexStatusRequestFederator.internalGetReindexStatus(i, request);
+	}
+
+	public GetBulkLoadStatusResponse getBulkLoadStatus(GetBulkLoadStatusRequest request) throws Exception {
+		ZuliaIndex i = getIndexFromName(request.getIndexName());
+		GetBulkLoadStatusRequestFederator federator = new GetBulkLoadStatusRequestFederator(thisNode, currentOtherNodesActive,
+				MasterSlaveSettings.MASTER_ONLY, i, pool, internalClient);
+		return federator.getResponse(request);
+	}
+
+	public GetBulkLoadStatusResponse internalGetBulkLoadStatus(GetBulkLoadStatusRequest request) throws Exception {
+		ZuliaIndex i = getIndexFromName(request.getIndexName());
+		return GetBulkLoadStatusRequestFederator.internalGetBulkLoadStatus(i, request);
+	}
+
+	public DeleteByQueryResponse deleteByQuery(DeleteByQueryRequest request) throws Exception {
+		ZuliaIndex i = getIndexFromName(request.getIndexName());
+		DeleteByQueryRequestFederator federator = new DeleteByQueryRequestFederator(thisNode, currentOtherNodesActive, MasterSlaveSettings.MASTER_ONLY,
+				i, pool, internalClient);
+		return federator.getResponse(request);
+	}
+
+	public DeleteByQueryResponse internalDeleteByQuery(DeleteByQueryRequest request) throws Exception {
+		ZuliaIndex i = getIndexFromName(request.getIndexName());
+		return DeleteByQueryRequestFederator.internalDeleteByQuery(i, request);
+	}
+
+	public UpdateByQueryResponse updateByQuery(UpdateByQueryRequest request) throws Exception {
+		ZuliaIndex i = getIndexFromName(request.getIndexName());
+		UpdateByQueryRequestFederator federator = new UpdateByQueryRequestFederator(thisNode, currentOtherNodesActive, MasterSlaveSettings.MASTER_ONLY,
+				i, pool, internalClient);
+		return federator.getResponse(request);
+	}
+
+	public UpdateByQueryResponse internalUpdateByQuery(UpdateByQueryRequest request) throws Exception {
+		ZuliaIndex i = getIndexFromName(request.getIndexName());
+		return UpdateByQueryRequestFederator.internalUpdateByQuery(i, request);
+	}
+
+	public InternalGetShardFilesResponse internalGetShardFiles(InternalGetShardFilesRequest request) throws Exception {
+		ZuliaIndex i = getIndexFromName(request.getIndexName());
+		return i.getShardFiles(request);
+	}
+
+	public InternalGetShardFileChunkResponse internalGetShardFileChunk(InternalGetShardFileChunkRequest request) throws Exception {
+		ZuliaIndex i = getIndexFromName(request.getIndexName());
+		return i.getShardFileChunk(request);
+	}
+
+	public InternalReleaseShardFilesResponse internalReleaseShardFiles(InternalReleaseShardFilesRequest request) throws Exception {
+		ZuliaIndex i = getIndexFromName(request.getIndexName());
+		return i.releaseShardFiles(request);
+	}
+
+	public InternalPingResponse internalPing(InternalPingRequest request) {
+		return InternalPingResponse.newBuilder().build();
+	}
+
 	public GetFieldNamesResponse getFieldNames(GetFieldNamesRequest request) throws Exception {
 		MasterSlaveSettings masterSlaveSettings = request.getMasterSlaveSettings();
 		ZuliaIndex i = getIndexFromName(request.getIndexName());
@@ -797,6 +1612,8 @@ public class ZuliaIndexManager {
 		String orgIndex = indexName;
 		indexName = handleAlias(indexName);
 
+		awaitIndexSwitch(indexName);
+
 		ZuliaIndex i = indexMap.get(indexName);
 		if (i == null) {
 
@@ -810,6 +1627,40 @@ public class ZuliaIndexManager {
 		return i;
 	}
 
+	/**
+	 * Waits while the index is unloaded and loaded again for a split so the request uses the new shards instead of failing on the closed ones
+	 */
+	private void awaitIndexSwitch(String indexName) {
+		CompletableFuture<Void> indexSwitch = indexSwitchMap.get(indexName);
+		if (indexSwitch == null) {
+			return;
+		}
+
+		try {
+			indexSwitch.get(INDEX_SWITCH_WAIT_SECONDS, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException | TimeoutException e) {
+			LOG.warn(getLogPrefix() + "Index <" + indexName + "> is still switching to its new shards: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * @return names of the loaded indexes the given index names and aliases refer to, names that do not exist are left out
+	 */
+	public Set<String> getLoadedIndexNames(Collection<String> indexNames) {
+		Set<String> loadedIndexNames = new HashSet<>();
+		for (String indexName : indexNames) {
+			indexName = handleAlias(indexName);
+			if (indexMap.containsKey(indexName)) {
+				loadedIndexNames.add(indexName);
+			}
+		}
+		return loadedIndexNames;
+	}
+
 	private String handleAlias(String indexName) {
 		if (indexAliasMap.containsKey(indexName)) {
 			indexName = indexAliasMap.get(indexName);
@@ -884,6 +1735,22 @@ public class ZuliaIndexManager {
 		return DeleteIndexAliasResponse.newBuilder().build();
 	}
 
+	public QueryResultCacheBudget getQueryResultCacheBudget() {
+		return queryResultCacheBudget;
+	}
+
+	public NodeExecutors getNodeExecutors() {
+		return nodeExecutors;
+	}
+
+	public AdmissionController getAdmissionController() {
+		return admissionController;
+	}
+
+	public QueryHedger getQueryHedger() {
+		return queryHedger;
+	}
+
 	public void getStats() {
 		for (ZuliaIndex value : indexMap.values()) {
 
@@ -1,32 +1,99 @@
 package io.zulia.server.index;
 
+import com.google.common.util.concurrent.Striped;
+import com.google.protobuf.ByteString;
 import io.zulia.message.ZuliaBase;
 import io.zulia.message.ZuliaBase.MasterSlaveSettings;
 import io.zulia.message.ZuliaBase.ShardCountResponse;
+import io.zulia.message.ZuliaIndex.IndexSettings;
 import io.zulia.message.ZuliaQuery.FetchType;
 import io.zulia.message.ZuliaQuery.ShardQueryResponse;
 import io.zulia.message.ZuliaServiceOuterClass;
+import io.zulia.message.ZuliaServiceOuterClass.FetchRequest;
 import io.zulia.message.ZuliaServiceOuterClass.GetFieldNamesResponse;
 import io.zulia.message.ZuliaServiceOuterClass.GetTermsRequest;
 import io.zulia.message.ZuliaServiceOuterClass.GetTermsResponse;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFileChunkRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFileChunkResponse;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFilesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalGetShardFilesResponse;
+import io.zulia.message.ZuliaServiceOuterClass.InternalReleaseShardFilesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalReleaseShardFilesResponse;
+import io.zulia.message.ZuliaServiceOuterClass.ShardBulkLoadStatus;
+import io.zulia.message.ZuliaServiceOuterClass.ShardReindexStatus;
+import io.zulia.message.ZuliaServiceOuterClass.ShardStats;
 import io.zulia.server.search.ShardQuery;
-import io.zulia.server.util.BytesRefUtil;
+import io.zulia.util.ZuliaUtil;
+import io.zulia.util.pool.TaskExecutor;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Weight;
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.xerial.snappy.Snappy;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 public class ZuliaShard {
 
 	private final static Logger LOG = LoggerFactory.getLogger(ZuliaShard.class);
 
+	private static final int DOCUMENT_LOCK_STRIPES = 256;
+	private static final int MAX_UNREFRESHED_IDS = 10000;
+	private static final int REINDEX_RANGE_SIZE = 50000;
+	private static final long REINDEX_PROGRESS_INTERVAL_MS = 10000;
+
+	private static class ReindexProgress {
+		private final long startTime;
+		private final LongAdder reindexed;
+		private volatile long total;
+		private volatile long endTime;
+		private volatile String error;
+
+		private ReindexProgress() {
+			this.startTime = System.currentTimeMillis();
+			this.reindexed = new LongAdder();
+		}
+
+		private void finish(Exception e) {
+			if (e != null) {
+				error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+			}
+			endTime = System.currentTimeMillis();
+		}
+	}
+
+	private static class MergeProgress {
+		private final long startTime;
+		private volatile long endTime;
+		private volatile String error;
+
+		private MergeProgress() {
+			this.startTime = System.currentTimeMillis();
+		}
+
+		private void finish(Exception e) {
+			if (e != null) {
+				error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+			}
+			endTime = System.currentTimeMillis();
+		}
+	}
+
 	private final int shardNumber;
 
 	private final ShardReaderManager shardReaderManager;
@@ -34,11 +101,31 @@ public class ZuliaShard {
 	private final String indexName;
 
 	private final boolean primary;
+	private final ShardReplicationSource shardReplicationSource;
+	private final ShardReplicationTarget shardReplicationTarget;
+
+	//documents written while a reindex runs, the reindex does not overwrite them with the stored copy from its snapshot
+	private volatile String trackingId;
+	private volatile Set<String> trackedIds;
+	private volatile ReindexProgress reindexProgress;
 
-	private String trackingId;
-	private HashSet<String> trackedIds;
+	private volatile boolean unloaded;
 
-	private boolean unloaded;
+	//a replica is queued for replication at most once and copied by one thread at a time
+	private final AtomicBoolean replicationQueued;
+	private final ReentrantLock replicationLock;
+
+	//cumulative, the rebalancer turns them into rates
+	private final LongAdder queryCount;
+	private final LongAdder writeCount;
+
+	//serializes writes of the same document so an update reads the document the previous write left
+	private final Striped<Lock> documentLocks;
+
+	//ids written since the last refresh for a skip unchanged check, too many and the next check refreshes anyway
+	private final Set<String> unrefreshedIds;
+	private volatile boolean refreshBeforeCheck;
+	private volatile MergeProgress bulkLoadMergeProgress;
 
 	public ZuliaShard(ShardWriteManager shardWriteManager, boolean primary) throws Exception {
 
@@ -47,6 +134,14 @@ public class ZuliaShard {
 		this.shardNumber = shardWriteManager.getShardNumber();
 		this.indexName = shardWriteManager.getIndexConfig().getIndexName();
 		this.shardReaderManager = new ShardReaderManager(shardWriteManager.createShardReader());
+		this.shardReplicationSource = primary ? new ShardReplicationSource(shardWriteManager) : null;
+		this.shardReplicationTarget = primary ? null : new ShardReplicationTarget(shardWriteManager);
+		this.queryCount = new LongAdder();
+		this.writeCount = new LongAdder();
+		this.documentLocks = Striped.lock(DOCUMENT_LOCK_STRIPES);
+		this.unrefreshedIds = ConcurrentHashMap.newKeySet();
+		this.replicationQueued = new AtomicBoolean();
+		this.replicationLock = new ReentrantLock();
 
 	}
 
@@ -54,8 +149,80 @@ public class ZuliaShard {
 		return primary;
 	}
 
-	public void updateIndexSettings() {
+	/**
+	 * @param mergePool - runs the force merge when bulk load is finished with max segments on exit
+	 */
+	public void updateIndexSettings(TaskExecutor mergePool) throws IOException {
+		boolean wasBulkLoad = shardWriteManager.isBulkLoad();
 		shardWriteManager.updateIndexSettings();
+
+		//the same request can match different documents after an analyzer or field change
+		ShardReader shardReader = shardReaderManager.acquire();
+		try {
+			shardReader.invalidateCaches();
+		}
+		finally {
+			shardReaderManager.decRef(shardReader);
+		}
+
+		if (wasBulkLoad && !shardWriteManager.isBulkLoad()) {
+			finishBulkLoad(mergePool);
+		}
+	}
+
+	/**
+	 * Commits what was loaded, a failed commit is thrown to the settings update.  The optional force merge and the commit after it run on the merge
+	 * pool since they can take much longer than the request, their progress is in {@link #getBulkLoadStatus()}.  Warming runs after since the
+	 * settings update reset it
+	 */
+	private void finishBulkLoad(TaskExecutor mergePool) throws IOException {
+		LOG.info("Finishing bulk load for shard <" + shardNumber + "> for index <" + indexName + ">");
+		forceCommit();
+
+		int maxSegmentsOnExit = shardWriteManager.getIndexConfig().getIndexSettings().getBulkLoadSettings().getMaxSegmentsOnExit();
+		if (maxSegmentsOnExit > 0) {
+			MergeProgress progress = new MergeProgress();
+			bulkLoadMergeProgress = progress;
+			mergePool.executeAsync(() -> {
+				try {
+					shardWriteManager.forceMerge(maxSegmentsOnExit);
+					forceCommit();
+					progress.finish(null);
+					LOG.info("Merged shard <" + shardNumber + "> for index <" + indexName + "> to <" + maxSegmentsOnExit
+							+ "> segments after bulk load in " + (progress.endTime - progress.startTime) + "ms");
+				}
+				catch (Exception e) {
+					progress.finish(e);
+					LOG.error("Failed to merge shard <" + shardNumber + "> for index <" + indexName + "> after bulk load", e);
+				}
+				return null;
+			});
+		}
+	}
+
+	/**
+	 * @return whether the shard is bulk loading and the progress of the force merge run when bulk load was last finished since the shard was loaded
+	 */
+	public ShardBulkLoadStatus getBulkLoadStatus() {
+		ShardBulkLoadStatus.Builder status = ShardBulkLoadStatus.newBuilder().setShardNumber(shardNumber).setBulkLoad(shardWriteManager.isBulkLoad());
+		MergeProgress progress = bulkLoadMergeProgress;
+		if (progress != null) {
+			status.setMerging(progress.endTime == 0).setMergeStartTime(progress.startTime).setMergeEndTime(progress.endTime);
+			if (progress.error != null) {
+				status.setError(progress.error);
+			}
+		}
+		return status.build();
+	}
+
+	/**
+	 * Refreshes the reader for a search or fetch unless bulk loading, where opening a near real time reader would flush the ram buffer into a
+	 * small segment
+	 */
+	private void refreshForSearch() throws IOException {
+		if (!shardWriteManager.isBulkLoad()) {
+			shardReaderManager.maybeRefreshBlocking();
+		}
 	}
 
 	public int getShardNumber() {
@@ -64,7 +231,8 @@ public class ZuliaShard {
 
 	public ShardQueryResponse queryShard(ShardQuery shardQuery) throws Exception {
 
-		shardReaderManager.maybeRefreshBlocking();
+		queryCount.increment();
+		refreshForSearch();
 		ShardReader shardReader = shardReaderManager.acquire();
 
 		try {
@@ -132,86 +300,388 @@ public class ZuliaShard {
 		}
 	}
 
-	public void reindex() throws IOException {
+	/**
+	 * Reindexes the stored documents of the shard from a snapshot.  The snapshot is split into document ranges of single segments that are
+	 * reindexed in parallel on the reindex pool.  Documents written after the reindex started are tracked and not overwritten with the stored copy
+	 *
+	 * @param maxDocsPerSecond - limit for all ranges of the shard together, 0 is unlimited
+	 * @param incremental      - only reindex the documents that store a field whose field config or analyzer changed since the settings the shard
+	 *                         was last fully indexed with.  Every document is reindexed if those settings are unknown
+	 */
+	public void reindex(TaskExecutor reindexPool, int maxDocsPerSecond, boolean incremental) throws Exception {
 
 		final String myTrackingId = UUID.randomUUID().toString();
 		synchronized (this) {
+			trackedIds = ConcurrentHashMap.newKeySet();
 			trackingId = myTrackingId;
-			trackedIds = new HashSet<>();
 		}
 
 		shardReaderManager.maybeRefreshBlocking();
 		ShardReader shardReader = shardReaderManager.acquire();
 
+		ReindexProgress progress = new ReindexProgress();
+		reindexProgress = progress;
+		DocumentRateLimiter rateLimiter = new DocumentRateLimiter(maxDocsPerSecond);
+		AtomicLong lastProgress = new AtomicLong(progress.startTime);
+
+		//the first failure of any range stops the others
+		AtomicReference<Exception> failure = new AtomicReference<>();
+		List<Future<Void>> futures = new ArrayList<>();
 		try {
-			AtomicInteger count = new AtomicInteger();
-			shardReader.streamAllDocs(d -> {
-				if (!myTrackingId.equals(trackingId)) {
-					throw new RuntimeException("Reindex interrupted by another reindex");
+			//the settings at the start are recorded when done, changes made while running are picked up by the next incremental reindex
+			IndexSettings indexSettings = shardWriteManager.getIndexConfig().getIndexSettings();
+
+			Query query = null;
+			progress.total = shardReader.numDocs();
+			if (incremental) {
+				Set<String> changedStoredFields = FieldConfigDiff.getChangedStoredFields(shardWriteManager.getIndexedSettings(), indexSettings);
+				if (changedStoredFields != null) {
+					query = ShardDocumentIndexer.getStoredFieldsQuery(changedStoredFields);
+					progress.total = shardReader.countDocs(query);
+					LOG.info("Incremental reindex of <" + progress.total + "> documents with changed fields <" + changedStoredFields + "> for shard <"
+							+ shardNumber + "> for index <" + indexName + ">");
 				}
+				else {
+					LOG.info("Settings indexed with are unknown, reindexing all documents for shard <" + shardNumber + "> for index <" + indexName
+							+ ">");
+				}
+			}
+			Weight weight = shardReader.createWeight(query);
 
-				try {
-
-					byte[] idInfoBytes = BytesRefUtil.getByteArray(d.idInfo());
-					ZuliaBase.IdInfo idInfo = ZuliaBase.IdInfo.parseFrom(idInfoBytes);
-
-					long timestamp = idInfo.getTimestamp();
-
-					String uniqueId = idInfo.getId();
-
-					DocumentContainer metadata;
-					DocumentContainer mongoDocument;
-					if (idInfo.getCompressedDoc()) {
-						metadata = new DocumentContainer(d.meta() != null ? Snappy.uncompress(BytesRefUtil.getByteArray(d.meta())) : null);
-						mongoDocument = new DocumentContainer(d.fullDoc() != null ? Snappy.uncompress(BytesRefUtil.getByteArray(d.fullDoc())) : null);
+			for (ShardReader.DocRange docRange : shardReader.getDocRanges(REINDEX_RANGE_SIZE)) {
+				if (failure.get() != null) {
+					break;
+				}
+				futures.add(reindexPool.executeAsync(() -> {
+					try {
+						shardReader.streamDocs(docRange, weight, d -> reindexDocument(d, myTrackingId, failure, rateLimiter, progress, lastProgress));
 					}
-					else {
-						metadata = new DocumentContainer(d.meta());
-						mongoDocument = new DocumentContainer(d.fullDoc());
+					catch (Exception e) {
+						failure.compareAndSet(null, e);
 					}
+					return null;
+				}));
+			}
 
-					if (!trackedIds.contains(uniqueId)) {
-						shardWriteManager.indexDocument(uniqueId, timestamp, mongoDocument, metadata);
-					}
-					count.getAndIncrement();
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+
+			Exception e = failure.get();
+			if (e != null) {
+				//unwrap the checked exceptions the document consumer had to wrap
+				if (e.getClass() == RuntimeException.class && e.getCause() instanceof Exception cause) {
+					throw cause;
 				}
-				catch (Exception e) {
-					throw new RuntimeException(e);
+				throw e;
+			}
+
+			LOG.info("Reindexed <" + progress.reindexed.sum() + "> documents for shard <" + shardNumber + "> for index <" + indexName + "> in "
+					+ (System.currentTimeMillis() - progress.startTime) + "ms");
+			shardWriteManager.setIndexedSettings(indexSettings);
+			forceCommit();
+			progress.finish(null);
+		}
+		catch (Exception e) {
+			progress.finish(e);
+			throw e;
+		}
+		finally {
+			//ranges still running must be done with the reader before it is released
+			failure.compareAndSet(null, new IllegalStateException("Reindex stopped"));
+			for (Future<Void> future : futures) {
+				try {
+					future.get();
 				}
-			});
+				catch (Exception ignored) {
+				}
+			}
 			synchronized (this) {
 				if (myTrackingId.equals(trackingId)) {
 					trackingId = null;
-					trackedIds = new HashSet<>();
+					trackedIds = null;
 				}
 			}
-			LOG.info("Reindexed <" + count.get() + "> documents for shard <" + shardNumber + "> for index <" + indexName + ">");
-			forceCommit();
+			shardReaderManager.decRef(shardReader);
+		}
+	}
+
+	private void reindexDocument(ReIndexContainer d, String myTrackingId, AtomicReference<Exception> failure, DocumentRateLimiter rateLimiter,
+			ReindexProgress progress, AtomicLong lastProgress) {
+		if (!myTrackingId.equals(trackingId)) {
+			throw new IllegalStateException("Reindex interrupted by another reindex");
+		}
+		if (failure.get() != null) {
+			throw new IllegalStateException("Reindex stopped");
+		}
+
+		try {
+			ZuliaBase.IdInfo idInfo = d.getIdInfo();
+			String uniqueId = idInfo.getId();
+
+			DocumentContainer metadata = d.getMetadata(idInfo.getCompressedDoc());
+			DocumentContainer mongoDocument = d.getDocument(idInfo.getCompressedDoc());
+
+			rateLimiter.acquire();
+
+			//writers track the id under the same lock right before writing, so a write is either applied after the stored copy or skips it
+			Lock documentLock = documentLocks.get(uniqueId);
+			documentLock.lock();
+			try {
+				Set<String> tracked = trackedIds;
+				if (tracked != null && !tracked.contains(uniqueId)) {
+					shardWriteManager.indexDocument(uniqueId, idInfo.getTimestamp(), mongoDocument, metadata);
+				}
+			}
+			finally {
+				documentLock.unlock();
+			}
+			progress.reindexed.increment();
+
+			long now = System.currentTimeMillis();
+			long last = lastProgress.get();
+			if (now - last >= REINDEX_PROGRESS_INTERVAL_MS && lastProgress.compareAndSet(last, now)) {
+				LOG.info("Reindexed <" + progress.reindexed.sum() + "> of <" + progress.total + "> documents for shard <" + shardNumber
+						+ "> for index <" + indexName + ">");
+			}
+		}
+		catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private void track(String uniqueId) {
+		Set<String> tracked = trackedIds;
+		if (tracked != null) {
+			tracked.add(uniqueId);
+		}
+	}
+
+	/**
+	 * @return progress of the running or last reindex of the shard since it was loaded
+	 */
+	public ShardReindexStatus getReindexStatus() {
+		ShardReindexStatus.Builder status = ShardReindexStatus.newBuilder().setShardNumber(shardNumber);
+		ReindexProgress progress = reindexProgress;
+		if (progress != null) {
+			status.setRunning(progress.endTime == 0).setTotal(progress.total).setReindexed(progress.reindexed.sum()).setStartTime(progress.startTime)
+					.setEndTime(progress.endTime);
+			if (progress.error != null) {
+				status.setError(progress.error);
+			}
+		}
+		return status.build();
+	}
+
+	public InternalGetShardFilesResponse getShardFiles(InternalGetShardFilesRequest request) throws IOException {
+		return getShardReplicationSource().getShardFiles(request);
+	}
+
+	public InternalGetShardFileChunkResponse getShardFileChunk(InternalGetShardFileChunkRequest request) throws IOException {
+		return getShardReplicationSource().getShardFileChunk(request);
+	}
+
+	public InternalReleaseShardFilesResponse releaseShardFiles(InternalReleaseShardFilesRequest request) throws IOException {
+		return getShardReplicationSource().releaseShardFiles(request);
+	}
+
+	private ShardReplicationSource getShardReplicationSource() {
+		if (!primary) {
+			throw new IllegalStateException("Cannot replicate from replica:  index <" + indexName + "> shard <" + shardNumber + ">");
+		}
+		return shardReplicationSource;
+	}
+
+	/**
+	 * Copies the latest commit of the primary into this replica if it changed and opens it for searching
+	 */
+	public void replicate(ShardReplicationClient shardReplicationClient) throws Exception {
+		if (primary) {
+			throw new IllegalStateException("Cannot replicate into primary:  index <" + indexName + "> shard <" + shardNumber + ">");
+		}
+
+		replicationLock.lock();
+		try {
+			if (unloaded) {
+				return;
+			}
+
+			if (shardReplicationTarget.replicate(shardReplicationClient)) {
+				//open the new commit first, the files only the previous commit references are still in use by the current reader
+				shardReaderManager.maybeRefreshBlocking();
+				shardReplicationTarget.deleteUnreferencedFiles();
+				shardWriteManager.replicaUpdated();
+			}
 		}
 		finally {
-			shardReaderManager.decRef(shardReader);
+			replicationLock.unlock();
+		}
+	}
+
+	/**
+	 * @return true if the replica was not already queued for replication, the caller must call {@link #replicationFinished()} once it ran
+	 */
+	public boolean queueReplication() {
+		return replicationQueued.compareAndSet(false, true);
+	}
+
+	public void replicationFinished() {
+		replicationQueued.set(false);
+	}
+
+	/**
+	 * Expires the replication sessions of replicas that stopped without releasing their commit so the files of the commit can be deleted
+	 */
+	public void expireReplicationSessions() {
+		if (primary) {
+			shardReplicationSource.expireSessions();
+		}
+	}
+
+	/**
+	 * Builds the child shards of this shard from its latest commit, the primary is committed first so the children have every write
+	 */
+	public void split(ShardSplitter shardSplitter, Path indexPath, Path taxoPath, List<ShardSplitter.ChildShard> childShards) throws IOException {
+		if (primary) {
+			forceCommit();
+			shardSplitter.splitPrimary(shardWriteManager, indexPath, taxoPath, childShards);
+		}
+		else {
+			//replication deletes the files of the commit being linked once a newer commit is installed
+			replicationLock.lock();
+			try {
+				shardSplitter.splitReplica(shardWriteManager, indexPath, taxoPath, childShards);
+			}
+			finally {
+				replicationLock.unlock();
+			}
 		}
 	}
 
 	public void close() throws IOException {
 		unloaded = true;
+		if (shardReplicationSource != null) {
+			shardReplicationSource.close();
+		}
 		shardWriteManager.close();
 	}
 
 	public void index(String uniqueId, long timestamp, DocumentContainer mongoDocument, DocumentContainer metadata) throws Exception {
+		index(uniqueId, timestamp, mongoDocument, metadata, false);
+	}
+
+	/**
+	 * @param skipUnchanged - skip indexing if the content hash of the document and metadata is the same as the stored document's
+	 * @return false if the document was unchanged and skipped
+	 */
+	public boolean index(String uniqueId, long timestamp, DocumentContainer mongoDocument, DocumentContainer metadata, boolean skipUnchanged)
+			throws Exception {
 		if (!primary) {
 			throw new IllegalStateException("Cannot index document <" + uniqueId + "> from replica:  index <" + indexName + "> shard <" + shardNumber + ">");
 		}
 
-		if (trackingId != null) {
-			trackedIds.add(uniqueId);
+		Lock documentLock = documentLocks.get(uniqueId);
+		documentLock.lock();
+		try {
+			if (skipUnchanged && isUnchanged(uniqueId, mongoDocument, metadata)) {
+				//not tracked, a running reindex still has to write the skipped document with the new settings
+				return false;
+			}
+			track(uniqueId);
+			shardWriteManager.indexDocument(uniqueId, timestamp, mongoDocument, metadata);
+			markWritten(uniqueId);
+		}
+		finally {
+			documentLock.unlock();
 		}
 
-		shardWriteManager.indexDocument(uniqueId, timestamp, mongoDocument, metadata);
+		writeCount.increment();
 		if (shardWriteManager.markedChangedCheckIfCommitNeeded()) {
 			forceCommit();
 		}
+		return true;
+	}
+
+	private boolean isUnchanged(String uniqueId, DocumentContainer mongoDocument, DocumentContainer metadata) throws IOException {
+		refreshIfWritten(uniqueId);
+
+		ZuliaBase.IdInfo idInfo;
+		ShardReader shardReader = shardReaderManager.acquire();
+		try {
+			idInfo = shardReader.getStoredIdInfo(uniqueId);
+		}
+		finally {
+			shardReaderManager.decRef(shardReader);
+		}
 
+		//documents stored before content hashes were added have none
+		ByteString contentHash = idInfo != null ? idInfo.getContentHash() : ByteString.EMPTY;
+		return !contentHash.isEmpty() && contentHash.equals(ShardDocumentIndexer.getContentHash(mongoDocument, metadata));
+	}
+
+	/**
+	 * Refreshes the reader if the document was written since the last refresh, a recent write of the document is not visible until then
+	 */
+	private void refreshIfWritten(String uniqueId) throws IOException {
+		if (refreshBeforeCheck || unrefreshedIds.contains(uniqueId)) {
+			refreshBeforeCheck = false;
+			unrefreshedIds.clear();
+			shardReaderManager.maybeRefreshBlocking();
+		}
+	}
+
+	/**
+	 * Must be called after the write, a check that clears the ids then always refreshes after the writes it cleared
+	 */
+	private void markWritten(String uniqueId) {
+		if (unrefreshedIds.size() >= MAX_UNREFRESHED_IDS) {
+			refreshBeforeCheck = true;
+			unrefreshedIds.clear();
+		}
+		unrefreshedIds.add(uniqueId);
+	}
+
+	/**
+	 * Applies the field operations to the stored document and indexes it again.  The reader is only refreshed first when the document was written
+	 * since the last refresh, so the update sees the last write of the document without a refresh per update
+	 *
+	 * @return false if there is no document with the unique id
+	 */
+	public boolean update(String uniqueId, DocumentUpdater documentUpdater) throws Exception {
+		if (!primary) {
+			throw new IllegalStateException("Cannot update document <" + uniqueId + "> from replica:  index <" + indexName + "> shard <" + shardNumber + ">");
+		}
+
+		Lock documentLock = documentLocks.get(uniqueId);
+		documentLock.lock();
+		try {
+			ReIndexContainer storedDocument;
+			refreshIfWritten(uniqueId);
+			ShardReader shardReader = shardReaderManager.acquire();
+			try {
+				storedDocument = shardReader.getStoredDocument(uniqueId);
+			}
+			finally {
+				shardReaderManager.decRef(shardReader);
+			}
+
+			if (storedDocument == null) {
+				return false;
+			}
+
+			boolean compressed = storedDocument.getIdInfo().getCompressedDoc();
+			DocumentContainer metadata = storedDocument.getMetadata(compressed);
+			DocumentContainer mongoDocument = storedDocument.getDocument(compressed);
+
+			Document document = mongoDocument.hasDocument() ? mongoDocument.getDocument() : new Document();
+			documentUpdater.update(document);
+
+			index(uniqueId, System.currentTimeMillis(), new DocumentContainer(ZuliaUtil.mongoDocumentToByteArray(document)), metadata);
+			return true;
+		}
+		finally {
+			documentLock.unlock();
+		}
 	}
 
 	public void deleteDocument(String uniqueId) throws Exception {
@@ -219,17 +689,74 @@ public class ZuliaShard {
 			throw new IllegalStateException("Cannot delete document <" + uniqueId + "> from replica:  index <" + indexName + "> shard <" + shardNumber + ">");
 		}
 
-		if (trackingId != null) {
-			trackedIds.add(uniqueId);
+		writeCount.increment();
+		Lock documentLock = documentLocks.get(uniqueId);
+		documentLock.lock();
+		try {
+			track(uniqueId);
+			shardWriteManager.deleteDocuments(uniqueId);
+			markWritten(uniqueId);
+		}
+		finally {
+			documentLock.unlock();
 		}
-
-		shardWriteManager.deleteDocuments(uniqueId);
 		if (shardWriteManager.markedChangedCheckIfCommitNeeded()) {
 			forceCommit();
 		}
 
 	}
 
+	/**
+	 * Deletes the documents by their unique ids and commits.  Each id is deleted under its document lock like a single delete, so a document stored
+	 * after the ids were collected is left alone unless it replaced one of them
+	 */
+	public void deleteDocuments(List<String> uniqueIds) throws Exception {
+		if (!primary) {
+			throw new IllegalStateException("Cannot delete documents from replica:  index <" + indexName + "> shard <" + shardNumber + ">");
+		}
+
+		for (String uniqueId : uniqueIds) {
+			Lock documentLock = documentLocks.get(uniqueId);
+			documentLock.lock();
+			try {
+				track(uniqueId);
+				shardWriteManager.deleteDocuments(uniqueId);
+				markWritten(uniqueId);
+			}
+			finally {
+				documentLock.unlock();
+			}
+		}
+
+		writeCount.add(uniqueIds.size());
+		forceCommit();
+	}
+
+	/**
+	 * Streams the stored documents matching the query from the latest view of the shard
+	 */
+	public void streamDocs(Query query, Consumer<ReIndexContainer> documentConsumer) throws IOException {
+		shardReaderManager.maybeRefreshBlocking();
+		ShardReader shardReader = shardReaderManager.acquire();
+		try {
+			shardReader.streamDocs(query, documentConsumer);
+		}
+		finally {
+			shardReaderManager.decRef(shardReader);
+		}
+	}
+
+	public int countDocs(Query query) throws IOException {
+		shardReaderManager.maybeRefreshBlocking();
+		ShardReader shardReader = shardReaderManager.acquire();
+		try {
+			return shardReader.countDocs(query);
+		}
+		finally {
+			shardReaderManager.decRef(shardReader);
+		}
+	}
+
 	public void optimize(int maxNumberSegments) throws IOException {
 		if (!primary) {
 			throw new IllegalStateException("Cannot optimize replica:  index <" + indexName + "> shard <" + shardNumber + ">");
@@ -245,11 +772,12 @@ public class ZuliaShard {
 		}
 
 		shardWriteManager.deleteAll();
+		refreshBeforeCheck = true;
 		forceCommit();
 	}
 
 	public GetFieldNamesResponse getFieldNames() throws IOException {
-		shardReaderManager.maybeRefreshBlocking();
+		refreshForSearch();
 		ShardReader shardReader = shardReaderManager.acquire();
 
 		try {
@@ -262,7 +790,7 @@ public class ZuliaShard {
 
 	public GetTermsResponse getTerms(GetTermsRequest request) throws IOException {
 
-		shardReaderManager.maybeRefreshBlocking();
+		refreshForSearch();
 		ShardReader shardReader = shardReaderManager.acquire();
 
 		try {
@@ -278,7 +806,7 @@ public class ZuliaShard {
 
 	public ShardCountResponse getNumberOfDocs() throws IOException {
 
-		shardReaderManager.maybeRefreshBlocking();
+		refreshForSearch();
 		ShardReader shardReader = shardReaderManager.acquire();
 
 		try {
@@ -291,9 +819,29 @@ public class ZuliaShard {
 
 	}
 
+	public ShardStats getShardStats() throws IOException {
+		ShardStats.Builder shardStats = ShardStats.newBuilder().setIndexName(indexName).setShardNumber(shardNumber).setPrimary(primary);
+		shardStats.setNumberOfDocs(getNumberOfDocs().getNumberOfDocs());
+		shardStats.setSizeBytes(shardWriteManager.getSizeBytes());
+		shardStats.setCommitGeneration(shardWriteManager.getCommitGeneration());
+		shardStats.setQueryCount(queryCount.sum());
+		shardStats.setWriteCount(writeCount.sum());
+		ShardMergeScheduler mergeScheduler = shardWriteManager.getMergeScheduler();
+		if (mergeScheduler != null) {
+			shardStats.setRunningMerges(mergeScheduler.getRunningMerges()).setMergeCount(mergeScheduler.getMergeCount())
+					.setMergedBytes(mergeScheduler.getMergedBytes()).setMergeTimeMs(mergeScheduler.getMergeTimeMs())
+					.setMergeStallTimeMs(mergeScheduler.getStallTimeMs());
+		}
+		TaxonomyOrdinalCache taxonomyOrdinalCache = shardWriteManager.getTaxonomyOrdinalCache();
+		if (taxonomyOrdinalCache != null) {
+			shardStats.setTaxonomyCache(taxonomyOrdinalCache.getCacheStats());
+		}
+		return shardStats.build();
+	}
+
 	public ZuliaBase.ResultDocument getSourceDocument(String uniqueId, FetchType resultFetchType, List<String> fieldsToReturn, List<String> fieldsToMask)
 			throws Exception {
-		shardReaderManager.maybeRefreshBlocking();
+		refreshForSearch();
 		ShardReader shardReader = shardReaderManager.acquire();
 
 		try {
@@ -304,8 +852,20 @@ public class ZuliaShard {
 		}
 	}
 
+	public ZuliaBase.ResultDocument[] getSourceDocuments(List<FetchRequest> fetchRequests) throws Exception {
+		refreshForSearch();
+		ShardReader shardReader = shardReaderManager.acquire();
+
+		try {
+			return shardReader.getSourceDocuments(fetchRequests);
+		}
+		finally {
+			shardReaderManager.decRef(shardReader);
+		}
+	}
+
 	public ZuliaBase.ShardCacheStats getShardCacheStats() throws IOException {
-		shardReaderManager.maybeRefreshBlocking();
+		refreshForSearch();
 		ShardReader shardReader = shardReaderManager.acquire();
 
 		try {
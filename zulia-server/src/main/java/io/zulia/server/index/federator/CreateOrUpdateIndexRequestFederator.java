@@ -34,7 +34,7 @@ public class CreateOrUpdateIndexRequestFederator extends AllNodeRequestFederator
 
 	public static InternalCreateOrUpdateIndexResponse internalCreateOrUpdateIndex(ZuliaIndexManager zuliaIndexManager,
 			InternalCreateOrUpdateIndexRequest request) throws Exception {
-		return zuliaIndexManager.internalCreateOrUpdateIndex(request.getIndexName());
+		return zuliaIndexManager.internalCreateOrUpdateIndex(request.getIndexName(), request.getAttachPath());
 	}
 
 }
@@ -0,0 +1,46 @@
+package io.zulia.server.index.federator;
+
+import io.zulia.message.ZuliaBase;
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaServiceOuterClass.DeleteByQueryRequest;
+import io.zulia.message.ZuliaServiceOuterClass.DeleteByQueryResponse;
+import io.zulia.server.connection.client.InternalClient;
+import io.zulia.server.index.ZuliaIndex;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+
+public class DeleteByQueryRequestFederator extends MasterSlaveNodeRequestFederator<DeleteByQueryRequest, DeleteByQueryResponse> {
+	private final InternalClient internalClient;
+	private final ZuliaIndex index;
+
+	public DeleteByQueryRequestFederator(Node thisNode, Collection<Node> otherNodesActive, ZuliaBase.MasterSlaveSettings masterSlaveSettings,
+			ZuliaIndex index, ExecutorService pool, InternalClient internalClient) throws IOException {
+		super(thisNode, otherNodesActive, masterSlaveSettings, index, pool, internalClient.getNodeLoadTracker());
+		this.internalClient = internalClient;
+		this.index = index;
+	}
+
+	@Override
+	protected DeleteByQueryResponse processExternal(Node node, DeleteByQueryRequest request) throws Exception {
+		return internalClient.deleteByQuery(node, request);
+	}
+
+	@Override
+	protected DeleteByQueryResponse processInternal(Node node, DeleteByQueryRequest request) throws Exception {
+		return internalDeleteByQuery(index, request);
+	}
+
+	public static DeleteByQueryResponse internalDeleteByQuery(ZuliaIndex index, DeleteByQueryRequest request) throws Exception {
+		return index.deleteByQuery(request);
+	}
+
+	public DeleteByQueryResponse getResponse(DeleteByQueryRequest request) throws Exception {
+		long total = 0;
+		for (DeleteByQueryResponse response : send(request)) {
+			total += response.getDeleted();
+		}
+		return DeleteByQueryResponse.newBuilder().setDeleted(total).build();
+	}
+}
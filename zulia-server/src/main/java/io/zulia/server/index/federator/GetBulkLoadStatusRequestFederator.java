@@ -0,0 +1,47 @@
+package io.zulia.server.index.federator;
+
+import io.zulia.message.ZuliaBase;
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaServiceOuterClass.GetBulkLoadStatusRequest;
+import io.zulia.message.ZuliaServiceOuterClass.GetBulkLoadStatusResponse;
+import io.zulia.server.connection.client.InternalClient;
+import io.zulia.server.index.ZuliaIndex;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+
+public class GetBulkLoadStatusRequestFederator extends MasterSlaveNodeRequestFederator<GetBulkLoadStatusRequest, GetBulkLoadStatusResponse> {
+	private final InternalClient internalClient;
+	private final ZuliaIndex index;
+
+	public GetBulkLoadStatusRequestFederator(Node thisNode, Collection<Node> otherNodesActive, ZuliaBase.MasterSlaveSettings masterSlaveSettings,
+			ZuliaIndex index, ExecutorService pool, InternalClient internalClient) throws IOException {
+		super(thisNode, otherNodesActive, masterSlaveSettings, index, pool, internalClient.getNodeLoadTracker());
+		this.internalClient = internalClient;
+		this.index = index;
+	}
+
+	@Override
+	protected GetBulkLoadStatusResponse processExternal(Node node, GetBulkLoadStatusRequest request) throws Exception {
+		return internalClient.getBulkLoadStatus(node, request);
+	}
+
+	@Override
+	protected GetBulkLoadStatusResponse processInternal(Node node, GetBulkLoadStatusRequest request) throws Exception {
+		return internalGetBulkLoadStatus(index, request);
+	}
+
+	public static GetBulkLoadStatusResponse internalGetBulkLoadStatus(ZuliaIndex index,
+			@SuppressWarnings("unused") GetBulkLoadStatusRequest request) {
+		return index.getBulkLoadStatus();
+	}
+
+	public GetBulkLoadStatusResponse getResponse(GetBulkLoadStatusRequest request) throws Exception {
+		GetBulkLoadStatusResponse.Builder response = GetBulkLoadStatusResponse.newBuilder();
+		for (GetBulkLoadStatusResponse nodeResponse : send(request)) {
+			response.addAllShardBulkLoadStatus(nodeResponse.getShardBulkLoadStatusList());
+		}
+		return response.build();
+	}
+}
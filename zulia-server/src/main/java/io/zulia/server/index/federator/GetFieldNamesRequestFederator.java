@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class GetFieldNamesRequestFederator extends MasterSlaveNodeRequestFederator<GetFieldNamesRequest, GetFieldNamesResponse> {
 	private final InternalClient internalClient;
@@ -22,7 +23,7 @@ public class GetFieldNamesRequestFederator extends MasterSlaveNodeRequestFederat
 
 	public GetFieldNamesRequestFederator(Node thisNode, Collection<Node> otherNodesActive, ZuliaBase.MasterSlaveSettings masterSlaveSettings, ZuliaIndex index,
 			ExecutorService pool, InternalClient internalClient) throws IOException {
-		super(thisNode, otherNodesActive, masterSlaveSettings, index, pool);
+		super(thisNode, otherNodesActive, masterSlaveSettings, index, pool, internalClient.getNodeLoadTracker());
 		this.internalClient = internalClient;
 		this.index = index;
 	}
@@ -35,6 +36,14 @@ public class GetFieldNamesRequestFederator extends MasterSlaveNodeRequestFederat
 		return internalClient.getFieldNames(node, internalRequest);
 	}
 
+	@Override
+	protected Future<GetFieldNamesResponse> processExternalAsync(Node node, GetFieldNamesRequest request) {
+		IndexRouting indexRouting = getIndexRouting(node).get(0);
+		InternalGetFieldNamesRequest internalRequest = InternalGetFieldNamesRequest.newBuilder().setIndexRouting(indexRouting).setGetFieldNamesRequest(request)
+				.build();
+		return internalClient.getFieldNamesAsync(node, internalRequest);
+	}
+
 	@Override
 	protected GetFieldNamesResponse processInternal(Node node, GetFieldNamesRequest request) throws Exception {
 		IndexRouting indexRouting = getIndexRouting(node).get(0);
@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class GetNumberOfDocsRequestFederator extends MasterSlaveNodeRequestFederator<GetNumberOfDocsRequest, GetNumberOfDocsResponse> {
 	private final InternalClient internalClient;
@@ -23,7 +24,7 @@ public class GetNumberOfDocsRequestFederator extends MasterSlaveNodeRequestFeder
 
 	public GetNumberOfDocsRequestFederator(Node thisNode, Collection<Node> otherNodesActive, ZuliaBase.MasterSlaveSettings masterSlaveSettings,
 			ZuliaIndex index, ExecutorService pool, InternalClient internalClient) throws IOException {
-		super(thisNode, otherNodesActive, masterSlaveSettings, index, pool);
+		super(thisNode, otherNodesActive, masterSlaveSettings, index, pool, internalClient.getNodeLoadTracker());
 		this.internalClient = internalClient;
 		this.index = index;
 	}
@@ -36,6 +37,14 @@ public class GetNumberOfDocsRequestFederator extends MasterSlaveNodeRequestFeder
 		return internalClient.getNumberOfDocs(node, internalRequest);
 	}
 
+	@Override
+	protected Future<GetNumberOfDocsResponse> processExternalAsync(Node node, GetNumberOfDocsRequest request) {
+		ZuliaServiceOuterClass.IndexRouting indexRouting = getIndexRouting(node).get(0);
+		InternalGetNumberOfDocsRequest internalRequest = InternalGetNumberOfDocsRequest.newBuilder().setIndexRouting(indexRouting)
+				.setGetNumberOfDocsRequest(request).build();
+		return internalClient.getNumberOfDocsAsync(node, internalRequest);
+	}
+
 	@Override
 	protected GetNumberOfDocsResponse processInternal(Node node, GetNumberOfDocsRequest request) throws Exception {
 		ZuliaServiceOuterClass.IndexRouting indexRouting = getIndexRouting(node).get(0);
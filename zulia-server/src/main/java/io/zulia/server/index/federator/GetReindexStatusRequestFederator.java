@@ -0,0 +1,46 @@
+package io.zulia.server.index.federator;
+
+import io.zulia.message.ZuliaBase;
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaServiceOuterClass.GetReindexStatusRequest;
+import io.zulia.message.ZuliaServiceOuterClass.GetReindexStatusResponse;
+import io.zulia.server.connection.client.InternalClient;
+import io.zulia.server.index.ZuliaIndex;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+
+public class GetReindexStatusRequestFederator extends MasterSlaveNodeRequestFederator<GetReindexStatusRequest, GetReindexStatusResponse> {
+	private final InternalClient internalClient;
+	private final ZuliaIndex index;
+
+	public GetReindexStatusRequestFederator(Node thisNode, Collection<Node> otherNodesActive, ZuliaBase.MasterSlaveSettings masterSlaveSettings,
+			ZuliaIndex index, ExecutorService pool, InternalClient internalClient) throws IOException {
+		super(thisNode, otherNodesActive, masterSlaveSettings, index, pool, internalClient.getNodeLoadTracker());
+		this.internalClient = internalClient;
+		this.index = index;
+	}
+
+	@Override
+	protected GetReindexStatusResponse processExternal(Node node, GetReindexStatusRequest request) throws Exception {
+		return internalClient.getReindexStatus(node, request);
+	}
+
+	@Override
+	protected GetReindexStatusResponse processInternal(Node node, GetReindexStatusRequest request) throws Exception {
+		return internalGetReindexStatus(index, request);
+	}
+
+	public static GetReindexStatusResponse internalGetReindexStatus(ZuliaIndex index, @SuppressWarnings("unused") GetReindexStatusRequest request) {
+		return index.getReindexStatus();
+	}
+
+	public GetReindexStatusResponse getResponse(GetReindexStatusRequest request) throws Exception {
+		GetReindexStatusResponse.Builder response = GetReindexStatusResponse.newBuilder();
+		for (GetReindexStatusResponse nodeResponse : send(request)) {
+			response.addAllShardReindexStatus(nodeResponse.getShardReindexStatusList());
+		}
+		return response.build();
+	}
+}
@@ -0,0 +1,40 @@
+package io.zulia.server.index.federator;
+
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.server.connection.client.InternalClient;
+import io.zulia.server.index.ZuliaIndexManager;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+
+import static io.zulia.message.ZuliaServiceOuterClass.InternalGetShardStatsRequest;
+import static io.zulia.message.ZuliaServiceOuterClass.InternalGetShardStatsResponse;
+
+public class GetShardStatsRequestFederator extends AllNodeRequestFederator<InternalGetShardStatsRequest, InternalGetShardStatsResponse> {
+	private final InternalClient internalClient;
+	private final ZuliaIndexManager indexManager;
+
+	public GetShardStatsRequestFederator(Node thisNode, Collection<Node> otherNodesActive, ExecutorService pool, InternalClient internalClient,
+			ZuliaIndexManager indexManager) {
+		super(thisNode, otherNodesActive, pool);
+
+		this.internalClient = internalClient;
+		this.indexManager = indexManager;
+	}
+
+	@Override
+	protected InternalGetShardStatsResponse processExternal(Node node, InternalGetShardStatsRequest request) throws Exception {
+		return internalClient.getShardStats(node, request);
+	}
+
+	@Override
+	protected InternalGetShardStatsResponse processInternal(Node node, InternalGetShardStatsRequest request) throws Exception {
+		return internalGetShardStats(indexManager, request);
+	}
+
+	public static InternalGetShardStatsResponse internalGetShardStats(ZuliaIndexManager zuliaIndexManager, InternalGetShardStatsRequest request)
+			throws Exception {
+		return zuliaIndexManager.internalGetShardStats(request);
+	}
+
+}
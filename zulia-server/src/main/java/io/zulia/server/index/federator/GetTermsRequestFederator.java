@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.TreeMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class GetTermsRequestFederator extends MasterSlaveNodeRequestFederator<GetTermsRequest, InternalGetTermsResponse> {
 	private final InternalClient internalClient;
@@ -23,7 +24,7 @@ public class GetTermsRequestFederator extends MasterSlaveNodeRequestFederator<Ge
 
 	public GetTermsRequestFederator(Node thisNode, Collection<Node> otherNodesActive, MasterSlaveSettings masterSlaveSettings, ZuliaIndex index,
 			ExecutorService pool, InternalClient internalClient) throws IOException {
-		super(thisNode, otherNodesActive, masterSlaveSettings, index, pool);
+		super(thisNode, otherNodesActive, masterSlaveSettings, index, pool, internalClient.getNodeLoadTracker());
 		this.internalClient = internalClient;
 		this.index = index;
 	}
@@ -35,6 +36,13 @@ public class GetTermsRequestFederator extends MasterSlaveNodeRequestFederator<Ge
 		return internalClient.getTerms(node, internalRequest);
 	}
 
+	@Override
+	protected Future<InternalGetTermsResponse> processExternalAsync(Node node, GetTermsRequest request) {
+		IndexRouting indexRouting = getIndexRouting(node).get(0);
+		InternalGetTermsRequest internalRequest = InternalGetTermsRequest.newBuilder().setIndexRouting(indexRouting).setGetTermsRequest(request).build();
+		return internalClient.getTermsAsync(node, internalRequest);
+	}
+
 	@Override
 	protected InternalGetTermsResponse processInternal(Node node, GetTermsRequest request) throws Exception {
 		IndexRouting indexRouting = getIndexRouting(node).get(0);
@@ -3,6 +3,8 @@ package io.zulia.server.index.federator;
 import io.zulia.message.ZuliaBase;
 import io.zulia.message.ZuliaBase.Node;
 import io.zulia.message.ZuliaServiceOuterClass.IndexRouting;
+import io.zulia.server.connection.client.NodeLoadTracker;
+import io.zulia.server.exceptions.ShardDoesNotExistException;
 import io.zulia.server.exceptions.ShardOfflineException;
 import io.zulia.server.index.MasterSlaveSelector;
 import io.zulia.server.index.ZuliaIndex;
@@ -18,14 +20,15 @@ import java.util.concurrent.ExecutorService;
 public abstract class MasterSlaveNodeRequestFederator<I, O> extends NodeRequestFederator<I, O> {
 
 	private Map<Node, List<IndexRouting>> nodeToRouting = new HashMap<>();
+	private Map<String, MasterSlaveSelector> indexToSelector = new HashMap<>();
 
 	public MasterSlaveNodeRequestFederator(Node thisNode, Collection<Node> otherNodesActive, ZuliaBase.MasterSlaveSettings masterSlaveSettings,
-			ZuliaIndex index, ExecutorService pool) throws ShardOfflineException {
-		this(thisNode, otherNodesActive, masterSlaveSettings, Collections.singletonList(index), pool);
+			ZuliaIndex index, ExecutorService pool, NodeLoadTracker nodeLoadTracker) throws ShardOfflineException {
+		this(thisNode, otherNodesActive, masterSlaveSettings, Collections.singletonList(index), pool, nodeLoadTracker);
 	}
 
 	public MasterSlaveNodeRequestFederator(Node thisNode, Collection<Node> otherNodesActive, ZuliaBase.MasterSlaveSettings masterSlaveSettings,
-			Collection<ZuliaIndex> indexes, ExecutorService pool) throws ShardOfflineException {
+			Collection<ZuliaIndex> indexes, ExecutorService pool, NodeLoadTracker nodeLoadTracker) throws ShardOfflineException {
 		super(thisNode, otherNodesActive, pool);
 
 		List<Node> nodesAvailable = new ArrayList<>();
@@ -34,7 +37,9 @@ public abstract class MasterSlaveNodeRequestFederator<I, O> extends NodeRequestF
 
 		for (ZuliaIndex index : indexes) {
 			io.zulia.message.ZuliaIndex.IndexShardMapping indexShardMapping = index.getIndexShardMapping();
-			MasterSlaveSelector masterSlaveSelector = new MasterSlaveSelector(masterSlaveSettings, nodesAvailable, indexShardMapping);
+			MasterSlaveSelector masterSlaveSelector = new MasterSlaveSelector(masterSlaveSettings, nodesAvailable, indexShardMapping, thisNode,
+					nodeLoadTracker);
+			indexToSelector.put(index.getIndexName(), masterSlaveSelector);
 
 			Map<Node, IndexRouting.Builder> nodesForIndex = masterSlaveSelector.getNodesForIndex();
 
@@ -50,4 +55,11 @@ public abstract class MasterSlaveNodeRequestFederator<I, O> extends NodeRequestF
 	public List<IndexRouting> getIndexRouting(Node node) {
 		return nodeToRouting.get(node);
 	}
+
+	/**
+	 * Asks the selector of the index, see {@link MasterSlaveSelector#getAlternateNode(int, Node)}
+	 */
+	protected Node getAlternateNode(String indexName, int shardNumber, Node excludedNode) throws ShardDoesNotExistException {
+		return indexToSelector.get(indexName).getAlternateNode(shardNumber, excludedNode);
+	}
 }
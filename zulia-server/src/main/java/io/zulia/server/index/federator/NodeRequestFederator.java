@@ -13,7 +13,7 @@ import java.util.concurrent.Future;
 
 public abstract class NodeRequestFederator<I, O> extends NodeRequestBase<I, O> {
 
-	private final ExecutorService pool;
+	protected final ExecutorService pool;
 
 	protected final Set<Node> nodes;
 
@@ -29,13 +29,13 @@ public abstract class NodeRequestFederator<I, O> extends NodeRequestBase<I, O> {
 
 		for (final Node node : nodes) {
 
-			Future<O> futureResponse = pool.submit(() -> {
-				if (nodeIsLocal(node)) {
-					return processInternal(node, request);
-				}
-				return processExternal(node, request);
-
-			});
+			Future<O> futureResponse;
+			if (nodeIsLocal(node)) {
+				futureResponse = pool.submit(() -> processInternal(node, request));
+			}
+			else {
+				futureResponse = processExternalAsync(node, request);
+			}
 
 			futureResponses.add(futureResponse);
 		}
@@ -62,4 +62,11 @@ public abstract class NodeRequestFederator<I, O> extends NodeRequestBase<I, O> {
 		return results;
 
 	}
+
+	/**
+	 * Federators whose internal request has an async call on the internal client override this so waiting on the other node does not hold a pool thread
+	 */
+	protected Future<O> processExternalAsync(Node node, I request) {
+		return pool.submit(() -> processExternal(node, request));
+	}
 }
@@ -17,7 +17,7 @@ public class OptimizeRequestFederator extends MasterSlaveNodeRequestFederator<Op
 
 	public OptimizeRequestFederator(Node thisNode, Collection<Node> otherNodesActive, ZuliaBase.MasterSlaveSettings masterSlaveSettings, ZuliaIndex index,
 			ExecutorService pool, InternalClient internalClient) throws IOException {
-		super(thisNode, otherNodesActive, masterSlaveSettings, index, pool);
+		super(thisNode, otherNodesActive, masterSlaveSettings, index, pool, internalClient.getNodeLoadTracker());
 		this.internalClient = internalClient;
 		this.index = index;
 	}
@@ -4,11 +4,14 @@ import com.google.protobuf.util.JsonFormat;
 import io.zulia.message.ZuliaBase.MasterSlaveSettings;
 import io.zulia.message.ZuliaBase.Node;
 import io.zulia.message.ZuliaQuery.IndexShardResponse;
+import io.zulia.message.ZuliaServiceOuterClass.IndexRouting;
 import io.zulia.message.ZuliaServiceOuterClass.InternalQueryRequest;
 import io.zulia.message.ZuliaServiceOuterClass.InternalQueryResponse;
 import io.zulia.message.ZuliaServiceOuterClass.QueryRequest;
 import io.zulia.message.ZuliaServiceOuterClass.QueryResponse;
 import io.zulia.server.connection.client.InternalClient;
+import io.zulia.server.exceptions.ShardDoesNotExistException;
+import io.zulia.server.index.QueryHedger;
 import io.zulia.server.index.ZuliaIndex;
 import io.zulia.server.search.QueryCombiner;
 import org.apache.lucene.search.Query;
@@ -16,10 +19,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class QueryRequestFederator extends MasterSlaveNodeRequestFederator<QueryRequest, InternalQueryResponse> {
@@ -29,27 +39,216 @@ public class QueryRequestFederator extends MasterSlaveNodeRequestFederator<Query
 	private final InternalClient internalClient;
 	private final Collection<ZuliaIndex> indexes;
 	private final Map<String, Query> queryMap;
+	private final QueryHedger queryHedger;
+	private final List<String> indexNames;
+
+	/**
+	 * Result of sending a node's shards either to the node itself or, when hedging, to the alternate copies of its shards
+	 */
+	private record Attempt(Node node, boolean hedge, List<InternalQueryResponse> responses, Exception exception) {
+
+	}
 
 	public QueryRequestFederator(Node thisNode, Collection<Node> otherNodesActive, MasterSlaveSettings masterSlaveSettings, Collection<ZuliaIndex> indexes,
-			ExecutorService pool, InternalClient internalClient, Map<String, Query> queryMap) throws IOException {
-		super(thisNode, otherNodesActive, masterSlaveSettings, indexes, pool);
+			ExecutorService pool, InternalClient internalClient, Map<String, Query> queryMap, QueryHedger queryHedger) throws IOException {
+		super(thisNode, otherNodesActive, masterSlaveSettings, indexes, pool, internalClient.getNodeLoadTracker());
 		this.internalClient = internalClient;
 		this.indexes = indexes;
 		this.queryMap = queryMap;
+		this.queryHedger = queryHedger;
+		this.indexNames = indexes.stream().map(ZuliaIndex::getIndexName).toList();
 	}
 
 	@Override
 	protected InternalQueryResponse processExternal(Node node, QueryRequest request) throws Exception {
-		InternalQueryRequest internalQueryRequest = InternalQueryRequest.newBuilder().addAllIndexRouting(getIndexRouting(node)).setQueryRequest(request)
-				.build();
-		return internalClient.executeQuery(node, internalQueryRequest);
+		return query(node, getIndexRouting(node), request);
+	}
+
+	@Override
+	protected Future<InternalQueryResponse> processExternalAsync(Node node, QueryRequest request) {
+		return queryAsync(node, getIndexRouting(node), request);
 	}
 
 	@Override
 	protected InternalQueryResponse processInternal(Node node, QueryRequest request) throws Exception {
-		InternalQueryRequest internalQueryRequest = InternalQueryRequest.newBuilder().addAllIndexRouting(getIndexRouting(node)).setQueryRequest(request)
-				.build();
-		return internalQuery(indexes, internalQueryRequest, queryMap);
+		return query(node, getIndexRouting(node), request);
+	}
+
+	private InternalQueryResponse query(Node node, List<IndexRouting> indexRouting, QueryRequest request) throws Exception {
+		InternalQueryRequest internalQueryRequest = InternalQueryRequest.newBuilder().addAllIndexRouting(indexRouting).setQueryRequest(request).build();
+		if (nodeIsLocal(node)) {
+			return internalQuery(indexes, internalQueryRequest, queryMap);
+		}
+		return internalClient.executeQuery(node, internalQueryRequest);
+	}
+
+	private Future<InternalQueryResponse> queryAsync(Node node, List<IndexRouting> indexRouting, QueryRequest request) {
+		if (nodeIsLocal(node)) {
+			return pool.submit(() -> query(node, indexRouting, request));
+		}
+		InternalQueryRequest internalQueryRequest = InternalQueryRequest.newBuilder().addAllIndexRouting(indexRouting).setQueryRequest(request).build();
+		return internalClient.executeQueryAsync(node, internalQueryRequest);
+	}
+
+	@Override
+	public List<InternalQueryResponse> send(QueryRequest request) throws Exception {
+		if (!queryHedger.isEnabled()) {
+			return super.send(request);
+		}
+
+		long hedgeDelayMs = queryHedger.getHedgeDelayMs(indexNames);
+		long hedgeAt = hedgeDelayMs >= 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(hedgeDelayMs) : Long.MAX_VALUE;
+
+		ExecutorCompletionService<Attempt> completionService = new ExecutorCompletionService<>(pool);
+		Map<Node, List<Future<Attempt>>> pending = new HashMap<>();
+		Map<Node, List<InternalQueryResponse>> results = new HashMap<>();
+		Map<Node, Long> sentAt = new HashMap<>();
+
+		for (Node node : nodes) {
+			Map<Node, List<IndexRouting>> routing = Map.of(node, getIndexRouting(node));
+			sentAt.put(node, System.nanoTime());
+			pending.computeIfAbsent(node, k -> new ArrayList<>()).add(completionService.submit(() -> attempt(node, false, routing, request)));
+			queryHedger.nodeRequestSent();
+		}
+
+		try {
+			while (results.size() < nodes.size()) {
+				Future<Attempt> completed;
+				if (hedgeAt != Long.MAX_VALUE) {
+					completed = completionService.poll(hedgeAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+					if (completed == null) {
+						//every node shares the deadline so there is a single round of hedges
+						hedgeAt = Long.MAX_VALUE;
+						for (Node node : nodes) {
+							if (!results.containsKey(node)) {
+								Map<Node, List<IndexRouting>> hedgeRouting = getHedgeRouting(node);
+								if (hedgeRouting != null && queryHedger.tryHedge()) {
+									pending.get(node).add(completionService.submit(() -> attempt(node, true, hedgeRouting, request)));
+								}
+							}
+						}
+						continue;
+					}
+				}
+				else {
+					completed = completionService.take();
+				}
+
+				if (completed.isCancelled()) {
+					continue;
+				}
+
+				Attempt attempt = completed.get();
+				Node node = attempt.node();
+				if (results.containsKey(node)) {
+					//loser that finished before it could be canceled
+					continue;
+				}
+
+				List<Future<Attempt>> nodePending = pending.get(node);
+				nodePending.remove(completed);
+
+				if (attempt.exception() != null) {
+					if (nodePending.isEmpty()) {
+						throw attempt.exception();
+					}
+					//the other copy may still answer
+					continue;
+				}
+
+				results.put(node, attempt.responses());
+				if (attempt.hedge()) {
+					queryHedger.hedgeWon();
+					//the canceled request never reports its latency, record how long it had been slow so the percentile does not only see the
+					//requests that were fast enough to finish and drift down until everything is hedged
+					queryHedger.recordLatency(indexNames, System.nanoTime() - sentAt.get(node));
+				}
+				for (Future<Attempt> loser : nodePending) {
+					loser.cancel(true);
+				}
+				nodePending.clear();
+			}
+		}
+		finally {
+			for (List<Future<Attempt>> nodePending : pending.values()) {
+				for (Future<Attempt> future : nodePending) {
+					future.cancel(true);
+				}
+			}
+		}
+
+		List<InternalQueryResponse> responses = new ArrayList<>();
+		for (Node node : nodes) {
+			responses.addAll(results.get(node));
+		}
+		return responses;
+	}
+
+	private Attempt attempt(Node node, boolean hedge, Map<Node, List<IndexRouting>> routing, QueryRequest request) {
+		long start = System.nanoTime();
+		try {
+			List<InternalQueryResponse> responses = new ArrayList<>();
+			if (routing.size() == 1) {
+				Map.Entry<Node, List<IndexRouting>> target = routing.entrySet().iterator().next();
+				responses.add(query(target.getKey(), target.getValue(), request));
+			}
+			else {
+				//shards of the slow node have their alternate copies on different nodes
+				List<Future<InternalQueryResponse>> futures = new ArrayList<>();
+				try {
+					for (Map.Entry<Node, List<IndexRouting>> target : routing.entrySet()) {
+						futures.add(queryAsync(target.getKey(), target.getValue(), request));
+					}
+					for (Future<InternalQueryResponse> future : futures) {
+						responses.add(future.get());
+					}
+				}
+				finally {
+					for (Future<InternalQueryResponse> future : futures) {
+						future.cancel(true);
+					}
+				}
+			}
+			if (!hedge) {
+				//a hedge starts late and goes to other nodes, only the requests sent to the chosen copies feed the hedge delay
+				queryHedger.recordLatency(indexNames, System.nanoTime() - start);
+			}
+			return new Attempt(node, hedge, responses, null);
+		}
+		catch (ExecutionException e) {
+			return new Attempt(node, hedge, null, e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+		}
+		catch (Exception e) {
+			return new Attempt(node, hedge, null, e);
+		}
+	}
+
+	/**
+	 * @return the shards of the node grouped by the node of an alternate copy or null if a shard has no other online copy
+	 */
+	private Map<Node, List<IndexRouting>> getHedgeRouting(Node node) {
+		Map<Node, Map<String, IndexRouting.Builder>> alternateRouting = new LinkedHashMap<>();
+		try {
+			for (IndexRouting indexRouting : getIndexRouting(node)) {
+				for (int shardNumber : indexRouting.getShardList()) {
+					Node alternateNode = getAlternateNode(indexRouting.getIndex(), shardNumber, node);
+					if (alternateNode == null) {
+						return null;
+					}
+					alternateRouting.computeIfAbsent(alternateNode, k -> new LinkedHashMap<>())
+							.computeIfAbsent(indexRouting.getIndex(), k -> IndexRouting.newBuilder().setIndex(k)).addShard(shardNumber);
+				}
+			}
+		}
+		catch (ShardDoesNotExistException e) {
+			return null;
+		}
+
+		Map<Node, List<IndexRouting>> hedgeRouting = new LinkedHashMap<>();
+		for (Map.Entry<Node, Map<String, IndexRouting.Builder>> entry : alternateRouting.entrySet()) {
+			hedgeRouting.put(entry.getKey(), entry.getValue().values().stream().map(IndexRouting.Builder::build).toList());
+		}
+		return hedgeRouting;
 	}
 
 	public static InternalQueryResponse internalQuery(Collection<ZuliaIndex> indexes, InternalQueryRequest request, Map<String, Query> queryMap)
@@ -0,0 +1,39 @@
+package io.zulia.server.index.federator;
+
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.server.connection.client.InternalClient;
+import io.zulia.server.index.ZuliaIndexManager;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+
+import static io.zulia.message.ZuliaServiceOuterClass.InternalSplitIndexRequest;
+import static io.zulia.message.ZuliaServiceOuterClass.InternalSplitIndexResponse;
+
+public class SplitIndexRequestFederator extends AllNodeRequestFederator<InternalSplitIndexRequest, InternalSplitIndexResponse> {
+	private final InternalClient internalClient;
+	private final ZuliaIndexManager indexManager;
+
+	public SplitIndexRequestFederator(Node thisNode, Collection<Node> otherNodesActive, ExecutorService pool, InternalClient internalClient,
+			ZuliaIndexManager indexManager) {
+		super(thisNode, otherNodesActive, pool);
+
+		this.internalClient = internalClient;
+		this.indexManager = indexManager;
+	}
+
+	@Override
+	protected InternalSplitIndexResponse processExternal(Node node, InternalSplitIndexRequest request) throws Exception {
+		return internalClient.splitIndex(node, request);
+	}
+
+	@Override
+	protected InternalSplitIndexResponse processInternal(Node node, InternalSplitIndexRequest request) throws Exception {
+		return internalSplitIndex(indexManager, request);
+	}
+
+	public static InternalSplitIndexResponse internalSplitIndex(ZuliaIndexManager zuliaIndexManager, InternalSplitIndexRequest request) throws Exception {
+		return zuliaIndexManager.internalSplitIndex(request);
+	}
+
+}
@@ -0,0 +1,52 @@
+package io.zulia.server.index.federator;
+
+import io.zulia.message.ZuliaBase;
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaServiceOuterClass.UpdateByQueryRequest;
+import io.zulia.message.ZuliaServiceOuterClass.UpdateByQueryResponse;
+import io.zulia.server.connection.client.InternalClient;
+import io.zulia.server.index.ZuliaIndex;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+public class UpdateByQueryRequestFederator extends MasterSlaveNodeRequestFederator<UpdateByQueryRequest, UpdateByQueryResponse> {
+	private final InternalClient internalClient;
+	private final ZuliaIndex index;
+
+	public UpdateByQueryRequestFederator(Node thisNode, Collection<Node> otherNodesActive, ZuliaBase.MasterSlaveSettings masterSlaveSettings,
+			ZuliaIndex index, ExecutorService pool, InternalClient internalClient) throws IOException {
+		super(thisNode, otherNodesActive, masterSlaveSettings, index, pool, internalClient.getNodeLoadTracker());
+		this.internalClient = internalClient;
+		this.index = index;
+	}
+
+	@Override
+	protected UpdateByQueryResponse processExternal(Node node, UpdateByQueryRequest request) throws Exception {
+		return internalClient.updateByQuery(node, request);
+	}
+
+	@Override
+	protected UpdateByQueryResponse processInternal(Node node, UpdateByQueryRequest request) throws Exception {
+		return internalUpdateByQuery(index, request);
+	}
+
+	public static UpdateByQueryResponse internalUpdateByQuery(ZuliaIndex index, UpdateByQueryRequest request) throws Exception {
+		return index.updateByQuery(request);
+	}
+
+	public UpdateByQueryResponse getResponse(UpdateByQueryRequest request) throws Exception {
+		long total = 0;
+		List<String> errors = new ArrayList<>();
+		for (UpdateByQueryResponse response : send(request)) {
+			total += response.getUpdated();
+			if (!response.getError().isEmpty()) {
+				errors.add(response.getError());
+			}
+		}
+		return UpdateByQueryResponse.newBuilder().setUpdated(total).setError(String.join("; ", errors)).build();
+	}
+}
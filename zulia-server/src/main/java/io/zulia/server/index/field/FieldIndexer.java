@@ -14,7 +14,10 @@ public abstract class FieldIndexer {
 
 	}
 
-	public void index(Document document, String storedFieldName, Object storedValue, String indexedFieldName) {
+	/**
+	 * @param listLength - index the list length of the stored value for the |||field||| length field
+	 */
+	public void index(Document document, String storedFieldName, Object storedValue, String indexedFieldName, boolean listLength) {
 
 		AtomicInteger listSize = new AtomicInteger();
 		ZuliaUtil.handleLists(storedValue, obj -> {
@@ -26,11 +29,13 @@ public abstract class FieldIndexer {
 			}
 		}, listSize);
 
-		//if stored value is a list or array
-		int size = listSize.get();
+		if (listLength) {
+			//if stored value is a list or array
+			int size = listSize.get();
 
-		document.add(new IntPoint(FieldTypeUtil.getListLengthIndexField(indexedFieldName), size));
-		document.add(new SortedNumericDocValuesField(FieldTypeUtil.getListLengthSortField(indexedFieldName), size));
+			document.add(new IntPoint(FieldTypeUtil.getListLengthIndexField(indexedFieldName), size));
+			document.add(new SortedNumericDocValuesField(FieldTypeUtil.getListLengthSortField(indexedFieldName), size));
+		}
 
 	}
 
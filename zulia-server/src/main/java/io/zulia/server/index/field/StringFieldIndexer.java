@@ -18,10 +18,13 @@ public class StringFieldIndexer extends FieldIndexer {
 		notStoredTextField.freeze();
 	}
 
-	public static final StringFieldIndexer INSTANCE = new StringFieldIndexer();
+	public static final StringFieldIndexer INSTANCE = new StringFieldIndexer(true);
+	public static final StringFieldIndexer WITHOUT_CHAR_LENGTH = new StringFieldIndexer(false);
 
-	protected StringFieldIndexer() {
+	private final boolean charLength;
 
+	protected StringFieldIndexer(boolean charLength) {
+		this.charLength = charLength;
 	}
 
 	@Override
@@ -30,9 +33,11 @@ public class StringFieldIndexer extends FieldIndexer {
 		if (value != null) {
 			String val = value.toString();
 			d.add((new Field(FieldTypeUtil.getIndexField(indexedFieldName, FieldConfig.FieldType.STRING), val, notStoredTextField)));
-			int length = val.length();
-			d.add(new IntPoint(FieldTypeUtil.getCharLengthIndexField(indexedFieldName), length));
-			d.add(new SortedNumericDocValuesField(FieldTypeUtil.getCharLengthSortField(indexedFieldName), length));
+			if (charLength) {
+				int length = val.length();
+				d.add(new IntPoint(FieldTypeUtil.getCharLengthIndexField(indexedFieldName), length));
+				d.add(new SortedNumericDocValuesField(FieldTypeUtil.getCharLengthSortField(indexedFieldName), length));
+			}
 		}
 	}
 
@@ -16,7 +16,7 @@ public class DeleteRequestRouter extends NodeRequestRouter<DeleteRequest, Delete
 
 	public DeleteRequestRouter(Node thisNode, Collection<Node> otherNodesActive, ZuliaIndex index, String uniqueId, InternalClient internalClient)
 			throws IOException {
-		super(thisNode, otherNodesActive, MasterSlaveSettings.MASTER_ONLY, index, uniqueId);
+		super(thisNode, otherNodesActive, MasterSlaveSettings.MASTER_ONLY, index, uniqueId, internalClient.getNodeLoadTracker());
 		this.internalClient = internalClient;
 		this.index = index;
 	}
@@ -16,7 +16,7 @@ public class FetchRequestRouter extends NodeRequestRouter<FetchRequest, FetchRes
 
 	public FetchRequestRouter(Node thisNode, Collection<Node> otherNodesActive, MasterSlaveSettings masterSlaveSettings, ZuliaIndex index, String uniqueId,
 			InternalClient internalClient) throws IOException {
-		super(thisNode, otherNodesActive, masterSlaveSettings, index, uniqueId);
+		super(thisNode, otherNodesActive, masterSlaveSettings, index, uniqueId, internalClient.getNodeLoadTracker());
 		this.internalClient = internalClient;
 		this.index = index;
 	}
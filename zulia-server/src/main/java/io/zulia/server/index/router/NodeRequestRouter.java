@@ -2,6 +2,7 @@ package io.zulia.server.index.router;
 
 import io.zulia.message.ZuliaBase.MasterSlaveSettings;
 import io.zulia.message.ZuliaBase.Node;
+import io.zulia.server.connection.client.NodeLoadTracker;
 import io.zulia.server.index.MasterSlaveSelector;
 import io.zulia.server.index.NodeRequestBase;
 import io.zulia.server.index.ZuliaIndex;
@@ -15,8 +16,8 @@ public abstract class NodeRequestRouter<I, O> extends NodeRequestBase<I, O> {
 
 	private Node node;
 
-	public NodeRequestRouter(Node thisNode, Collection<Node> otherNodesActive, MasterSlaveSettings masterSlaveSettings, ZuliaIndex index, String uniqueId)
-			throws IOException {
+	public NodeRequestRouter(Node thisNode, Collection<Node> otherNodesActive, MasterSlaveSettings masterSlaveSettings, ZuliaIndex index, String uniqueId,
+			NodeLoadTracker nodeLoadTracker) throws IOException {
 
 		super(thisNode, otherNodesActive);
 
@@ -24,7 +25,8 @@ public abstract class NodeRequestRouter<I, O> extends NodeRequestBase<I, O> {
 		nodeList.add(thisNode);
 		nodeList.addAll(otherNodesActive);
 
-		this.node = new MasterSlaveSelector(masterSlaveSettings, nodeList, index.getIndexShardMapping()).getNodeForUniqueId(uniqueId);
+		this.node = new MasterSlaveSelector(masterSlaveSettings, nodeList, index.getIndexShardMapping(), thisNode, nodeLoadTracker).getNodeForUniqueId(
+				uniqueId);
 
 	}
 
@@ -16,7 +16,7 @@ public class StoreRequestRouter extends NodeRequestRouter<StoreRequest, StoreRes
 
 	public StoreRequestRouter(Node thisNode, Collection<Node> otherNodesActive, ZuliaIndex index, String uniqueId, InternalClient internalClient)
 			throws IOException {
-		super(thisNode, otherNodesActive, MasterSlaveSettings.MASTER_ONLY, index, uniqueId);
+		super(thisNode, otherNodesActive, MasterSlaveSettings.MASTER_ONLY, index, uniqueId, internalClient.getNodeLoadTracker());
 		this.internalClient = internalClient;
 		this.index = index;
 	}
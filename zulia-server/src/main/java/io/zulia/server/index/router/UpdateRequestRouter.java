@@ -0,0 +1,37 @@
+package io.zulia.server.index.router;
+
+import io.zulia.message.ZuliaBase.MasterSlaveSettings;
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaServiceOuterClass.UpdateRequest;
+import io.zulia.message.ZuliaServiceOuterClass.UpdateResponse;
+import io.zulia.server.connection.client.InternalClient;
+import io.zulia.server.index.ZuliaIndex;
+
+import java.io.IOException;
+import java.util.Collection;
+
+public class UpdateRequestRouter extends NodeRequestRouter<UpdateRequest, UpdateResponse> {
+	private final InternalClient internalClient;
+	private final ZuliaIndex index;
+
+	public UpdateRequestRouter(Node thisNode, Collection<Node> otherNodesActive, ZuliaIndex index, String uniqueId, InternalClient internalClient)
+			throws IOException {
+		super(thisNode, otherNodesActive, MasterSlaveSettings.MASTER_ONLY, index, uniqueId, internalClient.getNodeLoadTracker());
+		this.internalClient = internalClient;
+		this.index = index;
+	}
+
+	@Override
+	protected UpdateResponse processExternal(Node node, UpdateRequest request) throws Exception {
+		return internalClient.executeUpdate(node, request);
+	}
+
+	@Override
+	protected UpdateResponse processInternal(Node node, UpdateRequest request) throws Exception {
+		return internalUpdate(index, request);
+	}
+
+	public static UpdateResponse internalUpdate(ZuliaIndex index, UpdateRequest request) throws Exception {
+		return index.internalUpdate(request);
+	}
+}
@@ -27,11 +27,21 @@ public abstract class MembershipTask extends TimerTask {
 	private final NodeService nodeService;
 	private final ZuliaConfig zuliaConfig;
 	private Map<String, Node> otherNodeMap;
+	private Map<String, Node> liveOtherNodeMap;
+	private NodeHealthMonitor nodeHealthMonitor;
 
 	public MembershipTask(ZuliaConfig zuliaConfig, NodeService nodeService) {
 		this.nodeService = nodeService;
 		this.zuliaConfig = zuliaConfig;
 		this.otherNodeMap = new HashMap<>();
+		this.liveOtherNodeMap = new HashMap<>();
+	}
+
+	/**
+	 * Ejected nodes are left out of the active nodes until the monitor sees them answering again
+	 */
+	public void setNodeHealthMonitor(NodeHealthMonitor nodeHealthMonitor) {
+		this.nodeHealthMonitor = nodeHealthMonitor;
 	}
 
 	@Override
@@ -46,7 +56,7 @@ public abstract class MembershipTask extends TimerTask {
 			ArrayList<Node> nodesList = new ArrayList<>(nodeService.getNodes());
 			nodesList.sort(Comparator.comparingLong(Node::getHeartbeat).reversed());
 
-			Map<String, Node> newOtherNodeMap = new HashMap<>();
+			Map<String, Node> newLiveOtherNodeMap = new HashMap<>();
 
 			long latest = nodesList.get(0).getHeartbeat();
 			for (Node node : nodesList) {
@@ -55,48 +65,69 @@ public abstract class MembershipTask extends TimerTask {
 						//skip this server
 					}
 					else {
-						newOtherNodeMap.put(node.getServerAddress() + ":" + node.getServicePort(), node);
+						newLiveOtherNodeMap.put(node.getServerAddress() + ":" + node.getServicePort(), node);
 					}
 				}
 			}
 
-			List<Node> removedNodesList = Collections.emptyList();
-			List<Node> newNodesList = Collections.emptyList();
+			if (nodeHealthMonitor != null) {
+				nodeHealthMonitor.setNodes(newLiveOtherNodeMap.values());
+			}
 
-			{
-				Set<String> removedNodes = new HashSet<>(otherNodeMap.keySet());
-				removedNodes.removeAll(newOtherNodeMap.keySet());
+			synchronized (this) {
+				liveOtherNodeMap = newLiveOtherNodeMap;
+				updateMembership();
+			}
 
-				if (!removedNodes.isEmpty()) {
-					removedNodesList = removedNodes.stream().map(otherNodeMap::get).collect(Collectors.toList());
-				}
+		}
+		catch (Throwable t) {
+			LOG.error("Update membership failed: ", t);
+		}
+	}
+
+	/**
+	 * Compares the live nodes that are not ejected by the health monitor with the current active nodes and notifies about the differences
+	 */
+	public synchronized void updateMembership() {
+		Map<String, Node> newOtherNodeMap = new HashMap<>();
+		for (Map.Entry<String, Node> entry : liveOtherNodeMap.entrySet()) {
+			if (nodeHealthMonitor == null || !nodeHealthMonitor.isEjected(entry.getValue())) {
+				newOtherNodeMap.put(entry.getKey(), entry.getValue());
+			}
+		}
 
-				Set<String> newNodes = new HashSet<>(newOtherNodeMap.keySet());
-				newNodes.removeAll(otherNodeMap.keySet());
+		List<Node> removedNodesList = Collections.emptyList();
+		List<Node> newNodesList = Collections.emptyList();
 
-				if (!newNodes.isEmpty()) {
-					newNodesList = newNodes.stream().map(newOtherNodeMap::get).collect(Collectors.toList());
-				}
+		{
+			Set<String> removedNodes = new HashSet<>(otherNodeMap.keySet());
+			removedNodes.removeAll(newOtherNodeMap.keySet());
 
+			if (!removedNodes.isEmpty()) {
+				removedNodesList = removedNodes.stream().map(otherNodeMap::get).collect(Collectors.toList());
 			}
 
-			otherNodeMap = newOtherNodeMap;
+			Set<String> newNodes = new HashSet<>(newOtherNodeMap.keySet());
+			newNodes.removeAll(otherNodeMap.keySet());
 
-			if (!newNodesList.isEmpty() || !removedNodesList.isEmpty()) {
-				ArrayList<Node> otherNodes = new ArrayList<>(otherNodeMap.values());
+			if (!newNodes.isEmpty()) {
+				newNodesList = newNodes.stream().map(newOtherNodeMap::get).collect(Collectors.toList());
+			}
 
-				for (Node removedNode : removedNodesList) {
-					handleNodeRemove(otherNodes, removedNode);
-				}
+		}
 
-				for (Node newNode : newNodesList) {
-					handleNodeAdded(otherNodes, newNode);
-				}
+		otherNodeMap = newOtherNodeMap;
+
+		if (!newNodesList.isEmpty() || !removedNodesList.isEmpty()) {
+			ArrayList<Node> otherNodes = new ArrayList<>(otherNodeMap.values());
+
+			for (Node removedNode : removedNodesList) {
+				handleNodeRemove(otherNodes, removedNode);
 			}
 
-		}
-		catch (Throwable t) {
-			LOG.error("Update membership failed: ", t);
+			for (Node newNode : newNodesList) {
+				handleNodeAdded(otherNodes, newNode);
+			}
 		}
 	}
 
@@ -0,0 +1,188 @@
+package io.zulia.server.node;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaServiceGrpc;
+import io.zulia.message.ZuliaServiceGrpc.ZuliaServiceFutureStub;
+import io.zulia.message.ZuliaServiceOuterClass.InternalPingRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalPingResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pings the other live cluster members directly so a node that crashed or hangs is taken out of routing within about a second instead of
+ * waiting for its heartbeat in the cluster database to age out.  A node is suspected after a failed ping and ejected after a number of consecutive
+ * failures.  Ejection only affects this node's view, the cluster database stays the source of truth for membership and an ejected node that starts
+ * answering again is added back.  Each node is pinged over its own channel so pings are not queued behind requests to a busy node.
+ */
+public class NodeHealthMonitor {
+
+	private static final Logger LOG = LoggerFactory.getLogger(NodeHealthMonitor.class);
+
+	//consecutive successful pings before an ejected node is added back so a flapping node does not churn the routing
+	private static final int RECOVER_AFTER_SUCCESSES = 2;
+
+	private static final InternalPingRequest PING_REQUEST = InternalPingRequest.newBuilder().build();
+
+	private static class NodeHealth {
+		private final Node node;
+		private final ManagedChannel channel;
+		private final ZuliaServiceFutureStub stub;
+		private final AtomicBoolean pingInFlight;
+		private int failures;
+		private int successes;
+		private volatile boolean ejected;
+
+		private NodeHealth(Node node) {
+			this.node = node;
+			this.channel = ManagedChannelBuilder.forAddress(node.getServerAddress(), node.getServicePort()).usePlaintext().build();
+			this.stub = ZuliaServiceGrpc.newFutureStub(channel);
+			this.pingInFlight = new AtomicBoolean();
+		}
+	}
+
+	private final long probeTimeoutMs;
+	private final int ejectAfterFailures;
+	private final Runnable onChange;
+	private final ConcurrentHashMap<String, NodeHealth> nodeHealthMap;
+	private final AtomicBoolean changed;
+
+	/**
+	 * @param probeTimeoutMs     - a ping not answered within this time counts as a failure
+	 * @param ejectAfterFailures - consecutive failed pings before a node is ejected
+	 * @param onChange           - called from {@link #probe()} after a node was ejected or added back
+	 */
+	public NodeHealthMonitor(long probeTimeoutMs, int ejectAfterFailures, Runnable onChange) {
+		this.probeTimeoutMs = probeTimeoutMs;
+		this.ejectAfterFailures = ejectAfterFailures;
+		this.onChange = onChange;
+		this.nodeHealthMap = new ConcurrentHashMap<>();
+		this.changed = new AtomicBoolean();
+	}
+
+	/**
+	 * @param nodes - the other nodes currently alive according to the cluster database
+	 */
+	public synchronized void setNodes(Collection<Node> nodes) {
+		Map<String, Node> nodeMap = new HashMap<>();
+		for (Node node : nodes) {
+			nodeMap.put(getNodeKey(node), node);
+		}
+
+		Set<String> removed = new HashSet<>(nodeHealthMap.keySet());
+		removed.removeAll(nodeMap.keySet());
+		for (String nodeKey : removed) {
+			NodeHealth nodeHealth = nodeHealthMap.remove(nodeKey);
+			nodeHealth.channel.shutdownNow();
+		}
+
+		for (Map.Entry<String, Node> entry : nodeMap.entrySet()) {
+			nodeHealthMap.computeIfAbsent(entry.getKey(), k -> new NodeHealth(entry.getValue()));
+		}
+	}
+
+	public boolean isEjected(Node node) {
+		NodeHealth nodeHealth = nodeHealthMap.get(getNodeKey(node));
+		return nodeHealth != null && nodeHealth.ejected;
+	}
+
+	/**
+	 * Sends a ping to every node that does not have one outstanding.  Ping results arrive on grpc threads so membership changes they cause are
+	 * applied on the next call instead of blocking those threads
+	 */
+	public void probe() {
+		if (changed.getAndSet(false)) {
+			onChange.run();
+		}
+
+		for (NodeHealth nodeHealth : nodeHealthMap.values()) {
+			if (nodeHealth.pingInFlight.compareAndSet(false, true)) {
+				ping(nodeHealth);
+			}
+		}
+	}
+
+	private void ping(NodeHealth nodeHealth) {
+		ListenableFuture<InternalPingResponse> response;
+		try {
+			response = nodeHealth.stub.withDeadlineAfter(probeTimeoutMs, TimeUnit.MILLISECONDS).internalPing(PING_REQUEST);
+		}
+		catch (Exception e) {
+			//channel was shut down because the node left the cluster
+			nodeHealth.pingInFlight.set(false);
+			return;
+		}
+
+		Futures.addCallback(response, new FutureCallback<>() {
+			@Override
+			public void onSuccess(InternalPingResponse result) {
+				pingSucceeded(nodeHealth);
+				nodeHealth.pingInFlight.set(false);
+			}
+
+			@Override
+			public void onFailure(Throwable t) {
+				pingFailed(nodeHealth, t);
+				nodeHealth.pingInFlight.set(false);
+			}
+		}, MoreExecutors.directExecutor());
+	}
+
+	private void pingSucceeded(NodeHealth nodeHealth) {
+		synchronized (nodeHealth) {
+			if (nodeHealth.failures > 0 && !nodeHealth.ejected) {
+				LOG.info("Node <" + getNodeKey(nodeHealth.node) + "> is no longer suspected");
+			}
+			nodeHealth.failures = 0;
+			nodeHealth.successes++;
+			if (nodeHealth.ejected && nodeHealth.successes >= RECOVER_AFTER_SUCCESSES) {
+				LOG.info("Node <" + getNodeKey(nodeHealth.node) + "> is answering pings again, adding it back");
+				nodeHealth.ejected = false;
+				changed.set(true);
+			}
+		}
+	}
+
+	private void pingFailed(NodeHealth nodeHealth, Throwable t) {
+		synchronized (nodeHealth) {
+			nodeHealth.successes = 0;
+			nodeHealth.failures++;
+			if (nodeHealth.ejected) {
+				return;
+			}
+			if (nodeHealth.failures == 1) {
+				LOG.warn("Node <" + getNodeKey(nodeHealth.node) + "> is suspected after a failed ping: " + t.getMessage());
+			}
+			if (nodeHealth.failures >= ejectAfterFailures) {
+				LOG.error("Node <" + getNodeKey(nodeHealth.node) + "> failed <" + nodeHealth.failures + "> consecutive pings, ejecting it");
+				nodeHealth.ejected = true;
+				changed.set(true);
+			}
+		}
+	}
+
+	public void close() {
+		for (NodeHealth nodeHealth : nodeHealthMap.values()) {
+			nodeHealth.channel.shutdownNow();
+		}
+		nodeHealthMap.clear();
+	}
+
+	private static String getNodeKey(Node node) {
+		return node.getServerAddress() + ":" + node.getServicePort();
+	}
+}
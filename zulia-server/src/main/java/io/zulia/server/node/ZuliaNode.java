@@ -14,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Timer;
+import java.util.concurrent.ScheduledFuture;
 
 import static io.zulia.message.ZuliaBase.Node;
 
@@ -26,6 +27,8 @@ public class ZuliaNode {
 	private final NodeService nodeService;
 	private final ZuliaConfig zuliaConfig;
 	private ApplicationContext micronautService;
+	private NodeHealthMonitor nodeHealthMonitor;
+	private ScheduledFuture<?> nodeHealthProbeTask;
 	private boolean started;
 
 	public ZuliaNode(ZuliaConfig zuliaConfig, NodeService nodeService) throws Exception {
@@ -52,7 +55,8 @@ public class ZuliaNode {
 
 	public static Node nodeFromConfig(ZuliaConfig zuliaConfig) {
 		return Node.newBuilder().setServerAddress(zuliaConfig.getServerAddress()).setServicePort(zuliaConfig.getServicePort())
-				.setRestPort(zuliaConfig.getRestPort()).setVersion(ZuliaVersion.getVersion()).build();
+				.setRestPort(zuliaConfig.getRestPort()).setVersion(ZuliaVersion.getVersion()).setCoordinatorOnly(zuliaConfig.isCoordinatorOnly())
+				.build();
 	}
 
 	public void start() throws Exception {
@@ -73,11 +77,22 @@ public class ZuliaNode {
 				indexManager.handleNodeAdded(currentOtherNodesActive, newNode);
 			}
 		};
+		if (zuliaConfig.getNodeHealthProbeIntervalMs() > 0) {
+			nodeHealthMonitor = new NodeHealthMonitor(zuliaConfig.getNodeHealthProbeTimeoutMs(), zuliaConfig.getNodeHealthEjectAfterFailures(),
+					membershipTask::updateMembership);
+			membershipTask.setNodeHealthMonitor(nodeHealthMonitor);
+		}
+
 		//force membership to run
 		membershipTask.run();
 
 		membershipTimer.scheduleAtFixedRate(membershipTask, 1000, 1000);
 
+		if (nodeHealthMonitor != null) {
+			nodeHealthProbeTask = indexManager.getNodeExecutors()
+					.scheduleWithFixedDelay("node health probe", nodeHealthMonitor::probe, zuliaConfig.getNodeHealthProbeIntervalMs());
+		}
+
 		indexManager.init();
 		zuliaServiceServer.start();
 		if (startREST) {
@@ -93,6 +108,14 @@ public class ZuliaNode {
 	public void shutdown() {
 		LOG.info(getLogPrefix() + "stopping");
 		membershipTimer.cancel();
+		if (nodeHealthProbeTask != null) {
+			nodeHealthProbeTask.cancel(false);
+			nodeHealthProbeTask = null;
+		}
+		if (nodeHealthMonitor != null) {
+			nodeHealthMonitor.close();
+			nodeHealthMonitor = null;
+		}
 		nodeService.removeHeartbeat(zuliaConfig.getServerAddress(), zuliaConfig.getServicePort());
 		zuliaServiceServer.shutdown();
 		indexManager.shutdown();
@@ -18,6 +18,7 @@ import jakarta.inject.Singleton;
 @SerdeImport(IndexMappingDTO.class)
 @SerdeImport(NodeDTO.class)
 @SerdeImport(NodesResponseDTO.class)
+@SerdeImport(RequestClassStatsDTO.class)
 @SerdeImport(ScoredResultDTO.class)
 @SerdeImport(SearchResultsDTO.class)
 @SerdeImport(StatsDTO.class)
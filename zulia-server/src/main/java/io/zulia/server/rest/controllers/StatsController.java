@@ -7,6 +7,9 @@ import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.zulia.ZuliaRESTConstants;
 import io.zulia.rest.dto.StatsDTO;
+import io.zulia.server.index.NodeExecutors;
+import io.zulia.server.index.QueryHedger;
+import io.zulia.server.index.QueryResultCacheBudget;
 import io.zulia.server.index.ZuliaIndexManager;
 import io.zulia.server.util.ZuliaNodeProvider;
 import io.zulia.util.ZuliaVersion;
@@ -26,7 +29,7 @@ public class StatsController {
 	@ExecuteOn(TaskExecutors.BLOCKING)
 	@Get(ZuliaRESTConstants.STATS_URL)
 	@Produces(ZuliaRESTConstants.UTF8_JSON)
-	public StatsDTO getStats() {
+	public StatsDTO getStats() throws Exception {
 
 		ZuliaIndexManager indexManager = ZuliaNodeProvider.getZuliaNode().getIndexManager();
 
@@ -48,6 +51,31 @@ public class StatsController {
 		statsDTO.setUsedDataDirSpaceGB(usedDataDirSpaceGB);
 		statsDTO.setZuliaVersion(ZuliaVersion.getVersion());
 
+		QueryResultCacheBudget queryResultCacheBudget = indexManager.getQueryResultCacheBudget();
+		statsDTO.setQueryResultCacheUsedMB(queryResultCacheBudget.getUsedBytes() / (double) MB);
+		statsDTO.setQueryResultCacheMaxMB(queryResultCacheBudget.getMaxBytes() / (double) MB);
+		statsDTO.setQueryResultCacheRejectedCount(queryResultCacheBudget.getRejectedCount());
+
+		NodeExecutors nodeExecutors = indexManager.getNodeExecutors();
+		statsDTO.setSearchThreadsMax(nodeExecutors.getSearchPool().getMaxThreads());
+		statsDTO.setSearchThreadsActive(nodeExecutors.getSearchPool().getActiveCount());
+		statsDTO.setSearchTasksWaiting(nodeExecutors.getSearchPool().getWaitingCount());
+		statsDTO.setRequestThreads(nodeExecutors.getRequestPool().getPoolSize());
+		statsDTO.setRequestThreadsActive(nodeExecutors.getRequestPool().getActiveCount());
+		statsDTO.setScheduledTasks(nodeExecutors.getScheduledTaskCount());
+
+		statsDTO.setRequestClassStats(indexManager.getAdmissionController().getStats());
+
+		QueryHedger queryHedger = indexManager.getQueryHedger();
+		statsDTO.setQueryNodeRequests(queryHedger.getNodeRequests());
+		statsDTO.setQueryHedges(queryHedger.getHedgesSent());
+		statsDTO.setQueryHedgesWon(queryHedger.getHedgesWon());
+		statsDTO.setQueryHedgeRate(queryHedger.getHedgeRate());
+		statsDTO.setQueryHedgeWinRate(queryHedger.getHedgeWinRate());
+
+		statsDTO.setShardMergeStats(indexManager.getShardMergeStats());
+		statsDTO.setShardTaxonomyCacheStats(indexManager.getShardTaxonomyCacheStats());
+
 		//TODO use this
 		indexManager.getStats();
 
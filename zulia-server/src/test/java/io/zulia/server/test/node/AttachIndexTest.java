@@ -0,0 +1,154 @@
+package io.zulia.server.test.node;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.CreateIndex;
+import io.zulia.client.command.FetchDocument;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.builder.CountFacet;
+import io.zulia.client.command.builder.FilterQuery;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.FetchResult;
+import io.zulia.client.result.SearchResult;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.message.ZuliaIndex.IndexSettings;
+import io.zulia.message.ZuliaQuery.FacetCount;
+import io.zulia.message.ZuliaServiceOuterClass.CreateIndexRequest;
+import io.zulia.server.connection.server.validation.CreateIndexRequestValidator;
+import io.zulia.server.index.OfflineIndexBuilder;
+import io.zulia.server.test.node.shared.NodeExtension;
+import io.zulia.util.pool.TaskExecutor;
+import io.zulia.util.pool.WorkPool;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class AttachIndexTest {
+
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(3);
+
+	@TempDir
+	static Path buildDir;
+
+	private static final String ATTACH_TEST_INDEX = "attachTest";
+
+	private static final int BUILT_DOCS = 300;
+	private static final int STORED_DOCS = 10;
+
+	@Test
+	@Order(1)
+	public void build() throws Exception {
+		//validated the same way zuliabuild does so the settings match the ones the index is created with
+		CreateIndexRequest createIndexRequest = CreateIndexRequest.newBuilder().setIndexSettings(getIndexConfig().getIndexSettings()).build();
+		IndexSettings indexSettings = new CreateIndexRequestValidator().validateAndSetDefault(createIndexRequest).getIndexSettings();
+
+		try (OfflineIndexBuilder offlineIndexBuilder = new OfflineIndexBuilder(indexSettings, buildDir)) {
+			for (int i = 0; i < BUILT_DOCS; i++) {
+				offlineIndexBuilder.store(String.valueOf(i), getDocument(i, "built document " + i));
+			}
+			Assertions.assertEquals(BUILT_DOCS, offlineIndexBuilder.getCount());
+
+			try (TaskExecutor pool = WorkPool.nativePool(3)) {
+				offlineIndexBuilder.finish(pool, 1);
+			}
+		}
+	}
+
+	@Test
+	@Order(2)
+	public void attach() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		zuliaWorkPool.createIndex(new CreateIndex(getIndexConfig()).setAttachPath(buildDir.toString()));
+
+		verifyIndex(zuliaWorkPool, BUILT_DOCS);
+
+		FetchResult fetchResult = zuliaWorkPool.fetch(new FetchDocument("7", ATTACH_TEST_INDEX));
+		Assertions.assertEquals("built document 7", fetchResult.getDocument().getString("title"));
+	}
+
+	@Test
+	@Order(3)
+	public void writeAfterAttach() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//new documents are added and overwrites replace the built copy in the shard the id routes to
+		for (int i = BUILT_DOCS - STORED_DOCS; i < BUILT_DOCS + STORED_DOCS; i++) {
+			zuliaWorkPool.store(new Store(String.valueOf(i), ATTACH_TEST_INDEX, ResultDocBuilder.from(getDocument(i, "stored document " + i))));
+		}
+
+		verifyIndex(zuliaWorkPool, BUILT_DOCS + STORED_DOCS);
+		SearchResult searchResult = zuliaWorkPool.search(new Search(ATTACH_TEST_INDEX).addQuery(new FilterQuery("title:stored")));
+		Assertions.assertEquals(STORED_DOCS * 2, searchResult.getTotalHits());
+	}
+
+	@Test
+	@Order(4)
+	public void attachToExisting() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//built shards would replace the documents of an existing index
+		Assertions.assertThrows(Exception.class,
+				() -> zuliaWorkPool.createIndex(new CreateIndex(getIndexConfig()).setAttachPath(buildDir.toString())));
+		verifyIndex(zuliaWorkPool, BUILT_DOCS + STORED_DOCS);
+	}
+
+	@Test
+	@Order(5)
+	public void restart() throws Exception {
+		nodeExtension.restartNodes();
+	}
+
+	@Test
+	@Order(6)
+	public void confirmAfterRestart() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		verifyIndex(zuliaWorkPool, BUILT_DOCS + STORED_DOCS);
+		FetchResult fetchResult = zuliaWorkPool.fetch(new FetchDocument("7", ATTACH_TEST_INDEX));
+		Assertions.assertEquals("built document 7", fetchResult.getDocument().getString("title"));
+	}
+
+	private static ClientIndexConfig getIndexConfig() {
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("category").indexAs(DefaultAnalyzers.LC_KEYWORD).facet());
+		indexConfig.setIndexName(ATTACH_TEST_INDEX);
+		indexConfig.setNumberOfShards(3);
+		indexConfig.setNumberOfReplicas(1);
+		return indexConfig;
+	}
+
+	private static Document getDocument(int i, String title) {
+		Document mongoDocument = new Document();
+		mongoDocument.put("id", String.valueOf(i));
+		mongoDocument.put("title", title);
+		mongoDocument.put("category", "c" + (i % 3));
+		return mongoDocument;
+	}
+
+	private static void verifyIndex(ZuliaWorkPool zuliaWorkPool, int expectedDocs) throws Exception {
+		SearchResult searchResult = zuliaWorkPool.search(new Search(ATTACH_TEST_INDEX).addCountFacet(new CountFacet("category")));
+		Assertions.assertEquals(expectedDocs, searchResult.getTotalHits());
+
+		//the taxonomy of each shard was attached with it
+		long facetTotal = 0;
+		for (FacetCount facetCount : searchResult.getFacetCounts("category")) {
+			facetTotal += facetCount.getCount();
+		}
+		Assertions.assertEquals(expectedDocs, facetTotal);
+	}
+}
@@ -0,0 +1,173 @@
+package io.zulia.server.test.node;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.BatchFetch;
+import io.zulia.client.command.DeleteFull;
+import io.zulia.client.command.Fetch;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.FetchResult;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.message.ZuliaBase.MasterSlaveSettings;
+import io.zulia.message.ZuliaQuery.FetchType;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class BatchFetchTest {
+
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(3);
+
+	private static final String BATCH_FETCH_TEST_INDEX_1 = "batchFetchTest1";
+	private static final String BATCH_FETCH_TEST_INDEX_2 = "batchFetchTest2";
+
+	//more than one chunk of fetches for each node
+	private static final int INDEX_1_DOCS = 4000;
+	private static final int INDEX_2_DOCS = 100;
+	private static final int MISSING_IDS = 200;
+
+	private static final Set<String> DELETED_IDS = Set.of("5", "500", "3999");
+
+	@Test
+	@Order(1)
+	public void createIndexes() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		createIndex(zuliaWorkPool, BATCH_FETCH_TEST_INDEX_1, 6, INDEX_1_DOCS);
+		createIndex(zuliaWorkPool, BATCH_FETCH_TEST_INDEX_2, 3, INDEX_2_DOCS);
+		zuliaWorkPool.optimizeIndex(BATCH_FETCH_TEST_INDEX_1);
+		zuliaWorkPool.optimizeIndex(BATCH_FETCH_TEST_INDEX_2);
+
+		waitForReplicas(zuliaWorkPool, INDEX_1_DOCS + INDEX_2_DOCS);
+	}
+
+	@Test
+	@Order(2)
+	public void batchFetchFromPrimary() throws Exception {
+		assertBatchFetch(null, Set.of());
+		assertBatchFetch(MasterSlaveSettings.MASTER_ONLY, Set.of());
+		assertBatchFetch(MasterSlaveSettings.MASTER_IF_AVAILABLE, Set.of());
+	}
+
+	@Test
+	@Order(3)
+	public void batchFetchFromReplica() throws Exception {
+		assertBatchFetch(MasterSlaveSettings.SLAVE_ONLY, Set.of());
+	}
+
+	@Test
+	@Order(4)
+	public void batchFetchDeleted() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		for (String deletedId : DELETED_IDS) {
+			zuliaWorkPool.delete(new DeleteFull(deletedId, BATCH_FETCH_TEST_INDEX_1));
+		}
+		zuliaWorkPool.optimizeIndex(BATCH_FETCH_TEST_INDEX_1);
+		waitForReplicas(zuliaWorkPool, INDEX_1_DOCS + INDEX_2_DOCS - DELETED_IDS.size());
+
+		//deleted documents are missing from the primary and the replica
+		assertBatchFetch(MasterSlaveSettings.MASTER_ONLY, DELETED_IDS);
+		assertBatchFetch(MasterSlaveSettings.SLAVE_ONLY, DELETED_IDS);
+	}
+
+	@Test
+	@Order(5)
+	public void batchFetchSingle() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		List<FetchResult> fetchResults = zuliaWorkPool.batchFetch(new BatchFetch().addFetches(List.of(new Fetch("10", BATCH_FETCH_TEST_INDEX_1))))
+				.getFetchResults();
+		Assertions.assertEquals(1, fetchResults.size());
+		Assertions.assertEquals("10", fetchResults.getFirst().getDocument().getString("id"));
+
+		Assertions.assertTrue(zuliaWorkPool.batchFetch(new BatchFetch()).getFetchResults().isEmpty());
+	}
+
+	private static void assertBatchFetch(MasterSlaveSettings masterSlaveSettings, Set<String> deletedIds) throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//ids of both indexes and ids that do not exist mixed so the fetches of every node and chunk are spread through the request
+		List<Fetch> fetches = new ArrayList<>();
+		for (int i = 0; i < INDEX_1_DOCS; i++) {
+			fetches.add(new Fetch(String.valueOf(i), BATCH_FETCH_TEST_INDEX_1));
+		}
+		for (int i = 0; i < INDEX_2_DOCS; i++) {
+			fetches.add(new Fetch(String.valueOf(i), BATCH_FETCH_TEST_INDEX_2));
+		}
+		for (int i = 0; i < MISSING_IDS; i++) {
+			fetches.add(new Fetch("missing" + i, i % 2 == 0 ? BATCH_FETCH_TEST_INDEX_1 : BATCH_FETCH_TEST_INDEX_2));
+		}
+		Collections.shuffle(fetches, new Random(1234));
+		for (Fetch fetch : fetches) {
+			fetch.setResultFetchType(FetchType.FULL);
+			fetch.setAssociatedFetchType(FetchType.NONE);
+			fetch.setMasterSlaveSettings(masterSlaveSettings);
+		}
+
+		List<FetchResult> fetchResults = zuliaWorkPool.batchFetch(new BatchFetch().addFetches(fetches)).getFetchResults();
+		Assertions.assertEquals(fetches.size(), fetchResults.size());
+
+		for (int i = 0; i < fetches.size(); i++) {
+			Fetch fetch = fetches.get(i);
+			FetchResult fetchResult = fetchResults.get(i);
+
+			//missing documents still have a response in their place
+			Assertions.assertEquals(fetch.getUniqueId(), fetchResult.getUniqueId());
+			Assertions.assertEquals(fetch.getIndexName(), fetchResult.getIndexName());
+
+			boolean deleted = fetch.getIndexName().equals(BATCH_FETCH_TEST_INDEX_1) && deletedIds.contains(fetch.getUniqueId());
+			boolean missing = deleted || fetch.getUniqueId().startsWith("missing");
+			Assertions.assertEquals(!missing, fetchResult.hasResultDocument());
+			if (!missing) {
+				Document document = fetchResult.getDocument();
+				Assertions.assertEquals(fetch.getUniqueId(), document.getString("id"));
+				Assertions.assertEquals(fetch.getIndexName(), document.getString("index"));
+			}
+		}
+	}
+
+	private static void createIndex(ZuliaWorkPool zuliaWorkPool, String indexName, int shards, int docs) throws Exception {
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.setIndexName(indexName);
+		indexConfig.setNumberOfShards(shards);
+		indexConfig.setNumberOfReplicas(1);
+		zuliaWorkPool.createIndex(indexConfig);
+
+		for (int i = 0; i < docs; i++) {
+			Document mongoDocument = new Document();
+			mongoDocument.put("id", String.valueOf(i));
+			mongoDocument.put("index", indexName);
+			mongoDocument.put("title", "document " + i);
+			zuliaWorkPool.store(new Store(String.valueOf(i), indexName, ResultDocBuilder.from(mongoDocument)));
+		}
+	}
+
+	private static void waitForReplicas(ZuliaWorkPool zuliaWorkPool, long expectedDocs) throws Exception {
+		Search search = new Search(BATCH_FETCH_TEST_INDEX_1, BATCH_FETCH_TEST_INDEX_2).setMasterSlaveSettings(MasterSlaveSettings.SLAVE_ONLY);
+		long waitUntil = System.currentTimeMillis() + 30000;
+		while (zuliaWorkPool.search(search).getTotalHits() != expectedDocs && System.currentTimeMillis() < waitUntil) {
+			Thread.sleep(200);
+		}
+		Assertions.assertEquals(expectedDocs, zuliaWorkPool.search(search).getTotalHits());
+	}
+}
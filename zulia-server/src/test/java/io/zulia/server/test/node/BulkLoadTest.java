@@ -0,0 +1,130 @@
+package io.zulia.server.test.node;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.UpdateIndex;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.GetBulkLoadStatusResult;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.message.ZuliaIndex.BulkLoadSettings;
+import io.zulia.message.ZuliaServiceOuterClass.ShardBulkLoadStatus;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class BulkLoadTest {
+
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(3);
+
+	private static final String BULK_LOAD_TEST_INDEX = "bulkLoadTest";
+
+	private static final int DOCS = 1000;
+
+	@Test
+	@Order(1)
+	public void createIndex() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.setIndexName(BULK_LOAD_TEST_INDEX);
+		indexConfig.setNumberOfShards(3);
+		indexConfig.setBulkLoadSettings(BulkLoadSettings.newBuilder().setEnabled(true).build());
+		zuliaWorkPool.createIndex(indexConfig);
+
+		GetBulkLoadStatusResult bulkLoadStatus = zuliaWorkPool.getBulkLoadStatus(BULK_LOAD_TEST_INDEX);
+		Assertions.assertEquals(3, bulkLoadStatus.getShardBulkLoadStatuses().size());
+		Assertions.assertTrue(bulkLoadStatus.isBulkLoad());
+		Assertions.assertFalse(bulkLoadStatus.isMerging());
+	}
+
+	@Test
+	@Order(2)
+	public void load() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//searches do not refresh while bulk loading, the documents are only guaranteed to be visible once it is finished
+		for (int i = 0; i < DOCS; i++) {
+			String uniqueId = String.valueOf(i);
+			Document mongoDocument = new Document();
+			mongoDocument.put("id", uniqueId);
+			mongoDocument.put("title", "document number " + i);
+			zuliaWorkPool.store(new Store(uniqueId, BULK_LOAD_TEST_INDEX, ResultDocBuilder.from(mongoDocument)));
+		}
+	}
+
+	@Test
+	@Order(3)
+	public void finishBulkLoad() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//returns once every shard committed, the force merge runs after
+		zuliaWorkPool.updateIndex(new UpdateIndex(BULK_LOAD_TEST_INDEX).finishBulkLoad(1));
+		Assertions.assertEquals(DOCS, zuliaWorkPool.search(new Search(BULK_LOAD_TEST_INDEX)).getTotalHits());
+
+		GetBulkLoadStatusResult bulkLoadStatus = zuliaWorkPool.getBulkLoadStatus(BULK_LOAD_TEST_INDEX);
+		Assertions.assertFalse(bulkLoadStatus.isBulkLoad());
+
+		long waitUntil = System.currentTimeMillis() + 60000;
+		while (bulkLoadStatus.isMerging() && System.currentTimeMillis() < waitUntil) {
+			Thread.sleep(100);
+			bulkLoadStatus = zuliaWorkPool.getBulkLoadStatus(BULK_LOAD_TEST_INDEX);
+		}
+		Assertions.assertFalse(bulkLoadStatus.isMerging());
+		Assertions.assertTrue(bulkLoadStatus.getErrors().isEmpty(), bulkLoadStatus.getErrors().toString());
+		for (ShardBulkLoadStatus shardBulkLoadStatus : bulkLoadStatus.getShardBulkLoadStatuses()) {
+			Assertions.assertTrue(shardBulkLoadStatus.getMergeStartTime() > 0);
+			Assertions.assertTrue(shardBulkLoadStatus.getMergeEndTime() >= shardBulkLoadStatus.getMergeStartTime());
+		}
+
+		Assertions.assertEquals(DOCS, zuliaWorkPool.search(new Search(BULK_LOAD_TEST_INDEX)).getTotalHits());
+	}
+
+	@Test
+	@Order(4)
+	public void finishWithoutMerge() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		zuliaWorkPool.updateIndex(new UpdateIndex(BULK_LOAD_TEST_INDEX).startBulkLoad());
+		Assertions.assertTrue(zuliaWorkPool.getBulkLoadStatus(BULK_LOAD_TEST_INDEX).isBulkLoad());
+
+		Document mongoDocument = new Document();
+		mongoDocument.put("id", String.valueOf(DOCS));
+		mongoDocument.put("title", "loaded again");
+		zuliaWorkPool.store(new Store(String.valueOf(DOCS), BULK_LOAD_TEST_INDEX, ResultDocBuilder.from(mongoDocument)));
+
+		zuliaWorkPool.updateIndex(new UpdateIndex(BULK_LOAD_TEST_INDEX).finishBulkLoad(0));
+		GetBulkLoadStatusResult bulkLoadStatus = zuliaWorkPool.getBulkLoadStatus(BULK_LOAD_TEST_INDEX);
+		Assertions.assertFalse(bulkLoadStatus.isBulkLoad());
+		Assertions.assertFalse(bulkLoadStatus.isMerging());
+		Assertions.assertEquals(DOCS + 1, zuliaWorkPool.search(new Search(BULK_LOAD_TEST_INDEX)).getTotalHits());
+	}
+
+	@Test
+	@Order(5)
+	public void restart() throws Exception {
+		nodeExtension.restartNodes();
+	}
+
+	@Test
+	@Order(6)
+	public void confirmAfterRestart() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//everything loaded was committed when bulk load finished
+		Assertions.assertFalse(zuliaWorkPool.getBulkLoadStatus(BULK_LOAD_TEST_INDEX).isBulkLoad());
+		Assertions.assertEquals(DOCS + 1, zuliaWorkPool.search(new Search(BULK_LOAD_TEST_INDEX)).getTotalHits());
+	}
+}
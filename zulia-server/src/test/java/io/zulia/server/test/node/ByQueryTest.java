@@ -0,0 +1,182 @@
+package io.zulia.server.test.node;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.DeleteByQuery;
+import io.zulia.client.command.DeleteFull;
+import io.zulia.client.command.FetchAllAssociated;
+import io.zulia.client.command.FetchDocument;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.UpdateByQuery;
+import io.zulia.client.command.builder.FilterQuery;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.DeleteByQueryResult;
+import io.zulia.client.result.FetchResult;
+import io.zulia.client.result.UpdateByQueryResult;
+import io.zulia.doc.AssociatedBuilder;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ByQueryTest {
+
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(3);
+
+	private static final String BY_QUERY_TEST_INDEX = "byQueryTest";
+
+	private static final int DOCS = 200;
+	private static final int DELETED_DURING_UPDATE = 10;
+
+	@Test
+	@Order(1)
+	public void createIndex() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("category").indexAs(DefaultAnalyzers.LC_KEYWORD));
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("status").indexAs(DefaultAnalyzers.LC_KEYWORD));
+		indexConfig.setIndexName(BY_QUERY_TEST_INDEX);
+		indexConfig.setNumberOfShards(3);
+		zuliaWorkPool.createIndex(indexConfig);
+
+		for (int i = 0; i < DOCS; i++) {
+			String uniqueId = String.valueOf(i);
+			Document mongoDocument = new Document();
+			mongoDocument.put("id", uniqueId);
+			mongoDocument.put("title", "document number " + i);
+			mongoDocument.put("category", "c" + (i % 4));
+			mongoDocument.put("status", "new");
+
+			Store store = new Store(uniqueId, BY_QUERY_TEST_INDEX, ResultDocBuilder.from(mongoDocument));
+			store.addAssociatedDocument(AssociatedBuilder.newBuilder().setFilename("file.txt").setDocument("associated text " + i));
+			zuliaWorkPool.store(store);
+		}
+	}
+
+	@Test
+	@Order(2)
+	public void updateByQuery() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		UpdateByQueryResult updateByQueryResult = zuliaWorkPool.updateByQuery(
+				new UpdateByQuery(BY_QUERY_TEST_INDEX).addQuery(new FilterQuery("category:c1")).set("status", "updated"));
+		Assertions.assertTrue(updateByQueryResult.isComplete(), updateByQueryResult.getError());
+		Assertions.assertEquals(DOCS / 4, updateByQueryResult.getUpdated());
+
+		Assertions.assertEquals(DOCS / 4, count(zuliaWorkPool, "status:updated"));
+		Assertions.assertEquals(DOCS - DOCS / 4, count(zuliaWorkPool, "status:new"));
+
+		FetchResult fetchResult = zuliaWorkPool.fetch(new FetchDocument("1", BY_QUERY_TEST_INDEX));
+		Assertions.assertEquals("updated", fetchResult.getDocument().getString("status"));
+		Assertions.assertEquals("document number 1", fetchResult.getDocument().getString("title"));
+
+		//nothing matches, nothing is written
+		updateByQueryResult = zuliaWorkPool.updateByQuery(
+				new UpdateByQuery(BY_QUERY_TEST_INDEX).addQuery(new FilterQuery("category:missing")).set("status", "updated"));
+		Assertions.assertTrue(updateByQueryResult.isComplete());
+		Assertions.assertEquals(0, updateByQueryResult.getUpdated());
+	}
+
+	@Test
+	@Order(3)
+	public void deleteByQuery() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		DeleteByQueryResult deleteByQueryResult = zuliaWorkPool.deleteByQuery(
+				new DeleteByQuery(BY_QUERY_TEST_INDEX).addQuery(new FilterQuery("category:c2")).setDeleteAllAssociated(true));
+		Assertions.assertEquals(DOCS / 4, deleteByQueryResult.getDeleted());
+
+		Assertions.assertEquals(DOCS - DOCS / 4, zuliaWorkPool.search(new Search(BY_QUERY_TEST_INDEX)).getTotalHits());
+		Assertions.assertEquals(0, count(zuliaWorkPool, "category:c2"));
+
+		//the deleted documents lose their associated documents, the others keep them
+		FetchResult fetchResult = zuliaWorkPool.fetch(new FetchAllAssociated("2", BY_QUERY_TEST_INDEX));
+		Assertions.assertEquals(0, fetchResult.getAssociatedDocumentCount());
+
+		fetchResult = zuliaWorkPool.fetch(new FetchAllAssociated("3", BY_QUERY_TEST_INDEX));
+		Assertions.assertEquals(1, fetchResult.getAssociatedDocumentCount());
+
+		//without deleting associated documents they stay
+		deleteByQueryResult = zuliaWorkPool.deleteByQuery(new DeleteByQuery(BY_QUERY_TEST_INDEX).addQuery(new FilterQuery("category:c3")));
+		Assertions.assertEquals(DOCS / 4, deleteByQueryResult.getDeleted());
+		Assertions.assertEquals(DOCS / 2, zuliaWorkPool.search(new Search(BY_QUERY_TEST_INDEX)).getTotalHits());
+
+		fetchResult = zuliaWorkPool.fetch(new FetchAllAssociated("3", BY_QUERY_TEST_INDEX));
+		Assertions.assertEquals(1, fetchResult.getAssociatedDocumentCount());
+	}
+
+	@Test
+	@Order(4)
+	public void updateByQueryWithConcurrentWrites() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//slow enough that the stores and deletes below happen while it runs
+		ListenableFuture<UpdateByQueryResult> updateByQuery = zuliaWorkPool.updateByQueryAsync(
+				new UpdateByQuery(BY_QUERY_TEST_INDEX).addQuery(new FilterQuery("category:c0")).set("status", "reviewed").setMaxDocsPerSecond(10));
+
+		for (int i = 0; i < DOCS / 2; i += 4) {
+			String uniqueId = String.valueOf(i);
+			Document mongoDocument = new Document();
+			mongoDocument.put("id", uniqueId);
+			mongoDocument.put("title", "stored during update");
+			mongoDocument.put("category", "c0");
+			mongoDocument.put("status", "new");
+			zuliaWorkPool.store(new Store(uniqueId, BY_QUERY_TEST_INDEX, ResultDocBuilder.from(mongoDocument)));
+		}
+		for (int d = 0; d < DELETED_DURING_UPDATE; d++) {
+			zuliaWorkPool.delete(new DeleteFull(String.valueOf(DOCS / 2 + d * 8), BY_QUERY_TEST_INDEX));
+		}
+
+		UpdateByQueryResult updateByQueryResult = updateByQuery.get();
+		Assertions.assertTrue(updateByQueryResult.isComplete(), updateByQueryResult.getError());
+		Assertions.assertTrue(updateByQueryResult.getUpdated() <= DOCS / 4);
+
+		//a document stored while the update ran keeps the stored title whether the update was applied to it before or after
+		for (int i = 0; i < DOCS / 2; i += 4) {
+			FetchResult fetchResult = zuliaWorkPool.fetch(new FetchDocument(String.valueOf(i), BY_QUERY_TEST_INDEX));
+			Assertions.assertEquals("stored during update", fetchResult.getDocument().getString("title"));
+		}
+		Assertions.assertEquals(DOCS / 8, count(zuliaWorkPool, "title:\"stored during update\""));
+
+		//a document deleted while the update ran is not brought back
+		for (int d = 0; d < DELETED_DURING_UPDATE; d++) {
+			Assertions.assertNull(zuliaWorkPool.fetch(new FetchDocument(String.valueOf(DOCS / 2 + d * 8), BY_QUERY_TEST_INDEX)).getDocument());
+		}
+		Assertions.assertEquals(DOCS / 4 - DELETED_DURING_UPDATE, count(zuliaWorkPool, "category:c0"));
+		Assertions.assertEquals(DOCS / 2 - DELETED_DURING_UPDATE, zuliaWorkPool.search(new Search(BY_QUERY_TEST_INDEX)).getTotalHits());
+	}
+
+	@Test
+	@Order(5)
+	public void restart() throws Exception {
+		nodeExtension.restartNodes();
+	}
+
+	@Test
+	@Order(6)
+	public void confirmAfterRestart() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//the deletes and updates were committed
+		Assertions.assertEquals(DOCS / 2 - DELETED_DURING_UPDATE, zuliaWorkPool.search(new Search(BY_QUERY_TEST_INDEX)).getTotalHits());
+		Assertions.assertEquals(DOCS / 4, count(zuliaWorkPool, "status:updated"));
+	}
+
+	private static long count(ZuliaWorkPool zuliaWorkPool, String filter) throws Exception {
+		return zuliaWorkPool.search(new Search(BY_QUERY_TEST_INDEX).addQuery(new FilterQuery(filter))).getTotalHits();
+	}
+}
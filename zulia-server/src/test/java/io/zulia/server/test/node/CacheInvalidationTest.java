@@ -0,0 +1,105 @@
+package io.zulia.server.test.node;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.UpdateIndex;
+import io.zulia.client.command.builder.FilterQuery;
+import io.zulia.client.command.builder.ScoredQuery;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.SearchResult;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class CacheInvalidationTest {
+
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(1);
+
+	private static final String CACHE_INVALIDATION_TEST_INDEX = "cacheInvalidationTest";
+
+	private static final int DOCS = 10;
+
+	@Test
+	@Order(1)
+	public void createIndex() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("code").indexAs(DefaultAnalyzers.LC_KEYWORD));
+		indexConfig.addFieldConfig(FieldConfigBuilder.createInt("rating").index().sort());
+		indexConfig.setIndexName(CACHE_INVALIDATION_TEST_INDEX);
+		indexConfig.setNumberOfShards(1);
+		zuliaWorkPool.createIndex(indexConfig);
+
+		for (int i = 0; i < DOCS; i++) {
+			Document mongoDocument = new Document();
+			mongoDocument.put("id", String.valueOf(i));
+			mongoDocument.put("title", "document " + i);
+			mongoDocument.put("code", i % 2 == 0 ? "ABC" : "XYZ");
+			mongoDocument.put("rating", i);
+			zuliaWorkPool.store(new Store(String.valueOf(i), CACHE_INVALIDATION_TEST_INDEX, ResultDocBuilder.from(mongoDocument)));
+		}
+	}
+
+	@Test
+	@Order(2)
+	public void analyzerChange() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//run twice so the parsed query and the result are cached
+		Assertions.assertEquals(DOCS / 2, count(zuliaWorkPool, "code:ABC"));
+		Assertions.assertEquals(DOCS / 2, count(zuliaWorkPool, "code:ABC"));
+
+		//the documents keep their lowercased terms, only queries parsed after the change use the new analyzer
+		UpdateIndex updateIndex = new UpdateIndex(CACHE_INVALIDATION_TEST_INDEX);
+		updateIndex.mergeFieldConfig(FieldConfigBuilder.createString("code").indexAs(DefaultAnalyzers.KEYWORD));
+		zuliaWorkPool.updateIndex(updateIndex);
+
+		Assertions.assertEquals(0, count(zuliaWorkPool, "code:ABC"));
+		Assertions.assertEquals(DOCS / 2, count(zuliaWorkPool, "code:abc"));
+	}
+
+	@Test
+	@Order(3)
+	public void fieldChange() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		Search search = new Search(CACHE_INVALIDATION_TEST_INDEX).setAmount(1).addQuery(new ScoredQuery("document").setScoreFunction("rating"));
+		for (int i = 0; i < 2; i++) {
+			SearchResult searchResult = zuliaWorkPool.search(search);
+			Assertions.assertEquals(DOCS, searchResult.getTotalHits());
+			Assertions.assertEquals(String.valueOf(DOCS - 1), searchResult.getFirstCompleteResult().getUniqueId());
+		}
+
+		//a score function compiled for the numeric field can not be used once the field is no longer numeric
+		UpdateIndex updateIndex = new UpdateIndex(CACHE_INVALIDATION_TEST_INDEX);
+		updateIndex.mergeFieldConfig(FieldConfigBuilder.createString("rating").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		zuliaWorkPool.updateIndex(updateIndex);
+		Assertions.assertThrows(Exception.class, () -> zuliaWorkPool.search(search));
+
+		updateIndex = new UpdateIndex(CACHE_INVALIDATION_TEST_INDEX);
+		updateIndex.mergeFieldConfig(FieldConfigBuilder.createInt("rating").index().sort());
+		zuliaWorkPool.updateIndex(updateIndex);
+		SearchResult searchResult = zuliaWorkPool.search(search);
+		Assertions.assertEquals(DOCS, searchResult.getTotalHits());
+		Assertions.assertEquals(String.valueOf(DOCS - 1), searchResult.getFirstCompleteResult().getUniqueId());
+	}
+
+	private static long count(ZuliaWorkPool zuliaWorkPool, String filter) throws Exception {
+		return zuliaWorkPool.search(new Search(CACHE_INVALIDATION_TEST_INDEX).addQuery(new FilterQuery(filter))).getTotalHits();
+	}
+}
@@ -0,0 +1,140 @@
+package io.zulia.server.test.node;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.builder.FilterQuery;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.GetNodesResult;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaIndex.IndexShardMapping;
+import io.zulia.message.ZuliaIndex.ShardMapping;
+import io.zulia.rest.dto.RequestClassStatsDTO;
+import io.zulia.server.node.ZuliaNode;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.List;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class CoordinatorTest {
+
+	//the last node only coordinates queries
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(3, (nodeNumber, zuliaConfig) -> zuliaConfig.setCoordinatorOnly(nodeNumber == 2));
+
+	private static final String COORDINATOR_TEST_INDEX_1 = "coordinatorTest1";
+	private static final String COORDINATOR_TEST_INDEX_2 = "coordinatorTest2";
+
+	private static final int INDEX_1_DOCS = 60;
+	private static final int INDEX_2_DOCS = 40;
+
+	@Test
+	@Order(1)
+	public void createIndexes() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		createIndex(zuliaWorkPool, COORDINATOR_TEST_INDEX_1, INDEX_1_DOCS);
+		createIndex(zuliaWorkPool, COORDINATOR_TEST_INDEX_2, INDEX_2_DOCS);
+	}
+
+	@Test
+	@Order(2)
+	public void noShardsOnCoordinator() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+		Node coordinatorNode = getCoordinatorNode();
+
+		GetNodesResult getNodesResult = zuliaWorkPool.getNodes();
+		List<Node> coordinatorNodes = getNodesResult.getNodes().stream().filter(Node::getCoordinatorOnly).toList();
+		Assertions.assertEquals(1, coordinatorNodes.size());
+		Assertions.assertTrue(ZuliaNode.isEqual(coordinatorNode, coordinatorNodes.getFirst()));
+
+		for (String indexName : List.of(COORDINATOR_TEST_INDEX_1, COORDINATOR_TEST_INDEX_2)) {
+			IndexShardMapping indexShardMapping = getNodesResult.getIndexShardMappings().stream()
+					.filter(mapping -> mapping.getIndexName().equals(indexName)).findFirst().orElseThrow();
+			Assertions.assertEquals(4, indexShardMapping.getShardMappingCount());
+			for (ShardMapping shardMapping : indexShardMapping.getShardMappingList()) {
+				Assertions.assertFalse(ZuliaNode.isEqual(coordinatorNode, shardMapping.getPrimaryNode()));
+				//the replica goes to the other data node, never to the coordinator
+				Assertions.assertEquals(1, shardMapping.getReplicaNodeCount());
+				Assertions.assertFalse(ZuliaNode.isEqual(coordinatorNode, shardMapping.getReplicaNode(0)));
+			}
+		}
+	}
+
+	@Test
+	@Order(3)
+	public void multiIndexQueryOnCoordinator() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		long coordinatorQueries = getAdmittedQueries(true);
+		long dataNodeQueries = getAdmittedQueries(false);
+
+		for (int i = 0; i < 10; i++) {
+			Assertions.assertEquals(INDEX_1_DOCS + INDEX_2_DOCS, zuliaWorkPool.search(new Search(COORDINATOR_TEST_INDEX_1, COORDINATOR_TEST_INDEX_2))
+					.getTotalHits());
+			Search search = new Search(COORDINATOR_TEST_INDEX_1, COORDINATOR_TEST_INDEX_2).addQuery(new FilterQuery("title:even"));
+			Assertions.assertEquals(INDEX_1_DOCS / 2 + INDEX_2_DOCS / 2, zuliaWorkPool.search(search).getTotalHits());
+		}
+
+		//the client sends the queries to the coordinator which fans them out to the shards on the data nodes with internal requests
+		Assertions.assertEquals(coordinatorQueries + 20, getAdmittedQueries(true));
+		Assertions.assertEquals(dataNodeQueries, getAdmittedQueries(false));
+	}
+
+	@Test
+	@Order(4)
+	public void restart() throws Exception {
+		nodeExtension.restartNodes();
+
+		//the role is kept so the shards stay on the data nodes
+		noShardsOnCoordinator();
+		multiIndexQueryOnCoordinator();
+	}
+
+	private static void createIndex(ZuliaWorkPool zuliaWorkPool, String indexName, int docs) throws Exception {
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.setIndexName(indexName);
+		indexConfig.setNumberOfShards(4);
+		indexConfig.setNumberOfReplicas(1);
+		zuliaWorkPool.createIndex(indexConfig);
+
+		for (int i = 0; i < docs; i++) {
+			Document mongoDocument = new Document();
+			mongoDocument.put("id", String.valueOf(i));
+			mongoDocument.put("title", i % 2 == 0 ? "even document" : "odd document");
+			zuliaWorkPool.store(new Store(String.valueOf(i), indexName, ResultDocBuilder.from(mongoDocument)));
+		}
+	}
+
+	private static Node getCoordinatorNode() {
+		ZuliaNode zuliaNode = nodeExtension.getNodes().stream().filter(node -> node.getZuliaConfig().isCoordinatorOnly()).findFirst().orElseThrow();
+		return ZuliaNode.nodeFromConfig(zuliaNode.getZuliaConfig());
+	}
+
+	private static long getAdmittedQueries(boolean coordinatorOnly) {
+		long admitted = 0;
+		for (ZuliaNode zuliaNode : nodeExtension.getNodes()) {
+			if (zuliaNode.getZuliaConfig().isCoordinatorOnly() == coordinatorOnly) {
+				for (RequestClassStatsDTO stats : zuliaNode.getIndexManager().getAdmissionController().getStats()) {
+					if (stats.requestClass().equals("QUERY")) {
+						admitted += stats.admitted();
+					}
+				}
+			}
+		}
+		return admitted;
+	}
+}
@@ -1,7 +1,9 @@
 package io.zulia.server.test.node;
 
 import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.Reindex;
 import io.zulia.client.command.Store;
+import io.zulia.client.command.builder.FilterQuery;
 import io.zulia.client.command.builder.Search;
 import io.zulia.client.command.builder.Sort;
 import io.zulia.client.config.ClientIndexConfig;
@@ -115,4 +117,50 @@ public class FieldChangeTest {
 
 	}
 
+	@Test
+	@Order(3)
+	public void incrementalReindex() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//field4 is stored but not indexed until the config below
+		String uniqueId = "" + 4;
+		Document mongoDocument = new Document();
+		mongoDocument.put("id", uniqueId);
+		mongoDocument.put("field1", 10);
+		mongoDocument.put("field2", "other value");
+		mongoDocument.put("field3", true);
+		mongoDocument.put("field4", "newly indexed");
+		zuliaWorkPool.store(new Store(uniqueId, INDEX_NAME, ResultDocBuilder.from(mongoDocument)));
+
+		//field1 to field3 changed since the shard was created so every document storing them is reindexed
+		zuliaWorkPool.reindex(new Reindex(INDEX_NAME).setIncremental(true));
+		Assertions.assertEquals(4, zuliaWorkPool.getReindexStatus(INDEX_NAME).getTotal());
+
+		//nothing changed since the last reindex
+		zuliaWorkPool.reindex(new Reindex(INDEX_NAME).setIncremental(true));
+		Assertions.assertEquals(0, zuliaWorkPool.getReindexStatus(INDEX_NAME).getTotal());
+
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createInt("field1").sort().facet());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("field2").indexAs(DefaultAnalyzers.STANDARD).sort().facet());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createBool("field3").sort().facet());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("field4").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.setIndexName(INDEX_NAME);
+		indexConfig.setNumberOfShards(1);
+		zuliaWorkPool.createIndex(indexConfig);
+		Assertions.assertEquals(0, count(zuliaWorkPool, "field4:indexed"));
+
+		//only the document storing field4 is reindexed
+		zuliaWorkPool.reindex(new Reindex(INDEX_NAME).setIncremental(true));
+		Assertions.assertEquals(1, zuliaWorkPool.getReindexStatus(INDEX_NAME).getTotal());
+		Assertions.assertEquals(1, count(zuliaWorkPool, "field4:indexed"));
+		Assertions.assertEquals(4, zuliaWorkPool.search(new Search(INDEX_NAME)).getTotalHits());
+	}
+
+	private static long count(ZuliaWorkPool zuliaWorkPool, String filter) throws Exception {
+		return zuliaWorkPool.search(new Search(INDEX_NAME).addQuery(new FilterQuery(filter))).getTotalHits();
+	}
+
 }
@@ -0,0 +1,126 @@
+package io.zulia.server.test.node;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.UpdateIndex;
+import io.zulia.client.command.builder.FilterQuery;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.command.builder.Sort;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.SearchResult;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class LengthTest {
+
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(1);
+
+	private static final String LENGTH_TEST_INDEX = "lengthTest";
+
+	private static final int DOCS = 10;
+
+	@Test
+	@Order(1)
+	public void createIndex() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("titleNoLength").indexAs(DefaultAnalyzers.STANDARD).disableCharLength());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("tags").indexAs(DefaultAnalyzers.LC_KEYWORD));
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("tagsNoLength").indexAs(DefaultAnalyzers.LC_KEYWORD).disableListLength());
+		indexConfig.setIndexName(LENGTH_TEST_INDEX);
+		indexConfig.setNumberOfShards(1);
+		zuliaWorkPool.createIndex(indexConfig);
+
+		for (int i = 0; i < DOCS; i++) {
+			String title = "x".repeat(i + 1);
+			List<String> tags = new ArrayList<>();
+			for (int t = 0; t < i % 3 + 1; t++) {
+				tags.add("tag" + t);
+			}
+
+			Document mongoDocument = new Document();
+			mongoDocument.put("id", String.valueOf(i));
+			mongoDocument.put("title", title);
+			mongoDocument.put("titleNoLength", title);
+			mongoDocument.put("tags", tags);
+			mongoDocument.put("tagsNoLength", tags);
+			zuliaWorkPool.store(new Store(String.valueOf(i), LENGTH_TEST_INDEX, ResultDocBuilder.from(mongoDocument)));
+		}
+	}
+
+	@Test
+	@Order(2)
+	public void lengthsByDefault() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		Assertions.assertEquals(5, count(zuliaWorkPool, "|title|:[1 TO 5]"));
+		Assertions.assertEquals(3, count(zuliaWorkPool, "|||tags|||:3"));
+
+		Search search = new Search(LENGTH_TEST_INDEX).setAmount(1).addSort(new Sort("|title|").descending());
+		SearchResult searchResult = zuliaWorkPool.search(search);
+		Assertions.assertEquals("9", searchResult.getFirstCompleteResult().getUniqueId());
+
+		search = new Search(LENGTH_TEST_INDEX).setAmount(1).addSort(new Sort("|||tags|||").descending()).addSort(new Sort("id"));
+		searchResult = zuliaWorkPool.search(search);
+		Assertions.assertEquals("2", searchResult.getFirstCompleteResult().getUniqueId());
+	}
+
+	@Test
+	@Order(3)
+	public void lengthsDisabled() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//the length fields are neither queryable nor sortable
+		Assertions.assertEquals(0, count(zuliaWorkPool, "|titleNoLength|:[1 TO 5]"));
+		Assertions.assertEquals(0, count(zuliaWorkPool, "|||tagsNoLength|||:3"));
+		Assertions.assertThrows(Exception.class,
+				() -> zuliaWorkPool.search(new Search(LENGTH_TEST_INDEX).addSort(new Sort("|titleNoLength|"))));
+		Assertions.assertThrows(Exception.class,
+				() -> zuliaWorkPool.search(new Search(LENGTH_TEST_INDEX).addSort(new Sort("|||tagsNoLength|||"))));
+
+		//only the length is skipped, the values are indexed as before
+		Assertions.assertEquals(1, count(zuliaWorkPool, "titleNoLength:xxx"));
+		Assertions.assertEquals(3, count(zuliaWorkPool, "tagsNoLength:tag2"));
+
+		//the list length of a string field is still indexed when only the char length is disabled and the other way around
+		Assertions.assertEquals(DOCS, count(zuliaWorkPool, "|||titleNoLength|||:1"));
+		Assertions.assertEquals(DOCS, count(zuliaWorkPool, "|tagsNoLength|:4"));
+	}
+
+	@Test
+	@Order(4)
+	public void disableOnExistingField() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		UpdateIndex updateIndex = new UpdateIndex(LENGTH_TEST_INDEX);
+		updateIndex.mergeFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD).disableCharLength());
+		zuliaWorkPool.updateIndex(updateIndex);
+
+		Assertions.assertEquals(0, count(zuliaWorkPool, "|title|:[1 TO 5]"));
+		Assertions.assertThrows(Exception.class, () -> zuliaWorkPool.search(new Search(LENGTH_TEST_INDEX).addSort(new Sort("|title|"))));
+		Assertions.assertEquals(1, count(zuliaWorkPool, "title:xxx"));
+		Assertions.assertEquals(3, count(zuliaWorkPool, "|||tags|||:3"));
+	}
+
+	private static long count(ZuliaWorkPool zuliaWorkPool, String filter) throws Exception {
+		return zuliaWorkPool.search(new Search(LENGTH_TEST_INDEX).addQuery(new FilterQuery(filter))).getTotalHits();
+	}
+}
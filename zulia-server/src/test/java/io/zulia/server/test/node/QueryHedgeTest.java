@@ -0,0 +1,120 @@
+package io.zulia.server.test.node;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.builder.FilterQuery;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.message.ZuliaBase.MasterSlaveSettings;
+import io.zulia.server.index.QueryHedger;
+import io.zulia.server.node.ZuliaNode;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.function.ToLongFunction;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class QueryHedgeTest {
+
+	//hedges every node request that is slower than the fastest percent of requests, nearly every request of a query has a slower node
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(3, (nodeNumber, zuliaConfig) -> {
+		zuliaConfig.setQueryHedgePercentile(1);
+		zuliaConfig.setQueryHedgeMinDelayMs(0);
+		zuliaConfig.setQueryHedgeMaxRate(1);
+	});
+
+	private static final String HEDGE_TEST_INDEX = "hedgeTest";
+
+	private static final int DOCS = 300;
+	private static final int QUERIES = 200;
+
+	@Test
+	@Order(1)
+	public void createIndex() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.setIndexName(HEDGE_TEST_INDEX);
+		indexConfig.setNumberOfShards(3);
+		//every shard has a replica on both other nodes so a node's shards always have an alternate copy
+		indexConfig.setNumberOfReplicas(2);
+		zuliaWorkPool.createIndex(indexConfig);
+
+		for (int i = 0; i < DOCS; i++) {
+			Document mongoDocument = new Document();
+			mongoDocument.put("id", String.valueOf(i));
+			mongoDocument.put("title", i % 3 == 0 ? "hedged document" : "other document");
+			zuliaWorkPool.store(new Store(String.valueOf(i), HEDGE_TEST_INDEX, ResultDocBuilder.from(mongoDocument)));
+		}
+		zuliaWorkPool.optimizeIndex(HEDGE_TEST_INDEX);
+
+		long waitUntil = System.currentTimeMillis() + 30000;
+		while (count(zuliaWorkPool, MasterSlaveSettings.SLAVE_ONLY, null) != DOCS && System.currentTimeMillis() < waitUntil) {
+			Thread.sleep(200);
+		}
+		//both replicas of a shard copy the commit within a replication interval of each other
+		Thread.sleep(3000);
+		Assertions.assertEquals(DOCS, count(zuliaWorkPool, MasterSlaveSettings.SLAVE_ONLY, null));
+	}
+
+	@Test
+	@Order(2)
+	public void defaultQueriesNotHedged() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		long nodeRequests = sum(QueryHedger::getNodeRequests);
+		for (int i = 0; i < QUERIES; i++) {
+			Assertions.assertEquals(DOCS / 3, count(zuliaWorkPool, MasterSlaveSettings.MASTER_ONLY, "title:hedged"));
+			Assertions.assertEquals(DOCS / 3, count(zuliaWorkPool, MasterSlaveSettings.MASTER_IF_AVAILABLE, "title:hedged"));
+		}
+
+		//the queries feed the latencies but the primary is only on one node so there is nothing to hedge with
+		Assertions.assertTrue(sum(QueryHedger::getNodeRequests) > nodeRequests);
+		Assertions.assertEquals(0, sum(QueryHedger::getHedgesSent));
+	}
+
+	@Test
+	@Order(3)
+	public void slaveOnlyQueriesHedged() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		for (int i = 0; i < QUERIES; i++) {
+			//the first answer of a node or its hedge is used, the results are the same either way
+			Assertions.assertEquals(DOCS / 3, count(zuliaWorkPool, MasterSlaveSettings.SLAVE_ONLY, "title:hedged"));
+		}
+
+		long hedgesSent = sum(QueryHedger::getHedgesSent);
+		Assertions.assertTrue(hedgesSent > 0);
+		Assertions.assertTrue(hedgesSent <= sum(QueryHedger::getNodeRequests));
+		Assertions.assertTrue(sum(QueryHedger::getHedgesWon) <= hedgesSent);
+	}
+
+	private static long count(ZuliaWorkPool zuliaWorkPool, MasterSlaveSettings masterSlaveSettings, String filter) throws Exception {
+		Search search = new Search(HEDGE_TEST_INDEX).setMasterSlaveSettings(masterSlaveSettings);
+		if (filter != null) {
+			search.addQuery(new FilterQuery(filter));
+		}
+		return zuliaWorkPool.search(search).getTotalHits();
+	}
+
+	private static long sum(ToLongFunction<QueryHedger> stat) {
+		long sum = 0;
+		for (ZuliaNode zuliaNode : nodeExtension.getNodes()) {
+			sum += stat.applyAsLong(zuliaNode.getIndexManager().getQueryHedger());
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,135 @@
+package io.zulia.server.test.node;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.UpdateIndex;
+import io.zulia.client.command.builder.FilterQuery;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.server.index.QueryResultCacheBudget;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.function.BooleanSupplier;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class QueryResultCacheBudgetTest {
+
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(1);
+
+	private static final String CACHE_BUDGET_TEST_INDEX = "cacheBudgetTest";
+
+	private static final int DOCS = 10;
+
+	//every query matches one document with an id of the same length so every cached response has the same size
+	private static long responseBytes;
+
+	@Test
+	@Order(1)
+	public void createIndex() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.setIndexName(CACHE_BUDGET_TEST_INDEX);
+		indexConfig.setNumberOfShards(1);
+		indexConfig.setShardQueryCacheSize(2);
+		zuliaWorkPool.createIndex(indexConfig);
+
+		for (int i = 0; i < DOCS; i++) {
+			store(zuliaWorkPool, i);
+		}
+		//commits so the reader only changes when the test writes
+		zuliaWorkPool.optimizeIndex(CACHE_BUDGET_TEST_INDEX);
+		zuliaWorkPool.search(new Search(CACHE_BUDGET_TEST_INDEX).setDontCache(true));
+
+		waitFor(() -> getBudget().getUsedBytes() == 0);
+	}
+
+	@Test
+	@Order(2)
+	public void reservedOnInsert() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		Assertions.assertEquals(1, count(zuliaWorkPool, 0));
+		responseBytes = getBudget().getUsedBytes();
+		Assertions.assertTrue(responseBytes > 0);
+
+		//a hit reserves nothing more
+		Assertions.assertEquals(1, count(zuliaWorkPool, 0));
+		Assertions.assertEquals(responseBytes, getBudget().getUsedBytes());
+
+		Assertions.assertEquals(1, count(zuliaWorkPool, 1));
+		Assertions.assertEquals(2 * responseBytes, getBudget().getUsedBytes());
+		Assertions.assertEquals(0, getBudget().getRejectedCount());
+	}
+
+	@Test
+	@Order(3)
+	public void releasedOnEviction() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		for (int i = 2; i < DOCS; i++) {
+			Assertions.assertEquals(1, count(zuliaWorkPool, i));
+		}
+
+		//the cache of the shard holds two results, the bytes of the evicted ones are given back
+		waitFor(() -> getBudget().getUsedBytes() == 2 * responseBytes);
+	}
+
+	@Test
+	@Order(4)
+	public void releasedOnInvalidation() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//a settings change drops the cached results of the shard
+		UpdateIndex updateIndex = new UpdateIndex(CACHE_BUDGET_TEST_INDEX);
+		updateIndex.setRequestFactor(2.0);
+		zuliaWorkPool.updateIndex(updateIndex);
+		waitFor(() -> getBudget().getUsedBytes() == 0);
+
+		Assertions.assertEquals(1, count(zuliaWorkPool, 0));
+		Assertions.assertEquals(responseBytes, getBudget().getUsedBytes());
+
+		//a write opens a new reader generation, the results of the old one can never be served again
+		store(zuliaWorkPool, DOCS);
+		Assertions.assertEquals(1, count(zuliaWorkPool, 1));
+		waitFor(() -> getBudget().getUsedBytes() == responseBytes);
+		Assertions.assertEquals(0, getBudget().getRejectedCount());
+	}
+
+	private static void store(ZuliaWorkPool zuliaWorkPool, int id) throws Exception {
+		Document mongoDocument = new Document();
+		mongoDocument.put("id", String.valueOf(id));
+		mongoDocument.put("title", "document " + id);
+		zuliaWorkPool.store(new Store(String.valueOf(id), CACHE_BUDGET_TEST_INDEX, ResultDocBuilder.from(mongoDocument)));
+	}
+
+	private static long count(ZuliaWorkPool zuliaWorkPool, int id) throws Exception {
+		return zuliaWorkPool.search(new Search(CACHE_BUDGET_TEST_INDEX).addQuery(new FilterQuery("id:" + id))).getTotalHits();
+	}
+
+	private static QueryResultCacheBudget getBudget() {
+		return nodeExtension.getNodes().getFirst().getIndexManager().getQueryResultCacheBudget();
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long waitUntil = System.currentTimeMillis() + 10000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < waitUntil) {
+			Thread.sleep(10);
+		}
+		Assertions.assertTrue(condition.getAsBoolean());
+	}
+}
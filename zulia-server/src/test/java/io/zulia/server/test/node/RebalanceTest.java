@@ -0,0 +1,154 @@
+package io.zulia.server.test.node;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.Rebalance;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.RebalanceResult;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaIndex.IndexShardMapping;
+import io.zulia.message.ZuliaIndex.ShardMapping;
+import io.zulia.message.ZuliaServiceOuterClass.ShardMove;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class RebalanceTest {
+
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(3);
+
+	private static final String LIGHT_INDEX = "rebalanceLight";
+	private static final String HEAVY_INDEX = "rebalanceHeavy";
+
+	private static final int LIGHT_DOCS = 30;
+	private static final int HEAVY_DOCS = 1000;
+
+	private static ShardMove plannedMove;
+
+	@Test
+	@Order(1)
+	public void createIndexes() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//one shard of the light index on every node and the heavy index on one of them, only moving a light shard off that node evens them out
+		createIndex(zuliaWorkPool, LIGHT_INDEX, 3);
+		for (int i = 0; i < LIGHT_DOCS; i++) {
+			store(zuliaWorkPool, LIGHT_INDEX, i);
+		}
+
+		createIndex(zuliaWorkPool, HEAVY_INDEX, 1);
+		for (int i = 0; i < HEAVY_DOCS; i++) {
+			store(zuliaWorkPool, HEAVY_INDEX, i);
+		}
+	}
+
+	@Test
+	@Order(2)
+	public void dryRun() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		RebalanceResult rebalanceResult = zuliaWorkPool.rebalance(new Rebalance().setMaxMoves(1).setDryRun(true));
+		Assertions.assertEquals(1, rebalanceResult.getShardMoves().size());
+
+		plannedMove = rebalanceResult.getShardMoves().get(0);
+		Assertions.assertEquals(LIGHT_INDEX, plannedMove.getIndexName());
+		Assertions.assertTrue(plannedMove.getPrimary());
+		Assertions.assertTrue(isSameNode(getHeavyNode(zuliaWorkPool), plannedMove.getFromNode()));
+
+		//a dry run only plans
+		ShardMapping shardMapping = getShardMapping(zuliaWorkPool, LIGHT_INDEX, plannedMove.getShardNumber());
+		Assertions.assertTrue(isSameNode(plannedMove.getFromNode(), shardMapping.getPrimaryNode()));
+	}
+
+	@Test
+	@Order(3)
+	public void move() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		RebalanceResult rebalanceResult = zuliaWorkPool.rebalance(new Rebalance().setMaxMoves(1));
+		Assertions.assertEquals(1, rebalanceResult.getShardMoves().size());
+
+		ShardMove shardMove = rebalanceResult.getShardMoves().get(0);
+		Assertions.assertEquals(plannedMove.getIndexName(), shardMove.getIndexName());
+		Assertions.assertEquals(plannedMove.getShardNumber(), shardMove.getShardNumber());
+
+		ShardMapping shardMapping = getShardMapping(zuliaWorkPool, LIGHT_INDEX, shardMove.getShardNumber());
+		Assertions.assertTrue(isSameNode(shardMove.getToNode(), shardMapping.getPrimaryNode()));
+		Assertions.assertEquals(0, shardMapping.getReplicaNodeCount());
+		Assertions.assertEquals(0, shardMapping.getRecoveringReplicaNodeCount());
+
+		//the moved primary has every document and takes writes
+		Assertions.assertEquals(LIGHT_DOCS, zuliaWorkPool.search(new Search(LIGHT_INDEX)).getTotalHits());
+		Assertions.assertEquals(HEAVY_DOCS, zuliaWorkPool.search(new Search(HEAVY_INDEX)).getTotalHits());
+
+		for (int i = LIGHT_DOCS; i < LIGHT_DOCS * 2; i++) {
+			store(zuliaWorkPool, LIGHT_INDEX, i);
+		}
+		Assertions.assertEquals(LIGHT_DOCS * 2, zuliaWorkPool.search(new Search(LIGHT_INDEX)).getTotalHits());
+	}
+
+	@Test
+	@Order(4)
+	public void balanced() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//the heavy index can not be split across nodes, moving it or a light shard again would not lower the difference
+		RebalanceResult rebalanceResult = zuliaWorkPool.rebalance(new Rebalance().setMaxMoves(1).setDryRun(true));
+		for (ShardMove shardMove : rebalanceResult.getShardMoves()) {
+			Assertions.assertNotEquals(HEAVY_INDEX, shardMove.getIndexName());
+			Assertions.assertFalse(isSameNode(plannedMove.getToNode(), shardMove.getFromNode()) && isSameNode(plannedMove.getFromNode(),
+					shardMove.getToNode()));
+		}
+	}
+
+	private static void createIndex(ZuliaWorkPool zuliaWorkPool, String indexName, int numberOfShards) throws Exception {
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.setIndexName(indexName);
+		indexConfig.setNumberOfShards(numberOfShards);
+		indexConfig.setNumberOfReplicas(0);
+		zuliaWorkPool.createIndex(indexConfig);
+	}
+
+	private static void store(ZuliaWorkPool zuliaWorkPool, String indexName, int i) throws Exception {
+		String uniqueId = String.valueOf(i);
+		Document mongoDocument = new Document();
+		mongoDocument.put("id", uniqueId);
+		mongoDocument.put("title", "document number " + i + " of " + indexName);
+		zuliaWorkPool.store(new Store(uniqueId, indexName, ResultDocBuilder.from(mongoDocument)));
+	}
+
+	private static Node getHeavyNode(ZuliaWorkPool zuliaWorkPool) throws Exception {
+		return getShardMapping(zuliaWorkPool, HEAVY_INDEX, 0).getPrimaryNode();
+	}
+
+	private static ShardMapping getShardMapping(ZuliaWorkPool zuliaWorkPool, String indexName, int shardNumber) throws Exception {
+		for (IndexShardMapping indexShardMapping : zuliaWorkPool.getNodes().getIndexShardMappings()) {
+			if (indexShardMapping.getIndexName().equals(indexName)) {
+				for (ShardMapping shardMapping : indexShardMapping.getShardMappingList()) {
+					if (shardMapping.getShardNumber() == shardNumber) {
+						return shardMapping;
+					}
+				}
+			}
+		}
+		throw new AssertionError("Index <" + indexName + "> has no shard <" + shardNumber + ">");
+	}
+
+	private static boolean isSameNode(Node node, Node other) {
+		return node.getServerAddress().equals(other.getServerAddress()) && node.getServicePort() == other.getServicePort();
+	}
+}
@@ -0,0 +1,135 @@
+package io.zulia.server.test.node;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.DeleteFull;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.builder.FilterQuery;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.SearchResult;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.message.ZuliaBase.MasterSlaveSettings;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ReplicationTest {
+
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(3);
+
+	private static final String REPLICATION_TEST_INDEX = "replicationTest";
+
+	private static final int DOCS = 300;
+	private static final int DELETED = 30;
+
+	@Test
+	@Order(1)
+	public void createIndex() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.setIndexName(REPLICATION_TEST_INDEX);
+		indexConfig.setNumberOfShards(3);
+		indexConfig.setNumberOfReplicas(1);
+		zuliaWorkPool.createIndex(indexConfig);
+
+		//an empty replica has nothing to copy
+		Assertions.assertEquals(0, countReplica(zuliaWorkPool, null));
+	}
+
+	@Test
+	@Order(2)
+	public void replicateStores() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		for (int i = 0; i < DOCS; i++) {
+			store(zuliaWorkPool, i, "primary document " + i);
+		}
+
+		//replicas copy commits, the optimize commits every primary
+		zuliaWorkPool.optimizeIndex(REPLICATION_TEST_INDEX);
+		waitForReplica(zuliaWorkPool, DOCS);
+
+		Assertions.assertEquals(DOCS, countReplica(zuliaWorkPool, "title:primary"));
+		Search search = new Search(REPLICATION_TEST_INDEX).addQuery(new FilterQuery("id:7")).setAmount(1);
+		SearchResult searchResult = zuliaWorkPool.search(search.setMasterSlaveSettings(MasterSlaveSettings.SLAVE_ONLY));
+		Assertions.assertEquals("primary document 7", searchResult.getFirstDocument().getString("title"));
+	}
+
+	@Test
+	@Order(3)
+	public void replicateChanges() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		for (int i = 0; i < DELETED; i++) {
+			zuliaWorkPool.delete(new DeleteFull(String.valueOf(i), REPLICATION_TEST_INDEX));
+		}
+		for (int i = DELETED; i < DELETED * 2; i++) {
+			store(zuliaWorkPool, i, "changed document " + i);
+		}
+
+		zuliaWorkPool.optimizeIndex(REPLICATION_TEST_INDEX);
+		waitForReplica(zuliaWorkPool, DOCS - DELETED);
+
+		//the replicas open the new commit as a whole, the deletes and the changes are seen together
+		Assertions.assertEquals(DELETED, countReplica(zuliaWorkPool, "title:changed"));
+		Assertions.assertEquals(DOCS - DELETED * 2, countReplica(zuliaWorkPool, "title:primary"));
+	}
+
+	@Test
+	@Order(4)
+	public void restart() throws Exception {
+		nodeExtension.restartNodes();
+	}
+
+	@Test
+	@Order(5)
+	public void confirmAfterRestart() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//replicas open the commit they copied before the restart
+		Assertions.assertEquals(DOCS - DELETED, countReplica(zuliaWorkPool, null));
+		Assertions.assertEquals(DELETED, countReplica(zuliaWorkPool, "title:changed"));
+
+		store(zuliaWorkPool, DOCS, "stored after restart");
+		zuliaWorkPool.optimizeIndex(REPLICATION_TEST_INDEX);
+		waitForReplica(zuliaWorkPool, DOCS - DELETED + 1);
+		Assertions.assertEquals(1, countReplica(zuliaWorkPool, "title:restart"));
+	}
+
+	private static void store(ZuliaWorkPool zuliaWorkPool, int i, String title) throws Exception {
+		String uniqueId = String.valueOf(i);
+		Document mongoDocument = new Document();
+		mongoDocument.put("id", uniqueId);
+		mongoDocument.put("title", title);
+		zuliaWorkPool.store(new Store(uniqueId, REPLICATION_TEST_INDEX, ResultDocBuilder.from(mongoDocument)));
+	}
+
+	private static long countReplica(ZuliaWorkPool zuliaWorkPool, String filter) throws Exception {
+		Search search = new Search(REPLICATION_TEST_INDEX).setMasterSlaveSettings(MasterSlaveSettings.SLAVE_ONLY);
+		if (filter != null) {
+			search.addQuery(new FilterQuery(filter));
+		}
+		return zuliaWorkPool.search(search).getTotalHits();
+	}
+
+	private static void waitForReplica(ZuliaWorkPool zuliaWorkPool, long expected) throws Exception {
+		long waitUntil = System.currentTimeMillis() + 30000;
+		while (countReplica(zuliaWorkPool, null) != expected && System.currentTimeMillis() < waitUntil) {
+			Thread.sleep(200);
+		}
+		Assertions.assertEquals(expected, countReplica(zuliaWorkPool, null));
+	}
+}
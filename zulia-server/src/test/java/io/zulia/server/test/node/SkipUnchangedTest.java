@@ -0,0 +1,126 @@
+package io.zulia.server.test.node;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.FetchDocument;
+import io.zulia.client.command.Reindex;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.builder.FilterQuery;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.ReindexResult;
+import io.zulia.client.result.StoreResult;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class SkipUnchangedTest {
+
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(3);
+
+	private static final String SKIP_UNCHANGED_TEST_INDEX = "skipUnchangedTest";
+
+	private static final int DOCS = 400;
+
+	@Test
+	@Order(1)
+	public void createIndex() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		zuliaWorkPool.createIndex(getIndexConfig(false));
+
+		for (int i = 0; i < DOCS; i++) {
+			StoreResult storeResult = store(zuliaWorkPool, i, "document number " + i);
+			Assertions.assertFalse(storeResult.isSkipped());
+		}
+	}
+
+	@Test
+	@Order(2)
+	public void skipUnchanged() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		for (int i = 0; i < 10; i++) {
+			Assertions.assertTrue(store(zuliaWorkPool, i, "document number " + i).isSkipped());
+		}
+
+		Assertions.assertFalse(store(zuliaWorkPool, 0, "changed").isSkipped());
+		Assertions.assertEquals("changed", zuliaWorkPool.fetch(new FetchDocument("0", SKIP_UNCHANGED_TEST_INDEX)).getDocument().getString("title"));
+
+		//the change must be seen by the next check right after it
+		Assertions.assertTrue(store(zuliaWorkPool, 0, "changed").isSkipped());
+		Assertions.assertFalse(store(zuliaWorkPool, 0, "document number 0").isSkipped());
+	}
+
+	@Test
+	@Order(3)
+	public void skipUnchangedDuringReindex() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//category becomes indexed, only a reindex indexes it for the documents already stored
+		zuliaWorkPool.createIndex(getIndexConfig(true));
+		Assertions.assertEquals(0, count(zuliaWorkPool, "category:c0"));
+
+		ListenableFuture<ReindexResult> reindex = zuliaWorkPool.reindexAsync(new Reindex(SKIP_UNCHANGED_TEST_INDEX).setMaxDocsPerSecond(100));
+		long waitUntil = System.currentTimeMillis() + 10000;
+		while (!zuliaWorkPool.getReindexStatus(SKIP_UNCHANGED_TEST_INDEX).isRunning() && System.currentTimeMillis() < waitUntil) {
+			Thread.sleep(10);
+		}
+
+		//a skipped store writes nothing, the reindex must still write the document with the new settings instead of treating it as written
+		for (int i = DOCS - 1; i >= DOCS / 2; i--) {
+			Assertions.assertTrue(store(zuliaWorkPool, i, "document number " + i).isSkipped());
+		}
+
+		//a changed store is written during the reindex and must not be overwritten by the stored copy
+		for (int i = 1; i < 10; i++) {
+			Assertions.assertFalse(store(zuliaWorkPool, i, "changed during reindex").isSkipped());
+		}
+
+		reindex.get();
+
+		Assertions.assertEquals(DOCS, zuliaWorkPool.search(new Search(SKIP_UNCHANGED_TEST_INDEX)).getTotalHits());
+		long categoryTotal = 0;
+		for (int c = 0; c < 4; c++) {
+			categoryTotal += count(zuliaWorkPool, "category:c" + c);
+		}
+		Assertions.assertEquals(DOCS, categoryTotal);
+		Assertions.assertEquals(9, count(zuliaWorkPool, "title:\"changed during reindex\""));
+	}
+
+	private static ClientIndexConfig getIndexConfig(boolean indexCategory) {
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		if (indexCategory) {
+			indexConfig.addFieldConfig(FieldConfigBuilder.createString("category").indexAs(DefaultAnalyzers.LC_KEYWORD));
+		}
+		indexConfig.setIndexName(SKIP_UNCHANGED_TEST_INDEX);
+		indexConfig.setNumberOfShards(1);
+		return indexConfig;
+	}
+
+	private static StoreResult store(ZuliaWorkPool zuliaWorkPool, int i, String title) throws Exception {
+		String uniqueId = String.valueOf(i);
+		Document mongoDocument = new Document();
+		mongoDocument.put("id", uniqueId);
+		mongoDocument.put("title", title);
+		mongoDocument.put("category", "c" + (i % 4));
+		return zuliaWorkPool.store(new Store(uniqueId, SKIP_UNCHANGED_TEST_INDEX, ResultDocBuilder.from(mongoDocument)).setSkipUnchanged(true));
+	}
+
+	private static long count(ZuliaWorkPool zuliaWorkPool, String filter) throws Exception {
+		return zuliaWorkPool.search(new Search(SKIP_UNCHANGED_TEST_INDEX).addQuery(new FilterQuery(filter))).getTotalHits();
+	}
+}
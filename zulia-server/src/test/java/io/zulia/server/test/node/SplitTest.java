@@ -0,0 +1,157 @@
+package io.zulia.server.test.node;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.FetchDocument;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.builder.CountFacet;
+import io.zulia.client.command.builder.FilterQuery;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.FetchResult;
+import io.zulia.client.result.GetNumberOfDocsResult;
+import io.zulia.client.result.SearchResult;
+import io.zulia.client.result.SplitIndexResult;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.message.ZuliaBase.ShardCountResponse;
+import io.zulia.message.ZuliaQuery.FacetCount;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class SplitTest {
+
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(3);
+
+	private static final String SPLIT_TEST_INDEX = "splitTest";
+
+	private static final int INITIAL_DOCS = 300;
+	private static final int DOCS_DURING_SPLIT = 200;
+
+	@Test
+	@Order(1)
+	public void createIndex() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("category").indexAs(DefaultAnalyzers.LC_KEYWORD).facet());
+		indexConfig.setIndexName(SPLIT_TEST_INDEX);
+		indexConfig.setNumberOfShards(2);
+		zuliaWorkPool.createIndex(indexConfig);
+
+		for (int i = 0; i < INITIAL_DOCS; i++) {
+			store(zuliaWorkPool, i);
+		}
+	}
+
+	@Test
+	@Order(2)
+	public void splitWhileWriting() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//writes that wait for the split are routed again with the new shard mapping and must all land
+		CompletableFuture<Void> writes = CompletableFuture.runAsync(() -> {
+			try {
+				for (int i = INITIAL_DOCS; i < INITIAL_DOCS + DOCS_DURING_SPLIT; i++) {
+					store(zuliaWorkPool, i);
+				}
+			}
+			catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		});
+
+		SplitIndexResult splitIndexResult = zuliaWorkPool.splitIndex(SPLIT_TEST_INDEX, 2);
+		Assertions.assertEquals(4, splitIndexResult.getNumberOfShards());
+
+		writes.get();
+
+		Assertions.assertEquals(4, zuliaWorkPool.getIndexConfig(SPLIT_TEST_INDEX).getIndexConfig().getNumberOfShards());
+		verifyIndex(zuliaWorkPool, INITIAL_DOCS + DOCS_DURING_SPLIT);
+	}
+
+	@Test
+	@Order(3)
+	public void writeAfterSplit() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		for (int i = 0; i < 10; i++) {
+			Document mongoDocument = new Document();
+			mongoDocument.put("id", String.valueOf(i));
+			mongoDocument.put("title", "changed after split");
+			mongoDocument.put("category", "changed");
+			zuliaWorkPool.store(new Store(String.valueOf(i), SPLIT_TEST_INDEX, ResultDocBuilder.from(mongoDocument)));
+		}
+
+		//overwriting must replace the copy in the child shard the id routes to, not add a second copy
+		verifyIndex(zuliaWorkPool, INITIAL_DOCS + DOCS_DURING_SPLIT);
+
+		SearchResult searchResult = zuliaWorkPool.search(new Search(SPLIT_TEST_INDEX).addQuery(new FilterQuery("category:changed")));
+		Assertions.assertEquals(10, searchResult.getTotalHits());
+	}
+
+	@Test
+	@Order(4)
+	public void restart() throws Exception {
+		nodeExtension.restartNodes();
+	}
+
+	@Test
+	@Order(5)
+	public void confirmAfterRestart() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		Assertions.assertEquals(4, zuliaWorkPool.getIndexConfig(SPLIT_TEST_INDEX).getIndexConfig().getNumberOfShards());
+		verifyIndex(zuliaWorkPool, INITIAL_DOCS + DOCS_DURING_SPLIT);
+
+		SearchResult searchResult = zuliaWorkPool.search(new Search(SPLIT_TEST_INDEX).addQuery(new FilterQuery("category:changed")));
+		Assertions.assertEquals(10, searchResult.getTotalHits());
+	}
+
+	private static void store(ZuliaWorkPool zuliaWorkPool, int i) throws Exception {
+		String uniqueId = String.valueOf(i);
+		Document mongoDocument = new Document();
+		mongoDocument.put("id", uniqueId);
+		mongoDocument.put("title", "document number " + i);
+		mongoDocument.put("category", "c" + (i % 3));
+		zuliaWorkPool.store(new Store(uniqueId, SPLIT_TEST_INDEX, ResultDocBuilder.from(mongoDocument)));
+	}
+
+	private static void verifyIndex(ZuliaWorkPool zuliaWorkPool, int expectedDocs) throws Exception {
+		GetNumberOfDocsResult numberOfDocs = zuliaWorkPool.getNumberOfDocs(SPLIT_TEST_INDEX);
+		Assertions.assertEquals(expectedDocs, numberOfDocs.getNumberOfDocs());
+		Assertions.assertEquals(4, numberOfDocs.getShardCountResponseCount());
+		for (ShardCountResponse shardCountResponse : numberOfDocs.getShardCountResponses()) {
+			//every child keeps only the documents that route to it, with this many ids none is empty
+			Assertions.assertTrue(shardCountResponse.getNumberOfDocs() > 0);
+			Assertions.assertTrue(shardCountResponse.getNumberOfDocs() < expectedDocs);
+		}
+
+		SearchResult searchResult = zuliaWorkPool.search(new Search(SPLIT_TEST_INDEX).addCountFacet(new CountFacet("category")));
+		Assertions.assertEquals(expectedDocs, searchResult.getTotalHits());
+		long facetTotal = 0;
+		for (FacetCount facetCount : searchResult.getFacetCounts("category")) {
+			facetTotal += facetCount.getCount();
+		}
+		Assertions.assertEquals(expectedDocs, facetTotal);
+
+		for (int i = 0; i < expectedDocs; i += 37) {
+			FetchResult fetchResult = zuliaWorkPool.fetch(new FetchDocument(String.valueOf(i), SPLIT_TEST_INDEX));
+			Assertions.assertNotNull(fetchResult.getDocument());
+			Assertions.assertEquals(String.valueOf(i), fetchResult.getDocument().getString("id"));
+		}
+	}
+}
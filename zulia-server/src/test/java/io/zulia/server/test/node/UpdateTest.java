@@ -0,0 +1,133 @@
+package io.zulia.server.test.node;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.client.command.FetchDocument;
+import io.zulia.client.command.Store;
+import io.zulia.client.command.Update;
+import io.zulia.client.command.builder.FilterQuery;
+import io.zulia.client.command.builder.Search;
+import io.zulia.client.config.ClientIndexConfig;
+import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.client.result.UpdateResult;
+import io.zulia.doc.ResultDocBuilder;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.server.test.node.shared.NodeExtension;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.List;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UpdateTest {
+
+	@RegisterExtension
+	static final NodeExtension nodeExtension = new NodeExtension(3);
+
+	private static final String UPDATE_TEST_INDEX = "updateTest";
+
+	private static final int DOCS = 20;
+	private static final int INCREMENTS = 50;
+
+	@Test
+	@Order(1)
+	public void createIndex() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		ClientIndexConfig indexConfig = new ClientIndexConfig();
+		indexConfig.addDefaultSearchField("title");
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort());
+		indexConfig.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD));
+		indexConfig.addFieldConfig(FieldConfigBuilder.createInt("count").index().sort());
+		indexConfig.setIndexName(UPDATE_TEST_INDEX);
+		indexConfig.setNumberOfShards(2);
+		zuliaWorkPool.createIndex(indexConfig);
+
+		for (int i = 0; i < DOCS; i++) {
+			store(zuliaWorkPool, i, "document number " + i);
+		}
+	}
+
+	@Test
+	@Order(2)
+	public void repeatedUpdates() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//every update reads the stored document, back to back updates of one document must each see the one before
+		for (int i = 0; i < INCREMENTS; i++) {
+			UpdateResult updateResult = zuliaWorkPool.update(new Update("0", UPDATE_TEST_INDEX).increment("count", 1).append("tags", "t" + i));
+			Assertions.assertTrue(updateResult.isFound());
+		}
+
+		Document document = zuliaWorkPool.fetch(new FetchDocument("0", UPDATE_TEST_INDEX)).getDocument();
+		Assertions.assertEquals(INCREMENTS, document.getInteger("count"));
+		Assertions.assertEquals(INCREMENTS, document.getList("tags", String.class).size());
+		Assertions.assertEquals("document number 0", document.getString("title"));
+	}
+
+	@Test
+	@Order(3)
+	public void updateAfterStore() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		//updates of other documents in between must not hide a store of this document from the update
+		for (int i = 1; i < DOCS; i++) {
+			store(zuliaWorkPool, i, "stored again " + i);
+			zuliaWorkPool.update(new Update(String.valueOf((i % (DOCS - 1)) + 1), UPDATE_TEST_INDEX).set("other", i));
+			zuliaWorkPool.update(new Update(String.valueOf(i), UPDATE_TEST_INDEX).increment("count", 2));
+		}
+
+		for (int i = 1; i < DOCS; i++) {
+			Document document = zuliaWorkPool.fetch(new FetchDocument(String.valueOf(i), UPDATE_TEST_INDEX)).getDocument();
+			Assertions.assertEquals("stored again " + i, document.getString("title"));
+			Assertions.assertEquals(2, document.getInteger("count"));
+		}
+
+		Assertions.assertEquals(DOCS - 1, count(zuliaWorkPool, "count:2"));
+		Assertions.assertEquals(1, count(zuliaWorkPool, "count:" + INCREMENTS));
+	}
+
+	@Test
+	@Order(4)
+	public void updateMissing() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		UpdateResult updateResult = zuliaWorkPool.update(new Update("missing", UPDATE_TEST_INDEX).set("title", "missing"));
+		Assertions.assertFalse(updateResult.isFound());
+		Assertions.assertEquals(DOCS, zuliaWorkPool.search(new Search(UPDATE_TEST_INDEX)).getTotalHits());
+	}
+
+	@Test
+	@Order(5)
+	public void restart() throws Exception {
+		nodeExtension.restartNodes();
+	}
+
+	@Test
+	@Order(6)
+	public void confirmAfterRestart() throws Exception {
+		ZuliaWorkPool zuliaWorkPool = nodeExtension.getClient();
+
+		Document document = zuliaWorkPool.fetch(new FetchDocument("0", UPDATE_TEST_INDEX)).getDocument();
+		Assertions.assertEquals(INCREMENTS, document.getInteger("count"));
+		List<String> tags = document.getList("tags", String.class);
+		Assertions.assertEquals("t0", tags.getFirst());
+		Assertions.assertEquals("t" + (INCREMENTS - 1), tags.getLast());
+	}
+
+	private static void store(ZuliaWorkPool zuliaWorkPool, int i, String title) throws Exception {
+		String uniqueId = String.valueOf(i);
+		Document mongoDocument = new Document();
+		mongoDocument.put("id", uniqueId);
+		mongoDocument.put("title", title);
+		zuliaWorkPool.store(new Store(uniqueId, UPDATE_TEST_INDEX, ResultDocBuilder.from(mongoDocument)));
+	}
+
+	private static long count(ZuliaWorkPool zuliaWorkPool, String filter) throws Exception {
+		return zuliaWorkPool.search(new Search(UPDATE_TEST_INDEX).addQuery(new FilterQuery(filter))).getTotalHits();
+	}
+}
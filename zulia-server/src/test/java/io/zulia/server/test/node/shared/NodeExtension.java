@@ -1,6 +1,8 @@
 package io.zulia.server.test.node.shared;
 
 import io.zulia.client.pool.ZuliaWorkPool;
+import io.zulia.server.config.ZuliaConfig;
+import io.zulia.server.node.ZuliaNode;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
@@ -9,12 +11,26 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.function.BiConsumer;
+
 public class NodeExtension implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback {
 	private final static Logger LOG = LoggerFactory.getLogger(NodeExtension.class);
 	private final int nodeCount;
+	private final BiConsumer<Integer, ZuliaConfig> configCustomizer;
 
 	public NodeExtension(int nodeCount) {
+		this(nodeCount, (nodeNumber, zuliaConfig) -> {
+		});
+	}
+
+	/**
+	 * @param nodeCount        - number of nodes in the cluster
+	 * @param configCustomizer - changes the config of each node, given the number of the node, before the node starts and on every restart
+	 */
+	public NodeExtension(int nodeCount, BiConsumer<Integer, ZuliaConfig> configCustomizer) {
 		this.nodeCount = nodeCount;
+		this.configCustomizer = configCustomizer;
 	}
 
 	private ZuliaWorkPool zuliaWorkPool;
@@ -23,13 +39,17 @@ public class NodeExtension implements BeforeAllCallback, AfterAllCallback, Befor
 		return zuliaWorkPool;
 	}
 
+	public List<ZuliaNode> getNodes() {
+		return TestHelper.getNodes();
+	}
+
 	@Override
 	public void beforeAll(ExtensionContext context) throws Exception {
 		if (context.getTestClass().isPresent()) {
 			LOG.info("Suite started: " + context.getTestClass().get());
 		}
 		TestHelper.createNodes(nodeCount);
-		TestHelper.startNodes(false);
+		TestHelper.startNodes(false, configCustomizer);
 		Thread.sleep(2000);
 		zuliaWorkPool = TestHelper.createClient();
 	}
@@ -59,7 +79,7 @@ public class NodeExtension implements BeforeAllCallback, AfterAllCallback, Befor
 	public void restartNodes() throws Exception {
 		TestHelper.stopNodes();
 		Thread.sleep(2000);
-		TestHelper.startNodes(false); // micronaut does not like starting again on the same port
+		TestHelper.startNodes(false, configCustomizer); // micronaut does not like starting again on the same port
 		Thread.sleep(2000);
 	}
 }
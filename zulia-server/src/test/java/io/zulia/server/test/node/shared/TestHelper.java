@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.regex.Matcher;
+import java.util.function.BiConsumer;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -119,6 +120,14 @@ public class TestHelper {
 	}
 
 	public static void startNodes(boolean startRest) throws Exception {
+		startNodes(startRest, (nodeNumber, zuliaConfig) -> {
+		});
+	}
+
+	/**
+	 * @param configCustomizer - changes the config of each node, given the number of the node, before the node starts
+	 */
+	public static void startNodes(boolean startRest, BiConsumer<Integer, ZuliaConfig> configCustomizer) throws Exception {
 		LOG.info("Starting <" + NODE_SERVICE.getNodes().size() + "> Nodes");
 		int i = 0;
 		for (ZuliaBase.Node node : NODE_SERVICE.getNodes()) {
@@ -135,8 +144,14 @@ public class TestHelper {
 			zuliaConfig.setDataPath("/tmp/zuliaTest/node" + i);
 			zuliaConfig.setRestPort(node.getRestPort());
 			zuliaConfig.setServicePort(node.getServicePort());
+			configCustomizer.accept(i, zuliaConfig);
 			i++;
 
+			if (node.getCoordinatorOnly() != zuliaConfig.isCoordinatorOnly()) {
+				//other nodes read the role from the registered node so it has to match the config as when started from the command line
+				NODE_SERVICE.addNode(ZuliaNode.nodeFromConfig(zuliaConfig));
+			}
+
 			ZuliaNode zuliaNode = new ZuliaNode(zuliaConfig, NODE_SERVICE);
 			zuliaNode.start(startRest);
 
@@ -160,6 +175,10 @@ public class TestHelper {
 		}
 	}
 
+	public static List<ZuliaNode> getNodes() {
+		return List.copyOf(ZULIA_NODES);
+	}
+
 	public static void stopNodes() {
 
 		LOG.info("Stopping <" + ZULIA_NODES.size() + "> Nodes");
@@ -0,0 +1,201 @@
+package io.zulia.server.test.util;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusException;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.zulia.cache.MetaKeys;
+import io.zulia.client.command.GetNodes;
+import io.zulia.client.config.ZuliaPoolConfig;
+import io.zulia.client.pool.ZuliaPool;
+import io.zulia.client.result.GetNodesResult;
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaServiceGrpc;
+import io.zulia.message.ZuliaServiceOuterClass.GetNodesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.GetNodesResponse;
+import io.zulia.rest.dto.RequestClassStatsDTO;
+import io.zulia.server.config.AdmissionConfig;
+import io.zulia.server.connection.server.AdmissionController;
+import io.zulia.server.connection.server.AdmissionController.RequestClass;
+import io.zulia.server.connection.server.handler.ServerRequestHandler;
+import io.zulia.server.exceptions.RequestRejectedException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AdmissionControllerTest {
+
+	@Test
+	public void testClassLimit() throws Exception {
+		AdmissionConfig admissionConfig = getAdmissionConfig();
+		admissionConfig.setMaxConcurrentQueries(1);
+		admissionConfig.setMaxQueuedQueries(0);
+		AdmissionController admissionController = new AdmissionController(admissionConfig);
+
+		AdmissionController.Permit permit = admissionController.admit(RequestClass.QUERY, List.of());
+		RequestRejectedException e = Assertions.assertThrows(RequestRejectedException.class,
+				() -> admissionController.admit(RequestClass.QUERY, List.of()));
+		Assertions.assertEquals(admissionConfig.getRetryAfterMs(), e.getRetryAfterMs());
+
+		//other classes have their own limits
+		admissionController.admit(RequestClass.STORE, List.of()).close();
+
+		permit.close();
+		admissionController.admit(RequestClass.QUERY, List.of()).close();
+
+		RequestClassStatsDTO queryStats = getStats(admissionController, "QUERY");
+		Assertions.assertEquals(0, queryStats.active());
+		Assertions.assertEquals(2, queryStats.admitted());
+		Assertions.assertEquals(1, queryStats.rejected());
+	}
+
+	@Test
+	public void testQueued() throws Exception {
+		AdmissionConfig admissionConfig = getAdmissionConfig();
+		admissionConfig.setMaxConcurrentQueries(1);
+		admissionConfig.setMaxQueuedQueries(1);
+		admissionConfig.setQueueTimeoutMs(5000);
+		AdmissionController admissionController = new AdmissionController(admissionConfig);
+
+		AdmissionController.Permit permit = admissionController.admit(RequestClass.QUERY, List.of());
+		CompletableFuture<AdmissionController.Permit> queued = CompletableFuture.supplyAsync(() -> {
+			try {
+				return admissionController.admit(RequestClass.QUERY, List.of());
+			}
+			catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		});
+
+		long waitUntil = System.currentTimeMillis() + 5000;
+		while (getStats(admissionController, "QUERY").queued() == 0 && System.currentTimeMillis() < waitUntil) {
+			Thread.sleep(10);
+		}
+		//the queue is full
+		Assertions.assertThrows(RequestRejectedException.class, () -> admissionController.admit(RequestClass.QUERY, List.of()));
+
+		permit.close();
+		queued.get(5, TimeUnit.SECONDS).close();
+		Assertions.assertEquals(0, getStats(admissionController, "QUERY").active());
+	}
+
+	@Test
+	public void testQueueTimeout() throws Exception {
+		AdmissionConfig admissionConfig = getAdmissionConfig();
+		admissionConfig.setMaxConcurrentFetches(1);
+		admissionConfig.setMaxQueuedFetches(10);
+		admissionConfig.setQueueTimeoutMs(50);
+		AdmissionController admissionController = new AdmissionController(admissionConfig);
+
+		try (AdmissionController.Permit ignored = admissionController.admit(RequestClass.FETCH, List.of())) {
+			Assertions.assertThrows(RequestRejectedException.class, () -> admissionController.admit(RequestClass.FETCH, List.of()));
+		}
+		Assertions.assertEquals(0, getStats(admissionController, "FETCH").queued());
+	}
+
+	@Test
+	public void testIndexLimitByClass() throws Exception {
+		AdmissionConfig admissionConfig = getAdmissionConfig();
+		admissionConfig.setMaxConcurrentPerIndex(1);
+		admissionConfig.setMaxQueuedQueries(0);
+		admissionConfig.setMaxQueuedStores(0);
+		AdmissionController admissionController = new AdmissionController(admissionConfig);
+
+		AdmissionController.Permit queryPermit = admissionController.admit(RequestClass.QUERY, List.of("a"));
+		Assertions.assertThrows(RequestRejectedException.class, () -> admissionController.admit(RequestClass.QUERY, List.of("a")));
+		Assertions.assertThrows(RequestRejectedException.class, () -> admissionController.admit(RequestClass.QUERY, List.of("b", "a")));
+
+		//writes to the index and queries of other indexes are not held up by the queries of the index
+		AdmissionController.Permit storePermit = admissionController.admit(RequestClass.STORE, List.of("a"));
+		Assertions.assertThrows(RequestRejectedException.class, () -> admissionController.admit(RequestClass.STORE, List.of("a")));
+		admissionController.admit(RequestClass.QUERY, List.of("b")).close();
+
+		//admin requests are only limited by class
+		admissionController.admit(RequestClass.ADMIN, List.of("a")).close();
+
+		queryPermit.close();
+		storePermit.close();
+		admissionController.admit(RequestClass.QUERY, List.of("a", "b")).close();
+
+		//a rejected multi index request released the index it had acquired
+		Assertions.assertEquals(0, getStats(admissionController, "index:b:QUERY").active());
+		Assertions.assertEquals(0, getStats(admissionController, "QUERY").active());
+		Assertions.assertEquals(2, getStats(admissionController, "index:a:QUERY").rejected());
+		Assertions.assertEquals(1, getStats(admissionController, "index:a:STORE").rejected());
+
+		admissionController.removeIndex("a");
+		Assertions.assertTrue(admissionController.getStats().stream().noneMatch(stats -> stats.requestClass().startsWith("index:a:")));
+	}
+
+	@Test
+	public void testRejectedStatus() {
+		StatusException statusException = ServerRequestHandler.getStatusException(new RequestRejectedException("busy", 300));
+		Assertions.assertEquals(Status.Code.RESOURCE_EXHAUSTED, statusException.getStatus().getCode());
+		Assertions.assertEquals("300", statusException.getTrailers().get(MetaKeys.RETRY_AFTER_MS_KEY));
+		Assertions.assertEquals("busy", statusException.getTrailers().get(MetaKeys.ERROR_KEY));
+
+		//other errors are not busy and not retried as busy
+		statusException = ServerRequestHandler.getStatusException(new IllegalArgumentException("bad"));
+		Assertions.assertEquals(Status.Code.INVALID_ARGUMENT, statusException.getStatus().getCode());
+		Assertions.assertFalse(statusException.getTrailers().containsKey(MetaKeys.RETRY_AFTER_MS_KEY));
+	}
+
+	@Test
+	public void testClientBusyRetry() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		AtomicInteger rejections = new AtomicInteger();
+		Server server = NettyServerBuilder.forPort(0).addService(new ZuliaServiceGrpc.ZuliaServiceImplBase() {
+			@Override
+			public void getNodes(GetNodesRequest request, StreamObserver<GetNodesResponse> responseObserver) {
+				calls.incrementAndGet();
+				if (rejections.getAndDecrement() > 0) {
+					responseObserver.onError(ServerRequestHandler.getStatusException(new RequestRejectedException("busy", 10)));
+				}
+				else {
+					responseObserver.onNext(GetNodesResponse.newBuilder().addNode(Node.newBuilder().setServerAddress("busyTest")).build());
+					responseObserver.onCompleted();
+				}
+			}
+		}).build().start();
+
+		try {
+			ZuliaPoolConfig zuliaPoolConfig = new ZuliaPoolConfig().addNode("localhost", server.getPort()).setNodeUpdateEnabled(false)
+					.setRoutingEnabled(false).setBusyRetries(3).setBusyBackoffMs(1);
+			ZuliaPool zuliaPool = new ZuliaPool(zuliaPoolConfig);
+			try {
+				//rejections up to the busy retries are retried after the retry after hint
+				rejections.set(3);
+				GetNodesResult getNodesResult = zuliaPool.execute(new GetNodes());
+				Assertions.assertEquals("busyTest", getNodesResult.getNodes().getFirst().getServerAddress());
+				Assertions.assertEquals(4, calls.get());
+
+				//the request fails once the busy retries are used up
+				calls.set(0);
+				rejections.set(4);
+				Assertions.assertThrows(Exception.class, () -> zuliaPool.execute(new GetNodes()));
+				Assertions.assertEquals(4, calls.get());
+			}
+			finally {
+				zuliaPool.close();
+			}
+		}
+		finally {
+			server.shutdownNow();
+		}
+	}
+
+	private static AdmissionConfig getAdmissionConfig() {
+		AdmissionConfig admissionConfig = new AdmissionConfig();
+		admissionConfig.setQueueTimeoutMs(100);
+		return admissionConfig;
+	}
+
+	private static RequestClassStatsDTO getStats(AdmissionController admissionController, String name) {
+		return admissionController.getStats().stream().filter(stats -> stats.requestClass().equals(name)).findFirst().orElseThrow();
+	}
+}
@@ -0,0 +1,75 @@
+package io.zulia.server.test.util;
+
+import io.zulia.server.index.DocumentRateLimiter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DocumentRateLimiterTest {
+
+	@Test
+	public void testUnlimited() throws Exception {
+		DocumentRateLimiter rateLimiter = new DocumentRateLimiter(0);
+
+		long start = System.currentTimeMillis();
+		for (int i = 1; i <= 100000; i++) {
+			Assertions.assertEquals(i, rateLimiter.acquire());
+		}
+		Assertions.assertTrue(System.currentTimeMillis() - start < 1000);
+		Assertions.assertEquals(100000, rateLimiter.getCount());
+	}
+
+	@Test
+	public void testRate() throws Exception {
+		DocumentRateLimiter rateLimiter = new DocumentRateLimiter(1000);
+
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < 500; i++) {
+			rateLimiter.acquire();
+		}
+		long elapsed = System.currentTimeMillis() - start;
+		Assertions.assertTrue(elapsed >= 450, "500 documents at 1000 per second took <" + elapsed + "ms>");
+		Assertions.assertEquals(500, rateLimiter.getCount());
+	}
+
+	@Test
+	public void testCreditIsBounded() throws Exception {
+		DocumentRateLimiter rateLimiter = new DocumentRateLimiter(1000);
+
+		//an idle limiter builds up at most one second of credit, the rest of the documents are held to the rate
+		Thread.sleep(2000);
+
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < 3000; i++) {
+			rateLimiter.acquire();
+		}
+		long elapsed = System.currentTimeMillis() - start;
+		Assertions.assertTrue(elapsed >= 1800, "3000 documents at 1000 per second after two idle seconds took <" + elapsed + "ms>");
+	}
+
+	@Test
+	public void testSharedAcrossThreads() throws Exception {
+		DocumentRateLimiter rateLimiter = new DocumentRateLimiter(1000);
+
+		Thread[] threads = new Thread[4];
+		long start = System.currentTimeMillis();
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				try {
+					for (int i = 0; i < 250; i++) {
+						rateLimiter.acquire();
+					}
+				}
+				catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		long elapsed = System.currentTimeMillis() - start;
+		Assertions.assertTrue(elapsed >= 900, "1000 documents at 1000 per second on four threads took <" + elapsed + "ms>");
+		Assertions.assertEquals(1000, rateLimiter.getCount());
+	}
+}
@@ -0,0 +1,126 @@
+package io.zulia.server.test.util;
+
+import io.zulia.DefaultAnalyzers;
+import io.zulia.ZuliaFieldConstants;
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.message.ZuliaIndex.AnalyzerSettings;
+import io.zulia.message.ZuliaIndex.IndexSettings;
+import io.zulia.server.index.FieldConfigDiff;
+import io.zulia.server.index.ShardDocumentIndexer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class FieldConfigDiffTest {
+
+	private static final String ID_FIELD = "id";
+
+	@Test
+	public void testUnknownIndexedSettings() {
+		Assertions.assertNull(FieldConfigDiff.getChangedStoredFields(null, getIndexSettings()));
+	}
+
+	@Test
+	public void testUnchanged() {
+		Assertions.assertEquals(Set.of(), FieldConfigDiff.getChangedStoredFields(getIndexSettings(), getIndexSettings()));
+	}
+
+	@Test
+	public void testFieldConfigChanges() {
+		IndexSettings indexed = getIndexSettings();
+
+		//title changed, category removed and rating added
+		IndexSettings current = IndexSettings.newBuilder().setIndexName("test").addAnalyzerSettings(getAnalyzer(AnalyzerSettings.Tokenizer.STANDARD))
+				.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort().build())
+				.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD).sort().build())
+				.addFieldConfig(FieldConfigBuilder.createString("author.name").indexAs("custom").build())
+				.addFieldConfig(FieldConfigBuilder.createInt("rating").index().build()).build();
+
+		Assertions.assertEquals(Set.of("title", "category", "rating"), FieldConfigDiff.getChangedStoredFields(indexed, current));
+	}
+
+	@Test
+	public void testAnalyzerChanges() {
+		IndexSettings indexed = getIndexSettings();
+
+		//only the field indexed with the changed analyzer has to be rebuilt
+		IndexSettings current = getIndexSettings().toBuilder().setAnalyzerSettings(0, getAnalyzer(AnalyzerSettings.Tokenizer.WHITESPACE)).build();
+		Assertions.assertEquals(Set.of("author.name"), FieldConfigDiff.getChangedStoredFields(indexed, current));
+
+		//removing the analyzer affects the fields that were indexed with it
+		current = getIndexSettings().toBuilder().clearAnalyzerSettings().build();
+		Assertions.assertEquals(Set.of("author.name"), FieldConfigDiff.getChangedStoredFields(indexed, current));
+	}
+
+	@Test
+	public void testStoredFieldsQuery() throws Exception {
+		try (ByteBuffersDirectory directory = new ByteBuffersDirectory()) {
+			try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()))) {
+				indexWriter.addDocument(getLuceneDocument("titleOnly", "title"));
+				indexWriter.addDocument(getLuceneDocument("withAuthor", "title", "author", "author.name"));
+				indexWriter.addDocument(getLuceneDocument("categoryOnly", "category"));
+				//a document indexed before stored field paths were indexed has none, it could store any field
+				indexWriter.addDocument(getLuceneDocument("untracked"));
+				indexWriter.commit();
+
+				//the untracked document in its own segment too, where no document has stored field paths
+				indexWriter.addDocument(getLuceneDocument("untrackedSegment"));
+				indexWriter.commit();
+			}
+
+			try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+				IndexSearcher indexSearcher = new IndexSearcher(directoryReader);
+
+				Assertions.assertEquals(Set.of("withAuthor", "untracked", "untrackedSegment"),
+						search(indexSearcher, List.of("author.name")));
+				Assertions.assertEquals(Set.of("titleOnly", "withAuthor", "categoryOnly", "untracked", "untrackedSegment"),
+						search(indexSearcher, List.of("title", "category")));
+				Assertions.assertEquals(Set.of("untracked", "untrackedSegment"), search(indexSearcher, List.of("rating")));
+			}
+		}
+	}
+
+	private static IndexSettings getIndexSettings() {
+		return IndexSettings.newBuilder().setIndexName("test").addAnalyzerSettings(getAnalyzer(AnalyzerSettings.Tokenizer.STANDARD))
+				.addFieldConfig(FieldConfigBuilder.createString("id").indexAs(DefaultAnalyzers.LC_KEYWORD).sort().build())
+				.addFieldConfig(FieldConfigBuilder.createString("title").indexAs(DefaultAnalyzers.STANDARD).build())
+				.addFieldConfig(FieldConfigBuilder.createString("author.name").indexAs("custom").build())
+				.addFieldConfig(FieldConfigBuilder.createString("category").indexAs(DefaultAnalyzers.LC_KEYWORD).facet().build()).build();
+	}
+
+	private static AnalyzerSettings getAnalyzer(AnalyzerSettings.Tokenizer tokenizer) {
+		return AnalyzerSettings.newBuilder().setName("custom").setTokenizer(tokenizer).addFilter(AnalyzerSettings.Filter.LOWERCASE).build();
+	}
+
+	private static Document getLuceneDocument(String id, String... storedFieldPaths) {
+		Document document = new Document();
+		document.add(new StringField(ID_FIELD, id, Field.Store.YES));
+		for (String storedFieldPath : storedFieldPaths) {
+			document.add(new StringField(ZuliaFieldConstants.STORED_FIELDS_LIST_FIELD, storedFieldPath, Field.Store.NO));
+		}
+		return document;
+	}
+
+	private static Set<String> search(IndexSearcher indexSearcher, List<String> storedFieldNames) throws Exception {
+		TopDocs topDocs = indexSearcher.search(ShardDocumentIndexer.getStoredFieldsQuery(storedFieldNames), 10);
+		Set<String> ids = new HashSet<>();
+		for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+			ids.add(indexSearcher.storedFields().document(scoreDoc.doc).get(ID_FIELD));
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,73 @@
+package io.zulia.server.test.util;
+
+import io.zulia.fields.FieldConfigBuilder;
+import io.zulia.message.ZuliaIndex.IndexSettings;
+import io.zulia.server.index.FieldExtractionPlan;
+import io.zulia.util.document.DocumentHelper;
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class FieldExtractionPlanTest {
+
+	private static final List<String> STORED_FIELD_NAMES = List.of("field1", "myfield", "listField", "missing", "field2", "field2.subfield1",
+			"field2.subfield2", "field2.subfield2.otherfield", "field2.subfield2.otherfield2", "field2.subfield2.otherfield1",
+			"field2.missing.deeper", "field1.notADocument", "thisfield.key1", "thisfield.key2", "thisfield.listKey", "thisfield.subDoc",
+			"thisfield.subDoc.subKeyA", "thisfield.subDoc.subListKey", "thisfield.missing", "thisfield.subDoc.missing", "listField.notADocument",
+			"", ".", "..", "empty", "empty.", "empty..inner", ".emptyRoot", "a..b", "a.");
+
+	@Test
+	public void testExtractionMatchesDocumentHelper() {
+		IndexSettings.Builder indexSettings = IndexSettings.newBuilder().setIndexName("test");
+		for (String storedFieldName : STORED_FIELD_NAMES) {
+			indexSettings.addFieldConfig(FieldConfigBuilder.createString(storedFieldName).build());
+		}
+		//two field configs for the same stored field both get the value
+		indexSettings.addFieldConfig(FieldConfigBuilder.createInt("field2.subfield2.otherfield").build());
+
+		FieldExtractionPlan plan = new FieldExtractionPlan(indexSettings.build());
+
+		for (Document mongoDocument : List.of(getDocument(), new Document(), new Document("thisfield", List.of()))) {
+			Object[] values = plan.extractValues(mongoDocument);
+			Assertions.assertEquals(indexSettings.getFieldConfigCount(), values.length);
+			for (int i = 0; i < values.length; i++) {
+				String storedFieldName = indexSettings.getFieldConfig(i).getStoredFieldName();
+				Assertions.assertEquals(DocumentHelper.getValueFromMongoDocument(mongoDocument, storedFieldName), values[i],
+						"<" + storedFieldName + "> of <" + mongoDocument.toJson() + ">");
+			}
+		}
+
+		Object[] values = plan.extractValues(getDocument());
+		Assertions.assertEquals(List.of("val1", "someval"), values[STORED_FIELD_NAMES.indexOf("thisfield.key1")]);
+		Assertions.assertEquals(List.of(List.of(3), List.of(1, 2)), values[STORED_FIELD_NAMES.indexOf("thisfield.subDoc.subListKey")]);
+		Assertions.assertEquals("inner", values[STORED_FIELD_NAMES.indexOf("empty..inner")]);
+		Assertions.assertEquals("1", values[values.length - 1]);
+	}
+
+	private static Document getDocument() {
+		Document mongoDocument = new Document();
+		mongoDocument.put("field1", "someVal");
+		mongoDocument.put("myfield", 40);
+		mongoDocument.put("listField", List.of(1, 2, 3));
+
+		Document embeddedDocumentTwo = new Document();
+		embeddedDocumentTwo.put("otherfield", "1");
+		embeddedDocumentTwo.put("otherfield2", List.of("1", "2", "3"));
+		mongoDocument.put("field2", new Document("subfield1", "val2").append("subfield2", embeddedDocumentTwo));
+
+		//lists of documents, some without the field
+		Document embeddedDocumentThree = new Document("key1", "val1").append("key2", "val2").append("listKey", List.of("one", "two"));
+		Document embeddedDocumentFour = new Document("key1", "someval").append("listKey", List.of("three"))
+				.append("subDoc", new Document("subListKey", List.of(3)).append("subKeyA", "some text B"));
+		Document embeddedDocumentFive = new Document("subDoc", new Document("subListKey", List.of(1, 2)).append("subKeyA", "some text"));
+		mongoDocument.put("thisfield", List.of(embeddedDocumentThree, embeddedDocumentFour, embeddedDocumentFive, "notADocument"));
+
+		//empty keys are reached by empty path elements
+		mongoDocument.put("", new Document("", "emptyValue").append("emptyRoot", "rootValue"));
+		mongoDocument.put("empty", new Document("", new Document("inner", "inner")));
+		mongoDocument.put("a", new Document("", new Document("b", "ab")));
+		return mongoDocument;
+	}
+}
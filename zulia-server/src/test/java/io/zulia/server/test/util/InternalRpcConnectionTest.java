@@ -0,0 +1,187 @@
+package io.zulia.server.test.util;
+
+import io.grpc.Context;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.zulia.message.ZuliaServiceGrpc;
+import io.zulia.message.ZuliaServiceOuterClass.GetNodesRequest;
+import io.zulia.message.ZuliaServiceOuterClass.GetNodesResponse;
+import io.zulia.server.connection.client.InternalRpcConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+public class InternalRpcConnectionTest {
+
+	/**
+	 * Holds every call until released, calls canceled by the client while held are counted
+	 */
+	private static class HoldingService extends ZuliaServiceGrpc.ZuliaServiceImplBase {
+		private final AtomicInteger started = new AtomicInteger();
+		private final AtomicInteger canceled = new AtomicInteger();
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		public void getNodes(GetNodesRequest request, StreamObserver<GetNodesResponse> responseObserver) {
+			started.incrementAndGet();
+			try {
+				while (!release.await(10, TimeUnit.MILLISECONDS)) {
+					if (Context.current().isCancelled()) {
+						canceled.incrementAndGet();
+						return;
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			responseObserver.onNext(GetNodesResponse.getDefaultInstance());
+			responseObserver.onCompleted();
+		}
+	}
+
+	private HoldingService holdingService;
+	private Server server;
+
+	@BeforeEach
+	public void startServer() throws Exception {
+		holdingService = new HoldingService();
+		server = NettyServerBuilder.forPort(0).addService(holdingService).build().start();
+	}
+
+	@AfterEach
+	public void stopServer() {
+		holdingService.release.countDown();
+		server.shutdownNow();
+	}
+
+	@Test
+	public void testPermitLimit() throws Exception {
+		InternalRpcConnection connection = new InternalRpcConnection("localhost", server.getPort(), 2, 2, 0);
+		try {
+			List<CompletableFuture<GetNodesResponse>> futures = new ArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				futures.add(call(connection));
+			}
+
+			//only the calls with a permit reach the node, the rest wait in the queue without a thread
+			waitFor(holdingService.started::get, 2);
+			Thread.sleep(100);
+			Assertions.assertEquals(2, holdingService.started.get());
+			Assertions.assertEquals(3, connection.getWaitingCount());
+
+			//each finished call starts a waiting one
+			holdingService.release.countDown();
+			for (CompletableFuture<GetNodesResponse> future : futures) {
+				Assertions.assertNotNull(future.get(10, TimeUnit.SECONDS));
+			}
+			Assertions.assertEquals(5, holdingService.started.get());
+			Assertions.assertEquals(0, connection.getWaitingCount());
+		}
+		finally {
+			connection.closeNow();
+		}
+	}
+
+	@Test
+	public void testCloseFailsQueued() throws Exception {
+		InternalRpcConnection connection = new InternalRpcConnection("localhost", server.getPort(), 1, 1, 0);
+
+		CompletableFuture<GetNodesResponse> inFlight = call(connection);
+		waitFor(holdingService.started::get, 1);
+		List<CompletableFuture<GetNodesResponse>> queued = List.of(call(connection), call(connection));
+
+		//a graceful close lets the call in flight finish, the queued calls are not sent
+		CompletableFuture.runAsync(() -> {
+			try {
+				Thread.sleep(200);
+			}
+			catch (InterruptedException ignored) {
+
+			}
+			holdingService.release.countDown();
+		});
+		connection.close();
+
+		Assertions.assertNotNull(inFlight.get(10, TimeUnit.SECONDS));
+		for (CompletableFuture<GetNodesResponse> future : queued) {
+			ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+			Assertions.assertTrue(e.getCause().getMessage().contains("closed"), e.getCause().getMessage());
+		}
+		Assertions.assertEquals(1, holdingService.started.get());
+
+		//calls after the close fail without being sent
+		Assertions.assertThrows(ExecutionException.class, () -> call(connection).get(10, TimeUnit.SECONDS));
+		Assertions.assertEquals(1, holdingService.started.get());
+	}
+
+	@Test
+	public void testCloseNowFailsInFlightAndQueued() throws Exception {
+		InternalRpcConnection connection = new InternalRpcConnection("localhost", server.getPort(), 1, 1, 0);
+
+		CompletableFuture<GetNodesResponse> inFlight = call(connection);
+		waitFor(holdingService.started::get, 1);
+		CompletableFuture<GetNodesResponse> queued = call(connection);
+
+		connection.closeNow();
+
+		Assertions.assertThrows(ExecutionException.class, () -> inFlight.get(10, TimeUnit.SECONDS));
+		ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> queued.get(10, TimeUnit.SECONDS));
+		Assertions.assertTrue(e.getCause().getMessage().contains("closed"), e.getCause().getMessage());
+		Assertions.assertEquals(1, holdingService.started.get());
+	}
+
+	@Test
+	public void testCancel() throws Exception {
+		InternalRpcConnection connection = new InternalRpcConnection("localhost", server.getPort(), 1, 1, 0);
+		try {
+			CompletableFuture<GetNodesResponse> inFlight = call(connection);
+			waitFor(holdingService.started::get, 1);
+			CompletableFuture<GetNodesResponse> queued = call(connection);
+			CompletableFuture<GetNodesResponse> next = call(connection);
+
+			//a queued call canceled before it started is never sent
+			queued.cancel(true);
+
+			//canceling a call in flight cancels it on the node and frees its permit for the next call
+			inFlight.cancel(true);
+			waitFor(holdingService.canceled::get, 1);
+			waitFor(holdingService.started::get, 2);
+
+			holdingService.release.countDown();
+			Assertions.assertNotNull(next.get(10, TimeUnit.SECONDS));
+			Assertions.assertThrows(CancellationException.class, inFlight::join);
+			Assertions.assertThrows(CancellationException.class, queued::join);
+			Assertions.assertEquals(2, holdingService.started.get());
+			Assertions.assertEquals(1, holdingService.canceled.get());
+		}
+		finally {
+			connection.closeNow();
+		}
+	}
+
+	private static CompletableFuture<GetNodesResponse> call(InternalRpcConnection connection) {
+		return connection.call(stub -> stub.getNodes(GetNodesRequest.getDefaultInstance()));
+	}
+
+	private static void waitFor(IntSupplier value, int expected) throws InterruptedException {
+		long waitUntil = System.currentTimeMillis() + 10000;
+		while (value.getAsInt() < expected && System.currentTimeMillis() < waitUntil) {
+			Thread.sleep(10);
+		}
+		Assertions.assertEquals(expected, value.getAsInt());
+	}
+}
@@ -0,0 +1,128 @@
+package io.zulia.server.test.util;
+
+import io.zulia.message.ZuliaBase.MasterSlaveSettings;
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaIndex.IndexShardMapping;
+import io.zulia.message.ZuliaIndex.ShardMapping;
+import io.zulia.server.connection.client.NodeLoadTracker;
+import io.zulia.server.exceptions.ShardDoesNotExistException;
+import io.zulia.server.index.MasterSlaveSelector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public class MasterSlaveSelectorTest {
+
+	private static final Node LOCAL = Node.newBuilder().setServerAddress("local").setServicePort(1).build();
+	private static final Node NODE_A = Node.newBuilder().setServerAddress("a").setServicePort(1).build();
+	private static final Node NODE_B = Node.newBuilder().setServerAddress("b").setServicePort(1).build();
+	private static final List<Node> ALL_NODES = List.of(LOCAL, NODE_A, NODE_B);
+
+	@Test
+	public void testLocalPreferred() throws Exception {
+		NodeLoadTracker nodeLoadTracker = new NodeLoadTracker(() -> 0, () -> 0);
+		record(nodeLoadTracker, LOCAL, 100);
+		record(nodeLoadTracker, NODE_A, 1);
+		record(nodeLoadTracker, NODE_B, 1);
+
+		//no network hop beats any remote copy, even when probing and when the local node is slow
+		IndexShardMapping indexShardMapping = getIndexShardMapping(NODE_A, NODE_B, LOCAL);
+		for (int i = 0; i < 100; i++) {
+			Assertions.assertEquals(LOCAL, select(MasterSlaveSettings.SLAVE_ONLY, ALL_NODES, indexShardMapping, nodeLoadTracker));
+		}
+
+		//the primary is used when asked for, wherever it is
+		Assertions.assertEquals(NODE_A, select(MasterSlaveSettings.MASTER_ONLY, ALL_NODES, indexShardMapping, nodeLoadTracker));
+		Assertions.assertEquals(NODE_A, select(MasterSlaveSettings.MASTER_IF_AVAILABLE, ALL_NODES, indexShardMapping, nodeLoadTracker));
+		Assertions.assertEquals(LOCAL, select(MasterSlaveSettings.MASTER_IF_AVAILABLE, List.of(LOCAL, NODE_B), indexShardMapping, nodeLoadTracker));
+	}
+
+	@Test
+	public void testScore() throws Exception {
+		NodeLoadTracker nodeLoadTracker = new NodeLoadTracker(() -> 0, () -> 1);
+		IndexShardMapping indexShardMapping = getIndexShardMapping(LOCAL, NODE_A, NODE_B);
+
+		//without samples the replica list order decides
+		Assertions.assertEquals(NODE_A, select(MasterSlaveSettings.SLAVE_ONLY, ALL_NODES, indexShardMapping, nodeLoadTracker));
+
+		record(nodeLoadTracker, NODE_A, 50);
+		record(nodeLoadTracker, NODE_B, 5);
+		Assertions.assertEquals(NODE_B, select(MasterSlaveSettings.SLAVE_ONLY, ALL_NODES, indexShardMapping, nodeLoadTracker));
+
+		//requests outstanding to the fast node make it more expensive than the slow idle one
+		for (int i = 0; i < 20; i++) {
+			nodeLoadTracker.requestStarted(NODE_B);
+		}
+		Assertions.assertEquals(NODE_A, select(MasterSlaveSettings.SLAVE_ONLY, ALL_NODES, indexShardMapping, nodeLoadTracker));
+
+		//offline copies are skipped
+		Assertions.assertEquals(NODE_B, select(MasterSlaveSettings.SLAVE_ONLY, List.of(LOCAL, NODE_B), indexShardMapping, nodeLoadTracker));
+		Assertions.assertThrows(Exception.class, () -> select(MasterSlaveSettings.SLAVE_ONLY, List.of(LOCAL), indexShardMapping, nodeLoadTracker));
+
+		//without a tracker the replica list order decides
+		MasterSlaveSelector masterSlaveSelector = new MasterSlaveSelector(MasterSlaveSettings.SLAVE_ONLY, ALL_NODES, indexShardMapping);
+		Assertions.assertEquals(NODE_A, masterSlaveSelector.getNodesForIndex().keySet().iterator().next());
+	}
+
+	@Test
+	public void testProbe() throws Exception {
+		//every selection probes
+		NodeLoadTracker nodeLoadTracker = new NodeLoadTracker(() -> 0, () -> 0);
+		record(nodeLoadTracker, NODE_A, 1000);
+		record(nodeLoadTracker, NODE_B, 1);
+
+		//the slow copy is still measured now and then instead of being avoided forever
+		IndexShardMapping indexShardMapping = getIndexShardMapping(LOCAL, NODE_A, NODE_B);
+		Set<Node> selected = new HashSet<>();
+		for (int i = 0; i < 100; i++) {
+			selected.add(select(MasterSlaveSettings.SLAVE_ONLY, ALL_NODES, indexShardMapping, nodeLoadTracker));
+		}
+		Assertions.assertEquals(Set.of(NODE_A, NODE_B), selected);
+	}
+
+	@Test
+	public void testAlternateNode() throws Exception {
+		NodeLoadTracker nodeLoadTracker = new NodeLoadTracker(() -> 0, () -> 1);
+		IndexShardMapping indexShardMapping = getIndexShardMapping(LOCAL, NODE_A, NODE_B);
+
+		MasterSlaveSelector masterSlaveSelector = new MasterSlaveSelector(MasterSlaveSettings.SLAVE_ONLY, ALL_NODES, indexShardMapping, LOCAL,
+				nodeLoadTracker);
+		Assertions.assertEquals(NODE_B, masterSlaveSelector.getAlternateNode(0, NODE_A));
+		Assertions.assertEquals(NODE_A, masterSlaveSelector.getAlternateNode(0, NODE_B));
+		Assertions.assertThrows(ShardDoesNotExistException.class, () -> masterSlaveSelector.getAlternateNode(1, NODE_A));
+
+		//only replicas are alternates, the only other replica being offline leaves none
+		masterSlaveSelector = new MasterSlaveSelector(MasterSlaveSettings.SLAVE_ONLY, List.of(LOCAL, NODE_A), indexShardMapping, LOCAL,
+				nodeLoadTracker);
+		Assertions.assertNull(masterSlaveSelector.getAlternateNode(0, NODE_A));
+
+		//a query that asks for the primary is never given a replica
+		for (MasterSlaveSettings masterSlaveSettings : List.of(MasterSlaveSettings.MASTER_ONLY, MasterSlaveSettings.MASTER_IF_AVAILABLE)) {
+			masterSlaveSelector = new MasterSlaveSelector(masterSlaveSettings, ALL_NODES, indexShardMapping, LOCAL, nodeLoadTracker);
+			Assertions.assertNull(masterSlaveSelector.getAlternateNode(0, NODE_A));
+		}
+	}
+
+	private static Node select(MasterSlaveSettings masterSlaveSettings, List<Node> nodes, IndexShardMapping indexShardMapping,
+			NodeLoadTracker nodeLoadTracker) throws Exception {
+		MasterSlaveSelector masterSlaveSelector = new MasterSlaveSelector(masterSlaveSettings, nodes, indexShardMapping, LOCAL, nodeLoadTracker);
+		Set<Node> selected = masterSlaveSelector.getNodesForIndex().keySet();
+		Assertions.assertEquals(1, selected.size());
+		return selected.iterator().next();
+	}
+
+	private static IndexShardMapping getIndexShardMapping(Node primaryNode, Node... replicaNodes) {
+		ShardMapping shardMapping = ShardMapping.newBuilder().setShardNumber(0).setPrimaryNode(primaryNode).addAllReplicaNode(List.of(replicaNodes))
+				.build();
+		return IndexShardMapping.newBuilder().setIndexName("test").setNumberOfShards(1).addShardMapping(shardMapping).build();
+	}
+
+	private static void record(NodeLoadTracker nodeLoadTracker, Node node, long latencyMs) {
+		nodeLoadTracker.requestStarted(node);
+		nodeLoadTracker.requestFinished(node, TimeUnit.MILLISECONDS.toNanos(latencyMs));
+	}
+}
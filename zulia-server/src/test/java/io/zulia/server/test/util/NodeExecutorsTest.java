@@ -0,0 +1,129 @@
+package io.zulia.server.test.util;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.zulia.server.config.ZuliaConfig;
+import io.zulia.server.index.NodeExecutors;
+import io.zulia.util.pool.SemaphoreLimitedVirtualPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class NodeExecutorsTest {
+
+	@Test
+	public void testDefaultSizes() {
+		int processors = Runtime.getRuntime().availableProcessors();
+		try (NodeExecutors nodeExecutors = new NodeExecutors(new ZuliaConfig())) {
+			Assertions.assertEquals(processors * 2, nodeExecutors.getSearchPool().getMaxThreads());
+			Assertions.assertEquals(Math.max(1, processors / 2), nodeExecutors.getReindexPool().getMaxThreads());
+			Assertions.assertEquals(Math.max(2, processors / 4), nodeExecutors.getReplicationPool().getCorePoolSize());
+		}
+	}
+
+	@Test
+	public void testSearchPoolLimit() throws Exception {
+		try (NodeExecutors nodeExecutors = new NodeExecutors(getZuliaConfig(2))) {
+			SemaphoreLimitedVirtualPool searchPool = nodeExecutors.getSearchPool();
+
+			AtomicInteger active = new AtomicInteger();
+			AtomicInteger maxActive = new AtomicInteger();
+			List<ListenableFuture<Integer>> futures = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				futures.add(searchPool.executeAsync(() -> {
+					maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+					Thread.sleep(50);
+					return active.decrementAndGet();
+				}));
+			}
+			for (ListenableFuture<Integer> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+			Assertions.assertEquals(2, maxActive.get());
+			Assertions.assertEquals(0, searchPool.getActiveCount());
+		}
+	}
+
+	@Test
+	public void testSubmitDoesNotBlock() throws Exception {
+		try (NodeExecutors nodeExecutors = new NodeExecutors(getZuliaConfig(2))) {
+			SemaphoreLimitedVirtualPool searchPool = nodeExecutors.getSearchPool();
+
+			CountDownLatch release = new CountDownLatch(1);
+			List<ListenableFuture<Boolean>> futures = new ArrayList<>();
+			for (int i = 0; i < 2; i++) {
+				futures.add(searchPool.executeAsync(() -> release.await(10, TimeUnit.SECONDS)));
+			}
+
+			//the caller is not held up by a saturated pool, the task waits for a permit on its own thread
+			long start = System.currentTimeMillis();
+			ListenableFuture<Boolean> waiting = searchPool.executeAsync(() -> true);
+			Assertions.assertTrue(System.currentTimeMillis() - start < 1000);
+
+			long waitUntil = System.currentTimeMillis() + 5000;
+			while (searchPool.getWaitingCount() == 0 && System.currentTimeMillis() < waitUntil) {
+				Thread.sleep(10);
+			}
+			Assertions.assertEquals(1, searchPool.getWaitingCount());
+			Assertions.assertFalse(waiting.isDone());
+
+			release.countDown();
+			Assertions.assertTrue(waiting.get(10, TimeUnit.SECONDS));
+			for (ListenableFuture<Boolean> future : futures) {
+				Assertions.assertTrue(future.get(10, TimeUnit.SECONDS));
+			}
+		}
+	}
+
+	@Test
+	public void testNestedSubmit() throws Exception {
+		try (NodeExecutors nodeExecutors = new NodeExecutors(getZuliaConfig(2))) {
+			SemaphoreLimitedVirtualPool searchPool = nodeExecutors.getSearchPool();
+
+			//every permit is held by a task that waits on a task it submits to the same pool
+			CountDownLatch allRunning = new CountDownLatch(2);
+			List<ListenableFuture<Integer>> futures = new ArrayList<>();
+			for (int i = 0; i < 2; i++) {
+				int value = i;
+				futures.add(searchPool.executeAsync(() -> {
+					allRunning.countDown();
+					allRunning.await(10, TimeUnit.SECONDS);
+					return searchPool.execute(() -> value * 10);
+				}));
+			}
+
+			for (int i = 0; i < 2; i++) {
+				Assertions.assertEquals(i * 10, futures.get(i).get(10, TimeUnit.SECONDS));
+			}
+			Assertions.assertEquals(0, searchPool.getActiveCount());
+		}
+	}
+
+	@Test
+	public void testScheduledTaskSurvivesFailure() throws Exception {
+		try (NodeExecutors nodeExecutors = new NodeExecutors(new ZuliaConfig())) {
+			AtomicInteger runs = new AtomicInteger();
+			nodeExecutors.scheduleWithFixedDelay("failing", () -> {
+				if (runs.incrementAndGet() == 1) {
+					throw new RuntimeException("first run fails");
+				}
+			}, 10);
+
+			long waitUntil = System.currentTimeMillis() + 5000;
+			while (runs.get() < 3 && System.currentTimeMillis() < waitUntil) {
+				Thread.sleep(10);
+			}
+			Assertions.assertTrue(runs.get() >= 3);
+		}
+	}
+
+	private static ZuliaConfig getZuliaConfig(int searchThreads) {
+		ZuliaConfig zuliaConfig = new ZuliaConfig();
+		zuliaConfig.setSearchThreads(searchThreads);
+		return zuliaConfig;
+	}
+}
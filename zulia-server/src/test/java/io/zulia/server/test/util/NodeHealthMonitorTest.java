@@ -0,0 +1,166 @@
+package io.zulia.server.test.util;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.message.ZuliaServiceGrpc;
+import io.zulia.message.ZuliaServiceOuterClass.InternalPingRequest;
+import io.zulia.message.ZuliaServiceOuterClass.InternalPingResponse;
+import io.zulia.server.node.NodeHealthMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+public class NodeHealthMonitorTest {
+
+	private enum PingMode {
+		ANSWER,
+		FAIL,
+		HANG
+	}
+
+	private final AtomicReference<PingMode> pingMode = new AtomicReference<>(PingMode.ANSWER);
+	private final AtomicInteger pings = new AtomicInteger();
+	private final AtomicInteger changes = new AtomicInteger();
+
+	private Server server;
+	private Node node;
+	private NodeHealthMonitor nodeHealthMonitor;
+
+	@BeforeEach
+	public void start() throws Exception {
+		server = NettyServerBuilder.forPort(0).addService(new ZuliaServiceGrpc.ZuliaServiceImplBase() {
+			@Override
+			public void internalPing(InternalPingRequest request, StreamObserver<InternalPingResponse> responseObserver) {
+				pings.incrementAndGet();
+				switch (pingMode.get()) {
+					case ANSWER -> {
+						responseObserver.onNext(InternalPingResponse.newBuilder().build());
+						responseObserver.onCompleted();
+					}
+					case FAIL -> responseObserver.onError(Status.UNAVAILABLE.asException());
+					case HANG -> {
+						//never answers, the ping times out
+					}
+				}
+			}
+		}).build().start();
+
+		node = Node.newBuilder().setServerAddress("localhost").setServicePort(server.getPort()).build();
+		nodeHealthMonitor = new NodeHealthMonitor(200, 3, changes::incrementAndGet);
+		nodeHealthMonitor.setNodes(List.of(node));
+	}
+
+	@AfterEach
+	public void stop() {
+		nodeHealthMonitor.close();
+		server.shutdownNow();
+	}
+
+	@Test
+	public void testEjectAndRecover() throws Exception {
+		pingUntil(1);
+		Assertions.assertFalse(nodeHealthMonitor.isEjected(node));
+
+		//a node is only suspected until the failures in a row reach the limit, failed and timed out pings both count
+		pingMode.set(PingMode.FAIL);
+		pingUntil(3);
+		Thread.sleep(100);
+		Assertions.assertFalse(nodeHealthMonitor.isEjected(node));
+
+		pingMode.set(PingMode.HANG);
+		pingUntil(4);
+		waitFor(() -> nodeHealthMonitor.isEjected(node));
+
+		//the change is applied on the next probe, not on the grpc thread of the ping
+		Assertions.assertEquals(0, changes.get());
+		pingMode.set(PingMode.ANSWER);
+		pingUntil(5);
+		Assertions.assertEquals(1, changes.get());
+
+		//a single answer does not add the node back
+		Thread.sleep(100);
+		Assertions.assertTrue(nodeHealthMonitor.isEjected(node));
+
+		pingUntil(6);
+		waitFor(() -> !nodeHealthMonitor.isEjected(node));
+		nodeHealthMonitor.probe();
+		Assertions.assertEquals(2, changes.get());
+	}
+
+	@Test
+	public void testFailureResetsRecovery() throws Exception {
+		pingMode.set(PingMode.FAIL);
+		pingUntil(3);
+		waitFor(() -> nodeHealthMonitor.isEjected(node));
+
+		//the answers have to be in a row so a flapping node stays out
+		for (int i = 0; i < 3; i++) {
+			pingMode.set(PingMode.ANSWER);
+			pingUntil(4 + i * 2);
+			Thread.sleep(100);
+			pingMode.set(PingMode.FAIL);
+			pingUntil(5 + i * 2);
+			Thread.sleep(100);
+			Assertions.assertTrue(nodeHealthMonitor.isEjected(node));
+		}
+
+		//a single failure of a node that is not ejected is forgiven by the next answer
+		pingMode.set(PingMode.ANSWER);
+		pingUntil(11);
+		waitFor(() -> !nodeHealthMonitor.isEjected(node));
+		pingMode.set(PingMode.FAIL);
+		pingUntil(12);
+		pingMode.set(PingMode.ANSWER);
+		pingUntil(13);
+		pingMode.set(PingMode.FAIL);
+		pingUntil(15);
+		Thread.sleep(100);
+		Assertions.assertFalse(nodeHealthMonitor.isEjected(node));
+	}
+
+	@Test
+	public void testNodeRemoved() throws Exception {
+		pingMode.set(PingMode.FAIL);
+		pingUntil(3);
+		waitFor(() -> nodeHealthMonitor.isEjected(node));
+
+		//a node that left the cluster is no longer tracked, it starts clean when it joins again
+		nodeHealthMonitor.setNodes(List.of());
+		Assertions.assertFalse(nodeHealthMonitor.isEjected(node));
+
+		nodeHealthMonitor.setNodes(List.of(node));
+		Assertions.assertFalse(nodeHealthMonitor.isEjected(node));
+		pingUntil(4);
+		Thread.sleep(100);
+		Assertions.assertFalse(nodeHealthMonitor.isEjected(node));
+	}
+
+	/**
+	 * Probes until the node received the given number of pings.  Probes while a ping is in flight do not send another ping
+	 */
+	private void pingUntil(int expectedPings) throws InterruptedException {
+		long waitUntil = System.currentTimeMillis() + 10000;
+		while (pings.get() < expectedPings && System.currentTimeMillis() < waitUntil) {
+			nodeHealthMonitor.probe();
+			Thread.sleep(10);
+		}
+		Assertions.assertEquals(expectedPings, pings.get());
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long waitUntil = System.currentTimeMillis() + 10000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < waitUntil) {
+			Thread.sleep(10);
+		}
+		Assertions.assertTrue(condition.getAsBoolean());
+	}
+}
@@ -0,0 +1,101 @@
+package io.zulia.server.test.util;
+
+import io.zulia.message.ZuliaBase.Node;
+import io.zulia.server.connection.client.NodeLoadTracker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class NodeLoadTrackerTest {
+
+	private static final Node NODE_A = Node.newBuilder().setServerAddress("a").setServicePort(1).build();
+	private static final Node NODE_B = Node.newBuilder().setServerAddress("b").setServicePort(1).build();
+	private static final Node NODE_C = Node.newBuilder().setServerAddress("c").setServicePort(1).build();
+
+	@Test
+	public void testEwma() {
+		NodeLoadTracker nodeLoadTracker = new NodeLoadTracker(() -> 0, () -> 1);
+
+		record(nodeLoadTracker, NODE_A, 10);
+		Assertions.assertEquals(10, nodeLoadTracker.getEwmaLatencyMs(NODE_A), 0.0001);
+
+		//a new sample moves the average by a fraction of the difference
+		record(nodeLoadTracker, NODE_A, 20);
+		Assertions.assertEquals(13, nodeLoadTracker.getEwmaLatencyMs(NODE_A), 0.0001);
+		Assertions.assertEquals(13, nodeLoadTracker.getScore(NODE_A), 0.0001);
+	}
+
+	@Test
+	public void testOutstanding() {
+		NodeLoadTracker nodeLoadTracker = new NodeLoadTracker(() -> 0, () -> 1);
+		record(nodeLoadTracker, NODE_A, 10);
+
+		//every outstanding request adds the latency of the node again
+		nodeLoadTracker.requestStarted(NODE_A);
+		nodeLoadTracker.requestStarted(NODE_A);
+		Assertions.assertEquals(2, nodeLoadTracker.getOutstanding(NODE_A));
+		Assertions.assertEquals(30, nodeLoadTracker.getScore(NODE_A), 0.0001);
+
+		nodeLoadTracker.requestFinished(NODE_A, TimeUnit.MILLISECONDS.toNanos(10));
+		Assertions.assertEquals(1, nodeLoadTracker.getOutstanding(NODE_A));
+		Assertions.assertEquals(20, nodeLoadTracker.getScore(NODE_A), 0.0001);
+
+		//a request that finishes after its node was removed is ignored
+		nodeLoadTracker.removeNode(NODE_A);
+		nodeLoadTracker.requestFinished(NODE_A, TimeUnit.MILLISECONDS.toNanos(10));
+		Assertions.assertEquals(0, nodeLoadTracker.getOutstanding(NODE_A));
+		Assertions.assertEquals(0, nodeLoadTracker.getEwmaLatencyMs(NODE_A));
+	}
+
+	@Test
+	public void testUnmeasuredNode() {
+		NodeLoadTracker nodeLoadTracker = new NodeLoadTracker(() -> 0, () -> 1);
+		Assertions.assertEquals(0, nodeLoadTracker.getScore(NODE_C), 0.0001);
+
+		record(nodeLoadTracker, NODE_A, 10);
+		record(nodeLoadTracker, NODE_B, 30);
+
+		//a node without samples is scored with the average of the measured nodes
+		Assertions.assertEquals(20, nodeLoadTracker.getScore(NODE_C), 0.0001);
+
+		nodeLoadTracker.removeNode(NODE_B);
+		Assertions.assertEquals(10, nodeLoadTracker.getScore(NODE_C), 0.0001);
+	}
+
+	@Test
+	public void testDecay() {
+		AtomicLong now = new AtomicLong();
+		NodeLoadTracker nodeLoadTracker = new NodeLoadTracker(now::get, () -> 1);
+
+		record(nodeLoadTracker, NODE_A, 10);
+		record(nodeLoadTracker, NODE_B, 30);
+		Assertions.assertEquals(10, nodeLoadTracker.getScore(NODE_A), 0.0001);
+		Assertions.assertEquals(30, nodeLoadTracker.getScore(NODE_B), 0.0001);
+
+		//samples fade towards the average of all nodes with a half life of 30 seconds
+		now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+		Assertions.assertEquals(15, nodeLoadTracker.getScore(NODE_A), 0.0001);
+		Assertions.assertEquals(25, nodeLoadTracker.getScore(NODE_B), 0.0001);
+
+		now.addAndGet(TimeUnit.MINUTES.toNanos(30));
+		Assertions.assertEquals(20, nodeLoadTracker.getScore(NODE_A), 0.0001);
+		Assertions.assertEquals(20, nodeLoadTracker.getScore(NODE_B), 0.0001);
+
+		//a new sample is fresh again
+		record(nodeLoadTracker, NODE_B, 30);
+		Assertions.assertEquals(30, nodeLoadTracker.getScore(NODE_B), 0.0001);
+	}
+
+	@Test
+	public void testProbe() {
+		Assertions.assertTrue(new NodeLoadTracker(() -> 0, () -> 0.01).shouldProbe());
+		Assertions.assertFalse(new NodeLoadTracker(() -> 0, () -> 0.5).shouldProbe());
+	}
+
+	private static void record(NodeLoadTracker nodeLoadTracker, Node node, long latencyMs) {
+		nodeLoadTracker.requestStarted(node);
+		nodeLoadTracker.requestFinished(node, TimeUnit.MILLISECONDS.toNanos(latencyMs));
+	}
+}
@@ -0,0 +1,99 @@
+package io.zulia.server.test.util;
+
+import io.zulia.server.index.QueryHedger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class QueryHedgerTest {
+
+	@Test
+	public void testDisabled() {
+		QueryHedger queryHedger = new QueryHedger(0, 10, 0.05);
+		Assertions.assertFalse(queryHedger.isEnabled());
+		recordMs(queryHedger, "a", 1000, 50);
+		Assertions.assertEquals(-1, queryHedger.getHedgeDelayMs(List.of("a")));
+	}
+
+	@Test
+	public void testHedgeDelay() {
+		QueryHedger queryHedger = new QueryHedger(50, 10, 0.05);
+		Assertions.assertTrue(queryHedger.isEnabled());
+
+		//no hedging until the index has enough samples
+		for (int i = 1; i < 100; i++) {
+			recordMs(queryHedger, "a", 1, i);
+		}
+		Assertions.assertEquals(-1, queryHedger.getHedgeDelayMs(List.of("a")));
+		recordMs(queryHedger, "a", 1, 100);
+		Assertions.assertEquals(50, queryHedger.getHedgeDelayMs(List.of("a")));
+
+		//an index without samples disables hedging for a query that includes it
+		Assertions.assertEquals(-1, queryHedger.getHedgeDelayMs(List.of("a", "b")));
+
+		//the delay is never below the min delay and the slowest index of the query wins
+		recordMs(queryHedger, "b", 100, 2);
+		Assertions.assertEquals(10, queryHedger.getHedgeDelayMs(List.of("b")));
+		Assertions.assertEquals(50, queryHedger.getHedgeDelayMs(List.of("a", "b")));
+
+		queryHedger.removeIndex("a");
+		Assertions.assertEquals(-1, queryHedger.getHedgeDelayMs(List.of("a")));
+	}
+
+	@Test
+	public void testCensoredLatency() {
+		QueryHedger queryHedger = new QueryHedger(90, 1, 1);
+		recordMs(queryHedger, "a", 1024, 5);
+		Assertions.assertEquals(5, queryHedger.getHedgeDelayMs(List.of("a")));
+
+		//the time a request had not answered for when its hedge won counts as its latency, a slow period raises the delay instead of only the
+		//fast requests being recorded
+		recordMs(queryHedger, "a", 200, 40);
+		Assertions.assertEquals(40, queryHedger.getHedgeDelayMs(List.of("a")));
+
+		//the window only holds recent latencies
+		recordMs(queryHedger, "a", 1024, 5);
+		Assertions.assertEquals(5, queryHedger.getHedgeDelayMs(List.of("a")));
+	}
+
+	@Test
+	public void testHedgeRate() {
+		QueryHedger queryHedger = new QueryHedger(99, 10, 0.05);
+
+		//no hedges before any node request
+		Assertions.assertFalse(queryHedger.tryHedge());
+
+		//every node request is slow, hedges are limited to the max rate
+		for (int i = 0; i < 1000; i++) {
+			queryHedger.nodeRequestSent();
+			queryHedger.tryHedge();
+		}
+		Assertions.assertEquals(1000, queryHedger.getNodeRequests());
+		Assertions.assertTrue(queryHedger.getHedgesSent() >= 49 && queryHedger.getHedgesSent() <= 50, "<" + queryHedger.getHedgesSent() + ">");
+		Assertions.assertTrue(queryHedger.getHedgeRate() <= 0.05);
+
+		//unused hedges only build up to a small burst
+		for (int i = 0; i < 1000; i++) {
+			queryHedger.nodeRequestSent();
+		}
+		long hedgesSent = queryHedger.getHedgesSent();
+		int burst = 0;
+		while (queryHedger.tryHedge()) {
+			burst++;
+		}
+		Assertions.assertEquals(10, burst);
+		Assertions.assertEquals(hedgesSent + 10, queryHedger.getHedgesSent());
+
+		queryHedger.hedgeWon();
+		Assertions.assertEquals(1, queryHedger.getHedgesWon());
+		Assertions.assertEquals(1.0 / queryHedger.getHedgesSent(), queryHedger.getHedgeWinRate(), 0.0001);
+	}
+
+	private static void recordMs(QueryHedger queryHedger, String indexName, int count, long latencyMs) {
+		for (int i = 0; i < count; i++) {
+			queryHedger.recordLatency(List.of(indexName), TimeUnit.MILLISECONDS.toNanos(latencyMs));
+		}
+	}
+}
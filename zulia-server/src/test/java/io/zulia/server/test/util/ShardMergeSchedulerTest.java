@@ -0,0 +1,101 @@
+package io.zulia.server.test.util;
+
+import io.zulia.message.ZuliaIndex.MergeSettings;
+import io.zulia.server.index.ShardMergeScheduler;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.TieredMergePolicy;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ShardMergeSchedulerTest {
+
+	@Test
+	public void testMergePolicySettings() {
+		TieredMergePolicy luceneDefaults = new TieredMergePolicy();
+
+		TieredMergePolicy mergePolicy = new TieredMergePolicy();
+		ShardMergeScheduler.applySettings(mergePolicy, MergeSettings.newBuilder().build());
+		assertSameSettings(luceneDefaults, mergePolicy);
+
+		MergeSettings mergeSettings = MergeSettings.newBuilder().setSegmentsPerTier(4).setMaxMergedSegmentMB(100).setDeletesPctAllowed(10)
+				.setFloorSegmentMB(1).build();
+		ShardMergeScheduler.applySettings(mergePolicy, mergeSettings);
+		Assertions.assertEquals(4, mergePolicy.getSegmentsPerTier());
+		Assertions.assertEquals(100, mergePolicy.getMaxMergedSegmentMB(), 0.0001);
+		Assertions.assertEquals(10, mergePolicy.getDeletesPctAllowed(), 0.0001);
+		Assertions.assertEquals(1, mergePolicy.getFloorSegmentMB(), 0.0001);
+
+		//settings that are cleared go back to the values of lucene instead of keeping the old tuning
+		ShardMergeScheduler.applySettings(mergePolicy, MergeSettings.newBuilder().setSegmentsPerTier(4).build());
+		Assertions.assertEquals(4, mergePolicy.getSegmentsPerTier());
+		Assertions.assertEquals(luceneDefaults.getMaxMergedSegmentMB(), mergePolicy.getMaxMergedSegmentMB(), 0.0001);
+		Assertions.assertEquals(luceneDefaults.getDeletesPctAllowed(), mergePolicy.getDeletesPctAllowed(), 0.0001);
+		Assertions.assertEquals(luceneDefaults.getFloorSegmentMB(), mergePolicy.getFloorSegmentMB(), 0.0001);
+
+		ShardMergeScheduler.applySettings(mergePolicy, MergeSettings.newBuilder().build());
+		assertSameSettings(luceneDefaults, mergePolicy);
+	}
+
+	@Test
+	public void testSchedulerSettings() {
+		ShardMergeScheduler mergeScheduler = new ShardMergeScheduler();
+
+		mergeScheduler.applySettings(MergeSettings.newBuilder().setMaxMergeThreads(2).build());
+		Assertions.assertEquals(2, mergeScheduler.getMaxThreadCount());
+		Assertions.assertEquals(7, mergeScheduler.getMaxMergeCount());
+		Assertions.assertTrue(mergeScheduler.getAutoIOThrottle());
+
+		mergeScheduler.applySettings(MergeSettings.newBuilder().setMaxMergeThreads(2).setMaxMergeCount(3).setDisableIOThrottle(true).build());
+		Assertions.assertEquals(2, mergeScheduler.getMaxThreadCount());
+		Assertions.assertEquals(3, mergeScheduler.getMaxMergeCount());
+		Assertions.assertFalse(mergeScheduler.getAutoIOThrottle());
+
+		mergeScheduler.applySettings(MergeSettings.newBuilder().build());
+		Assertions.assertEquals(ConcurrentMergeScheduler.AUTO_DETECT_MERGES_AND_THREADS, mergeScheduler.getMaxThreadCount());
+		Assertions.assertEquals(ConcurrentMergeScheduler.AUTO_DETECT_MERGES_AND_THREADS, mergeScheduler.getMaxMergeCount());
+		Assertions.assertTrue(mergeScheduler.getAutoIOThrottle());
+	}
+
+	@Test
+	public void testMergeStats() throws Exception {
+		ShardMergeScheduler mergeScheduler = new ShardMergeScheduler();
+		Assertions.assertEquals(0, mergeScheduler.getMergeCount());
+
+		TieredMergePolicy mergePolicy = new TieredMergePolicy();
+		ShardMergeScheduler.applySettings(mergePolicy, MergeSettings.newBuilder().setSegmentsPerTier(2).build());
+
+		IndexWriterConfig config = new IndexWriterConfig();
+		config.setMergePolicy(mergePolicy);
+		config.setMergeScheduler(mergeScheduler);
+		try (ByteBuffersDirectory directory = new ByteBuffersDirectory(); IndexWriter indexWriter = new IndexWriter(directory, config)) {
+			//every commit flushes a small segment
+			for (int i = 0; i < 20; i++) {
+				Document document = new Document();
+				document.add(new StringField("id", String.valueOf(i), Field.Store.YES));
+				indexWriter.addDocument(document);
+				indexWriter.commit();
+			}
+			indexWriter.forceMerge(1);
+		}
+
+		//closing the writer waits for the merge threads
+		Assertions.assertTrue(mergeScheduler.getMergeCount() > 0);
+		Assertions.assertTrue(mergeScheduler.getMergedBytes() > 0);
+		Assertions.assertTrue(mergeScheduler.getMergeTimeMs() >= 0);
+		Assertions.assertEquals(0, mergeScheduler.getRunningMerges());
+		Assertions.assertTrue(mergeScheduler.getStallTimeMs() >= 0);
+	}
+
+	private static void assertSameSettings(TieredMergePolicy expected, TieredMergePolicy actual) {
+		Assertions.assertEquals(expected.getSegmentsPerTier(), actual.getSegmentsPerTier(), 0.0001);
+		Assertions.assertEquals(expected.getMaxMergedSegmentMB(), actual.getMaxMergedSegmentMB(), 0.0001);
+		Assertions.assertEquals(expected.getDeletesPctAllowed(), actual.getDeletesPctAllowed(), 0.0001);
+		Assertions.assertEquals(expected.getFloorSegmentMB(), actual.getFloorSegmentMB(), 0.0001);
+	}
+}
@@ -0,0 +1,84 @@
+package io.zulia.server.test.util;
+
+import io.zulia.message.ZuliaBase;
+import io.zulia.server.index.TaxonomyOrdinalCache;
+import org.apache.lucene.facet.taxonomy.FacetLabel;
+import org.apache.lucene.facet.taxonomy.directory.DirectoryTaxonomyWriter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaxonomyOrdinalCacheTest {
+
+	@Test
+	public void testOrdinalsMatchParentWalk() throws Exception {
+		try (ByteBuffersDirectory directory = new ByteBuffersDirectory();
+				DirectoryTaxonomyWriter taxoWriter = new DirectoryTaxonomyWriter(directory)) {
+			TaxonomyOrdinalCache taxonomyOrdinalCache = new TaxonomyOrdinalCache(taxoWriter, TaxonomyOrdinalCache.DEFAULT_SIZE);
+
+			List<FacetLabel> facetLabels = List.of(new FacetLabel("category"), new FacetLabel("category", "c1"),
+					new FacetLabel("path", "a", "b", "c"), new FacetLabel("path", "a", "b"), new FacetLabel("path", "a", "d", "e", "f"),
+					new FacetLabel("category", "c2"));
+
+			for (FacetLabel facetLabel : facetLabels) {
+				List<Integer> ordinals = toList(taxonomyOrdinalCache.getOrdinals(facetLabel));
+				Assertions.assertEquals(getParentWalk(taxoWriter, facetLabel), ordinals, facetLabel.toString());
+			}
+
+			//the second time every label is a hit with the same ordinals
+			for (FacetLabel facetLabel : facetLabels) {
+				List<Integer> ordinals = toList(taxonomyOrdinalCache.getOrdinals(facetLabel));
+				Assertions.assertEquals(getParentWalk(taxoWriter, facetLabel), ordinals, facetLabel.toString());
+			}
+
+			ZuliaBase.CacheStats cacheStats = taxonomyOrdinalCache.getCacheStats();
+			Assertions.assertEquals(facetLabels.size(), cacheStats.getMissCount());
+			Assertions.assertEquals(facetLabels.size(), cacheStats.getHitCount());
+		}
+	}
+
+	@Test
+	public void testEvictedLabelKeepsOrdinals() throws Exception {
+		try (ByteBuffersDirectory directory = new ByteBuffersDirectory();
+				DirectoryTaxonomyWriter taxoWriter = new DirectoryTaxonomyWriter(directory)) {
+			TaxonomyOrdinalCache taxonomyOrdinalCache = new TaxonomyOrdinalCache(taxoWriter, 1);
+
+			//a label added again after eviction gets the ordinals it was assigned the first time
+			List<Integer> first = toList(taxonomyOrdinalCache.getOrdinals(new FacetLabel("path", "a", "b")));
+			for (int i = 0; i < 100; i++) {
+				taxonomyOrdinalCache.getOrdinals(new FacetLabel("path", "x" + i, "y"));
+			}
+			Assertions.assertEquals(first, toList(taxonomyOrdinalCache.getOrdinals(new FacetLabel("path", "a", "b"))));
+			Assertions.assertEquals(getParentWalk(taxoWriter, new FacetLabel("path", "a", "b")), first);
+		}
+	}
+
+	/**
+	 * @return ordinals the label and its ancestors below the dimension were added with before the cache
+	 */
+	private static List<Integer> getParentWalk(DirectoryTaxonomyWriter taxoWriter, FacetLabel facetLabel) throws Exception {
+		int dimOrdinal = taxoWriter.addCategory(new FacetLabel(facetLabel.components[0]));
+
+		List<Integer> ordinals = new ArrayList<>();
+		int ordinal = taxoWriter.addCategory(facetLabel);
+		ordinals.add(ordinal);
+
+		int parent = taxoWriter.getParent(ordinal);
+		while (parent != dimOrdinal && parent > 0) {
+			ordinals.add(parent);
+			parent = taxoWriter.getParent(parent);
+		}
+		return ordinals;
+	}
+
+	private static List<Integer> toList(int[] ordinals) {
+		List<Integer> list = new ArrayList<>();
+		for (int ordinal : ordinals) {
+			list.add(ordinal);
+		}
+		return list;
+	}
+}
@@ -35,7 +35,10 @@ public class DocumentHelper {
 
 	}
 
-	private static Object getChild(Object o, String field) {
+	/**
+	 * @return the field of a document, or the values of the field in the documents of a list, null if there are none
+	 */
+	public static Object getChild(Object o, String field) {
 		if (o instanceof Document d) {
 			o = d.get(field);
 		}
@@ -7,28 +7,55 @@ import java.util.concurrent.Semaphore;
 
 public class SemaphoreLimitedVirtualPool extends VirtualThreadPerTaskTaskExecutor {
 	private final Semaphore pool;
+	private final int threads;
+	private final ThreadLocal<Boolean> runningTask = ThreadLocal.withInitial(() -> false);
 
 	public SemaphoreLimitedVirtualPool(int threads) {
-		pool = new Semaphore(threads);
+		this.pool = new Semaphore(threads);
+		this.threads = threads;
 	}
 
+	public int getMaxThreads() {
+		return threads;
+	}
+
+	/**
+	 * @return number of tasks currently holding a permit
+	 */
+	public int getActiveCount() {
+		return threads - pool.availablePermits();
+	}
+
+	/**
+	 * @return estimate of the number of tasks waiting for a permit
+	 */
+	public int getWaitingCount() {
+		return pool.getQueueLength();
+	}
+
+	/**
+	 * Starts the task on a new virtual thread without blocking the caller, the virtual thread waits for a permit before running it.  A task
+	 * submitted by a task already running on this pool runs without taking a permit of its own, so a task that submits to the pool again and waits
+	 * for the result cannot block on permits held by itself and the tasks waiting like it
+	 */
 	@Override
 	public <T> ListenableFuture<T> executeAsync(Callable<T> task) {
-		try {
-			pool.acquire();
-			return super.executeAsync(() -> {
-				try {
-					return task.call();
-				}
-				finally {
+		boolean nested = runningTask.get();
+		return super.executeAsync(() -> {
+			if (!nested) {
+				pool.acquire();
+			}
+			runningTask.set(true);
+			try {
+				return task.call();
+			}
+			finally {
+				runningTask.remove();
+				if (!nested) {
 					pool.release();
 				}
-			});
-		}
-		catch (InterruptedException e) {
-			throw new RuntimeException(e);
-		}
-
+			}
+		});
 	}
 
 }